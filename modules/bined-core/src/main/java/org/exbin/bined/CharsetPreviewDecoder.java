@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Decoder of preview characters for charsets with multiple bytes per
+ * character.
+ *
+ * Row is decoded in single pass using reusable charset decoder. Each
+ * character is placed at position of its first byte and positions of the
+ * remaining bytes of the character are filled with continuation character.
+ * Malformed and unmappable sequences are replaced so that decoding
+ * resynchronizes on the next character boundary.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+@NotThreadSafe
+public class CharsetPreviewDecoder {
+
+    @Nullable
+    private Charset charset;
+    @Nullable
+    private CharsetDecoder decoder;
+    private final CharBuffer charBuffer = CharBuffer.allocate(2);
+    @Nullable
+    private ByteBuffer byteBuffer;
+
+    public CharsetPreviewDecoder() {
+    }
+
+    @Nullable
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Sets charset, decoder is reused if charset is not changed.
+     *
+     * @param charset charset
+     */
+    public void setCharset(Charset charset) {
+        if (charset.equals(this.charset)) {
+            return;
+        }
+
+        this.charset = charset;
+        decoder = charset.newDecoder();
+        decoder.onMalformedInput(CodingErrorAction.REPLACE);
+        decoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Decodes characters starting in given range of data.
+     *
+     * Last character can use bytes after the end of the range up to the
+     * data length.
+     *
+     * @param data source data
+     * @param startOffset offset of the first character
+     * @param endOffset end offset of the range
+     * @param dataLength length of the valid data including lookahead bytes
+     * @param target target characters indexed by data offset
+     * @param targetPosition target position for data offset zero
+     * @param continuationChar character for continuation bytes
+     * @return number of bytes after end of the range used by the last
+     * character
+     */
+    public int decode(byte[] data, int startOffset, int endOffset, int dataLength, char[] target, int targetPosition, char continuationChar) {
+        CharsetDecoder currentDecoder = getDecoder();
+        ByteBuffer input = wrapData(data);
+        input.limit(dataLength);
+        currentDecoder.reset();
+
+        int offset = startOffset;
+        while (offset < endOffset) {
+            input.position(offset);
+            charBuffer.clear();
+            charBuffer.limit(1);
+            currentDecoder.decode(input, charBuffer, true);
+            if (charBuffer.position() == 0 && input.position() == offset) {
+                // Surrogate pair requires space for both characters
+                charBuffer.limit(2);
+                currentDecoder.decode(input, charBuffer, true);
+            }
+
+            int nextOffset = input.position();
+            if (nextOffset == offset) {
+                break;
+            }
+
+            target[targetPosition + offset] = charBuffer.position() > 0 ? charBuffer.get(0) : continuationChar;
+            int continuationEnd = Math.min(nextOffset, endOffset);
+            for (int i = offset + 1; i < continuationEnd; i++) {
+                target[targetPosition + i] = continuationChar;
+            }
+            offset = nextOffset;
+        }
+
+        return Math.max(offset - endOffset, 0);
+    }
+
+    @Nonnull
+    private CharsetDecoder getDecoder() {
+        if (decoder == null) {
+            throw new IllegalStateException("Charset was not set");
+        }
+
+        return decoder;
+    }
+
+    @Nonnull
+    private ByteBuffer wrapData(byte[] data) {
+        if (byteBuffer == null || byteBuffer.array() != data) {
+            byteBuffer = ByteBuffer.wrap(data);
+        } else {
+            byteBuffer.clear();
+        }
+
+        return byteBuffer;
+    }
+}
@@ -26,7 +26,7 @@ import org.exbin.auxiliary.paged_data.EditableBinaryData;
 /**
  * Hexadecimal editor component utilities.
  *
- * @version 0.2.0 2019/06/20
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -105,47 +105,7 @@ public class CodeAreaUtils {
      * @param charCase case type for alphabetical characters
      */
     public static void byteToCharsCode(byte dataByte, CodeType codeType, char[] targetData, int targetPosition, CodeCharactersCase charCase) {
-        char[] hexCharacters = charCase == CodeCharactersCase.UPPER ? CodeAreaUtils.UPPER_HEX_CODES : CodeAreaUtils.LOWER_HEX_CODES;
-        switch (codeType) {
-            case BINARY: {
-                int bitMask = 0x80;
-                for (int i = 0; i < 8; i++) {
-                    int codeValue = (dataByte & bitMask) > 0 ? 1 : 0;
-                    targetData[targetPosition + i] = hexCharacters[codeValue];
-                    bitMask = bitMask >> 1;
-                }
-                break;
-            }
-            case DECIMAL: {
-                int value = dataByte & 0xff;
-                int codeValue0 = value / 100;
-                targetData[targetPosition] = hexCharacters[codeValue0];
-                int codeValue1 = (value / 10) % 10;
-                targetData[targetPosition + 1] = hexCharacters[codeValue1];
-                int codeValue2 = value % 10;
-                targetData[targetPosition + 2] = hexCharacters[codeValue2];
-                break;
-            }
-            case OCTAL: {
-                int value = dataByte & 0xff;
-                int codeValue0 = value / 64;
-                targetData[targetPosition] = hexCharacters[codeValue0];
-                int codeValue1 = (value / 8) & 7;
-                targetData[targetPosition + 1] = hexCharacters[codeValue1];
-                int codeValue2 = value % 8;
-                targetData[targetPosition + 2] = hexCharacters[codeValue2];
-                break;
-            }
-            case HEXADECIMAL: {
-                int codeValue0 = (dataByte >> 4) & 0xf;
-                targetData[targetPosition] = hexCharacters[codeValue0];
-                int codeValue1 = dataByte & 0xf;
-                targetData[targetPosition + 1] = hexCharacters[codeValue1];
-                break;
-            }
-            default:
-                throw new IllegalStateException("Unexpected code type: " + codeType.name());
-        }
+        CodeCharactersTable.getTable(codeType, charCase).writeCode(dataByte, targetData, targetPosition);
     }
 
     /**
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.exbin.auxiliary.paged_data.BinaryData;
+
+/**
+ * Precomputed characters of all byte values for code type and characters
+ * case.
+ *
+ * Tables are shared and immutable.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+@Immutable
+public final class CodeCharactersTable {
+
+    private static final int COPY_BUFFER_LENGTH = 4096;
+    private static final CodeCharactersTable[] TABLES;
+
+    static {
+        CodeType[] codeTypes = CodeType.values();
+        CodeCharactersCase[] charactersCases = CodeCharactersCase.values();
+        TABLES = new CodeCharactersTable[codeTypes.length * charactersCases.length];
+        for (CodeType codeType : codeTypes) {
+            for (CodeCharactersCase charactersCase : charactersCases) {
+                TABLES[codeType.ordinal() * charactersCases.length + charactersCase.ordinal()] = new CodeCharactersTable(codeType, charactersCase);
+            }
+        }
+    }
+
+    private final CodeType codeType;
+    private final CodeCharactersCase charactersCase;
+    private final int digits;
+    private final char[] codes;
+
+    private CodeCharactersTable(CodeType codeType, CodeCharactersCase charactersCase) {
+        this.codeType = codeType;
+        this.charactersCase = charactersCase;
+        digits = codeType.getMaxDigitsForByte();
+        codes = new char[256 * digits];
+        char[] hexCharacters = charactersCase == CodeCharactersCase.UPPER ? CodeAreaUtils.UPPER_HEX_CODES : CodeAreaUtils.LOWER_HEX_CODES;
+        int base = codeType.getBase();
+        for (int value = 0; value < 256; value++) {
+            int remainder = value;
+            for (int digit = digits - 1; digit >= 0; digit--) {
+                codes[value * digits + digit] = hexCharacters[remainder % base];
+                remainder /= base;
+            }
+        }
+    }
+
+    /**
+     * Returns table for given code type and characters case.
+     *
+     * @param codeType code type
+     * @param charactersCase characters case
+     * @return characters table
+     */
+    @Nonnull
+    public static CodeCharactersTable getTable(CodeType codeType, CodeCharactersCase charactersCase) {
+        return TABLES[codeType.ordinal() * CodeCharactersCase.values().length + charactersCase.ordinal()];
+    }
+
+    @Nonnull
+    public CodeType getCodeType() {
+        return codeType;
+    }
+
+    @Nonnull
+    public CodeCharactersCase getCharactersCase() {
+        return charactersCase;
+    }
+
+    /**
+     * Returns number of characters per single byte.
+     *
+     * @return number of characters
+     */
+    public int getDigits() {
+        return digits;
+    }
+
+    /**
+     * Writes characters of single byte value.
+     *
+     * @param value byte value
+     * @param target target array
+     * @param targetPosition target position
+     */
+    public void writeCode(byte value, char[] target, int targetPosition) {
+        int codePosition = (value & 0xff) * digits;
+        for (int i = 0; i < digits; i++) {
+            target[targetPosition + i] = codes[codePosition + i];
+        }
+    }
+
+    /**
+     * Writes characters of sequence of byte values.
+     *
+     * Code of each byte starts charsPerByte characters after the start of the
+     * previous one and characters between codes are not modified.
+     *
+     * @param source source bytes
+     * @param sourceOffset source offset
+     * @param length number of bytes
+     * @param target target array
+     * @param targetPosition target position of the first code
+     * @param charsPerByte distance between starts of codes
+     */
+    public void writeCodes(byte[] source, int sourceOffset, int length, char[] target, int targetPosition, int charsPerByte) {
+        int sourceEnd = sourceOffset + length;
+        for (int sourcePosition = sourceOffset; sourcePosition < sourceEnd; sourcePosition++) {
+            int codePosition = (source[sourcePosition] & 0xff) * digits;
+            for (int i = 0; i < digits; i++) {
+                target[targetPosition + i] = codes[codePosition + i];
+            }
+            targetPosition += charsPerByte;
+        }
+    }
+
+    /**
+     * Writes characters of sequence of byte values separated by separator
+     * character.
+     *
+     * @param source source bytes
+     * @param sourceOffset source offset
+     * @param length number of bytes
+     * @param target target array
+     * @param targetPosition target position of the first code
+     * @param separator separator character
+     * @return number of written characters
+     */
+    public int writeCodesSeparated(byte[] source, int sourceOffset, int length, char[] target, int targetPosition, char separator) {
+        if (length == 0) {
+            return 0;
+        }
+
+        int position = targetPosition;
+        int sourceEnd = sourceOffset + length;
+        for (int sourcePosition = sourceOffset; sourcePosition < sourceEnd; sourcePosition++) {
+            if (sourcePosition > sourceOffset) {
+                target[position++] = separator;
+            }
+            int codePosition = (source[sourcePosition] & 0xff) * digits;
+            for (int i = 0; i < digits; i++) {
+                target[position++] = codes[codePosition + i];
+            }
+        }
+        return position - targetPosition;
+    }
+
+    /**
+     * Returns codes of all bytes of given data separated by separator
+     * character.
+     *
+     * Data are read in chunks so that no copy of the whole data is created.
+     *
+     * @param data source data
+     * @param separator separator character
+     * @return codes text
+     */
+    @Nonnull
+    public String toCodesText(BinaryData data, char separator) {
+        long dataSize = data.getDataSize();
+        int textLength = (int) (dataSize * (digits + 1));
+        if (textLength > 0) {
+            textLength--;
+        }
+
+        char[] target = new char[textLength];
+        byte[] buffer = new byte[(int) Math.min(dataSize, COPY_BUFFER_LENGTH)];
+        long position = 0;
+        int targetPosition = 0;
+        while (position < dataSize) {
+            int length = (int) Math.min(dataSize - position, buffer.length);
+            data.copyToArray(position, buffer, 0, length);
+            if (position > 0) {
+                target[targetPosition++] = separator;
+            }
+            targetPosition += writeCodesSeparated(buffer, 0, length, target, targetPosition, separator);
+            position += length;
+        }
+        return new String(target);
+    }
+}
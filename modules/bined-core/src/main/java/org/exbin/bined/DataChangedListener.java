@@ -18,7 +18,7 @@ package org.exbin.bined;
 /**
  * Interface for data change listener.
  *
- * @version 0.1.1 2016/08/31
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 public interface DataChangedListener {
@@ -27,4 +27,21 @@ public interface DataChangedListener {
      * Fires notification each time data is modified.
      */
     void dataChanged();
+
+    /**
+     * Fires notification when given range of data is modified.
+     *
+     * Range starts at given position and has old length before modification
+     * and new length after modification. If lengths differ, all data after
+     * the range were shifted.
+     *
+     * Default implementation handles it as modification of all data.
+     *
+     * @param startPosition start position of modified range
+     * @param oldLength length of the range before modification
+     * @param newLength length of the range after modification
+     */
+    default void dataChanged(long startPosition, long oldLength, long newLength) {
+        dataChanged();
+    }
 }
@@ -0,0 +1,326 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.exbin.auxiliary.paged_data.BinaryData;
+
+/**
+ * Read-only data backed by memory mapped file.
+ *
+ * File is mapped lazily in fixed size segments so that files larger than 2 GB
+ * can be accessed. Only limited number of segments is kept mapped at once and
+ * least recently used segments are released when limit is reached.
+ *
+ * Copies share the same mapped file and file is closed when all of them are
+ * disposed. Data can be read concurrently from multiple threads.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class MappedFileBinaryData implements BinaryData {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_MAX_MAPPED_SEGMENTS = 16;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MappedFile mappedFile;
+    private final long startPosition;
+    private final long length;
+    private boolean disposed = false;
+
+    @Nullable
+    private volatile LastSegment lastSegment = null;
+
+    public MappedFileBinaryData(File file) throws IOException {
+        this(file, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_MAPPED_SEGMENTS);
+    }
+
+    public MappedFileBinaryData(File file, int segmentSize, int maxMappedSegments) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        if (maxMappedSegments <= 0) {
+            throw new IllegalArgumentException("Maximum count of mapped segments must be positive");
+        }
+
+        mappedFile = new MappedFile(file, segmentSize, maxMappedSegments);
+        startPosition = 0;
+        length = mappedFile.fileSize;
+    }
+
+    private MappedFileBinaryData(MappedFile mappedFile, long startPosition, long length) {
+        this.mappedFile = mappedFile;
+        this.startPosition = startPosition;
+        this.length = length;
+    }
+
+    /**
+     * Returns mapped file.
+     *
+     * @return file
+     */
+    @Nonnull
+    public File getFile() {
+        return mappedFile.file;
+    }
+
+    /**
+     * Returns position of this data in mapped file.
+     *
+     * @return start position
+     */
+    public long getStartPosition() {
+        return startPosition;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public long getDataSize() {
+        return length;
+    }
+
+    @Override
+    public byte getByte(long position) {
+        checkRange(position, 1);
+        long filePosition = startPosition + position;
+        long segmentIndex = filePosition / mappedFile.segmentSize;
+        LastSegment segment = lastSegment;
+        if (segment == null || segment.index != segmentIndex) {
+            segment = new LastSegment(segmentIndex, mappedFile.getSegment(segmentIndex));
+            lastSegment = segment;
+        }
+        return segment.buffer.get((int) (filePosition - segmentIndex * mappedFile.segmentSize));
+    }
+
+    @Nonnull
+    @Override
+    public BinaryData copy() {
+        return copy(0, length);
+    }
+
+    @Nonnull
+    @Override
+    public BinaryData copy(long startFrom, long length) {
+        checkRange(startFrom, length);
+        mappedFile.dataShared();
+        return new MappedFileBinaryData(mappedFile, startPosition + startFrom, length);
+    }
+
+    @Override
+    public void copyToArray(long startFrom, byte[] target, int offset, int length) {
+        checkRange(startFrom, length);
+        long filePosition = startPosition + startFrom;
+        int targetOffset = offset;
+        int remaining = length;
+        while (remaining > 0) {
+            long segmentIndex = filePosition / mappedFile.segmentSize;
+            int segmentOffset = (int) (filePosition - segmentIndex * mappedFile.segmentSize);
+            ByteBuffer segment = mappedFile.getSegment(segmentIndex).duplicate();
+            int blockLength = Math.min(remaining, segment.limit() - segmentOffset);
+            segment.position(segmentOffset);
+            segment.get(target, targetOffset, blockLength);
+            filePosition += blockLength;
+            targetOffset += blockLength;
+            remaining -= blockLength;
+        }
+    }
+
+    @Override
+    public void saveToStream(OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(length, 1))];
+        long position = 0;
+        while (position < length) {
+            int blockLength = (int) Math.min(buffer.length, length - position);
+            copyToArray(position, buffer, 0, blockLength);
+            outputStream.write(buffer, 0, blockLength);
+            position += blockLength;
+        }
+    }
+
+    @Nonnull
+    @Override
+    public InputStream getDataInputStream() {
+        return new InputStream() {
+            private long position = 0;
+
+            @Override
+            public int read() {
+                return position < length ? getByte(position++) & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] target, int offset, int readLength) {
+                if (readLength == 0) {
+                    return 0;
+                }
+                if (position >= length) {
+                    return -1;
+                }
+
+                int blockLength = (int) Math.min(readLength, length - position);
+                copyToArray(position, target, offset, blockLength);
+                position += blockLength;
+                return blockLength;
+            }
+
+            @Override
+            public long skip(long count) {
+                long skipped = Math.max(0, Math.min(count, length - position));
+                position += skipped;
+                return skipped;
+            }
+
+            @Override
+            public int available() {
+                return (int) Math.min(Integer.MAX_VALUE, length - position);
+            }
+        };
+    }
+
+    @Override
+    public void dispose() {
+        if (!disposed) {
+            disposed = true;
+            lastSegment = null;
+            mappedFile.dataDisposed();
+        }
+    }
+
+    /**
+     * Returns count of currently mapped segments of underlying file.
+     *
+     * @return count of mapped segments
+     */
+    public int getMappedSegmentsCount() {
+        return mappedFile.getMappedSegmentsCount();
+    }
+
+    private void checkRange(long startFrom, long rangeLength) {
+        if (startFrom < 0 || rangeLength < 0 || startFrom + rangeLength > length) {
+            throw new IndexOutOfBoundsException("Range " + startFrom + " + " + rangeLength + " out of data size " + length);
+        }
+    }
+
+    /**
+     * Segment accessed by the last single byte access.
+     */
+    @Immutable
+    @ParametersAreNonnullByDefault
+    private static final class LastSegment {
+
+        private final long index;
+        @Nonnull
+        private final ByteBuffer buffer;
+
+        private LastSegment(long index, ByteBuffer buffer) {
+            this.index = index;
+            this.buffer = buffer;
+        }
+    }
+
+    /**
+     * Mapped file shared by all copies.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class MappedFile {
+
+        private final File file;
+        private final long fileSize;
+        private final long segmentSize;
+        private final RandomAccessFile randomAccessFile;
+        private final FileChannel channel;
+        private final Map<Long, MappedByteBuffer> segments;
+        private int usageCount = 1;
+
+        private MappedFile(File file, int segmentSize, final int maxMappedSegments) throws IOException {
+            this.file = file;
+            this.segmentSize = segmentSize;
+            randomAccessFile = new RandomAccessFile(file, "r");
+            channel = randomAccessFile.getChannel();
+            fileSize = channel.size();
+            segments = new LinkedHashMap<Long, MappedByteBuffer>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, MappedByteBuffer> eldest) {
+                    // Released mapping is unmapped when buffer is garbage collected
+                    return size() > maxMappedSegments;
+                }
+            };
+        }
+
+        @Nonnull
+        private synchronized MappedByteBuffer getSegment(long segmentIndex) {
+            MappedByteBuffer segment = segments.get(segmentIndex);
+            if (segment == null) {
+                if (usageCount == 0) {
+                    throw new IllegalStateException("Mapped file was disposed");
+                }
+
+                long segmentPosition = segmentIndex * segmentSize;
+                try {
+                    segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentPosition, Math.min(segmentSize, fileSize - segmentPosition));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Unable to map file segment", ex);
+                }
+                segments.put(segmentIndex, segment);
+            }
+            return segment;
+        }
+
+        private synchronized int getMappedSegmentsCount() {
+            return segments.size();
+        }
+
+        private synchronized void dataShared() {
+            if (usageCount == 0) {
+                throw new IllegalStateException("Mapped file was disposed");
+            }
+            usageCount++;
+        }
+
+        private synchronized void dataDisposed() {
+            usageCount--;
+            if (usageCount == 0) {
+                segments.clear();
+                try {
+                    randomAccessFile.close();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Unable to close mapped file", ex);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined;
+
+import java.nio.charset.Charset;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Replacement characters for unprintable characters.
+ *
+ * Replacements are stored in dense table indexed by character and flags for
+ * all single byte values are precomputed for given charset.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+@Immutable
+public final class UnprintableCharactersTable {
+
+    /**
+     * Value returned for characters without replacement.
+     */
+    public static final char NO_REPLACEMENT = '\0';
+
+    private static final int REPLACEMENTS_SIZE = 128;
+    private static final char[] REPLACEMENTS = new char[REPLACEMENTS_SIZE];
+
+    static {
+        // Unicode control characters, might not be supported by font
+        for (int i = 0; i < 32; i++) {
+            REPLACEMENTS[i] = (char) (9216 + i);
+        }
+        // Space -> Middle Dot
+        REPLACEMENTS[' '] = (char) 183;
+        // Tab -> Right-Pointing Double Angle Quotation Mark
+        REPLACEMENTS['\t'] = (char) 187;
+        // Line Feed -> Currency Sign
+        REPLACEMENTS['\r'] = (char) 164;
+        // Carriage Return -> Pilcrow Sign
+        REPLACEMENTS['\n'] = (char) 182;
+        // Ideographic Space -> Degree Sign
+        REPLACEMENTS[127] = (char) 176;
+    }
+
+    @Nonnull
+    private final Charset charset;
+    private final long[] unprintableBytes = new long[4];
+
+    public UnprintableCharactersTable(Charset charset) {
+        this.charset = charset;
+        for (int i = 0; i < 256; i++) {
+            String value = new String(new byte[]{(byte) i}, charset);
+            if (!value.isEmpty() && hasReplacement(value.charAt(0))) {
+                unprintableBytes[i >> 6] |= 1L << (i & 63);
+            }
+        }
+    }
+
+    @Nonnull
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Returns replacement character for given character.
+     *
+     * @param value character
+     * @return replacement character or NO_REPLACEMENT if character is
+     * printable
+     */
+    public static char getReplacement(char value) {
+        return value < REPLACEMENTS_SIZE ? REPLACEMENTS[value] : NO_REPLACEMENT;
+    }
+
+    /**
+     * Returns true if given character has replacement.
+     *
+     * @param value character
+     * @return true if character is unprintable
+     */
+    public static boolean hasReplacement(char value) {
+        return value < REPLACEMENTS_SIZE && REPLACEMENTS[value] != NO_REPLACEMENT;
+    }
+
+    /**
+     * Returns true if single byte value decodes to unprintable character in
+     * charset of this table.
+     *
+     * @param value byte value
+     * @return true if byte is unprintable
+     */
+    public boolean isUnprintableByte(byte value) {
+        int index = value & 0xFF;
+        return (unprintableBytes[index >> 6] & (1L << (index & 63))) != 0;
+    }
+}
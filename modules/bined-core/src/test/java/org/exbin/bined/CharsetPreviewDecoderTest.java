@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for charset preview decoder.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class CharsetPreviewDecoderTest {
+
+    public CharsetPreviewDecoderTest() {
+    }
+
+    @Test
+    public void testDecodeUtf8() {
+        CharsetPreviewDecoder decoder = new CharsetPreviewDecoder();
+        decoder.setCharset(StandardCharsets.UTF_8);
+        byte[] data = new byte[]{'a', (byte) 0xc3, (byte) 0xa9, 'b', (byte) 0xe2, (byte) 0x82, (byte) 0xac};
+        char[] target = new char[6];
+        Arrays.fill(target, '.');
+        int spill = decoder.decode(data, 0, 5, data.length, target, 1, '_');
+        Assert.assertEquals(2, spill);
+        Assert.assertEquals(".a\u00e9_b\u20ac", new String(target));
+    }
+
+    @Test
+    public void testDecodeMalformedResync() {
+        CharsetPreviewDecoder decoder = new CharsetPreviewDecoder();
+        decoder.setCharset(StandardCharsets.UTF_8);
+        byte[] data = new byte[]{(byte) 0xa9, (byte) 0xa9, 'x', (byte) 0xc3};
+        char[] target = new char[4];
+        int spill = decoder.decode(data, 0, 4, data.length, target, 0, '_');
+        Assert.assertEquals(0, spill);
+        Assert.assertEquals("\ufffd\ufffdx\ufffd", new String(target));
+    }
+
+    @Test
+    public void testDecodeSurrogatePair() {
+        CharsetPreviewDecoder decoder = new CharsetPreviewDecoder();
+        decoder.setCharset(StandardCharsets.UTF_8);
+        byte[] data = new byte[]{(byte) 0xf0, (byte) 0x9f, (byte) 0x98, (byte) 0x80, 'z'};
+        char[] target = new char[5];
+        decoder.decode(data, 0, 5, data.length, target, 0, '_');
+        Assert.assertEquals("\ud83d___z", new String(target));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined;
+
+import java.util.Locale;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.ByteArrayData;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for code characters table.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class CodeCharactersTableTest {
+
+    public CodeCharactersTableTest() {
+    }
+
+    @Test
+    public void testAllByteValues() {
+        for (CodeType codeType : CodeType.values()) {
+            for (CodeCharactersCase charactersCase : CodeCharactersCase.values()) {
+                CodeCharactersTable table = CodeCharactersTable.getTable(codeType, charactersCase);
+                int digits = codeType.getMaxDigitsForByte();
+                Assert.assertEquals(digits, table.getDigits());
+                char[] target = new char[digits];
+                for (int value = 0; value < 256; value++) {
+                    table.writeCode((byte) value, target, 0);
+                    Assert.assertEquals(expectedCode(value, codeType, charactersCase), new String(target));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWriteCodesWithSeparator() {
+        CodeCharactersTable table = CodeCharactersTable.getTable(CodeType.HEXADECIMAL, CodeCharactersCase.LOWER);
+        byte[] source = new byte[]{0x00, (byte) 0xab, 0x7f, (byte) 0xff};
+        char[] target = new char[12];
+        int length = table.writeCodesSeparated(source, 1, 3, target, 1, ' ');
+        Assert.assertEquals(8, length);
+        Assert.assertEquals("ab 7f ff", new String(target, 1, length));
+
+        Assert.assertEquals(0, table.writeCodesSeparated(source, 0, 0, target, 0, ' '));
+    }
+
+    @Test
+    public void testWriteCodesWithStride() {
+        CodeCharactersTable table = CodeCharactersTable.getTable(CodeType.OCTAL, CodeCharactersCase.UPPER);
+        byte[] source = new byte[]{0x01, (byte) 0xff};
+        char[] target = "........".toCharArray();
+        table.writeCodes(source, 0, 2, target, 0, 4);
+        Assert.assertEquals("001.377.", new String(target));
+    }
+
+    @Test
+    public void testCodesText() {
+        CodeCharactersTable table = CodeCharactersTable.getTable(CodeType.HEXADECIMAL, CodeCharactersCase.UPPER);
+        Assert.assertEquals("", table.toCodesText(new ByteArrayData(new byte[0]), ' '));
+
+        byte[] source = new byte[10000];
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < source.length; i++) {
+            source[i] = (byte) (i * 13);
+            if (i > 0) {
+                expected.append(' ');
+            }
+            expected.append(expectedCode(source[i] & 0xff, CodeType.HEXADECIMAL, CodeCharactersCase.UPPER));
+        }
+        Assert.assertEquals(expected.toString(), table.toCodesText(new ByteArrayData(source), ' '));
+    }
+
+    private static String expectedCode(int value, CodeType codeType, CodeCharactersCase charactersCase) {
+        StringBuilder builder = new StringBuilder(Integer.toString(value, codeType.getBase()));
+        while (builder.length() < codeType.getMaxDigitsForByte()) {
+            builder.insert(0, '0');
+        }
+        String code = builder.toString();
+        return charactersCase == CodeCharactersCase.UPPER ? code.toUpperCase(Locale.ROOT) : code.toLowerCase(Locale.ROOT);
+    }
+}
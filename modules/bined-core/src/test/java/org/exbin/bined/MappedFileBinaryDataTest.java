@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import org.exbin.auxiliary.paged_data.BinaryData;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for memory mapped file data.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class MappedFileBinaryDataTest {
+
+    public MappedFileBinaryDataTest() {
+    }
+
+    @Test
+    public void testSegmentedAccess() throws IOException {
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 13);
+        }
+        File file = File.createTempFile("bined-mapped", ".bin");
+        file.deleteOnExit();
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(content);
+        }
+
+        MappedFileBinaryData data = new MappedFileBinaryData(file, 64, 3);
+        Assert.assertEquals(content.length, data.getDataSize());
+        for (int i = content.length - 1; i >= 0; i--) {
+            Assert.assertEquals(content[i], data.getByte(i));
+        }
+        Assert.assertEquals(3, data.getMappedSegmentsCount());
+
+        byte[] target = new byte[300];
+        data.copyToArray(50, target, 0, target.length);
+        for (int i = 0; i < target.length; i++) {
+            Assert.assertEquals(content[50 + i], target[i]);
+        }
+        Assert.assertEquals(3, data.getMappedSegmentsCount());
+
+        BinaryData copy = data.copy(100, 500);
+        Assert.assertEquals(500, copy.getDataSize());
+        Assert.assertEquals(content[100], copy.getByte(0));
+        Assert.assertEquals(content[599], copy.getByte(499));
+        data.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        copy.saveToStream(output);
+        byte[] saved = output.toByteArray();
+        Assert.assertEquals(500, saved.length);
+        Assert.assertEquals(content[300], saved[200]);
+
+        InputStream input = copy.getDataInputStream();
+        Assert.assertEquals(10, input.skip(10));
+        Assert.assertEquals(content[110] & 0xff, input.read());
+        copy.dispose();
+
+        try {
+            copy.getByte(500);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConcurrentReading() throws IOException, InterruptedException {
+        byte[] content = new byte[100000];
+        new Random(3).nextBytes(content);
+        File file = File.createTempFile("bined-mapped", ".bin");
+        file.deleteOnExit();
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            stream.write(content);
+        }
+
+        MappedFileBinaryData data = new MappedFileBinaryData(file, 1024, 128);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[4];
+        for (int index = 0; index < readers.length; index++) {
+            long seed = index;
+            readers[index] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 200000 && failure.get() == null; i++) {
+                    int position = random.nextInt(content.length);
+                    if (data.getByte(position) != content[position]) {
+                        failure.set("Wrong byte at " + position);
+                    }
+                }
+            });
+            readers[index].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        Assert.assertNull(failure.get());
+        data.dispose();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for unprintable characters table.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class UnprintableCharactersTableTest {
+
+    public UnprintableCharactersTableTest() {
+    }
+
+    @Test
+    public void testReplacements() {
+        Assert.assertEquals('\u2400', UnprintableCharactersTable.getReplacement('\0'));
+        Assert.assertEquals('\u00b6', UnprintableCharactersTable.getReplacement('\n'));
+        Assert.assertEquals('\u00b7', UnprintableCharactersTable.getReplacement(' '));
+        Assert.assertEquals('\u00b0', UnprintableCharactersTable.getReplacement('\u007f'));
+        Assert.assertEquals(UnprintableCharactersTable.NO_REPLACEMENT, UnprintableCharactersTable.getReplacement('A'));
+        Assert.assertEquals(UnprintableCharactersTable.NO_REPLACEMENT, UnprintableCharactersTable.getReplacement('\u00e9'));
+        Assert.assertFalse(UnprintableCharactersTable.hasReplacement('\uffff'));
+    }
+
+    @Test
+    public void testUnprintableBytes() {
+        Charset charset = StandardCharsets.ISO_8859_1;
+        UnprintableCharactersTable table = new UnprintableCharactersTable(charset);
+        Assert.assertEquals(charset, table.getCharset());
+        for (int value = 0; value < 256; value++) {
+            char decoded = new String(new byte[]{(byte) value}, charset).charAt(0);
+            Assert.assertEquals(UnprintableCharactersTable.hasReplacement(decoded), table.isUnprintableByte((byte) value));
+        }
+        Assert.assertTrue(table.isUnprintableByte((byte) 0x20));
+        Assert.assertFalse(table.isUnprintableByte((byte) 0x41));
+    }
+}
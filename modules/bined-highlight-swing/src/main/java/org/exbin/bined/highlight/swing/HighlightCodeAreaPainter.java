@@ -16,33 +16,27 @@
 package org.exbin.bined.highlight.swing;
 
 import java.awt.Color;
-import java.awt.Graphics;
 import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import org.exbin.bined.basic.BasicCodeAreaSection;
-import org.exbin.bined.CodeAreaSection;
 import org.exbin.bined.swing.CodeAreaCore;
 import org.exbin.bined.swing.basic.DefaultCodeAreaPainter;
+import org.exbin.bined.swing.basic.RowColorRuns;
 
 /**
  * Hexadecimal component painter supporting search matches highlighting.
  *
- * @version 0.2.0 2019/07/07
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
 public class HighlightCodeAreaPainter extends DefaultCodeAreaPainter {
 
-    /**
-     * Matches must be ordered by position.
-     */
-    private final List<SearchMatch> matches = new ArrayList<>();
+    private final SearchMatchIndex matches = new SearchMatchIndex();
     private int currentMatchIndex = -1;
-    private int matchIndex = 0;
-    private long matchPosition = -1;
+    private final SearchMatchRowRuns rowRuns = new SearchMatchRowRuns();
 
     private Color foundMatchesColor;
     private Color currentMatchColor;
@@ -55,80 +49,93 @@ public class HighlightCodeAreaPainter extends DefaultCodeAreaPainter {
     }
 
     @Override
-    public void paintMainArea(Graphics g) {
-        matchIndex = 0;
-        super.paintMainArea(g);
-    }
-
-    @Nullable
-    @Override
-    public Color getPositionTextColor(long rowDataPosition, int byteOnRow, int charOnRow, CodeAreaSection section) {
-        return super.getPositionTextColor(rowDataPosition, byteOnRow, charOnRow, section);
-    }
+    public void fillRowBackgroundRuns(long rowDataPosition, RowColorRuns runs) {
+        super.fillRowBackgroundRuns(rowDataPosition, runs);
+        if (matches.isEmpty()) {
+            return;
+        }
 
-    @Nullable
-    @Override
-    public Color getPositionBackgroundColor(long rowDataPosition, int byteOnRow, int charOnRow, CodeAreaSection section) {
-        if (!matches.isEmpty() && charOnRow < getCharactersPerRow() - 1) {
-            long dataPosition = rowDataPosition + byteOnRow;
-            if (currentMatchIndex >= 0) {
-                SearchMatch currentMatch = matches.get(currentMatchIndex);
-                if (dataPosition >= currentMatch.position && dataPosition < currentMatch.position + currentMatch.length
-                        && (section == BasicCodeAreaSection.TEXT_PREVIEW || charOnRow != ((currentMatch.position + currentMatch.length) - rowDataPosition) * getCharactersPerRow() - 1)) {
-                    return currentMatchColor;
-                }
-            }
+        int bytesPerRow = getBytesPerRow();
+        matches.fillRowRuns(rowDataPosition, bytesPerRow, rowRuns);
+        for (int runIndex = 0; runIndex < rowRuns.getRunsCount(); runIndex++) {
+            addRowBytesRuns(runs, rowRuns.getRunStart(runIndex), rowRuns.getRunEnd(runIndex), false, foundMatchesColor, foundMatchesColor);
+        }
 
-            if (matchPosition < rowDataPosition) {
-                matchIndex = 0;
-            }
-            int lineMatchIndex = matchIndex;
-            while (lineMatchIndex < matches.size()) {
-                SearchMatch match = matches.get(lineMatchIndex);
-                if (dataPosition >= match.position && dataPosition < match.position + match.length
-                        && (section == BasicCodeAreaSection.TEXT_PREVIEW || charOnRow != ((match.position + match.length) - rowDataPosition) * getCharactersPerRow() - 1)) {
-                    if (byteOnRow == 0) {
-                        matchIndex = lineMatchIndex;
-                        matchPosition = match.position;
-                    }
-                    return foundMatchesColor;
-                }
-
-                if (match.position > dataPosition) {
-                    break;
-                }
-
-                if (byteOnRow == 0) {
-                    matchIndex = lineMatchIndex;
-                    matchPosition = match.position;
-                }
-                lineMatchIndex++;
+        if (currentMatchIndex >= 0) {
+            long matchStart = matches.getPosition(currentMatchIndex) - rowDataPosition;
+            long matchEnd = matchStart + matches.getLength(currentMatchIndex);
+            if (matchEnd > 0 && matchStart < bytesPerRow) {
+                addRowBytesRuns(runs, (int) Math.max(matchStart, 0), (int) Math.min(matchEnd, bytesPerRow), matchEnd > bytesPerRow, currentMatchColor, currentMatchColor);
             }
         }
-
-        return super.getPositionBackgroundColor(rowDataPosition, byteOnRow, charOnRow, section);
     }
 
+    /**
+     * Returns copy of the list of matches.
+     *
+     * List is rebuilt from the index on each call and modifications of it are
+     * not reflected in highlighted matches.
+     *
+     * @return list of matches ordered by position
+     * @deprecated use {@link #getMatchIndex()} to access matches without
+     * copying, or {@link #setMatches(java.util.List)} to replace them
+     */
+    @Deprecated
     @Nonnull
     public List<SearchMatch> getMatches() {
+        List<SearchMatch> result = new ArrayList<>(matches.size());
+        for (int index = 0; index < matches.size(); index++) {
+            result.add(new SearchMatch(matches.getPosition(index), matches.getLength(index)));
+        }
+        return result;
+    }
+
+    /**
+     * Returns index of matches.
+     *
+     * Call {@link #invalidateRenderedArea()} and repaint code area after
+     * direct modification.
+     *
+     * @return index of matches
+     */
+    @Nonnull
+    public SearchMatchIndex getMatchIndex() {
         return matches;
     }
 
     public void setMatches(List<SearchMatch> matches) {
         this.matches.clear();
-        this.matches.addAll(matches);
+        for (SearchMatch match : matches) {
+            this.matches.add(match.getPosition(), match.getLength());
+        }
         currentMatchIndex = -1;
+        invalidateRenderedArea();
+    }
+
+    /**
+     * Adds single match, for example as found by running search.
+     *
+     * @param position match position
+     * @param length match length
+     */
+    public void addMatch(long position, long length) {
+        int index = matches.add(position, length);
+        if (currentMatchIndex >= index) {
+            currentMatchIndex++;
+        }
+        invalidateRenderedArea();
     }
 
     public void clearMatches() {
         this.matches.clear();
         currentMatchIndex = -1;
+        invalidateRenderedArea();
     }
 
     @Nullable
     public SearchMatch getCurrentMatch() {
         if (currentMatchIndex >= 0) {
-            return matches.get(currentMatchIndex);
+            return new SearchMatch(matches.getPosition(currentMatchIndex), matches.getLength(currentMatchIndex));
         }
 
         return null;
@@ -140,6 +147,7 @@ public class HighlightCodeAreaPainter extends DefaultCodeAreaPainter {
 
     public void setCurrentMatchIndex(int currentMatchIndex) {
         this.currentMatchIndex = currentMatchIndex;
+        invalidateRenderedArea();
     }
 
     @Nonnull
@@ -149,6 +157,7 @@ public class HighlightCodeAreaPainter extends DefaultCodeAreaPainter {
 
     public void setFoundMatchesBackgroundColor(Color foundMatchesBackgroundColor) {
         this.foundMatchesColor = foundMatchesBackgroundColor;
+        invalidateRenderedArea();
     }
 
     @Nonnull
@@ -158,6 +167,7 @@ public class HighlightCodeAreaPainter extends DefaultCodeAreaPainter {
 
     public void setCurrentMatchBackgroundColor(Color currentMatchBackgroundColor) {
         this.currentMatchColor = currentMatchBackgroundColor;
+        invalidateRenderedArea();
     }
 
     /**
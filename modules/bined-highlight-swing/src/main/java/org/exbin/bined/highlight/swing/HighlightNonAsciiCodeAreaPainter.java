@@ -17,16 +17,14 @@ package org.exbin.bined.highlight.swing;
 
 import java.awt.Color;
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import org.exbin.bined.basic.BasicCodeAreaSection;
-import org.exbin.bined.CodeAreaSection;
 import org.exbin.bined.swing.CodeAreaCore;
+import org.exbin.bined.swing.basic.RowColorRuns;
 
 /**
  * Experimental support for highlighting of non-ascii characters.
  *
- * @version 0.2.0 2018/11/10
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -36,6 +34,7 @@ public class HighlightNonAsciiCodeAreaPainter extends HighlightCodeAreaPainter {
     private Color aboveCodes;
     private Color textColor;
     private boolean nonAsciiHighlightingEnabled = true;
+    private byte[] rowData = new byte[0];
 
     public HighlightNonAsciiCodeAreaPainter(CodeAreaCore codeArea) {
         super(codeArea);
@@ -109,25 +108,36 @@ public class HighlightNonAsciiCodeAreaPainter extends HighlightCodeAreaPainter {
         return color - diff;
     }
 
-    @Nullable
     @Override
-    public Color getPositionTextColor(long rowDataPosition, int byteOnRow, int charOnRow, @Nonnull CodeAreaSection section) {
-        Color color = super.getPositionTextColor(rowDataPosition, byteOnRow, charOnRow, section);
-        if (nonAsciiHighlightingEnabled && section == BasicCodeAreaSection.CODE_MATRIX) {
-            if (color == null || textColor.equals(color)) {
-                long dataPosition = rowDataPosition + byteOnRow;
-                if (dataPosition < codeArea.getDataSize()) {
-                    byte value = codeArea.getContentData().getByte(dataPosition);
+    public void fillRowTextRuns(long rowDataPosition, RowColorRuns runs) {
+        if (nonAsciiHighlightingEnabled && rowDataPosition < codeArea.getDataSize()) {
+            int rowLength = (int) Math.min(getBytesPerRow(), codeArea.getDataSize() - rowDataPosition);
+            if (rowData.length < rowLength) {
+                rowData = new byte[rowLength];
+            }
+            codeArea.getContentData().copyToArray(rowDataPosition, rowData, 0, rowLength);
+
+            int runStart = 0;
+            Color runColor = null;
+            for (int byteOnRow = 0; byteOnRow <= rowLength; byteOnRow++) {
+                Color color = null;
+                if (byteOnRow < rowLength) {
+                    byte value = rowData[byteOnRow];
                     if (value < 0) {
                         color = aboveCodes;
                     } else if (value < 0x20) {
                         color = controlCodes;
                     }
                 }
+                if (color != runColor) {
+                    addRowBytesRuns(runs, runStart, byteOnRow, false, runColor, null);
+                    runStart = byteOnRow;
+                    runColor = color;
+                }
             }
         }
 
-        return color;
+        super.fillRowTextRuns(rowDataPosition, runs);
     }
 
     @Nonnull
@@ -137,6 +147,7 @@ public class HighlightNonAsciiCodeAreaPainter extends HighlightCodeAreaPainter {
 
     public void setControlCodes(Color controlCodes) {
         this.controlCodes = controlCodes;
+        invalidateRenderedArea();
     }
 
     @Nonnull
@@ -146,6 +157,7 @@ public class HighlightNonAsciiCodeAreaPainter extends HighlightCodeAreaPainter {
 
     public void setAboveCodes(Color aboveCodes) {
         this.aboveCodes = aboveCodes;
+        invalidateRenderedArea();
     }
 
     public boolean isNonAsciiHighlightingEnabled() {
@@ -154,5 +166,6 @@ public class HighlightNonAsciiCodeAreaPainter extends HighlightCodeAreaPainter {
 
     public void setNonAsciiHighlightingEnabled(boolean nonAsciiHighlightingEnabled) {
         this.nonAsciiHighlightingEnabled = nonAsciiHighlightingEnabled;
+        invalidateRenderedArea();
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.highlight.swing;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.swing.SwingUtilities;
+import org.exbin.bined.search.BinarySearchListener;
+import org.exbin.bined.search.BinarySearchStatus;
+import org.exbin.bined.swing.CodeAreaCore;
+
+/**
+ * Search listener publishing found matches to highlighting painter.
+ *
+ * Matches found by search worker are collected and passed to the painter in
+ * batches on event dispatch thread.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class HighlightSearchListener implements BinarySearchListener {
+
+    private final CodeAreaCore codeArea;
+    private final HighlightCodeAreaPainter painter;
+
+    private long[] pendingPositions = new long[64];
+    private long[] pendingLengths = new long[64];
+    private int pendingCount = 0;
+    private boolean flushScheduled = false;
+
+    public HighlightSearchListener(CodeAreaCore codeArea, HighlightCodeAreaPainter painter) {
+        this.codeArea = codeArea;
+        this.painter = painter;
+    }
+
+    @Override
+    public synchronized void matchFound(long position, long length) {
+        if (pendingCount == pendingPositions.length) {
+            pendingPositions = Arrays.copyOf(pendingPositions, pendingCount * 2);
+            pendingLengths = Arrays.copyOf(pendingLengths, pendingCount * 2);
+        }
+        pendingPositions[pendingCount] = position;
+        pendingLengths[pendingCount] = length;
+        pendingCount++;
+        if (!flushScheduled) {
+            flushScheduled = true;
+            SwingUtilities.invokeLater(this::flush);
+        }
+    }
+
+    @Override
+    public void progressChanged(long processedBytes, long totalBytes) {
+    }
+
+    @Override
+    public void searchFinished(BinarySearchStatus status) {
+        SwingUtilities.invokeLater(this::flush);
+    }
+
+    private void flush() {
+        PendingMatches matches = takePendingMatches();
+        for (int i = 0; i < matches.count; i++) {
+            painter.addMatch(matches.positions[i], matches.lengths[i]);
+        }
+        if (matches.count > 0) {
+            codeArea.repaint();
+        }
+    }
+
+    @Nonnull
+    private synchronized PendingMatches takePendingMatches() {
+        PendingMatches matches = new PendingMatches(pendingPositions, pendingLengths, pendingCount);
+        pendingPositions = new long[64];
+        pendingLengths = new long[64];
+        pendingCount = 0;
+        flushScheduled = false;
+        return matches;
+    }
+
+    private static class PendingMatches {
+
+        final long[] positions;
+        final long[] lengths;
+        final int count;
+
+        public PendingMatches(long[] positions, long[] lengths, int count) {
+            this.positions = positions;
+            this.lengths = lengths;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.highlight.swing;
+
+import java.util.Arrays;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Index of search matches stored in sorted primitive arrays.
+ *
+ * Matches are ordered by position and may overlap. Prefix maximum of match
+ * ends is maintained so that first match overlapping given range can be found
+ * using binary search.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class SearchMatchIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] positions = new long[INITIAL_CAPACITY];
+    private long[] lengths = new long[INITIAL_CAPACITY];
+    /**
+     * Maximum end position of all matches up to given index inclusive.
+     */
+    private long[] maxEnds = new long[INITIAL_CAPACITY];
+    private int size = 0;
+
+    public SearchMatchIndex() {
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getPosition(int index) {
+        checkIndex(index);
+        return positions[index];
+    }
+
+    public long getLength(int index) {
+        checkIndex(index);
+        return lengths[index];
+    }
+
+    /**
+     * Adds match.
+     *
+     * Appending matches in order of position takes constant amortized time.
+     *
+     * @param position match position
+     * @param length match length
+     * @return index of added match
+     */
+    public int add(long position, long length) {
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException("Invalid match " + position + ", " + length);
+        }
+
+        ensureCapacity(size + 1);
+        int index = size;
+        if (size > 0 && positions[size - 1] > position) {
+            index = insertionIndex(position);
+            System.arraycopy(positions, index, positions, index + 1, size - index);
+            System.arraycopy(lengths, index, lengths, index + 1, size - index);
+        }
+        positions[index] = position;
+        lengths[index] = length;
+        size++;
+        updateMaxEnds(index);
+        return index;
+    }
+
+    public void clear() {
+        size = 0;
+        if (positions.length > INITIAL_CAPACITY) {
+            positions = new long[INITIAL_CAPACITY];
+            lengths = new long[INITIAL_CAPACITY];
+            maxEnds = new long[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Returns index of the first match overlapping given range.
+     *
+     * @param startPosition start position inclusive
+     * @param endPosition end position exclusive
+     * @return match index or -1 if no match overlaps given range
+     */
+    public int findFirstOverlapping(long startPosition, long endPosition) {
+        int index = findFirstEndingAfter(startPosition);
+        while (index < size && positions[index] < endPosition) {
+            if (positions[index] + lengths[index] > startPosition && lengths[index] > 0) {
+                return index;
+            }
+            index++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns index of match at given position.
+     *
+     * @param position match position
+     * @return match index or -1 if there is no match starting at given
+     * position
+     */
+    public int indexOf(long position) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positions[middle] < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low < size && positions[low] == position ? low : -1;
+    }
+
+    /**
+     * Fills runs of matched bytes for given row.
+     *
+     * Overlapping and adjacent matches are merged into single run.
+     *
+     * @param rowDataPosition row data position
+     * @param rowLength length of the row in bytes
+     * @param runs target runs
+     */
+    public void fillRowRuns(long rowDataPosition, int rowLength, SearchMatchRowRuns runs) {
+        runs.clear();
+        long rowEnd = rowDataPosition + rowLength;
+        int index = findFirstOverlapping(rowDataPosition, rowEnd);
+        if (index < 0) {
+            return;
+        }
+
+        while (index < size && positions[index] < rowEnd) {
+            long matchEnd = positions[index] + lengths[index];
+            if (matchEnd > rowDataPosition && lengths[index] > 0) {
+                int runStart = (int) (Math.max(positions[index], rowDataPosition) - rowDataPosition);
+                int runEnd = (int) (Math.min(matchEnd, rowEnd) - rowDataPosition);
+                runs.addRun(runStart, runEnd);
+            }
+            index++;
+        }
+    }
+
+    private int findFirstEndingAfter(long position) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (maxEnds[middle] > position) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns index after the last match with position lower or equal to given
+     * position.
+     */
+    private int insertionIndex(long position) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positions[middle] <= position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private void updateMaxEnds(int fromIndex) {
+        long maxEnd = fromIndex > 0 ? maxEnds[fromIndex - 1] : 0;
+        for (int index = fromIndex; index < size; index++) {
+            maxEnd = Math.max(maxEnd, positions[index] + lengths[index]);
+            maxEnds[index] = maxEnd;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > positions.length) {
+            int newCapacity = Math.max(capacity, positions.length * 2);
+            positions = Arrays.copyOf(positions, newCapacity);
+            lengths = Arrays.copyOf(lengths, newCapacity);
+            maxEnds = Arrays.copyOf(maxEnds, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range " + size);
+        }
+    }
+}
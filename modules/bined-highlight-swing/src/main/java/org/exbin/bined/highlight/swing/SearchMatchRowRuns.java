@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.highlight.swing;
+
+import java.util.Arrays;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Runs of highlighted bytes on single row.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class SearchMatchRowRuns {
+
+    private int[] runStarts = new int[8];
+    private int[] runEnds = new int[8];
+    private int runsCount = 0;
+
+    public SearchMatchRowRuns() {
+    }
+
+    public int getRunsCount() {
+        return runsCount;
+    }
+
+    public int getRunStart(int runIndex) {
+        return runStarts[runIndex];
+    }
+
+    public int getRunEnd(int runIndex) {
+        return runEnds[runIndex];
+    }
+
+    public void clear() {
+        runsCount = 0;
+    }
+
+    /**
+     * Adds run of bytes, runs must be added in order of start position.
+     *
+     * @param runStart start byte on row inclusive
+     * @param runEnd end byte on row exclusive
+     */
+    public void addRun(int runStart, int runEnd) {
+        if (runsCount > 0 && runStart <= runEnds[runsCount - 1]) {
+            runEnds[runsCount - 1] = Math.max(runEnds[runsCount - 1], runEnd);
+            return;
+        }
+
+        if (runsCount == runStarts.length) {
+            runStarts = Arrays.copyOf(runStarts, runsCount * 2);
+            runEnds = Arrays.copyOf(runEnds, runsCount * 2);
+        }
+        runStarts[runsCount] = runStart;
+        runEnds[runsCount] = runEnd;
+        runsCount++;
+    }
+
+    /**
+     * Returns index of run containing given byte.
+     *
+     * @param byteOnRow byte on row
+     * @return run index or -1 if byte is not in any run
+     */
+    public int findRun(int byteOnRow) {
+        int low = 0;
+        int high = runsCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (runEnds[middle] <= byteOnRow) {
+                low = middle + 1;
+            } else if (runStarts[middle] > byteOnRow) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+}
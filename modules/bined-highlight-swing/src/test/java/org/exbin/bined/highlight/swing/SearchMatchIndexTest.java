@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.highlight.swing;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for search match index.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class SearchMatchIndexTest {
+
+    public SearchMatchIndexTest() {
+    }
+
+    @Test
+    public void testFindFirstOverlapping() {
+        SearchMatchIndex index = new SearchMatchIndex();
+        for (int i = 0; i < 1000; i++) {
+            index.add(i * 10, 2);
+        }
+
+        Assert.assertEquals(1000, index.size());
+        Assert.assertEquals(0, index.findFirstOverlapping(0, 16));
+        Assert.assertEquals(1, index.findFirstOverlapping(2, 16));
+        Assert.assertEquals(500, index.findFirstOverlapping(5001, 5016));
+        Assert.assertEquals(-1, index.findFirstOverlapping(5002, 5010));
+        Assert.assertEquals(-1, index.findFirstOverlapping(10000, 10016));
+    }
+
+    @Test
+    public void testOverlappingMatches() {
+        SearchMatchIndex index = new SearchMatchIndex();
+        index.add(0, 100);
+        index.add(10, 2);
+        index.add(50, 2);
+
+        Assert.assertEquals(0, index.findFirstOverlapping(60, 70));
+        SearchMatchRowRuns runs = new SearchMatchRowRuns();
+        index.fillRowRuns(96, 16, runs);
+        Assert.assertEquals(1, runs.getRunsCount());
+        Assert.assertEquals(0, runs.getRunStart(0));
+        Assert.assertEquals(4, runs.getRunEnd(0));
+        Assert.assertEquals(0, runs.findRun(3));
+        Assert.assertEquals(-1, runs.findRun(4));
+    }
+
+    @Test
+    public void testInsertOutOfOrder() {
+        SearchMatchIndex index = new SearchMatchIndex();
+        index.add(20, 2);
+        index.add(40, 2);
+        Assert.assertEquals(0, index.add(5, 1));
+        Assert.assertEquals(2, index.add(30, 4));
+
+        Assert.assertEquals(5, index.getPosition(0));
+        Assert.assertEquals(30, index.getPosition(2));
+        Assert.assertEquals(2, index.indexOf(30));
+        Assert.assertEquals(-1, index.indexOf(31));
+
+        SearchMatchRowRuns runs = new SearchMatchRowRuns();
+        index.fillRowRuns(16, 16, runs);
+        Assert.assertEquals(2, runs.getRunsCount());
+        Assert.assertEquals(4, runs.getRunStart(0));
+        Assert.assertEquals(14, runs.getRunStart(1));
+        Assert.assertEquals(16, runs.getRunEnd(1));
+    }
+}
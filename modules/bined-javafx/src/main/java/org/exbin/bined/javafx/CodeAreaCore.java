@@ -34,7 +34,7 @@ import org.exbin.bined.CodeAreaUtils;
 /**
  * Binary viewer/editor component.
  *
- * @version 0.2.0 2018/12/25
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -173,6 +173,19 @@ public abstract class CodeAreaCore extends Pane implements CodeAreaControl {
         dataChangedListeners.forEach(DataChangedListener::dataChanged);
     }
 
+    /**
+     * Notifies component, that given range of internal data was changed.
+     *
+     * @param startPosition start position of changed range
+     * @param oldLength length of the range before change
+     * @param newLength length of the range after change
+     */
+    public void notifyDataChanged(long startPosition, long oldLength, long newLength) {
+        dataChangedListeners.forEach((listener) -> {
+            listener.dataChanged(startPosition, oldLength, newLength);
+        });
+    }
+
     public void addDataChangedListener(DataChangedListener dataChangedListener) {
         dataChangedListeners.add(dataChangedListener);
     }
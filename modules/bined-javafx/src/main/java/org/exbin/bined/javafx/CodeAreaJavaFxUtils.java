@@ -23,14 +23,13 @@ import java.awt.datatransfer.Transferable;
 import java.awt.datatransfer.UnsupportedFlavorException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Arrays;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.paint.Color;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import org.exbin.bined.CodeAreaUtils;
 import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.CodeCharactersTable;
 import org.exbin.bined.CodeType;
 import org.exbin.bined.ScrollBarVisibility;
 import org.exbin.auxiliary.paged_data.BinaryData;
@@ -38,7 +37,7 @@ import org.exbin.auxiliary.paged_data.BinaryData;
 /**
  * Hexadecimal editor component JavaFX utilities.
  *
- * @version 0.2.0 2018/12/24
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -220,18 +219,7 @@ public class CodeAreaJavaFxUtils {
             if (flavor.equals(binaryDataFlavor)) {
                 return data;
             } else {
-                int charsPerByte = codeType.getMaxDigitsForByte() + 1;
-                int textLength = (int) (data.getDataSize() * charsPerByte);
-                if (textLength > 0) {
-                    textLength--;
-                }
-
-                char[] targetData = new char[textLength];
-                Arrays.fill(targetData, ' ');
-                for (int i = 0; i < data.getDataSize(); i++) {
-                    CodeAreaUtils.byteToCharsCode(data.getByte(i), codeType, targetData, i * charsPerByte, charactersCase);
-                }
-                return new String(targetData);
+                return CodeCharactersTable.getTable(codeType, charactersCase).toCodesText(data, ' ');
 //                return new ByteArrayInputStream(new String(dataTarget).getBytes(textPlainUnicodeFlavor.getParameter(MIME_CHARSET)));
             }
         }
@@ -45,6 +45,8 @@ import org.exbin.bined.CodeAreaSection;
 import org.exbin.bined.CodeAreaUtils;
 import org.exbin.bined.basic.CodeAreaViewMode;
 import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.CharsetPreviewDecoder;
+import org.exbin.bined.CodeCharactersTable;
 import org.exbin.bined.CodeType;
 import org.exbin.bined.EditationOperation;
 import org.exbin.bined.PositionCodeType;
@@ -80,7 +82,7 @@ import org.exbin.bined.basic.PositionScrollVisibility;
 /**
  * Code area component default painter.
  *
- * @version 0.2.0 2019/08/02
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -150,6 +152,7 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
     @Nullable
     private Charset charMappingCharset = null;
+    private final CharsetPreviewDecoder previewDecoder = new CharsetPreviewDecoder();
     private final char[] charMapping = new char[256];
 
     public DefaultCodeAreaPainter(CodeAreaCore codeArea) {
@@ -183,9 +186,22 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
 //        codeArea.getChildren().add(dataView);
 //
-        codeAreaDataChangeListener = () -> {
-            validateCaret();
-            recomputeLayout();
+        codeAreaDataChangeListener = new DataChangedListener() {
+            @Override
+            public void dataChanged() {
+                validateCaret();
+                recomputeLayout();
+            }
+
+            @Override
+            public void dataChanged(long startPosition, long oldLength, long newLength) {
+                if (!initialized || layoutChanged || oldLength != newLength) {
+                    dataChanged();
+                    codeArea.repaint();
+                } else if (newLength > 0) {
+                    paintDataRange(startPosition, startPosition + newLength);
+                }
+            }
         };
         DefaultCodeAreaMouseListener codeAreaMouseListener = new DefaultCodeAreaMouseListener(codeArea, scrollPanel);
         codeArea.addEventFilter(MouseEvent.MOUSE_PRESSED, (event) -> { codeAreaMouseListener.mousePressed(event); });
@@ -282,6 +298,38 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         caretChanged = false;
     }
 
+    /**
+     * Repaints visible rows containing given range of data.
+     *
+     * @param startPosition start position
+     * @param endPosition end position
+     */
+    private void paintDataRange(long startPosition, long endPosition) {
+        int bytesPerRow = structure.getBytesPerRow();
+        int rowHeight = metrics.getRowHeight();
+        if (bytesPerRow <= 0 || rowHeight <= 0) {
+            return;
+        }
+
+        CodeAreaScrollPosition scrollPosition = scrolling.getScrollPosition();
+        // Preview character can be decoded from bytes on the previous row
+        long firstRow = Math.max(0, startPosition - metrics.getMaxBytesPerChar() + 1) / bytesPerRow - scrollPosition.getRowPosition();
+        long lastRow = (endPosition - 1) / bytesPerRow - scrollPosition.getRowPosition();
+        double top = Math.max(0, firstRow * rowHeight - scrollPosition.getRowOffset());
+        double bottom = Math.min(dataView.getHeight(), (lastRow + 1) * rowHeight - scrollPosition.getRowOffset());
+        if (top >= bottom) {
+            return;
+        }
+
+        GraphicsContext g = dataView.getGraphicsContext2D();
+        g.save();
+        g.beginPath();
+        g.rect(0, top, dataView.getWidth(), bottom - top);
+        g.clip();
+        paintMainArea();
+        g.restore();
+    }
+
     private void validateCaret() {
         CodeAreaCaret caret = ((CaretCapable) codeArea).getCaret();
         CodeAreaCaretPosition caretPosition = caret.getCaretPosition();
@@ -506,6 +554,15 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             int skipToChar = visibility.getSkipToChar();
             int skipRestFromChar = visibility.getSkipRestFromChar();
             int codeCharEnd = Math.min(skipRestFromChar, visibility.getCharactersPerCodeSection());
+            int renderEnd = charactersPerCodeSection;
+
+            // Skip characters outside of the canvas
+            if (characterWidth > 0) {
+                skipToChar = Math.max(skipToChar, (int) Math.floor(-headerX / characterWidth) - 1);
+                renderEnd = Math.min(renderEnd, (int) Math.floor((g.getCanvas().getWidth() - headerX) / characterWidth) + 2);
+                codeCharEnd = Math.min(codeCharEnd, renderEnd);
+            }
+
             int renderOffset = skipToChar;
             Color renderColor = null;
             for (int characterOnRow = skipToChar; characterOnRow < codeCharEnd; characterOnRow++) {
@@ -536,8 +593,8 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
                 }
             }
 
-            if (renderOffset < charactersPerCodeSection) {
-                drawCenteredChars(g, rowDataCache.headerChars, renderOffset, charactersPerCodeSection - renderOffset, characterWidth, headerX + renderOffset * characterWidth, headerY);
+            if (renderOffset < renderEnd) {
+                drawCenteredChars(g, rowDataCache.headerChars, renderOffset, renderEnd - renderOffset, characterWidth, headerX + renderOffset * characterWidth, headerY);
             }
         }
 
@@ -588,9 +645,20 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         }
 
         long dataPosition = bytesPerRow * scrollPosition.getRowPosition();
-        double positionY = rowPosRectangleY + rowHeight - subFontSpace - scrollPosition.getRowOffset();
+        double rowPositionY = rowPosRectangleY - scrollPosition.getRowOffset();
+
+        // Skip rows outside of the canvas
+        int firstRow = 0;
+        int lastRow = rowsPerRect;
+        if (rowHeight > 0) {
+            firstRow = Math.max(0, (int) Math.floor(-rowPositionY / rowHeight));
+            lastRow = Math.min(rowsPerRect, (int) Math.floor((g.getCanvas().getHeight() - 1 - rowPositionY) / rowHeight));
+            dataPosition += (long) firstRow * bytesPerRow;
+        }
+
+        double positionY = rowPositionY + firstRow * rowHeight + rowHeight - subFontSpace;
         g.setFill(colorsProfile.getTextColor());
-        for (int row = 0; row <= rowsPerRect; row++) {
+        for (int row = firstRow; row <= lastRow; row++) {
             if (dataPosition > dataSize) {
                 break;
             }
@@ -706,8 +774,18 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         double rowPositionX = -scrollPosition.getCharPosition() * characterWidth - scrollPosition.getCharOffset();
         double rowPositionY = -scrollPosition.getRowOffset();
 
+        // Skip rows outside of the canvas
+        int firstRow = 0;
+        int lastRow = rowsPerRect;
+        if (rowHeight > 0) {
+            firstRow = Math.max(0, (int) Math.floor(-rowPositionY / rowHeight));
+            lastRow = Math.min(rowsPerRect, (int) Math.floor((g.getCanvas().getHeight() - 1 - rowPositionY) / rowHeight));
+            dataPosition += (long) firstRow * bytesPerRow;
+            rowPositionY += firstRow * rowHeight;
+        }
+
         g.setFill(colorsProfile.getTextColor());
-        for (int row = 0; row <= rowsPerRect; row++) {
+        for (int row = firstRow; row <= lastRow; row++) {
             prepareRowData(dataPosition);
             paintRowBackground(g, dataPosition, rowPositionX, rowPositionY);
             g.setFill(colorsProfile.getTextColor());
@@ -728,8 +806,9 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
         int rowBytesLimit = bytesPerRow;
         int rowStart = 0;
+        int rowDataSize = 0;
         if (dataPosition < dataSize) {
-            int rowDataSize = bytesPerRow + maxBytesPerChar - 1;
+            rowDataSize = bytesPerRow + maxBytesPerChar - 1;
             if (dataPosition + rowDataSize > dataSize) {
                 rowDataSize = (int) (dataSize - dataPosition);
             }
@@ -753,9 +832,10 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             int skipToCode = visibility.getSkipToCode();
             int skipRestFromCode = visibility.getSkipRestFromCode();
             int endCode = Math.min(skipRestFromCode, rowBytesLimit);
-            for (int byteOnRow = Math.max(skipToCode, rowStart); byteOnRow < endCode; byteOnRow++) {
-                byte dataByte = rowDataCache.rowData[byteOnRow];
-                CodeAreaUtils.byteToCharsCode(dataByte, codeType, rowDataCache.rowCharacters, structure.computeFirstCodeCharacterPos(byteOnRow), codeCharactersCase);
+            int startCode = Math.max(skipToCode, rowStart);
+            if (endCode > startCode) {
+                int charsPerByte = structure.computeFirstCodeCharacterPos(1) - structure.computeFirstCodeCharacterPos(0);
+                CodeCharactersTable.getTable(codeType, codeCharactersCase).writeCodes(rowDataCache.rowData, startCode, endCode - startCode, rowDataCache.rowCharacters, structure.computeFirstCodeCharacterPos(startCode), charsPerByte);
             }
             if (bytesPerRow > rowBytesLimit) {
                 Arrays.fill(rowDataCache.rowCharacters, structure.computeFirstCodeCharacterPos(rowBytesLimit), rowDataCache.rowCharacters.length, ' ');
@@ -767,28 +847,20 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             int skipToPreview = visibility.getSkipToPreview();
             int skipRestFromPreview = visibility.getSkipRestFromPreview();
             int endPreview = Math.min(skipRestFromPreview, rowBytesLimit);
-            for (int byteOnRow = skipToPreview; byteOnRow < endPreview; byteOnRow++) {
-                byte dataByte = rowDataCache.rowData[byteOnRow];
-
-                if (maxBytesPerChar > 1) {
-                    if (dataPosition + maxBytesPerChar > dataSize) {
-                        maxBytesPerChar = (int) (dataSize - dataPosition);
-                    }
-
-                    int charDataLength = maxBytesPerChar;
-                    if (byteOnRow + charDataLength > rowDataCache.rowData.length) {
-                        charDataLength = rowDataCache.rowData.length - byteOnRow;
-                    }
-                    String displayString = new String(rowDataCache.rowData, byteOnRow, charDataLength, charset);
-                    if (!displayString.isEmpty()) {
-                        rowDataCache.rowCharacters[previewCharPos + byteOnRow] = displayString.charAt(0);
-                    }
-                } else {
-                    if (charMappingCharset == null || charMappingCharset != charset) {
-                        buildCharMapping(charset);
-                    }
+            if (maxBytesPerChar > 1) {
+                int startPreview = Math.max(skipToPreview, rowStart);
+                if (startPreview < endPreview) {
+                    Arrays.fill(rowDataCache.rowCharacters, previewCharPos + startPreview, previewCharPos + endPreview, ' ');
+                    previewDecoder.setCharset(charset);
+                    previewDecoder.decode(rowDataCache.rowData, startPreview, endPreview, rowDataSize, rowDataCache.rowCharacters, previewCharPos, ' ');
+                }
+            } else {
+                if (charMappingCharset == null || charMappingCharset != charset) {
+                    buildCharMapping(charset);
+                }
 
-                    rowDataCache.rowCharacters[previewCharPos + byteOnRow] = charMapping[dataByte & 0xFF];
+                for (int byteOnRow = skipToPreview; byteOnRow < endPreview; byteOnRow++) {
+                    rowDataCache.rowCharacters[previewCharPos + byteOnRow] = charMapping[rowDataCache.rowData[byteOnRow] & 0xFF];
                 }
             }
             if (bytesPerRow > rowBytesLimit) {
@@ -18,6 +18,7 @@ package org.exbin.bined.operation.swing;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.bined.DefaultCodeAreaCaretPosition;
 import org.exbin.bined.operation.BinaryDataOperation;
 import org.exbin.bined.operation.BinaryDataOperationException;
@@ -27,7 +28,7 @@ import org.exbin.bined.CodeAreaCaretPosition;
 /**
  * Abstract class for operation on code area component.
  *
- * @version 0.2.0 2018/08/11
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -37,6 +38,8 @@ public abstract class CodeAreaOperation implements BinaryDataOperation {
     protected final CodeAreaCore codeArea;
     @Nonnull
     protected final DefaultCodeAreaCaretPosition backPosition = new DefaultCodeAreaCaretPosition();
+    @Nullable
+    protected UndoDataStorage undoDataStorage = null;
 
     public CodeAreaOperation(CodeAreaCore codeArea) {
         this(codeArea, null);
@@ -82,6 +85,44 @@ public abstract class CodeAreaOperation implements BinaryDataOperation {
         this.backPosition.setPosition(backPosition);
     }
 
+    @Nullable
+    public UndoDataStorage getUndoDataStorage() {
+        return undoDataStorage;
+    }
+
+    /**
+     * Sets storage for data retained by undo operations generated by this
+     * operation.
+     *
+     * @param undoDataStorage undo data storage or null for in-memory copy
+     */
+    public void setUndoDataStorage(@Nullable UndoDataStorage undoDataStorage) {
+        this.undoDataStorage = undoDataStorage;
+    }
+
+    /**
+     * Copies range of the content data for undo operation.
+     *
+     * @param startFrom start position
+     * @param length length of the range
+     * @return copy of the data
+     */
+    @Nonnull
+    protected BinaryData copyUndoData(long startFrom, long length) {
+        BinaryData contentData = codeArea.getContentData();
+        return undoDataStorage != null ? undoDataStorage.storeData(contentData, startFrom, length) : contentData.copy(startFrom, length);
+    }
+
+    /**
+     * Returns size of given data kept in memory.
+     *
+     * @param data data retained by operation
+     * @return size in bytes
+     */
+    protected long getRetainedSize(BinaryData data) {
+        return undoDataStorage != null ? undoDataStorage.getRetainedSize(data) : data.getDataSize();
+    }
+
     /**
      * Performs operation on given document.
      *
@@ -115,6 +156,18 @@ public abstract class CodeAreaOperation implements BinaryDataOperation {
         return null;
     }
 
+    /**
+     * Returns size of data retained by operation.
+     *
+     * Default operation retains no data.
+     *
+     * @return size in bytes
+     */
+    @Override
+    public long getRetainedSize() {
+        return 0;
+    }
+
     /**
      * Performs dispose of the operation.
      *
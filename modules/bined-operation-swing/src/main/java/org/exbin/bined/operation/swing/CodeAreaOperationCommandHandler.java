@@ -80,7 +80,7 @@ import org.exbin.bined.basic.EnterKeyHandlingMode;
 /**
  * Command handler for undo/redo aware hexadecimal editor editing.
  *
- * @version 0.2.0 2019/07/09
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -110,6 +110,8 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
 
     private final BinaryDataUndoHandler undoHandler;
     private EditDataCommand editCommand = null;
+    private long editSessionPosition = -1;
+    private int editSessionCodeOffset = 0;
 
     public CodeAreaOperationCommandHandler(CodeAreaCore codeArea, BinaryDataUndoHandler undoHandler) {
         this.codeArea = codeArea;
@@ -365,8 +367,6 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
                         undoHandler.addCommand(editCommand);
                     }
                 }
-
-                ((EditCodeDataCommand) editCommand).appendEdit((byte) value);
             } else {
                 if (editCommand == null
                         || !(editCommand instanceof EditCodeDataCommand)
@@ -386,12 +386,15 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
                         undoHandler.addCommand(editCommand);
                     }
                 }
-
-                ((EditCodeDataCommand) editCommand).appendEdit((byte) value);
             }
-            codeArea.notifyDataChanged();
+
+            long editPosition = ((CaretCapable) codeArea).getCaret().getCaretPosition().getDataPosition();
+            long dataSize = codeArea.getDataSize();
+            ((EditCodeDataCommand) editCommand).appendEdit((byte) value);
+            notifyEdited(editPosition, dataSize);
             move(DefaultCodeAreaCommandHandler.NO_MODIFIER, MovementDirection.RIGHT);
             revealCursor();
+            updateEditSessionPosition();
         }
     }
 
@@ -428,8 +431,6 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
                         undoHandler.addCommand(editCommand);
                     }
                 }
-
-                ((EditCharDataCommand) editCommand).appendEdit(keyChar);
             } else {
                 if (editCommand == null
                         || !(editCommand instanceof EditCharDataCommand)
@@ -449,13 +450,14 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
                         undoHandler.addCommand(editCommand);
                     }
                 }
-
-                ((EditCharDataCommand) editCommand).appendEdit(keyChar);
             }
 
-            codeArea.notifyDataChanged();
+            long editPosition = ((CaretCapable) codeArea).getCaret().getCaretPosition().getDataPosition();
+            long dataSize = codeArea.getDataSize();
+            ((EditCharDataCommand) editCommand).appendEdit(keyChar);
+            notifyEdited(editPosition, dataSize);
             revealCursor();
-            codeArea.repaint();
+            updateEditSessionPosition();
         }
     }
 
@@ -512,6 +514,7 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
 
             DefaultCodeAreaCaret caret = (DefaultCodeAreaCaret) ((CaretCapable) codeArea).getCaret();
             long dataPosition = caret.getDataPosition();
+            long dataSize = codeArea.getDataSize();
             if (caret.getSection() == BasicCodeAreaSection.CODE_MATRIX) {
                 if (editCommand == null
                         || !(editCommand instanceof EditCodeDataCommand)
@@ -533,7 +536,8 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
 
                 ((EditCharDataCommand) editCommand).appendEdit(keyChar);
             }
-            codeArea.notifyDataChanged();
+            notifyEdited(dataPosition, dataSize);
+            updateEditSessionPosition();
         }
     }
 
@@ -1000,7 +1004,41 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
     }
 
     private boolean isAppendAllowed() {
-        return undoHandler.getCommandPosition() != undoHandler.getSyncPoint();
+        CodeAreaCaretPosition caretPosition = ((CaretCapable) codeArea).getCaret().getCaretPosition();
+        return undoHandler.getCommandPosition() != undoHandler.getSyncPoint()
+                && caretPosition.getDataPosition() == editSessionPosition
+                && caretPosition.getCodeOffset() == editSessionCodeOffset;
+    }
+
+    /**
+     * Notifies code area about range of data modified by single keystroke.
+     *
+     * @param editPosition caret data position before keystroke
+     * @param previousDataSize data size before keystroke
+     */
+    private void notifyEdited(long editPosition, long previousDataSize) {
+        // Edit command already in undo history retains more data
+        undoHandler.updateUsedSize();
+
+        long caretPosition = ((CaretCapable) codeArea).getCaret().getCaretPosition().getDataPosition();
+        long startPosition = Math.min(editPosition, caretPosition);
+        long dataSize = codeArea.getDataSize();
+        if (dataSize == previousDataSize) {
+            long length = Math.max(caretPosition, editPosition + 1) - startPosition;
+            codeArea.notifyDataChanged(startPosition, length, length);
+        } else {
+            codeArea.notifyDataChanged(startPosition, previousDataSize - startPosition, dataSize - startPosition);
+        }
+    }
+
+    /**
+     * Remembers caret position after keystroke so that only keystroke at
+     * adjacent position is appended to the current edit command.
+     */
+    private void updateEditSessionPosition() {
+        CodeAreaCaretPosition caretPosition = ((CaretCapable) codeArea).getCaret().getCaretPosition();
+        editSessionPosition = caretPosition.getDataPosition();
+        editSessionCodeOffset = caretPosition.getCodeOffset();
     }
 
     @ParametersAreNonnullByDefault
@@ -1050,6 +1088,11 @@ public class CodeAreaOperationCommandHandler implements CodeAreaCommandHandler {
             return CodeAreaCommandType.DATA_REMOVED;
         }
 
+        @Override
+        public boolean reportsDataChanges() {
+            return true;
+        }
+
         @Override
         public boolean canUndo() {
             return true;
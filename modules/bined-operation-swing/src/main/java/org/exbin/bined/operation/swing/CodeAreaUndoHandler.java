@@ -20,23 +20,35 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import org.exbin.bined.capability.CaretCapable;
 import org.exbin.bined.operation.BinaryDataCommand;
 import org.exbin.bined.operation.BinaryDataOperationException;
 import org.exbin.bined.operation.undo.BinaryDataUndoHandler;
 import org.exbin.bined.operation.undo.BinaryDataUndoUpdateListener;
+import org.exbin.bined.operation.undo.BinaryDataUndoUsageListener;
+import org.exbin.bined.operation.swing.command.BinaryCompoundCommand;
+import org.exbin.bined.operation.swing.command.OpCodeAreaCommand;
 import org.exbin.bined.swing.CodeAreaCore;
 
 /**
  * Undo handler for hexadecimal editor.
  *
- * @version 0.2.0 2018/08/11
+ * Oldest commands are discarded when maximum count of commands or maximum
+ * size of data retained by commands is exceeded. The most recent command is
+ * always kept. Size of retained data is not limited unless maximum size is
+ * set.
+ *
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
 public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
 
+    public static final long DEFAULT_UNDO_MAXIMUM_COUNT = 1024;
+    public static final long UNLIMITED_UNDO_SIZE = Long.MAX_VALUE;
+
     private long undoMaximumCount;
     private long undoMaximumSize;
     private long usedSize;
@@ -45,6 +57,9 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
     private final List<BinaryDataCommand> commands = new ArrayList<>();
     private final CodeAreaCore codeArea;
     private final List<BinaryDataUndoUpdateListener> listeners = new ArrayList<>();
+    private final List<BinaryDataUndoUsageListener> usageListeners = new ArrayList<>();
+    @Nullable
+    private UndoDataStorage undoDataStorage = null;
 
     /**
      * Creates a new instance.
@@ -53,8 +68,8 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
      */
     public CodeAreaUndoHandler(CodeAreaCore codeArea) {
         this.codeArea = codeArea;
-        undoMaximumCount = 1024;
-        undoMaximumSize = 65535;
+        undoMaximumCount = DEFAULT_UNDO_MAXIMUM_COUNT;
+        undoMaximumSize = UNLIMITED_UNDO_SIZE;
         init();
     }
 
@@ -72,31 +87,30 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
      */
     @Override
     public void execute(BinaryDataCommand command) throws BinaryDataOperationException {
+        applyUndoDataStorage(command);
         command.execute();
         commandAdded(command);
     }
 
     @Override
     public void addCommand(BinaryDataCommand command) {
+        applyUndoDataStorage(command);
         command.use();
         commandAdded(command);
     }
 
     private void commandAdded(BinaryDataCommand addedCommand) {
-        // TODO: Check for undoOperationsMaximumCount & size
         while (commands.size() > commandPosition) {
-            BinaryDataCommand command = commands.get((int) commandPosition);
-            try {
-                command.dispose();
-            } catch (BinaryDataOperationException ex) {
-                Logger.getLogger(CodeAreaUndoHandler.class.getName()).log(Level.SEVERE, null, ex);
-            }
-            commands.remove(command);
+            BinaryDataCommand command = commands.remove((int) commandPosition);
+            disposeCommand(command);
         }
         commands.add(addedCommand);
         commandPosition++;
+        usedSize = computeUsedSize();
+        enforceLimits();
+        notifyUsageChanged();
 
-        undoUpdated();
+        undoUpdated(isDataChangeReported(addedCommand));
         listeners.forEach((listener) -> {
             listener.undoCommandAdded(addedCommand);
         });
@@ -109,14 +123,19 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
      */
     @Override
     public void performUndo() throws BinaryDataOperationException {
-        performUndoInt();
-        undoUpdated();
+        boolean dataChangeReported = performUndoInt();
+        enforceLimits();
+        notifyUsageChanged();
+        undoUpdated(dataChangeReported);
     }
 
-    private void performUndoInt() throws BinaryDataOperationException {
+    private boolean performUndoInt() throws BinaryDataOperationException {
         commandPosition--;
         BinaryDataCommand command = commands.get((int) commandPosition);
+        long retainedSize = command.getRetainedSize();
         command.undo();
+        usedSize += command.getRetainedSize() - retainedSize;
+        return isDataChangeReported(command);
     }
 
     /**
@@ -126,14 +145,19 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
      */
     @Override
     public void performRedo() throws BinaryDataOperationException {
-        performRedoInt();
-        undoUpdated();
+        boolean dataChangeReported = performRedoInt();
+        enforceLimits();
+        notifyUsageChanged();
+        undoUpdated(dataChangeReported);
     }
 
-    private void performRedoInt() throws BinaryDataOperationException {
+    private boolean performRedoInt() throws BinaryDataOperationException {
         BinaryDataCommand command = commands.get((int) commandPosition);
+        long retainedSize = command.getRetainedSize();
         command.redo();
+        usedSize += command.getRetainedSize() - retainedSize;
         commandPosition++;
+        return isDataChangeReported(command);
     }
 
     /**
@@ -147,11 +171,14 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
         if (commandPosition < count) {
             throw new IllegalArgumentException("Unable to perform " + count + " undo steps");
         }
+        boolean dataChangeReported = true;
         while (count > 0) {
-            performUndoInt();
+            dataChangeReported &= performUndoInt();
             count--;
         }
-        undoUpdated();
+        enforceLimits();
+        notifyUsageChanged();
+        undoUpdated(dataChangeReported);
     }
 
     /**
@@ -165,25 +192,23 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
         if (commands.size() - commandPosition < count) {
             throw new IllegalArgumentException("Unable to perform " + count + " redo steps");
         }
+        boolean dataChangeReported = true;
         while (count > 0) {
-            performRedoInt();
+            dataChangeReported &= performRedoInt();
             count--;
         }
-        undoUpdated();
+        enforceLimits();
+        notifyUsageChanged();
+        undoUpdated(dataChangeReported);
     }
 
     @Override
     public void clear() {
-        commands.forEach((command) -> {
-            try {
-                command.dispose();
-            } catch (BinaryDataOperationException ex) {
-                Logger.getLogger(CodeAreaUndoHandler.class.getName()).log(Level.SEVERE, null, ex);
-            }
-        });
+        commands.forEach(this::disposeCommand);
         commands.clear();
         init();
-        undoUpdated();
+        undoUpdated(false);
+        notifyUsageChanged();
     }
 
     @Override
@@ -218,6 +243,9 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
 
     public void setUndoMaxCount(long maxUndo) {
         this.undoMaximumCount = maxUndo;
+        if (enforceLimits()) {
+            notifyUsageChanged();
+        }
     }
 
     @Override
@@ -225,8 +253,16 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
         return undoMaximumSize;
     }
 
+    /**
+     * Sets maximum size of data retained by commands in undo history.
+     *
+     * @param maxSize size in bytes or UNLIMITED_UNDO_SIZE
+     */
     public void setUndoMaximumSize(long maxSize) {
         this.undoMaximumSize = maxSize;
+        if (enforceLimits()) {
+            notifyUsageChanged();
+        }
     }
 
     @Override
@@ -234,6 +270,61 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
         return usedSize;
     }
 
+    /**
+     * Recomputes size of retained data.
+     *
+     * Command might retain more data after it was added, for example when
+     * typing is appended to existing edit command.
+     */
+    @Override
+    public void updateUsedSize() {
+        long size = computeUsedSize();
+        if (size != usedSize) {
+            usedSize = size;
+            enforceLimits();
+            notifyUsageChanged();
+        }
+    }
+
+    @Nullable
+    public UndoDataStorage getUndoDataStorage() {
+        return undoDataStorage;
+    }
+
+    /**
+     * Sets storage for data retained by commands added later.
+     *
+     * @param undoDataStorage undo data storage or null for in-memory copy
+     */
+    public void setUndoDataStorage(@Nullable UndoDataStorage undoDataStorage) {
+        this.undoDataStorage = undoDataStorage;
+    }
+
+    private void applyUndoDataStorage(BinaryDataCommand command) {
+        if (undoDataStorage == null) {
+            return;
+        }
+
+        if (command instanceof OpCodeAreaCommand) {
+            CodeAreaOperation operation = ((OpCodeAreaCommand) command).getOperation();
+            if (operation != null) {
+                operation.setUndoDataStorage(undoDataStorage);
+            }
+        } else if (command instanceof BinaryCompoundCommand) {
+            for (BinaryDataCommand childCommand : ((BinaryCompoundCommand) command).getCommands()) {
+                applyUndoDataStorage(childCommand);
+            }
+        }
+    }
+
+    private long computeUsedSize() {
+        long size = 0;
+        for (BinaryDataCommand command : commands) {
+            size += command.getRetainedSize();
+        }
+        return size;
+    }
+
     @Override
     public long getSyncPoint() {
         return syncPointPosition;
@@ -270,8 +361,54 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
         }
     }
 
-    private void undoUpdated() {
-        codeArea.notifyDataChanged();
+    /**
+     * Discards oldest commands while limits are exceeded.
+     *
+     * @return true if any command was discarded
+     */
+    private boolean enforceLimits() {
+        boolean changed = false;
+        while (commands.size() > 1 && commandPosition > 0 && (commands.size() > undoMaximumCount || usedSize > undoMaximumSize)) {
+            BinaryDataCommand command = commands.remove(0);
+            usedSize -= command.getRetainedSize();
+            disposeCommand(command);
+            commandPosition--;
+            // Sync point is unreachable when its command was discarded
+            syncPointPosition = syncPointPosition > 0 ? syncPointPosition - 1 : -1;
+            changed = true;
+        }
+
+        return changed;
+    }
+
+    private void disposeCommand(BinaryDataCommand command) {
+        try {
+            command.dispose();
+        } catch (BinaryDataOperationException ex) {
+            Logger.getLogger(CodeAreaUndoHandler.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+
+    private void notifyUsageChanged() {
+        usageListeners.forEach((listener) -> {
+            listener.undoUsageChanged(usedSize, commands.size());
+        });
+    }
+
+    /**
+     * Returns true if command reports changes of data itself.
+     *
+     * @param command command
+     * @return true if change of data was already reported
+     */
+    private static boolean isDataChangeReported(BinaryDataCommand command) {
+        return command.reportsDataChanges();
+    }
+
+    private void undoUpdated(boolean dataChangeReported) {
+        if (!dataChangeReported) {
+            codeArea.notifyDataChanged();
+        }
         ((CaretCapable) codeArea).notifyCaretMoved();
         listeners.forEach((listener) -> {
             listener.undoCommandPositionChanged();
@@ -287,4 +424,14 @@ public class CodeAreaUndoHandler implements BinaryDataUndoHandler {
     public void removeUndoUpdateListener(BinaryDataUndoUpdateListener listener) {
         listeners.remove(listener);
     }
+
+    @Override
+    public void addUndoUsageListener(BinaryDataUndoUsageListener listener) {
+        usageListeners.add(listener);
+    }
+
+    @Override
+    public void removeUndoUsageListener(BinaryDataUndoUsageListener listener) {
+        usageListeners.remove(listener);
+    }
 }
@@ -25,7 +25,7 @@ import org.exbin.auxiliary.paged_data.EditableBinaryData;
 /**
  * Operation for editing data in delete mode.
  *
- * @version 0.2.0 2018/02/14
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -35,7 +35,7 @@ public class DeleteCharEditDataOperation extends CharEditDataOperation {
     private static final char DELETE_CHAR = (char) 0x7f;
 
     private long position;
-    private EditableBinaryData undoData = null;
+    private final UndoDataBuffer undoData = new UndoDataBuffer();
 
     public DeleteCharEditDataOperation(CodeAreaCore codeArea, long startPosition) {
         super(codeArea);
@@ -60,26 +60,14 @@ public class DeleteCharEditDataOperation extends CharEditDataOperation {
             case BACKSPACE_CHAR: {
                 if (position > 0) {
                     position--;
-                    if (undoData == null) {
-                        undoData = (EditableBinaryData) data.copy(position, 1);
-                    } else {
-                        EditableBinaryData dataCopy = (EditableBinaryData) data.copy(position, 1);
-                        undoData.insert(0, dataCopy);
-                        dataCopy.dispose();
-                    }
+                    undoData.prepend(data, position, 1);
                     data.remove(position, 1);
                 }
                 break;
             }
             case DELETE_CHAR: {
                 if (position < data.getDataSize()) {
-                    if (undoData == null) {
-                        undoData = (EditableBinaryData) data.copy(position, 1);
-                    } else {
-                        EditableBinaryData dataCopy = (EditableBinaryData) data.copy(position, 1);
-                        undoData.insert(0, dataCopy);
-                        dataCopy.dispose();
-                    }
+                    undoData.append(data, position, 1);
                     data.remove(position, 1);
                 }
                 break;
@@ -89,13 +77,12 @@ public class DeleteCharEditDataOperation extends CharEditDataOperation {
             }
         }
         ((CaretCapable) codeArea).getCaret().setCaretPosition(position);
-        codeArea.repaint();
     }
 
     @Nonnull
     @Override
     public CodeAreaOperation[] generateUndo() {
-        InsertDataOperation insertOperation = new InsertDataOperation(codeArea, position, 0, (EditableBinaryData) undoData.copy());
+        InsertDataOperation insertOperation = new InsertDataOperation(codeArea, position, 0, undoData.toBinaryData(undoDataStorage));
         return new CodeAreaOperation[]{insertOperation};
     }
 
@@ -103,11 +90,14 @@ public class DeleteCharEditDataOperation extends CharEditDataOperation {
         return position;
     }
 
+    @Override
+    public long getRetainedSize() {
+        return undoData.getSize();
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
-        if (undoData != null) {
-            undoData.dispose();
-        }
+        undoData.clear();
     }
 }
@@ -26,7 +26,7 @@ import org.exbin.auxiliary.paged_data.EditableBinaryData;
 /**
  * Operation for editing data in delete mode.
  *
- * @version 0.1.2 2017/01/02
+ * @version 0.1.2 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -36,7 +36,7 @@ public class DeleteCodeEditDataOperation extends CodeEditDataOperation {
     private static final char DELETE_CHAR = (char) 0x7f;
 
     private long position;
-    private EditableBinaryData undoData = null;
+    private final UndoDataBuffer undoData = new UndoDataBuffer();
 
     public DeleteCodeEditDataOperation(CodeAreaCore codeArea, long startPosition) {
         super(codeArea);
@@ -75,26 +75,14 @@ public class DeleteCodeEditDataOperation extends CodeEditDataOperation {
             case BACKSPACE_CHAR: {
                 if (position > 0) {
                     position--;
-                    if (undoData == null) {
-                        undoData = (EditableBinaryData) data.copy(position, 1);
-                    } else {
-                        EditableBinaryData dataCopy = (EditableBinaryData) data.copy(position, 1);
-                        undoData.insert(0, dataCopy);
-                        dataCopy.dispose();
-                    }
+                    undoData.prepend(data, position, 1);
                     data.remove(position, 1);
                 }
                 break;
             }
             case DELETE_CHAR: {
                 if (position < data.getDataSize()) {
-                    if (undoData == null) {
-                        undoData = (EditableBinaryData) data.copy(position, 1);
-                    } else {
-                        EditableBinaryData dataCopy = (EditableBinaryData) data.copy(position, 1);
-                        undoData.insert(0, dataCopy);
-                        dataCopy.dispose();
-                    }
+                    undoData.append(data, position, 1);
                     data.remove(position, 1);
                 }
                 break;
@@ -104,12 +92,11 @@ public class DeleteCodeEditDataOperation extends CodeEditDataOperation {
             }
         }
         ((CaretCapable) codeArea).getCaret().setCaretPosition(position);
-        codeArea.repaint();
     }
 
     @Override
     public CodeAreaOperation[] generateUndo() {
-        InsertDataOperation insertOperation = new InsertDataOperation(codeArea, position, 0, (EditableBinaryData) undoData.copy());
+        InsertDataOperation insertOperation = new InsertDataOperation(codeArea, position, 0, undoData.toBinaryData(undoDataStorage));
         return new CodeAreaOperation[]{insertOperation};
     }
 
@@ -117,11 +104,14 @@ public class DeleteCodeEditDataOperation extends CodeEditDataOperation {
         return position;
     }
 
+    @Override
+    public long getRetainedSize() {
+        return undoData.getSize();
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
-        if (undoData != null) {
-            undoData.dispose();
-        }
+        undoData.clear();
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.BinaryData;
+
+/**
+ * Read-only data stored in undo journal file.
+ *
+ * Data are read from journal only when accessed.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+class FileUndoData implements BinaryData {
+
+    private static final int CACHE_SIZE = 64 * 1024;
+
+    private final FileUndoDataStorage storage;
+    private final FileUndoDataStorage.StoredRange storedRange;
+    private final long journalOffset;
+    private final long length;
+    private boolean disposed = false;
+
+    private final byte[] cache;
+    private long cachePosition = -1;
+    private int cacheLength = 0;
+
+    FileUndoData(FileUndoDataStorage storage, FileUndoDataStorage.StoredRange storedRange, long journalOffset, long length) {
+        this.storage = storage;
+        this.storedRange = storedRange;
+        this.journalOffset = journalOffset;
+        this.length = length;
+        cache = new byte[(int) Math.min(CACHE_SIZE, Math.max(length, 1))];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public long getDataSize() {
+        return length;
+    }
+
+    @Override
+    public byte getByte(long position) {
+        checkRange(position, 1);
+        if (position < cachePosition || position >= cachePosition + cacheLength) {
+            cachePosition = position;
+            cacheLength = (int) Math.min(cache.length, length - position);
+            storage.read(journalOffset + position, cache, 0, cacheLength);
+        }
+        return cache[(int) (position - cachePosition)];
+    }
+
+    @Nonnull
+    @Override
+    public BinaryData copy() {
+        return copy(0, length);
+    }
+
+    @Nonnull
+    @Override
+    public BinaryData copy(long startFrom, long length) {
+        checkRange(startFrom, length);
+        storage.dataShared(storedRange);
+        return new FileUndoData(storage, storedRange, journalOffset + startFrom, length);
+    }
+
+    @Override
+    public void copyToArray(long startFrom, byte[] target, int offset, int length) {
+        checkRange(startFrom, length);
+        storage.read(journalOffset + startFrom, target, offset, length);
+    }
+
+    @Override
+    public void saveToStream(OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[cache.length];
+        long position = 0;
+        while (position < length) {
+            int blockLength = (int) Math.min(buffer.length, length - position);
+            copyToArray(position, buffer, 0, blockLength);
+            outputStream.write(buffer, 0, blockLength);
+            position += blockLength;
+        }
+    }
+
+    @Nonnull
+    @Override
+    public InputStream getDataInputStream() {
+        return new InputStream() {
+            private long position = 0;
+
+            @Override
+            public int read() {
+                return position < length ? getByte(position++) & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] target, int offset, int readLength) {
+                if (readLength == 0) {
+                    return 0;
+                }
+                if (position >= length) {
+                    return -1;
+                }
+
+                int blockLength = (int) Math.min(readLength, length - position);
+                copyToArray(position, target, offset, blockLength);
+                position += blockLength;
+                return blockLength;
+            }
+
+            @Override
+            public int available() {
+                return (int) Math.min(Integer.MAX_VALUE, length - position);
+            }
+        };
+    }
+
+    @Override
+    public void dispose() {
+        if (!disposed) {
+            disposed = true;
+            storage.dataDisposed(storedRange);
+        }
+    }
+
+    private void checkRange(long startFrom, long rangeLength) {
+        if (startFrom < 0 || rangeLength < 0 || startFrom + rangeLength > length) {
+            throw new IndexOutOfBoundsException("Range " + startFrom + " + " + rangeLength + " out of data size " + length);
+        }
+    }
+}
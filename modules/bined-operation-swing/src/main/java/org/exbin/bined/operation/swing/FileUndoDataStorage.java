@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.BinaryData;
+
+/**
+ * Undo data storage writing large data to temporary file.
+ *
+ * Data smaller than threshold are copied in memory, larger data are written
+ * to journal file and read back only when needed. Space of disposed data is
+ * reused for following data and journal file is truncated when data at its end
+ * are disposed.
+ *
+ * Size of journal file is limited. Data which would not fit into the limit are
+ * copied in memory instead, so that they are counted in retained size and
+ * limited by maximum size of the undo.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class FileUndoDataStorage implements UndoDataStorage {
+
+    public static final long DEFAULT_THRESHOLD = 1024 * 1024;
+    public static final long DEFAULT_JOURNAL_LIMIT = 4L * 1024 * 1024 * 1024;
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    @Nullable
+    private final File directory;
+    private long threshold = DEFAULT_THRESHOLD;
+    private long journalLimit = DEFAULT_JOURNAL_LIMIT;
+
+    @Nullable
+    private File journalFile;
+    @Nullable
+    private RandomAccessFile journal;
+    private long journalSize = 0;
+    /**
+     * Unused ranges of journal file mapped from offset to length.
+     */
+    private final TreeMap<Long, Long> freeRanges = new TreeMap<>();
+
+    /**
+     * Creates storage with journal in default temporary directory.
+     */
+    public FileUndoDataStorage() {
+        this(null);
+    }
+
+    /**
+     * Creates storage with journal in given directory.
+     *
+     * @param directory directory for journal file or null for default
+     * temporary directory
+     */
+    public FileUndoDataStorage(@Nullable File directory) {
+        this.directory = directory;
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Sets minimal size of data to be written to journal file.
+     *
+     * @param threshold threshold in bytes
+     */
+    public void setThreshold(long threshold) {
+        this.threshold = threshold;
+    }
+
+    public long getJournalLimit() {
+        return journalLimit;
+    }
+
+    /**
+     * Sets maximum size of journal file.
+     *
+     * @param journalLimit limit in bytes
+     */
+    public void setJournalLimit(long journalLimit) {
+        this.journalLimit = journalLimit;
+    }
+
+    @Nonnull
+    @Override
+    public synchronized BinaryData storeData(BinaryData data, long startFrom, long length) {
+        if (length < threshold) {
+            return data.copy(startFrom, length);
+        }
+
+        long journalOffset = allocate(length);
+        if (journalOffset < 0) {
+            return data.copy(startFrom, length);
+        }
+
+        try {
+            FileChannel channel = openJournal().getChannel();
+            byte[] buffer = new byte[(int) Math.min(TRANSFER_BUFFER_SIZE, length)];
+            long position = 0;
+            while (position < length) {
+                int blockLength = (int) Math.min(buffer.length, length - position);
+                data.copyToArray(startFrom + position, buffer, 0, blockLength);
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, blockLength);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer, journalOffset + position + byteBuffer.position());
+                }
+                position += blockLength;
+            }
+            return new FileUndoData(this, new StoredRange(journalOffset, length), journalOffset, length);
+        } catch (IOException ex) {
+            if (journal != null) {
+                release(journalOffset, length);
+            } else {
+                journalSize = 0;
+            }
+            throw new UncheckedIOException("Unable to write undo data", ex);
+        }
+    }
+
+    @Override
+    public long getRetainedSize(BinaryData storedData) {
+        return storedData instanceof FileUndoData ? 0 : storedData.getDataSize();
+    }
+
+    /**
+     * Returns size of the journal file.
+     *
+     * @return size in bytes
+     */
+    public synchronized long getJournalSize() {
+        return journalSize;
+    }
+
+    @Override
+    public synchronized void dispose() {
+        closeJournal();
+    }
+
+    void read(long journalOffset, byte[] target, int offset, int length) {
+        FileChannel channel;
+        synchronized (this) {
+            if (journal == null) {
+                throw new IllegalStateException("Undo data storage was disposed");
+            }
+            channel = journal.getChannel();
+        }
+
+        try {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(target, offset, length);
+            while (byteBuffer.hasRemaining()) {
+                int read = channel.read(byteBuffer, journalOffset + byteBuffer.position() - offset);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of undo journal");
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to read undo data", ex);
+        }
+    }
+
+    synchronized void dataShared(StoredRange storedRange) {
+        storedRange.usageCount++;
+    }
+
+    synchronized void dataDisposed(StoredRange storedRange) {
+        storedRange.usageCount--;
+        if (storedRange.usageCount == 0 && journal != null) {
+            release(storedRange.journalOffset, storedRange.length);
+        }
+    }
+
+    /**
+     * Allocates range of journal file reusing free range if possible.
+     *
+     * @param length length of the range
+     * @return offset of the range or -1 if journal limit would be exceeded
+     */
+    private long allocate(long length) {
+        for (Map.Entry<Long, Long> freeRange : freeRanges.entrySet()) {
+            long offset = freeRange.getKey();
+            long freeLength = freeRange.getValue();
+            if (freeLength >= length) {
+                freeRanges.remove(offset);
+                if (freeLength > length) {
+                    freeRanges.put(offset + length, freeLength - length);
+                }
+                return offset;
+            }
+        }
+
+        if (journalSize + length > journalLimit) {
+            return -1;
+        }
+        long offset = journalSize;
+        journalSize += length;
+        return offset;
+    }
+
+    /**
+     * Releases range of journal file merging it with adjacent free ranges.
+     *
+     * @param offset offset of the range
+     * @param length length of the range
+     */
+    private void release(long offset, long length) {
+        Map.Entry<Long, Long> previousRange = freeRanges.floorEntry(offset);
+        if (previousRange != null && previousRange.getKey() + previousRange.getValue() == offset) {
+            freeRanges.remove(previousRange.getKey());
+            offset = previousRange.getKey();
+            length += previousRange.getValue();
+        }
+        Long nextLength = freeRanges.remove(offset + length);
+        if (nextLength != null) {
+            length += nextLength;
+        }
+
+        if (offset + length < journalSize) {
+            freeRanges.put(offset, length);
+            return;
+        }
+
+        journalSize = offset;
+        try {
+            journal.setLength(journalSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to truncate undo journal", ex);
+        }
+    }
+
+    @Nonnull
+    private RandomAccessFile openJournal() throws IOException {
+        if (journal == null) {
+            journalFile = File.createTempFile("bined-undo", ".tmp", directory);
+            journalFile.deleteOnExit();
+            journal = new RandomAccessFile(journalFile, "rw");
+        }
+        return journal;
+    }
+
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException ex) {
+                // Journal is deleted anyway
+            }
+            journal = null;
+        }
+        if (journalFile != null) {
+            journalFile.delete();
+            journalFile = null;
+        }
+        freeRanges.clear();
+        journalSize = 0;
+    }
+
+    /**
+     * Range of journal file shared by stored data and their copies.
+     */
+    @ParametersAreNonnullByDefault
+    static final class StoredRange {
+
+        private final long journalOffset;
+        private final long length;
+        private int usageCount = 1;
+
+        private StoredRange(long journalOffset, long length) {
+            this.journalOffset = journalOffset;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.BinaryData;
+import org.exbin.bined.MappedFileBinaryData;
+
+/**
+ * Saver writing only modified regions of data edited over memory mapped file
+ * back to the same file.
+ *
+ * Applicable to piece table data over the whole mapped file. Unchanged pieces
+ * remaining on their original position are not written at all, so when size
+ * of data has not changed only modified ranges are written. When data were
+ * inserted or removed, only pieces shifted after the first size changing edit
+ * are moved. Pieces moving to the left are processed in ascending order and
+ * pieces moving to the right in descending order, so that source of pending
+ * moves is never overwritten. If pieces were reordered in a way that this
+ * cannot be ensured, incremental save is not applicable.
+ *
+ * Save is crash-safe using journal file stored next to the saved file. The
+ * journal contains the save plan together with added data and before each
+ * moved chunk is written, the chunk is stored in one of two alternating
+ * journal slots. Interrupted save can be then completed using recover method.
+ *
+ * File is written while it is still mapped by the saved data, because Java
+ * releases mapped segments only when they are garbage collected. Platforms
+ * which do not allow to truncate file with mapped section open, notably
+ * Windows, are not supported for saving of data with reduced size: save fails
+ * with IOException and journal is left to be recovered after the file is
+ * reopened.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class IncrementalFileSaver {
+
+    public static final String JOURNAL_SUFFIX = ".bined-journal";
+
+    private static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final int MAX_MOVE_STEPS = 1024;
+
+    private static final long JOURNAL_MAGIC = 0x42696e4564536176L;
+    private static final long COMMIT_MAGIC = 0x436f6d6d69747465L;
+    private static final int STEP_HEADER_SIZE = 25;
+    private static final int SLOT_HEADER_SIZE = 32;
+
+    private static final byte STEP_MOVE = 0;
+    private static final byte STEP_DATA = 1;
+    private static final byte STEP_FILL = 2;
+
+    private final File file;
+    private final File journalFile;
+    private final int chunkSize;
+
+    public IncrementalFileSaver(File file) {
+        this(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    IncrementalFileSaver(File file, int chunkSize) {
+        this.file = file.getAbsoluteFile();
+        this.chunkSize = chunkSize;
+        journalFile = new File(this.file.getParentFile(), this.file.getName() + JOURNAL_SUFFIX);
+    }
+
+    @Nonnull
+    public File getFile() {
+        return file;
+    }
+
+    @Nonnull
+    public File getJournalFile() {
+        return journalFile;
+    }
+
+    /**
+     * Returns true if journal of unfinished save exists.
+     *
+     * @return true if journal exists
+     */
+    public boolean hasJournal() {
+        return journalFile.exists();
+    }
+
+    /**
+     * Saves data to file writing only modified regions.
+     *
+     * When save is performed, source data of given data and of all its copies
+     * are no longer valid and data has to be reopened from the file.
+     *
+     * @param data data to save
+     * @param listener progress listener or null
+     * @return false if data cannot be saved incrementally, file is left
+     * untouched in such case
+     * @throws IOException if input/output error
+     */
+    public boolean save(BinaryData data, @Nullable SaveProgressListener listener) throws IOException {
+        if (hasJournal()) {
+            throw new IOException("Journal of unfinished save exists for file " + file.getPath());
+        }
+        if (!isBackedByFile(data)) {
+            return false;
+        }
+
+        PieceTableEditableData pieceData = (PieceTableEditableData) data;
+        List<SaveStep> steps = createPlan(pieceData);
+        if (steps == null) {
+            return false;
+        }
+        long dataSize = data.getDataSize();
+        if (steps.isEmpty() && dataSize == file.length()) {
+            return true;
+        }
+
+        long progressOffset = writePlan(pieceData, steps, dataSize);
+        pieceData.invalidateSource();
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw"); RandomAccessFile target = new RandomAccessFile(file, "rw")) {
+            Execution execution = new Execution(target.getChannel(), journal, steps, progressOffset, listener);
+            execution.run(0, 0, dataSize);
+        }
+        Files.delete(journalFile.toPath());
+        return true;
+    }
+
+    /**
+     * Completes save interrupted by failure.
+     *
+     * Journal which was not completely written, including empty journal or
+     * journal with incomplete header, is discarded as file was not modified
+     * yet.
+     *
+     * @param listener progress listener or null
+     * @return true if file was modified
+     * @throws IOException if input/output error
+     */
+    public boolean recover(@Nullable SaveProgressListener listener) throws IOException {
+        if (!hasJournal()) {
+            return false;
+        }
+
+        boolean modified = false;
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            long dataSize;
+            List<SaveStep> steps = new ArrayList<>();
+            long progressOffset;
+            try {
+                if (journal.readLong() != JOURNAL_MAGIC) {
+                    throw new EOFException();
+                }
+                dataSize = journal.readLong();
+                int stepsCount = journal.readInt();
+                for (int i = 0; i < stepsCount; i++) {
+                    SaveStep step = new SaveStep(journal.readByte(), journal.readLong(), journal.readLong(), journal.readLong());
+                    if (step.type == STEP_DATA) {
+                        step.dataOffset = journal.getFilePointer();
+                        journal.seek(step.dataOffset + step.length);
+                    }
+                    steps.add(step);
+                }
+                if (journal.readLong() != COMMIT_MAGIC) {
+                    throw new EOFException();
+                }
+                progressOffset = journal.getFilePointer();
+            } catch (EOFException ex) {
+                // Plan was not completed, file is untouched
+                steps = null;
+                dataSize = 0;
+                progressOffset = 0;
+            }
+
+            if (steps != null) {
+                try (RandomAccessFile target = new RandomAccessFile(file, "rw")) {
+                    Execution execution = new Execution(target.getChannel(), journal, steps, progressOffset, listener);
+                    execution.recover(dataSize);
+                }
+                modified = true;
+            }
+        }
+        Files.delete(journalFile.toPath());
+        return modified;
+    }
+
+    private boolean isBackedByFile(BinaryData data) {
+        if (!(data instanceof PieceTableEditableData)) {
+            return false;
+        }
+
+        BinaryData source = ((PieceTableEditableData) data).getSource();
+        if (!(source instanceof MappedFileBinaryData)) {
+            return false;
+        }
+
+        MappedFileBinaryData mappedSource = (MappedFileBinaryData) source;
+        return mappedSource.getFile().getAbsoluteFile().equals(file) && mappedSource.getStartPosition() == 0 && mappedSource.getDataSize() == file.length();
+    }
+
+    /**
+     * Creates ordered list of save steps.
+     *
+     * @param data saved data
+     * @return steps or null if pieces cannot be moved in place
+     */
+    @Nullable
+    private static List<SaveStep> createPlan(PieceTableEditableData data) {
+        List<SaveStep> leftMoves = new ArrayList<>();
+        List<SaveStep> rightMoves = new ArrayList<>();
+        List<SaveStep> writes = new ArrayList<>();
+        data.visitPieces(new PieceTableEditableData.PieceVisitor() {
+            @Override
+            public void visitSourcePiece(long position, long length, long sourceOffset) {
+                if (sourceOffset > position) {
+                    leftMoves.add(new SaveStep(STEP_MOVE, position, length, sourceOffset));
+                } else if (sourceOffset < position) {
+                    rightMoves.add(new SaveStep(STEP_MOVE, position, length, sourceOffset));
+                }
+            }
+
+            @Override
+            public void visitAddedPiece(long position, long length) {
+                SaveStep lastStep = writes.isEmpty() ? null : writes.get(writes.size() - 1);
+                if (lastStep != null && lastStep.type == STEP_DATA && lastStep.position + lastStep.length == position) {
+                    lastStep.length += length;
+                } else {
+                    writes.add(new SaveStep(STEP_DATA, position, length, 0));
+                }
+            }
+
+            @Override
+            public void visitFillPiece(long position, long length, byte fill) {
+                writes.add(new SaveStep(STEP_FILL, position, length, fill));
+            }
+        });
+
+        if (leftMoves.size() + rightMoves.size() > MAX_MOVE_STEPS) {
+            return null;
+        }
+
+        List<SaveStep> steps = new ArrayList<>(leftMoves);
+        for (int i = rightMoves.size() - 1; i >= 0; i--) {
+            steps.add(rightMoves.get(i));
+        }
+        for (int i = 0; i < steps.size(); i++) {
+            SaveStep step = steps.get(i);
+            for (int j = i + 1; j < steps.size(); j++) {
+                SaveStep laterStep = steps.get(j);
+                if (step.position < laterStep.value + laterStep.length && laterStep.value < step.position + step.length) {
+                    return null;
+                }
+            }
+        }
+        steps.addAll(writes);
+        return steps;
+    }
+
+    /**
+     * Writes save plan including added data to journal.
+     *
+     * @return offset of progress slots in journal
+     */
+    private long writePlan(PieceTableEditableData data, List<SaveStep> steps, long dataSize) throws IOException {
+        try (FileOutputStream journalStream = new FileOutputStream(journalFile)) {
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(journalStream));
+            output.writeLong(JOURNAL_MAGIC);
+            output.writeLong(dataSize);
+            output.writeInt(steps.size());
+            long offset = 20;
+            byte[] buffer = null;
+            for (SaveStep step : steps) {
+                output.writeByte(step.type);
+                output.writeLong(step.position);
+                output.writeLong(step.length);
+                output.writeLong(step.value);
+                offset += STEP_HEADER_SIZE;
+                if (step.type == STEP_DATA) {
+                    if (buffer == null) {
+                        buffer = new byte[chunkSize];
+                    }
+                    step.dataOffset = offset;
+                    long done = 0;
+                    while (done < step.length) {
+                        int blockLength = (int) Math.min(buffer.length, step.length - done);
+                        data.copyToArray(step.position + done, buffer, 0, blockLength);
+                        output.write(buffer, 0, blockLength);
+                        done += blockLength;
+                    }
+                    offset += step.length;
+                }
+            }
+            output.flush();
+            journalStream.getChannel().force(true);
+
+            output.writeLong(COMMIT_MAGIC);
+            output.flush();
+            journalStream.getChannel().force(true);
+            return offset + 8;
+        }
+    }
+
+    /**
+     * Execution of save steps recording progress to journal.
+     */
+    @ParametersAreNonnullByDefault
+    private final class Execution {
+
+        private final FileChannel channel;
+        private final RandomAccessFile journal;
+        private final List<SaveStep> steps;
+        private final long progressOffset;
+        @Nullable
+        private final SaveProgressListener listener;
+        private final ByteBuffer buffer;
+        private final CRC32 crc = new CRC32();
+        private long sequence = 0;
+        private long processedBytes = 0;
+        private long totalBytes = 0;
+
+        private Execution(FileChannel channel, RandomAccessFile journal, List<SaveStep> steps, long progressOffset, @Nullable SaveProgressListener listener) {
+            this.channel = channel;
+            this.journal = journal;
+            this.steps = steps;
+            this.progressOffset = progressOffset;
+            this.listener = listener;
+            buffer = ByteBuffer.allocate(SLOT_HEADER_SIZE + chunkSize);
+            for (SaveStep step : steps) {
+                totalBytes += step.length;
+            }
+        }
+
+        private void recover(long dataSize) throws IOException {
+            byte[] header = new byte[SLOT_HEADER_SIZE];
+            long recordSequence = -1;
+            int stepIndex = 0;
+            long done = 0;
+            int chunkLength = 0;
+            long chunkOffset = 0;
+            for (int slot = 0; slot < 2; slot++) {
+                long slotOffset = getSlotOffset(slot);
+                if (journal.length() < slotOffset + SLOT_HEADER_SIZE) {
+                    continue;
+                }
+
+                journal.seek(slotOffset);
+                journal.readFully(header);
+                ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+                long slotSequence = headerBuffer.getLong();
+                int slotStepIndex = headerBuffer.getInt();
+                long slotDone = headerBuffer.getLong();
+                int slotChunkLength = headerBuffer.getInt();
+                long slotChecksum = headerBuffer.getLong();
+                if (slotSequence <= recordSequence || slotStepIndex < 0 || slotStepIndex >= steps.size() || slotChunkLength < 0 || slotChunkLength > chunkSize
+                        || journal.length() < slotOffset + SLOT_HEADER_SIZE + slotChunkLength) {
+                    continue;
+                }
+
+                buffer.clear();
+                buffer.limit(slotChunkLength);
+                readFully(journal.getChannel(), buffer, slotOffset + SLOT_HEADER_SIZE);
+                crc.reset();
+                crc.update(header, 0, SLOT_HEADER_SIZE - 8);
+                crc.update(buffer.array(), 0, slotChunkLength);
+                if (crc.getValue() == slotChecksum) {
+                    recordSequence = slotSequence;
+                    stepIndex = slotStepIndex;
+                    done = slotDone;
+                    chunkLength = slotChunkLength;
+                    chunkOffset = slotOffset + SLOT_HEADER_SIZE;
+                }
+            }
+
+            if (recordSequence >= 0) {
+                sequence = recordSequence + 1;
+                if (chunkLength > 0) {
+                    // Replay chunk which might not be written completely
+                    SaveStep step = steps.get(stepIndex);
+                    buffer.clear();
+                    buffer.limit(chunkLength);
+                    readFully(journal.getChannel(), buffer, chunkOffset);
+                    buffer.flip();
+                    writeFully(channel, buffer, step.position + step.getChunkStart(done, chunkLength));
+                    done += chunkLength;
+                } else {
+                    done = 0;
+                }
+            }
+            run(stepIndex, done, dataSize);
+        }
+
+        private void run(int startStep, long startDone, long dataSize) throws IOException {
+            for (int i = 0; i < startStep; i++) {
+                processedBytes += steps.get(i).length;
+            }
+            processedBytes += startDone;
+
+            for (int stepIndex = startStep; stepIndex < steps.size(); stepIndex++) {
+                SaveStep step = steps.get(stepIndex);
+                long done = stepIndex == startStep ? startDone : 0;
+                if (step.type == STEP_MOVE) {
+                    while (done < step.length) {
+                        int chunkLength = (int) Math.min(chunkSize, step.length - done);
+                        long chunkStart = step.getChunkStart(done, chunkLength);
+                        buffer.clear();
+                        buffer.position(SLOT_HEADER_SIZE);
+                        buffer.limit(SLOT_HEADER_SIZE + chunkLength);
+                        readFully(channel, buffer, step.value + chunkStart);
+                        writeProgress(stepIndex, done, chunkLength);
+                        buffer.position(SLOT_HEADER_SIZE);
+                        buffer.limit(SLOT_HEADER_SIZE + chunkLength);
+                        writeFully(channel, buffer, step.position + chunkStart);
+                        done += chunkLength;
+                        reportProgress(chunkLength);
+                    }
+                } else {
+                    writeProgress(stepIndex, 0, 0);
+                    while (done < step.length) {
+                        int blockLength = (int) Math.min(chunkSize, step.length - done);
+                        buffer.clear();
+                        buffer.limit(blockLength);
+                        if (step.type == STEP_DATA) {
+                            readFully(journal.getChannel(), buffer, step.dataOffset + done);
+                        } else {
+                            Arrays.fill(buffer.array(), 0, blockLength, (byte) step.value);
+                        }
+                        buffer.rewind();
+                        writeFully(channel, buffer, step.position + done);
+                        done += blockLength;
+                        reportProgress(blockLength);
+                    }
+                }
+            }
+
+            if (channel.size() > dataSize) {
+                // Fails on Windows while file is still mapped
+                channel.truncate(dataSize);
+            }
+            channel.force(true);
+        }
+
+        /**
+         * Records progress to journal slot.
+         *
+         * Previous writes are forced first, so that the slot of the previous
+         * record can be reused.
+         */
+        private void writeProgress(int stepIndex, long done, int chunkLength) throws IOException {
+            channel.force(false);
+            byte[] data = buffer.array();
+            ByteBuffer header = ByteBuffer.wrap(data, 0, SLOT_HEADER_SIZE);
+            header.putLong(sequence);
+            header.putInt(stepIndex);
+            header.putLong(done);
+            header.putInt(chunkLength);
+            crc.reset();
+            crc.update(data, 0, SLOT_HEADER_SIZE - 8);
+            crc.update(data, SLOT_HEADER_SIZE, chunkLength);
+            header.putLong(crc.getValue());
+
+            ByteBuffer record = ByteBuffer.wrap(data, 0, SLOT_HEADER_SIZE + chunkLength);
+            writeFully(journal.getChannel(), record, getSlotOffset((int) (sequence % 2)));
+            journal.getChannel().force(true);
+            sequence++;
+        }
+
+        private long getSlotOffset(int slot) {
+            return progressOffset + slot * (long) (SLOT_HEADER_SIZE + chunkSize);
+        }
+
+        private void reportProgress(long processed) {
+            processedBytes += processed;
+            if (listener != null) {
+                listener.progressChanged(processedBytes, totalBytes);
+            }
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        long readPosition = position;
+        while (target.hasRemaining()) {
+            int count = channel.read(target, readPosition);
+            if (count < 0) {
+                throw new EOFException();
+            }
+            readPosition += count;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long position) throws IOException {
+        long writePosition = position;
+        while (source.hasRemaining()) {
+            writePosition += channel.write(source, writePosition);
+        }
+    }
+
+    /**
+     * Single step of the save.
+     *
+     * Value is source offset for moved piece or fill value for filled piece.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class SaveStep {
+
+        private final byte type;
+        private final long position;
+        private long length;
+        private final long value;
+        private long dataOffset;
+
+        private SaveStep(byte type, long position, long length, long value) {
+            this.type = type;
+            this.position = position;
+            this.length = length;
+            this.value = value;
+        }
+
+        /**
+         * Returns start of the chunk relative to piece start.
+         *
+         * Pieces moving to the right are processed from their end.
+         */
+        private long getChunkStart(long done, int chunkLength) {
+            return value < position ? length - done - chunkLength : done;
+        }
+    }
+}
@@ -26,7 +26,7 @@ import org.exbin.auxiliary.paged_data.EditableBinaryData;
 /**
  * Operation for editing data using insert mode.
  *
- * @version 0.2.0 2018/02/14
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -218,6 +218,11 @@ public class InsertCodeEditDataOperation extends CodeEditDataOperation {
         return length;
     }
 
+    @Override
+    public long getRetainedSize() {
+        return trailingValue == null ? 0 : trailingValue.getDataSize();
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
@@ -22,11 +22,12 @@ import org.exbin.bined.operation.BinaryDataOperationException;
 import org.exbin.bined.swing.CodeAreaCore;
 import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.auxiliary.paged_data.EditableBinaryData;
+import org.exbin.auxiliary.paged_data.PagedData;
 
 /**
  * Operation for inserting data.
  *
- * @version 0.1.2 2017/01/02
+ * @version 0.1.2 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -34,9 +35,9 @@ public class InsertDataOperation extends CodeAreaOperation {
 
     private final long position;
     private final int codeOffset;
-    private final EditableBinaryData data;
+    private BinaryData data;
 
-    public InsertDataOperation(CodeAreaCore codeArea, long position, int codeOffset, EditableBinaryData data) {
+    public InsertDataOperation(CodeAreaCore codeArea, long position, int codeOffset, BinaryData data) {
         super(codeArea);
         this.position = position;
         this.codeOffset = codeOffset;
@@ -62,15 +63,29 @@ public class InsertDataOperation extends CodeAreaOperation {
     private CodeAreaOperation execute(boolean withUndo) {
         CodeAreaOperation undoOperation = null;
         ((EditableBinaryData) codeArea.getContentData()).insert(position, data);
+        codeArea.notifyDataChanged(position, 0, data.getDataSize());
         if (withUndo) {
             undoOperation = new RemoveDataOperation(codeArea, position, codeOffset, data.getDataSize());
+            undoOperation.setUndoDataStorage(undoDataStorage);
         }
         ((CaretCapable) codeArea).getCaret().setCaretPosition(position + data.getDataSize(), codeOffset);
         return undoOperation;
     }
 
     public void appendData(BinaryData appendData) {
-        data.insert(data.getDataSize(), appendData);
+        if (!(data instanceof EditableBinaryData)) {
+            // Data retained for undo can be read-only
+            PagedData editableData = new PagedData();
+            editableData.insert(0, data);
+            data.dispose();
+            data = editableData;
+        }
+        ((EditableBinaryData) data).insert(data.getDataSize(), appendData);
+    }
+
+    @Override
+    public long getRetainedSize() {
+        return getRetainedSize(data);
     }
 
     @Override
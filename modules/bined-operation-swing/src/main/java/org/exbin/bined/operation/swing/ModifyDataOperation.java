@@ -21,18 +21,19 @@ import org.exbin.bined.operation.BinaryDataOperationException;
 import org.exbin.bined.swing.CodeAreaCore;
 import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.auxiliary.paged_data.EditableBinaryData;
+import org.exbin.auxiliary.paged_data.PagedData;
 
 /**
  * Operation for modifying data.
  *
- * @version 0.1.2 2017/01/02
+ * @version 0.1.2 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
 public class ModifyDataOperation extends CodeAreaOperation {
 
     private final long position;
-    private final BinaryData data;
+    private BinaryData data;
 
     public ModifyDataOperation(CodeAreaCore codeArea, long position, BinaryData data) {
         super(codeArea);
@@ -59,17 +60,33 @@ public class ModifyDataOperation extends CodeAreaOperation {
     private CodeAreaOperation execute(boolean withUndo) {
         CodeAreaOperation undoOperation = null;
         if (withUndo) {
-            BinaryData undoData = codeArea.getContentData().copy(position, data.getDataSize());
+            BinaryData undoData = copyUndoData(position, data.getDataSize());
             undoOperation = new ModifyDataOperation(codeArea, position, undoData);
+            undoOperation.setUndoDataStorage(undoDataStorage);
         }
+        long dataSize = codeArea.getDataSize();
         ((EditableBinaryData) codeArea.getContentData()).replace(position, data);
+        long length = data.getDataSize();
+        codeArea.notifyDataChanged(position, length - (codeArea.getDataSize() - dataSize), length);
         return undoOperation;
     }
 
     public void appendData(BinaryData appendData) {
+        if (!(data instanceof EditableBinaryData)) {
+            // Data retained for undo can be read-only
+            PagedData editableData = new PagedData();
+            editableData.insert(0, data);
+            data.dispose();
+            data = editableData;
+        }
         ((EditableBinaryData) data).insert(data.getDataSize(), appendData);
     }
 
+    @Override
+    public long getRetainedSize() {
+        return getRetainedSize(data);
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
@@ -28,7 +28,7 @@ import org.exbin.auxiliary.paged_data.EditableBinaryData;
 /**
  * Operation for editing data using overwrite mode.
  *
- * @version 0.2.0 2018/12/10
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -36,7 +36,7 @@ public class OverwriteCharEditDataOperation extends CharEditDataOperation {
 
     private final long startPosition;
     private long length = 0;
-    private EditableBinaryData undoData = null;
+    private final UndoDataBuffer undoData = new UndoDataBuffer();
 
     public OverwriteCharEditDataOperation(CodeAreaCore coreArea, long startPosition) {
         super(coreArea);
@@ -75,12 +75,7 @@ public class OverwriteCharEditDataOperation extends CharEditDataOperation {
             if (overwritten > bytes.length) {
                 overwritten = bytes.length;
             }
-            EditableBinaryData overwrittenData = (EditableBinaryData) data.copy(editedDataPosition, overwritten);
-            if (undoData == null) {
-                undoData = overwrittenData;
-            } else {
-                undoData.insert(undoData.getDataSize(), overwrittenData);
-            }
+            undoData.append(data, editedDataPosition, (int) overwritten);
             for (int i = 0; i < overwritten; i++) {
                 data.setByte(editedDataPosition + i, bytes[i]);
             }
@@ -106,10 +101,10 @@ public class OverwriteCharEditDataOperation extends CharEditDataOperation {
     @Override
     public CodeAreaOperation[] generateUndo() {
         ModifyDataOperation modifyOperation = null;
-        if (undoData != null && !undoData.isEmpty()) {
-            modifyOperation = new ModifyDataOperation(codeArea, startPosition, undoData.copy());
+        if (!undoData.isEmpty()) {
+            modifyOperation = new ModifyDataOperation(codeArea, startPosition, undoData.toBinaryData(undoDataStorage));
         }
-        long undoDataSize = undoData == null ? 0 : undoData.getDataSize();
+        long undoDataSize = undoData.getSize();
         long removeLength = length - undoDataSize;
         if (removeLength == 0) {
             return new CodeAreaOperation[]{modifyOperation};
@@ -130,11 +125,14 @@ public class OverwriteCharEditDataOperation extends CharEditDataOperation {
         return length;
     }
 
+    @Override
+    public long getRetainedSize() {
+        return undoData.getSize();
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
-        if (undoData != null) {
-            undoData.dispose();
-        }
+        undoData.clear();
     }
 }
@@ -27,7 +27,7 @@ import org.exbin.auxiliary.paged_data.EditableBinaryData;
 /**
  * Operation for editing data using overwrite mode.
  *
- * @version 0.2.0 2018/02/14
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -36,7 +36,7 @@ public class OverwriteCodeEditDataOperation extends CodeEditDataOperation {
     private final long startPosition;
     private final int startCodeOffset;
     private long length = 0;
-    private EditableBinaryData undoData = null;
+    private final UndoDataBuffer undoData = new UndoDataBuffer();
     private final CodeType codeType;
 
     private int codeOffset = 0;
@@ -48,7 +48,7 @@ public class OverwriteCodeEditDataOperation extends CodeEditDataOperation {
         this.codeOffset = startCodeOffset;
         this.codeType = ((CodeTypeCapable) codeArea).getCodeType();
         if (startCodeOffset > 0 && codeArea.getDataSize() > startPosition) {
-            undoData = (EditableBinaryData) codeArea.getContentData().copy(startPosition, 1);
+            undoData.append(codeArea.getContentData(), startPosition, 1);
             length++;
         }
     }
@@ -92,12 +92,8 @@ public class OverwriteCodeEditDataOperation extends CodeEditDataOperation {
             editedDataPosition--;
         } else {
             if (editedDataPosition < data.getDataSize()) {
-                if (undoData == null) {
-                    undoData = (EditableBinaryData) data.copy(editedDataPosition, 1);
-                    byteValue = undoData.getByte(0);
-                } else {
-                    undoData.insert(undoData.getDataSize(), data, editedDataPosition, 1);
-                }
+                byteValue = data.getByte(editedDataPosition);
+                undoData.append(data, editedDataPosition, 1);
             } else if (editedDataPosition > data.getDataSize()) {
                 throw new IllegalStateException("Cannot overwrite outside of the document");
             } else {
@@ -119,10 +115,10 @@ public class OverwriteCodeEditDataOperation extends CodeEditDataOperation {
     @Override
     public CodeAreaOperation[] generateUndo() {
         ModifyDataOperation modifyOperation = null;
-        if (undoData != null && !undoData.isEmpty()) {
-            modifyOperation = new ModifyDataOperation(codeArea, startPosition, undoData.copy());
+        if (!undoData.isEmpty()) {
+            modifyOperation = new ModifyDataOperation(codeArea, startPosition, undoData.toBinaryData(undoDataStorage));
         }
-        long undoDataSize = undoData == null ? 0 : undoData.getDataSize();
+        long undoDataSize = undoData.getSize();
         long removeLength = length - undoDataSize;
         if (removeLength == 0) {
             return new CodeAreaOperation[]{modifyOperation};
@@ -147,11 +143,14 @@ public class OverwriteCodeEditDataOperation extends CodeEditDataOperation {
         return length;
     }
 
+    @Override
+    public long getRetainedSize() {
+        return undoData.getSize();
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
-        if (undoData != null) {
-            undoData.dispose();
-        }
+        undoData.clear();
     }
 }
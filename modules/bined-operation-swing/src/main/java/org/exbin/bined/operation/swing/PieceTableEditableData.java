@@ -0,0 +1,949 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.exbin.auxiliary.paged_data.BinaryData;
+import org.exbin.auxiliary.paged_data.EditableBinaryData;
+
+/**
+ * Editable data recording changes over read-only source data.
+ *
+ * Content is kept as a sequence of pieces referring either to the source data,
+ * to appended storage of added data or to range filled with single value.
+ * Pieces are kept in balanced tree keyed by cumulative length, so that
+ * position lookups and edits take time proportional to logarithm of count of
+ * pieces instead of size of data. Source data are never modified and added
+ * data are spilled to temporary file when they exceed memory limit.
+ *
+ * Tree nodes are immutable, so copies share them and copying range of data
+ * does not copy the bytes. Source data are disposed together with the last
+ * copy.
+ *
+ * Data and its copies can be read concurrently from multiple threads while
+ * they are not modified, source data must support concurrent reading as well.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class PieceTableEditableData implements EditableBinaryData {
+
+    public static final long DEFAULT_MEMORY_LIMIT = 16 * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte PIECE_SOURCE = 0;
+    private static final byte PIECE_ADDED = 1;
+    private static final byte PIECE_FILL = 2;
+
+    private final PieceStorage storage;
+    @Nullable
+    private Piece root;
+    private boolean disposed = false;
+
+    @Nullable
+    private volatile PieceLocation lastLocation = null;
+
+    public PieceTableEditableData() {
+        this(null, DEFAULT_MEMORY_LIMIT);
+    }
+
+    /**
+     * Creates editable data over given source data.
+     *
+     * Source data must not change while used by this data.
+     *
+     * @param source source data
+     */
+    public PieceTableEditableData(BinaryData source) {
+        this(source, DEFAULT_MEMORY_LIMIT);
+    }
+
+    /**
+     * Creates editable data over given source data.
+     *
+     * @param source source data or null for empty data
+     * @param memoryLimit size of added data kept in memory before spilling to
+     * temporary file
+     */
+    public PieceTableEditableData(@Nullable BinaryData source, long memoryLimit) {
+        storage = new PieceStorage(source, memoryLimit);
+        root = source == null ? null : createPiece(PIECE_SOURCE, 0, source.getDataSize());
+    }
+
+    private PieceTableEditableData(PieceStorage storage, @Nullable Piece root) {
+        this.storage = storage;
+        this.root = root;
+    }
+
+    /**
+     * Returns source data.
+     *
+     * @return source data or null
+     */
+    @Nullable
+    public BinaryData getSource() {
+        return storage.source;
+    }
+
+    /**
+     * Returns count of pieces forming this data.
+     *
+     * @return count of pieces
+     */
+    public int getPiecesCount() {
+        return root == null ? 0 : root.count;
+    }
+
+    /**
+     * Returns size of added data shared by copies of this data.
+     *
+     * @return size in bytes
+     */
+    public long getAddedDataSize() {
+        return storage.addedSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public long getDataSize() {
+        return size(root);
+    }
+
+    @Override
+    public byte getByte(long position) {
+        checkRange(position, 1);
+        PieceLocation location = lastLocation;
+        if (location == null || position < location.start || position >= location.start + location.piece.length) {
+            Piece node = root;
+            long nodeStart = 0;
+            while (true) {
+                long leftSize = size(node.left);
+                if (position < nodeStart + leftSize) {
+                    node = node.left;
+                } else if (position >= nodeStart + leftSize + node.length) {
+                    nodeStart += leftSize + node.length;
+                    node = node.right;
+                } else {
+                    location = new PieceLocation(node, nodeStart + leftSize);
+                    lastLocation = location;
+                    break;
+                }
+            }
+        }
+
+        Piece piece = location.piece;
+        long pieceOffset = position - location.start;
+        switch (piece.kind) {
+            case PIECE_SOURCE:
+                return storage.getSource().getByte(piece.offset + pieceOffset);
+            case PIECE_ADDED:
+                return storage.getByte(piece.offset + pieceOffset);
+            default:
+                return (byte) piece.offset;
+        }
+    }
+
+    @Nonnull
+    @Override
+    public EditableBinaryData copy() {
+        storage.dataShared();
+        return new PieceTableEditableData(storage, root);
+    }
+
+    @Nonnull
+    @Override
+    public EditableBinaryData copy(long startFrom, long length) {
+        checkRange(startFrom, length);
+        storage.dataShared();
+        return new PieceTableEditableData(storage, slice(root, startFrom, length));
+    }
+
+    @Override
+    public void copyToArray(long startFrom, byte[] target, int offset, int length) {
+        checkRange(startFrom, length);
+        copyPieces(root, 0, startFrom, startFrom + length, target, offset);
+    }
+
+    @Override
+    public void saveToStream(OutputStream outputStream) throws IOException {
+        long length = getDataSize();
+        byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(length, 1))];
+        long position = 0;
+        while (position < length) {
+            int blockLength = (int) Math.min(buffer.length, length - position);
+            copyToArray(position, buffer, 0, blockLength);
+            outputStream.write(buffer, 0, blockLength);
+            position += blockLength;
+        }
+    }
+
+    @Nonnull
+    @Override
+    public InputStream getDataInputStream() {
+        return new InputStream() {
+            private long position = 0;
+
+            @Override
+            public int read() {
+                return position < getDataSize() ? getByte(position++) & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] target, int offset, int readLength) {
+                if (readLength == 0) {
+                    return 0;
+                }
+                long length = getDataSize();
+                if (position >= length) {
+                    return -1;
+                }
+
+                int blockLength = (int) Math.min(readLength, length - position);
+                copyToArray(position, target, offset, blockLength);
+                position += blockLength;
+                return blockLength;
+            }
+
+            @Override
+            public int available() {
+                return (int) Math.min(Integer.MAX_VALUE, Math.max(0, getDataSize() - position));
+            }
+        };
+    }
+
+    @Nonnull
+    @Override
+    public OutputStream getDataOutputStream() {
+        return new OutputStream() {
+            private long position = 0;
+
+            @Override
+            public void write(int value) {
+                replace(position, new byte[]{(byte) value});
+                position++;
+            }
+
+            @Override
+            public void write(byte[] data, int offset, int length) {
+                replace(position, data, offset, length);
+                position += length;
+            }
+        };
+    }
+
+    @Override
+    public void setDataSize(long size) {
+        long dataSize = getDataSize();
+        if (size > dataSize) {
+            insert(dataSize, size - dataSize);
+        } else if (size < dataSize) {
+            remove(size, dataSize - size);
+        }
+    }
+
+    @Override
+    public void setByte(long position, byte value) {
+        checkRange(position, 1);
+        replaceRange(position, 1, createPiece(PIECE_ADDED, storage.append(new byte[]{value}, 0, 1), 1));
+    }
+
+    @Override
+    public void insertUninitialized(long startFrom, long length) {
+        insert(startFrom, length);
+    }
+
+    @Override
+    public void insert(long startFrom, long length) {
+        checkPosition(startFrom);
+        replaceRange(startFrom, 0, createPiece(PIECE_FILL, 0, length));
+    }
+
+    @Override
+    public void insert(long startFrom, byte[] insertedData) {
+        insert(startFrom, insertedData, 0, insertedData.length);
+    }
+
+    @Override
+    public void insert(long startFrom, byte[] insertedData, int insertedDataOffset, int insertedDataLength) {
+        checkPosition(startFrom);
+        replaceRange(startFrom, 0, createPiece(PIECE_ADDED, storage.append(insertedData, insertedDataOffset, insertedDataLength), insertedDataLength));
+    }
+
+    @Override
+    public void insert(long startFrom, BinaryData insertedData) {
+        insert(startFrom, insertedData, 0, insertedData.getDataSize());
+    }
+
+    @Override
+    public void insert(long startFrom, BinaryData insertedData, long insertedDataOffset, long insertedDataLength) {
+        checkPosition(startFrom);
+        replaceRange(startFrom, 0, toPieces(insertedData, insertedDataOffset, insertedDataLength));
+    }
+
+    @Override
+    public long insert(long startFrom, InputStream inputStream, long maximumDataSize) throws IOException {
+        checkPosition(startFrom);
+        long storageOffset = storage.addedSize;
+        long length = storage.append(inputStream, maximumDataSize);
+        replaceRange(startFrom, 0, createPiece(PIECE_ADDED, storageOffset, length));
+        return length;
+    }
+
+    @Override
+    public void replace(long targetPosition, BinaryData replacingData) {
+        replace(targetPosition, replacingData, 0, replacingData.getDataSize());
+    }
+
+    @Override
+    public void replace(long targetPosition, BinaryData replacingData, long startFrom, long length) {
+        checkPosition(targetPosition);
+        Piece replacingPieces = toPieces(replacingData, startFrom, length);
+        replaceRange(targetPosition, Math.min(length, getDataSize() - targetPosition), replacingPieces);
+    }
+
+    @Override
+    public void replace(long targetPosition, byte[] replacingData) {
+        replace(targetPosition, replacingData, 0, replacingData.length);
+    }
+
+    @Override
+    public void replace(long targetPosition, byte[] replacingData, int replacingDataOffset, int length) {
+        checkPosition(targetPosition);
+        Piece replacingPiece = createPiece(PIECE_ADDED, storage.append(replacingData, replacingDataOffset, length), length);
+        replaceRange(targetPosition, Math.min(length, getDataSize() - targetPosition), replacingPiece);
+    }
+
+    @Override
+    public void fillData(long startFrom, long length) {
+        fillData(startFrom, length, (byte) 0);
+    }
+
+    @Override
+    public void fillData(long startFrom, long length, byte fill) {
+        checkRange(startFrom, length);
+        replaceRange(startFrom, length, createPiece(PIECE_FILL, fill, length));
+    }
+
+    @Override
+    public void remove(long startFrom, long length) {
+        checkRange(startFrom, length);
+        replaceRange(startFrom, length, null);
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        lastLocation = null;
+    }
+
+    @Override
+    public void loadFromStream(InputStream inputStream) throws IOException {
+        clear();
+        insert(0, inputStream, -1);
+    }
+
+    @Override
+    public void dispose() {
+        if (!disposed) {
+            disposed = true;
+            root = null;
+            lastLocation = null;
+            storage.dataDisposed();
+        }
+    }
+
+    /**
+     * Replaces range of data with given pieces.
+     *
+     * @param startFrom start position
+     * @param length length of replaced range
+     * @param pieces replacing pieces or null to remove range
+     */
+    private void replaceRange(long startFrom, long length, @Nullable Piece pieces) {
+        Piece[] head = split(root, startFrom);
+        Piece[] tail = split(head[1], length);
+        root = join(join(head[0], pieces), tail[1]);
+        lastLocation = null;
+    }
+
+    /**
+     * Converts range of given data to pieces.
+     *
+     * Pieces of copies sharing the same storage are reused, other data are
+     * appended to storage.
+     */
+    @Nullable
+    private Piece toPieces(BinaryData data, long startFrom, long length) {
+        if (length == 0) {
+            return null;
+        }
+
+        if (data instanceof PieceTableEditableData && ((PieceTableEditableData) data).storage == storage) {
+            PieceTableEditableData pieceData = (PieceTableEditableData) data;
+            pieceData.checkRange(startFrom, length);
+            return slice(pieceData.root, startFrom, length);
+        }
+        if (data == storage.source) {
+            return createPiece(PIECE_SOURCE, startFrom, length);
+        }
+
+        return createPiece(PIECE_ADDED, storage.append(data, startFrom, length), length);
+    }
+
+    private void copyPieces(@Nullable Piece node, long nodeStart, long startFrom, long end, byte[] target, int targetOffset) {
+        if (node == null || nodeStart >= end || nodeStart + node.size <= startFrom) {
+            return;
+        }
+
+        long leftSize = size(node.left);
+        copyPieces(node.left, nodeStart, startFrom, end, target, targetOffset);
+        long pieceStart = nodeStart + leftSize;
+        long from = Math.max(startFrom, pieceStart);
+        long to = Math.min(end, pieceStart + node.length);
+        if (from < to) {
+            int blockOffset = targetOffset + (int) (from - startFrom);
+            int blockLength = (int) (to - from);
+            long pieceOffset = from - pieceStart;
+            switch (node.kind) {
+                case PIECE_SOURCE: {
+                    storage.getSource().copyToArray(node.offset + pieceOffset, target, blockOffset, blockLength);
+                    break;
+                }
+                case PIECE_ADDED: {
+                    storage.read(node.offset + pieceOffset, target, blockOffset, blockLength);
+                    break;
+                }
+                default: {
+                    Arrays.fill(target, blockOffset, blockOffset + blockLength, (byte) node.offset);
+                }
+            }
+        }
+        copyPieces(node.right, pieceStart + node.length, startFrom, end, target, targetOffset);
+    }
+
+    /**
+     * Visits pieces in order of their position.
+     *
+     * @param visitor pieces visitor
+     */
+    void visitPieces(PieceVisitor visitor) {
+        visitPieces(root, 0, visitor);
+    }
+
+    /**
+     * Marks source data as changed.
+     *
+     * All copies sharing source data fail on access to source data afterwards.
+     */
+    void invalidateSource() {
+        storage.sourceInvalidated = true;
+    }
+
+    private static void visitPieces(@Nullable Piece node, long nodeStart, PieceVisitor visitor) {
+        if (node == null) {
+            return;
+        }
+
+        visitPieces(node.left, nodeStart, visitor);
+        long pieceStart = nodeStart + size(node.left);
+        switch (node.kind) {
+            case PIECE_SOURCE: {
+                visitor.visitSourcePiece(pieceStart, node.length, node.offset);
+                break;
+            }
+            case PIECE_ADDED: {
+                visitor.visitAddedPiece(pieceStart, node.length);
+                break;
+            }
+            default: {
+                visitor.visitFillPiece(pieceStart, node.length, (byte) node.offset);
+            }
+        }
+        visitPieces(node.right, pieceStart + node.length, visitor);
+    }
+
+    private void checkPosition(long position) {
+        if (position < 0 || position > getDataSize()) {
+            throw new IndexOutOfBoundsException("Position " + position + " out of data size " + getDataSize());
+        }
+    }
+
+    private void checkRange(long startFrom, long rangeLength) {
+        long length = getDataSize();
+        if (startFrom < 0 || rangeLength < 0 || startFrom + rangeLength > length) {
+            throw new IndexOutOfBoundsException("Range " + startFrom + " + " + rangeLength + " out of data size " + length);
+        }
+    }
+
+    @Nullable
+    private static Piece createPiece(byte kind, long offset, long length) {
+        return length == 0 ? null : new Piece(kind, offset, length, null, null, ThreadLocalRandom.current().nextInt());
+    }
+
+    private static long size(@Nullable Piece node) {
+        return node == null ? 0 : node.size;
+    }
+
+    @Nullable
+    private static Piece slice(@Nullable Piece node, long startFrom, long length) {
+        return split(split(node, startFrom)[1], length)[0];
+    }
+
+    /**
+     * Splits tree to two trees with the first one containing given count of
+     * bytes.
+     *
+     * @param node tree root
+     * @param position split position
+     * @return pair of tree roots
+     */
+    @Nonnull
+    private static Piece[] split(@Nullable Piece node, long position) {
+        if (node == null || position == 0) {
+            return new Piece[]{null, node};
+        }
+        if (position >= node.size) {
+            return new Piece[]{node, null};
+        }
+
+        long leftSize = size(node.left);
+        if (position <= leftSize) {
+            Piece[] parts = split(node.left, position);
+            return new Piece[]{parts[0], node.withChildren(parts[1], node.right)};
+        }
+        long pieceEnd = leftSize + node.length;
+        if (position >= pieceEnd) {
+            Piece[] parts = split(node.right, position - pieceEnd);
+            return new Piece[]{node.withChildren(node.left, parts[0]), parts[1]};
+        }
+
+        long splitOffset = position - leftSize;
+        long rightOffset = node.kind == PIECE_FILL ? node.offset : node.offset + splitOffset;
+        return new Piece[]{
+            new Piece(node.kind, node.offset, splitOffset, node.left, null, node.priority),
+            new Piece(node.kind, rightOffset, node.length - splitOffset, null, node.right, node.priority)
+        };
+    }
+
+    @Nullable
+    private static Piece merge(@Nullable Piece first, @Nullable Piece second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+
+        if (first.priority > second.priority) {
+            return first.withChildren(first.left, merge(first.right, second));
+        }
+        return second.withChildren(merge(first, second.left), second.right);
+    }
+
+    /**
+     * Merges two trees joining boundary pieces if they are continuous.
+     *
+     * This keeps sequentially typed data or data restored by undo in single
+     * piece.
+     */
+    @Nullable
+    private static Piece join(@Nullable Piece first, @Nullable Piece second) {
+        if (first != null && second != null) {
+            Piece firstPiece = second;
+            while (firstPiece.left != null) {
+                firstPiece = firstPiece.left;
+            }
+            Piece extended = extendLastPiece(first, firstPiece);
+            if (extended != null) {
+                return merge(extended, split(second, firstPiece.length)[1]);
+            }
+        }
+        return merge(first, second);
+    }
+
+    /**
+     * Extends last piece of the tree if given piece continues it.
+     *
+     * @param node tree root
+     * @param piece piece to append, its children are ignored
+     * @return new tree root or null if piece doesn't continue last piece
+     */
+    @Nullable
+    private static Piece extendLastPiece(Piece node, Piece piece) {
+        if (node.right != null) {
+            Piece right = extendLastPiece(node.right, piece);
+            return right == null ? null : node.withChildren(node.left, right);
+        }
+
+        if (node.kind != piece.kind) {
+            return null;
+        }
+        long continuingOffset = node.kind == PIECE_FILL ? node.offset : node.offset + node.length;
+        if (continuingOffset != piece.offset) {
+            return null;
+        }
+        return new Piece(node.kind, node.offset, node.length + piece.length, node.left, null, node.priority);
+    }
+
+    /**
+     * Visitor of pieces.
+     */
+    @ParametersAreNonnullByDefault
+    interface PieceVisitor {
+
+        void visitSourcePiece(long position, long length, long sourceOffset);
+
+        void visitAddedPiece(long position, long length);
+
+        void visitFillPiece(long position, long length, byte fill);
+    }
+
+    /**
+     * Node of the tree of pieces.
+     */
+    @Immutable
+    @ParametersAreNonnullByDefault
+    private static final class Piece {
+
+        private final byte kind;
+        /**
+         * Offset in source or added data or value for filled piece.
+         */
+        private final long offset;
+        private final long length;
+        @Nullable
+        private final Piece left;
+        @Nullable
+        private final Piece right;
+        private final int priority;
+        private final long size;
+        private final int count;
+
+        private Piece(byte kind, long offset, long length, @Nullable Piece left, @Nullable Piece right, int priority) {
+            this.kind = kind;
+            this.offset = offset;
+            this.length = length;
+            this.left = left;
+            this.right = right;
+            this.priority = priority;
+            size = size(left) + length + size(right);
+            count = (left == null ? 0 : left.count) + 1 + (right == null ? 0 : right.count);
+        }
+
+        @Nonnull
+        private Piece withChildren(@Nullable Piece left, @Nullable Piece right) {
+            return left == this.left && right == this.right ? this : new Piece(kind, offset, length, left, right, priority);
+        }
+    }
+
+    /**
+     * Piece found by the last lookup with its start position.
+     */
+    @Immutable
+    @ParametersAreNonnullByDefault
+    private static final class PieceLocation {
+
+        @Nonnull
+        private final Piece piece;
+        private final long start;
+
+        private PieceLocation(Piece piece, long start) {
+            this.piece = piece;
+            this.start = start;
+        }
+    }
+
+    /**
+     * Block of spilled added data read by the last single byte access.
+     */
+    @Immutable
+    @ParametersAreNonnullByDefault
+    private static final class SpillBlock {
+
+        @Nonnull
+        private final byte[] data;
+        private final long position;
+        private final int length;
+
+        private SpillBlock(byte[] data, long position, int length) {
+            this.data = data;
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Storage of source and added data shared by all copies.
+     *
+     * Added data are only appended, so that existing pieces remain valid.
+     * Spilled data are accessed using positional channel operations, so that
+     * concurrent readers don't interfere.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class PieceStorage {
+
+        private static final int PAGE_SIZE = 4096;
+
+        @Nullable
+        private final BinaryData source;
+        private final long memoryCapacity;
+        private final List<byte[]> pages = new ArrayList<>();
+        private long addedSize = 0;
+        private int usageCount = 1;
+        private volatile boolean sourceInvalidated = false;
+
+        @Nullable
+        private File spillFile = null;
+        @Nullable
+        private RandomAccessFile spill = null;
+        @Nullable
+        private volatile FileChannel spillChannel = null;
+        @Nullable
+        private volatile SpillBlock spillCache = null;
+
+        private PieceStorage(@Nullable BinaryData source, long memoryLimit) {
+            this.source = source;
+            memoryCapacity = Math.max(0, memoryLimit / PAGE_SIZE) * PAGE_SIZE;
+        }
+
+        private long append(byte[] data, int offset, int length) {
+            long storageOffset = addedSize;
+            int dataOffset = offset;
+            int remaining = length;
+            while (remaining > 0) {
+                if (addedSize < memoryCapacity) {
+                    int pageIndex = (int) (addedSize / PAGE_SIZE);
+                    int pageOffset = (int) (addedSize % PAGE_SIZE);
+                    if (pageIndex == pages.size()) {
+                        pages.add(new byte[PAGE_SIZE]);
+                    }
+                    int blockLength = Math.min(remaining, PAGE_SIZE - pageOffset);
+                    System.arraycopy(data, dataOffset, pages.get(pageIndex), pageOffset, blockLength);
+                    addedSize += blockLength;
+                    dataOffset += blockLength;
+                    remaining -= blockLength;
+                } else {
+                    try {
+                        ByteBuffer buffer = ByteBuffer.wrap(data, dataOffset, remaining);
+                        long filePosition = addedSize - memoryCapacity;
+                        while (buffer.hasRemaining()) {
+                            filePosition += writeSpill(buffer, filePosition);
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException("Unable to write added data", ex);
+                    }
+                    addedSize += remaining;
+                    remaining = 0;
+                }
+            }
+            return storageOffset;
+        }
+
+        private long append(BinaryData data, long startFrom, long length) {
+            long storageOffset = addedSize;
+            byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, length)];
+            long position = 0;
+            while (position < length) {
+                int blockLength = (int) Math.min(buffer.length, length - position);
+                data.copyToArray(startFrom + position, buffer, 0, blockLength);
+                append(buffer, 0, blockLength);
+                position += blockLength;
+            }
+            return storageOffset;
+        }
+
+        /**
+         * Appends data from stream.
+         *
+         * @param inputStream input stream
+         * @param maximumDataSize maximum size of data or -1 for unlimited
+         * @return length of appended data
+         * @throws IOException if input/output error
+         */
+        private long append(InputStream inputStream, long maximumDataSize) throws IOException {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long length = 0;
+            while (maximumDataSize < 0 || length < maximumDataSize) {
+                int readLength = (int) (maximumDataSize < 0 ? buffer.length : Math.min(buffer.length, maximumDataSize - length));
+                int count = inputStream.read(buffer, 0, readLength);
+                if (count < 0) {
+                    break;
+                }
+                append(buffer, 0, count);
+                length += count;
+            }
+            return length;
+        }
+
+        private byte getByte(long position) {
+            if (position < memoryCapacity) {
+                return pages.get((int) (position / PAGE_SIZE))[(int) (position % PAGE_SIZE)];
+            }
+
+            SpillBlock block = spillCache;
+            if (block == null || position < block.position || position >= block.position + block.length) {
+                int blockLength = (int) Math.min(BUFFER_SIZE, addedSize - position);
+                byte[] blockData = new byte[blockLength];
+                read(position, blockData, 0, blockLength);
+                block = new SpillBlock(blockData, position, blockLength);
+                spillCache = block;
+            }
+            return block.data[(int) (position - block.position)];
+        }
+
+        private void read(long position, byte[] target, int offset, int length) {
+            long readPosition = position;
+            int targetOffset = offset;
+            int remaining = length;
+            while (remaining > 0 && readPosition < memoryCapacity) {
+                int pageOffset = (int) (readPosition % PAGE_SIZE);
+                int blockLength = Math.min(remaining, PAGE_SIZE - pageOffset);
+                System.arraycopy(pages.get((int) (readPosition / PAGE_SIZE)), pageOffset, target, targetOffset, blockLength);
+                readPosition += blockLength;
+                targetOffset += blockLength;
+                remaining -= blockLength;
+            }
+
+            if (remaining > 0) {
+                try {
+                    ByteBuffer buffer = ByteBuffer.wrap(target, targetOffset, remaining);
+                    long filePosition = readPosition - memoryCapacity;
+                    while (buffer.hasRemaining()) {
+                        int count = readSpill(buffer, filePosition);
+                        if (count < 0) {
+                            throw new IOException("Unexpected end of added data file");
+                        }
+                        filePosition += count;
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Unable to read added data", ex);
+                }
+            }
+        }
+
+        private int writeSpill(ByteBuffer buffer, long filePosition) throws IOException {
+            FileChannel channel = openSpill();
+            try {
+                return channel.write(buffer, filePosition);
+            } catch (ClosedByInterruptException ex) {
+                reopenSpill(channel);
+                throw ex;
+            }
+        }
+
+        private int readSpill(ByteBuffer buffer, long filePosition) throws IOException {
+            FileChannel channel = openSpill();
+            try {
+                return channel.read(buffer, filePosition);
+            } catch (ClosedByInterruptException ex) {
+                // Interrupted thread closes channel for all readers
+                reopenSpill(channel);
+                throw ex;
+            }
+        }
+
+        @Nonnull
+        private FileChannel openSpill() throws IOException {
+            FileChannel channel = spillChannel;
+            if (channel != null) {
+                return channel;
+            }
+
+            synchronized (this) {
+                if (spill == null) {
+                    if (usageCount == 0) {
+                        throw new IllegalStateException("Data storage was disposed");
+                    }
+                    spillFile = File.createTempFile("bined-edit", ".tmp");
+                    spillFile.deleteOnExit();
+                    spill = new RandomAccessFile(spillFile, "rw");
+                    spillChannel = spill.getChannel();
+                }
+                return spillChannel;
+            }
+        }
+
+        private synchronized void reopenSpill(FileChannel closedChannel) throws IOException {
+            if (spill != null && spillChannel == closedChannel) {
+                spill = new RandomAccessFile(spillFile, "rw");
+                spillChannel = spill.getChannel();
+            }
+        }
+
+        @Nonnull
+        private BinaryData getSource() {
+            if (sourceInvalidated) {
+                throw new IllegalStateException("Source data were changed");
+            }
+            return source;
+        }
+
+        private void dataShared() {
+            if (usageCount == 0) {
+                throw new IllegalStateException("Data storage was disposed");
+            }
+            usageCount++;
+        }
+
+        private void dataDisposed() {
+            usageCount--;
+            if (usageCount > 0) {
+                return;
+            }
+
+            pages.clear();
+            spillCache = null;
+            synchronized (this) {
+                if (spill != null) {
+                    try {
+                        spill.close();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException("Unable to close added data file", ex);
+                    } finally {
+                        spill = null;
+                        spillChannel = null;
+                        spillFile.delete();
+                    }
+                }
+            }
+            if (source != null) {
+                source.dispose();
+            }
+        }
+    }
+}
@@ -20,12 +20,13 @@ import javax.annotation.ParametersAreNonnullByDefault;
 import org.exbin.bined.capability.CaretCapable;
 import org.exbin.bined.operation.BinaryDataOperationException;
 import org.exbin.bined.swing.CodeAreaCore;
+import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.auxiliary.paged_data.EditableBinaryData;
 
 /**
  * Operation for deleting child block.
  *
- * @version 0.2.0 2018/02/14
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -61,10 +62,12 @@ public class RemoveDataOperation extends CodeAreaOperation {
     private CodeAreaOperation execute(boolean withUndo) {
         CodeAreaOperation undoOperation = null;
         if (withUndo) {
-            EditableBinaryData undoData = (EditableBinaryData) codeArea.getContentData().copy(position, length);
+            BinaryData undoData = copyUndoData(position, length);
             undoOperation = new InsertDataOperation(codeArea, position, codeOffset, undoData);
+            undoOperation.setUndoDataStorage(undoDataStorage);
         }
         ((EditableBinaryData) codeArea.getContentData()).remove(position, length);
+        codeArea.notifyDataChanged(position, length, 0);
         ((CaretCapable) codeArea).getCaret().setCaretPosition(position, codeOffset);
         return undoOperation;
     }
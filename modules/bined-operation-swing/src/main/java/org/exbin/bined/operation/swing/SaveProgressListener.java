@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Listener for file save progress.
+ *
+ * Methods are called from the thread performing the save.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public interface SaveProgressListener {
+
+    /**
+     * Reports progress of the save.
+     *
+     * @param processedBytes count of already written bytes
+     * @param totalBytes total count of bytes to write
+     */
+    void progressChanged(long processedBytes, long totalBytes);
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.BinaryData;
+import org.exbin.auxiliary.paged_data.ByteArrayEditableData;
+
+/**
+ * Growable buffer for data overwritten or removed by sequence of edits.
+ *
+ * Data can be added to both ends of the buffer so that single edit operation
+ * can collect undo data of all consecutive keystrokes without allocating new
+ * binary data instance for each of them.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class UndoDataBuffer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int head = INITIAL_CAPACITY / 2;
+    private int tail = INITIAL_CAPACITY / 2;
+
+    public UndoDataBuffer() {
+    }
+
+    /**
+     * Appends range of data to the end of the buffer.
+     *
+     * @param data source data
+     * @param position source position
+     * @param length length of the range
+     */
+    public void append(BinaryData data, long position, int length) {
+        ensureSpace(0, length);
+        data.copyToArray(position, buffer, tail, length);
+        tail += length;
+    }
+
+    /**
+     * Inserts range of data to the beginning of the buffer.
+     *
+     * @param data source data
+     * @param position source position
+     * @param length length of the range
+     */
+    public void prepend(BinaryData data, long position, int length) {
+        ensureSpace(length, 0);
+        head -= length;
+        data.copyToArray(position, buffer, head, length);
+    }
+
+    /**
+     * Returns byte at given position of the buffer.
+     *
+     * @param position position
+     * @return byte value
+     */
+    public byte getByte(int position) {
+        if (position < 0 || position >= tail - head) {
+            throw new IndexOutOfBoundsException("Position " + position + " is outside of the buffer");
+        }
+        return buffer[head + position];
+    }
+
+    public int getSize() {
+        return tail - head;
+    }
+
+    public boolean isEmpty() {
+        return tail == head;
+    }
+
+    /**
+     * Returns content of the buffer as binary data.
+     *
+     * @param undoDataStorage undo data storage or null for in-memory copy
+     * @return binary data, which has to be disposed when no longer needed
+     */
+    @Nonnull
+    public BinaryData toBinaryData(@Nullable UndoDataStorage undoDataStorage) {
+        BinaryData data = new ByteArrayEditableData(Arrays.copyOfRange(buffer, head, tail));
+        if (undoDataStorage == null) {
+            return data;
+        }
+
+        BinaryData storedData = undoDataStorage.storeData(data, 0, data.getDataSize());
+        data.dispose();
+        return storedData;
+    }
+
+    /**
+     * Releases buffer content.
+     */
+    public void clear() {
+        buffer = new byte[INITIAL_CAPACITY];
+        head = INITIAL_CAPACITY / 2;
+        tail = INITIAL_CAPACITY / 2;
+    }
+
+    private void ensureSpace(int before, int after) {
+        if (head >= before && buffer.length - tail >= after) {
+            return;
+        }
+
+        int size = tail - head;
+        int required = size + before + after;
+        int capacity = Math.max(buffer.length * 2, required + INITIAL_CAPACITY);
+        // Keep free space at both ends as edits can grow in either direction
+        int newHead = before + (capacity - required) / 2;
+        byte[] newBuffer = new byte[capacity];
+        System.arraycopy(buffer, head, newBuffer, newHead, size);
+        buffer = newBuffer;
+        head = newHead;
+        tail = newHead + size;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.BinaryData;
+
+/**
+ * Storage for data retained by operations for undo.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public interface UndoDataStorage {
+
+    /**
+     * Stores copy of given range of data.
+     *
+     * @param data source data
+     * @param startFrom start position
+     * @param length length of the range
+     * @return stored data, which has to be disposed when no longer needed
+     */
+    @Nonnull
+    BinaryData storeData(BinaryData data, long startFrom, long length);
+
+    /**
+     * Returns size of stored data kept in memory.
+     *
+     * @param storedData data returned by this storage
+     * @return size in bytes
+     */
+    long getRetainedSize(BinaryData storedData);
+
+    /**
+     * Disposes storage.
+     */
+    void dispose();
+}
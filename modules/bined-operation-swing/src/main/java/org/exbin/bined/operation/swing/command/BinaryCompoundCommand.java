@@ -28,7 +28,7 @@ import org.exbin.bined.swing.CodeAreaCore;
 /**
  * Class for compound command on binary document.
  *
- * @version 0.1.2 2019/08/31
+ * @version 0.1.2 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -101,6 +101,17 @@ public class BinaryCompoundCommand extends CodeAreaCommand implements BinaryData
         return canUndo;
     }
 
+    @Override
+    public boolean reportsDataChanges() {
+        for (BinaryDataCommand command : commands) {
+            if (!command.reportsDataChanges()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public void appendCommand(BinaryDataCommand command) {
         commands.add(command);
@@ -121,6 +132,15 @@ public class BinaryCompoundCommand extends CodeAreaCommand implements BinaryData
         return commands.isEmpty();
     }
 
+    @Override
+    public long getRetainedSize() {
+        long retainedSize = 0;
+        for (BinaryDataCommand command : commands) {
+            retainedSize += command.getRetainedSize();
+        }
+        return retainedSize;
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
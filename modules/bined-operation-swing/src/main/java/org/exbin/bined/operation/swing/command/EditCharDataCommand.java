@@ -32,7 +32,7 @@ import org.exbin.bined.swing.CodeAreaCore;
 /**
  * Command for editing data in text mode.
  *
- * @version 0.2.0 2018/08/11
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -140,6 +140,17 @@ public class EditCharDataCommand extends EditDataCommand {
         return !(operations.length == 1 && operations[0] instanceof CharEditDataOperation);
     }
 
+    @Override
+    public long getRetainedSize() {
+        long retainedSize = 0;
+        if (operations != null) {
+            for (CodeAreaOperation operation : operations) {
+                retainedSize += operation.getRetainedSize();
+            }
+        }
+        return retainedSize;
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
@@ -149,4 +160,9 @@ public class EditCharDataCommand extends EditDataCommand {
             }
         }
     }
+
+    @Override
+    public boolean reportsDataChanges() {
+        return true;
+    }
 }
@@ -32,7 +32,7 @@ import org.exbin.bined.swing.CodeAreaCore;
 /**
  * Command for editing data in hexadecimal mode.
  *
- * @version 0.1.2 2016/12/20
+ * @version 0.1.2 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -145,6 +145,17 @@ public class EditCodeDataCommand extends EditDataCommand {
         return !(operations.length == 1 && operations[0] instanceof CodeEditDataOperation);
     }
 
+    @Override
+    public long getRetainedSize() {
+        long retainedSize = 0;
+        if (operations != null) {
+            for (CodeAreaOperation operation : operations) {
+                retainedSize += operation.getRetainedSize();
+            }
+        }
+        return retainedSize;
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
@@ -154,4 +165,9 @@ public class EditCodeDataCommand extends EditDataCommand {
             }
         }
     }
+
+    @Override
+    public boolean reportsDataChanges() {
+        return true;
+    }
 }
@@ -27,7 +27,7 @@ import org.exbin.auxiliary.paged_data.EditableBinaryData;
 /**
  * Command for inserting data.
  *
- * @version 0.2.0 2018/10/20
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -60,4 +60,9 @@ public class InsertDataCommand extends OpCodeAreaCommand {
         super.undo();
         ((CaretCapable) codeArea).getCaret().setCaretPosition(position);
     }
+
+    @Override
+    public boolean reportsDataChanges() {
+        return true;
+    }
 }
@@ -25,7 +25,7 @@ import org.exbin.auxiliary.paged_data.BinaryData;
 /**
  * Command for modifying data.
  *
- * @version 0.1.0 2016/05/03
+ * @version 0.1.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -41,4 +41,9 @@ public class ModifyDataCommand extends OpCodeAreaCommand {
     public CodeAreaCommandType getType() {
         return CodeAreaCommandType.DATA_MODIFIED;
     }
+
+    @Override
+    public boolean reportsDataChanges() {
+        return true;
+    }
 }
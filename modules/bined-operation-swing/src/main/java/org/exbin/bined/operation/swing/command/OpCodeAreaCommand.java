@@ -29,7 +29,7 @@ import org.exbin.bined.swing.CodeAreaCore;
 /**
  * Abstract class for operation on hexadecimal document.
  *
- * @version 0.2.0 2018/12/10
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -96,6 +96,11 @@ public abstract class OpCodeAreaCommand extends CodeAreaCommand {
         }
     }
 
+    @Override
+    public long getRetainedSize() {
+        return operation == null ? 0 : operation.getRetainedSize();
+    }
+
     @Override
     public void dispose() throws BinaryDataOperationException {
         super.dispose();
@@ -24,7 +24,7 @@ import org.exbin.bined.swing.CodeAreaCore;
 /**
  * Command for deleting data.
  *
- * @version 0.2.0 2018/12/10
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -40,4 +40,9 @@ public class RemoveDataCommand extends OpCodeAreaCommand {
     public CodeAreaCommandType getType() {
         return CodeAreaCommandType.DATA_REMOVED;
     }
+
+    @Override
+    public boolean reportsDataChanges() {
+        return true;
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import org.exbin.auxiliary.paged_data.ByteArrayData;
+import org.exbin.auxiliary.paged_data.ByteArrayEditableData;
+import org.exbin.bined.DataChangedListener;
+import org.exbin.bined.EditationOperation;
+import org.exbin.bined.basic.BasicCodeAreaSection;
+import org.exbin.bined.basic.EnterKeyHandlingMode;
+import org.exbin.bined.operation.BinaryDataOperationException;
+import org.exbin.bined.operation.swing.command.CodeAreaCommand;
+import org.exbin.bined.operation.swing.command.CodeAreaCommandType;
+import org.exbin.bined.operation.swing.command.EditCodeDataCommand;
+import org.exbin.bined.operation.swing.command.EditDataCommand;
+import org.exbin.bined.operation.swing.command.RemoveDataCommand;
+import org.exbin.bined.swing.basic.CodeArea;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for code area undo handler.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class CodeAreaUndoHandlerTest {
+
+    public CodeAreaUndoHandlerTest() {
+    }
+
+    @Test
+    public void testMaximumSize() throws BinaryDataOperationException {
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(new byte[1000]));
+        CodeAreaUndoHandler undoHandler = new CodeAreaUndoHandler(codeArea);
+        undoHandler.setUndoMaximumSize(250);
+        long[] reportedSize = new long[1];
+        undoHandler.addUndoUsageListener((usedSize, commandsCount) -> reportedSize[0] = usedSize);
+
+        undoHandler.execute(new RemoveDataCommand(codeArea, 0, 0, 100));
+        undoHandler.execute(new RemoveDataCommand(codeArea, 0, 0, 100));
+        Assert.assertEquals(200, undoHandler.getUsedSize());
+        Assert.assertEquals(2, undoHandler.getCommandList().size());
+
+        undoHandler.execute(new RemoveDataCommand(codeArea, 0, 0, 100));
+        Assert.assertEquals(200, undoHandler.getUsedSize());
+        Assert.assertEquals(200, reportedSize[0]);
+        Assert.assertEquals(2, undoHandler.getCommandList().size());
+        Assert.assertEquals(2, undoHandler.getCommandPosition());
+        Assert.assertEquals(-1, undoHandler.getSyncPoint());
+
+        undoHandler.performUndo(2);
+        Assert.assertEquals(900, codeArea.getDataSize());
+        Assert.assertEquals(0, undoHandler.getUsedSize());
+    }
+
+    @Test
+    public void testMaximumCount() throws BinaryDataOperationException {
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(new byte[1000]));
+        CodeAreaUndoHandler undoHandler = new CodeAreaUndoHandler(codeArea);
+        undoHandler.setUndoMaxCount(3);
+
+        for (int i = 0; i < 5; i++) {
+            undoHandler.execute(new RemoveDataCommand(codeArea, 0, 0, 1));
+        }
+        Assert.assertEquals(3, undoHandler.getCommandList().size());
+        Assert.assertEquals(3, undoHandler.getUsedSize());
+    }
+
+    @Test
+    public void testFileUndoDataStorage() throws BinaryDataOperationException {
+        byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(data));
+        CodeAreaUndoHandler undoHandler = new CodeAreaUndoHandler(codeArea);
+        FileUndoDataStorage undoDataStorage = new FileUndoDataStorage();
+        undoDataStorage.setThreshold(50);
+        undoHandler.setUndoDataStorage(undoDataStorage);
+
+        undoHandler.execute(new RemoveDataCommand(codeArea, 100, 0, 200));
+        undoHandler.execute(new RemoveDataCommand(codeArea, 0, 0, 10));
+        Assert.assertEquals(790, codeArea.getDataSize());
+        Assert.assertEquals(10, undoHandler.getUsedSize());
+        Assert.assertEquals(200, undoDataStorage.getJournalSize());
+
+        undoHandler.performUndo(2);
+        Assert.assertEquals(1000, codeArea.getDataSize());
+        for (int i = 0; i < data.length; i++) {
+            Assert.assertEquals(data[i], codeArea.getContentData().getByte(i));
+        }
+
+        undoHandler.clear();
+        Assert.assertEquals(0, undoDataStorage.getJournalSize());
+        undoDataStorage.dispose();
+    }
+
+    @Test
+    public void testDataChangeReporting() throws BinaryDataOperationException {
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(new byte[100]));
+        CodeAreaUndoHandler undoHandler = new CodeAreaUndoHandler(codeArea);
+        int[] changes = new int[2];
+        codeArea.addDataChangedListener(new DataChangedListener() {
+            @Override
+            public void dataChanged() {
+                changes[0]++;
+            }
+
+            @Override
+            public void dataChanged(long startPosition, long oldLength, long newLength) {
+                changes[1]++;
+            }
+        });
+
+        undoHandler.execute(new RemoveDataCommand(codeArea, 0, 0, 10));
+        undoHandler.performUndo();
+        Assert.assertEquals(0, changes[0]);
+        Assert.assertEquals(2, changes[1]);
+
+        // Custom commands are not expected to report changes
+        undoHandler.execute(new CodeAreaCommand(codeArea) {
+            @Override
+            public CodeAreaCommandType getType() {
+                return CodeAreaCommandType.DATA_MODIFIED;
+            }
+
+            @Override
+            public void redo() {
+            }
+
+            @Override
+            public void undo() {
+            }
+
+            @Override
+            public boolean canUndo() {
+                return true;
+            }
+        });
+        undoHandler.performUndo();
+        Assert.assertEquals(2, changes[0]);
+        Assert.assertEquals(2, changes[1]);
+    }
+
+    @Test
+    public void testTypingUsedSize() {
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(new byte[100]));
+        codeArea.setEditationOperation(EditationOperation.OVERWRITE);
+        codeArea.getCaret().setSection(BasicCodeAreaSection.TEXT_PREVIEW);
+        CodeAreaUndoHandler undoHandler = new CodeAreaUndoHandler(codeArea);
+        long[] reportedSize = new long[1];
+        undoHandler.addUndoUsageListener((usedSize, commandsCount) -> reportedSize[0] = usedSize);
+        CodeAreaOperationCommandHandler commandHandler = new CodeAreaOperationCommandHandler(codeArea, undoHandler);
+        commandHandler.setEnterKeyHandlingMode(EnterKeyHandlingMode.CRLF);
+
+        for (int i = 0; i < 3; i++) {
+            commandHandler.enterPressed();
+        }
+        Assert.assertEquals(1, undoHandler.getCommandList().size());
+        Assert.assertEquals(6, undoHandler.getUsedSize());
+        Assert.assertEquals(6, reportedSize[0]);
+    }
+
+    @Test
+    public void testAppendToReadOnlyData() throws BinaryDataOperationException {
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(new byte[]{1, 2}));
+        InsertDataOperation operation = new InsertDataOperation(codeArea, 1, 0, new ByteArrayData(new byte[]{3}));
+        operation.appendData(new ByteArrayData(new byte[]{4, 5}));
+        operation.execute();
+
+        byte[] expected = new byte[]{1, 3, 4, 5, 2};
+        Assert.assertEquals(expected.length, codeArea.getDataSize());
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(expected[i], codeArea.getContentData().getByte(i));
+        }
+        operation.dispose();
+    }
+
+    @Test
+    public void testOverwriteEditSequence() throws BinaryDataOperationException {
+        byte[] data = new byte[]{0x12, 0x34, 0x56};
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(data.clone()));
+        CodeAreaUndoHandler undoHandler = new CodeAreaUndoHandler(codeArea);
+
+        EditCodeDataCommand editCommand = new EditCodeDataCommand(codeArea, EditDataCommand.EditCommandType.OVERWRITE, 0, 0);
+        undoHandler.addCommand(editCommand);
+        byte[] values = new byte[]{0xa, 0xb, 0xc, 0xd, 0xe, 0xf, 0x1, 0x2};
+        for (byte value : values) {
+            editCommand.appendEdit(value);
+        }
+        undoHandler.updateUsedSize();
+        Assert.assertEquals(4, codeArea.getDataSize());
+        Assert.assertEquals((byte) 0xab, codeArea.getContentData().getByte(0));
+        Assert.assertEquals((byte) 0xcd, codeArea.getContentData().getByte(1));
+        Assert.assertEquals((byte) 0xef, codeArea.getContentData().getByte(2));
+        Assert.assertEquals((byte) 0x12, codeArea.getContentData().getByte(3));
+        Assert.assertEquals(1, undoHandler.getCommandList().size());
+        Assert.assertEquals(3, undoHandler.getUsedSize());
+
+        undoHandler.performUndo();
+        Assert.assertEquals(3, codeArea.getDataSize());
+        for (int i = 0; i < data.length; i++) {
+            Assert.assertEquals(data[i], codeArea.getContentData().getByte(i));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import org.exbin.auxiliary.paged_data.BinaryData;
+import org.exbin.auxiliary.paged_data.ByteArrayData;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for file undo data storage.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class FileUndoDataStorageTest {
+
+    public FileUndoDataStorageTest() {
+    }
+
+    @Test
+    public void testSpaceReuse() {
+        BinaryData data = createData(1000);
+        FileUndoDataStorage storage = new FileUndoDataStorage();
+        storage.setThreshold(50);
+
+        BinaryData first = storage.storeData(data, 0, 100);
+        BinaryData second = storage.storeData(data, 100, 100);
+        Assert.assertEquals(200, storage.getJournalSize());
+
+        first.dispose();
+        Assert.assertEquals(200, storage.getJournalSize());
+        BinaryData third = storage.storeData(data, 500, 80);
+        Assert.assertEquals(200, storage.getJournalSize());
+        assertDataEquals(data, 100, second);
+        assertDataEquals(data, 500, third);
+
+        // Released space is merged with free remainder and truncated
+        second.dispose();
+        Assert.assertEquals(80, storage.getJournalSize());
+        assertDataEquals(data, 500, third);
+
+        BinaryData thirdCopy = third.copy(10, 20);
+        third.dispose();
+        Assert.assertEquals(80, storage.getJournalSize());
+        assertDataEquals(data, 510, thirdCopy);
+        thirdCopy.dispose();
+        Assert.assertEquals(0, storage.getJournalSize());
+        storage.dispose();
+    }
+
+    @Test
+    public void testJournalLimit() {
+        BinaryData data = createData(1000);
+        FileUndoDataStorage storage = new FileUndoDataStorage();
+        storage.setThreshold(50);
+        storage.setJournalLimit(250);
+
+        BinaryData first = storage.storeData(data, 0, 200);
+        Assert.assertEquals(0, storage.getRetainedSize(first));
+        BinaryData second = storage.storeData(data, 200, 100);
+        Assert.assertEquals(200, storage.getJournalSize());
+        Assert.assertEquals(100, storage.getRetainedSize(second));
+        assertDataEquals(data, 200, second);
+
+        first.dispose();
+        BinaryData third = storage.storeData(data, 300, 100);
+        Assert.assertEquals(0, storage.getRetainedSize(third));
+        assertDataEquals(data, 300, third);
+        second.dispose();
+        third.dispose();
+        Assert.assertEquals(0, storage.getJournalSize());
+        storage.dispose();
+    }
+
+    private static BinaryData createData(int size) {
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) (i * 7);
+        }
+        return new ByteArrayData(data);
+    }
+
+    private static void assertDataEquals(BinaryData expected, long startFrom, BinaryData data) {
+        for (int i = 0; i < data.getDataSize(); i++) {
+            Assert.assertEquals(expected.getByte(startFrom + i), data.getByte(i));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import org.exbin.auxiliary.paged_data.BinaryData;
+import org.exbin.bined.MappedFileBinaryData;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for incremental file saver.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class IncrementalFileSaverTest {
+
+    private static final int CHUNK_SIZE = 64;
+
+    public IncrementalFileSaverTest() {
+    }
+
+    @Test
+    public void testOverwriteOnly() throws IOException {
+        File file = createFile(10000);
+        PieceTableEditableData data = new PieceTableEditableData(new MappedFileBinaryData(file));
+        data.setByte(10, (byte) 1);
+        data.setByte(5000, (byte) 2);
+        data.replace(9000, new byte[]{3, 4, 5});
+        byte[] expected = toArray(data);
+
+        long[] processed = new long[1];
+        IncrementalFileSaver saver = new IncrementalFileSaver(file, CHUNK_SIZE);
+        Assert.assertTrue(saver.save(data, (processedBytes, totalBytes) -> processed[0] = processedBytes));
+        Assert.assertEquals(5, processed[0]);
+        Assert.assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+        Assert.assertFalse(saver.hasJournal());
+        data.dispose();
+    }
+
+    @Test
+    public void testSizeChanges() throws IOException {
+        File file = createFile(10000);
+        PieceTableEditableData data = new PieceTableEditableData(new MappedFileBinaryData(file));
+        data.remove(3000, 20);
+        data.insert(6000, new byte[500]);
+        data.remove(100, 1000);
+        byte[] expected = toArray(data);
+
+        IncrementalFileSaver saver = new IncrementalFileSaver(file, CHUNK_SIZE);
+        Assert.assertTrue(saver.save(data, null));
+        Assert.assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+        data.dispose();
+
+        data = new PieceTableEditableData(new MappedFileBinaryData(file));
+        data.insert(0, new byte[]{1, 2, 3});
+        data.setDataSize(data.getDataSize() + 1000);
+        expected = toArray(data);
+        Assert.assertTrue(saver.save(data, null));
+        Assert.assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+        data.dispose();
+    }
+
+    @Test
+    public void testReorderedPiecesNotApplicable() throws IOException {
+        File file = createFile(1000);
+        byte[] original = Files.readAllBytes(file.toPath());
+        PieceTableEditableData data = new PieceTableEditableData(new MappedFileBinaryData(file));
+        BinaryData head = data.copy(0, 500);
+        data.remove(0, 500);
+        data.insert(500, head);
+
+        Assert.assertFalse(new IncrementalFileSaver(file, CHUNK_SIZE).save(data, null));
+        Assert.assertArrayEquals(original, Files.readAllBytes(file.toPath()));
+        head.dispose();
+        data.dispose();
+    }
+
+    @Test
+    public void testRecovery() throws IOException {
+        File file = createFile(10000);
+        PieceTableEditableData data = new PieceTableEditableData(new MappedFileBinaryData(file));
+        data.insert(200, new byte[]{7, 7, 7});
+        data.setByte(8000, (byte) 9);
+        byte[] expected = toArray(data);
+
+        IncrementalFileSaver saver = new IncrementalFileSaver(file, CHUNK_SIZE);
+        try {
+            saver.save(data, (processedBytes, totalBytes) -> {
+                if (processedBytes > 5000) {
+                    throw new IllegalStateException("Interrupted");
+                }
+            });
+            Assert.fail();
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+        Assert.assertTrue(saver.hasJournal());
+
+        Assert.assertTrue(new IncrementalFileSaver(file, CHUNK_SIZE).recover(null));
+        Assert.assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+        Assert.assertFalse(saver.hasJournal());
+        data.dispose();
+    }
+
+    @Test
+    public void testEmptyJournalRecovery() throws IOException {
+        File file = createFile(1000);
+        byte[] expected = Files.readAllBytes(file.toPath());
+        IncrementalFileSaver saver = new IncrementalFileSaver(file, CHUNK_SIZE);
+        Files.write(saver.getJournalFile().toPath(), new byte[0]);
+
+        Assert.assertFalse(saver.recover(null));
+        Assert.assertFalse(saver.hasJournal());
+        Assert.assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+    }
+
+    @Test
+    public void testTruncatedJournalRecovery() throws IOException {
+        File file = createFile(10000);
+        byte[] original = Files.readAllBytes(file.toPath());
+        PieceTableEditableData data = new PieceTableEditableData(new MappedFileBinaryData(file));
+        data.insert(200, new byte[]{7, 7, 7});
+        byte[] expected = toArray(data);
+
+        IncrementalFileSaver saver = new IncrementalFileSaver(file, CHUNK_SIZE);
+        try {
+            saver.save(data, (processedBytes, totalBytes) -> {
+                throw new IllegalStateException("Interrupted");
+            });
+            Assert.fail();
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+        data.dispose();
+        byte[] journal = Files.readAllBytes(saver.getJournalFile().toPath());
+
+        for (int length : new int[]{4, 12}) {
+            Files.write(file.toPath(), original);
+            Files.write(saver.getJournalFile().toPath(), Arrays.copyOf(journal, length));
+            Assert.assertFalse(saver.recover(null));
+            Assert.assertFalse(saver.hasJournal());
+            Assert.assertArrayEquals(original, Files.readAllBytes(file.toPath()));
+        }
+
+        // Journal is no longer blocking save
+        data = new PieceTableEditableData(new MappedFileBinaryData(file));
+        data.insert(200, new byte[]{7, 7, 7});
+        Assert.assertTrue(saver.save(data, null));
+        Assert.assertArrayEquals(expected, Files.readAllBytes(file.toPath()));
+        data.dispose();
+    }
+
+    private static File createFile(int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        File file = File.createTempFile("bined-save", ".bin");
+        file.deleteOnExit();
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    private static byte[] toArray(BinaryData data) {
+        byte[] result = new byte[(int) data.getDataSize()];
+        data.copyToArray(0, result, 0, result.length);
+        return result;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.swing;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import org.exbin.auxiliary.paged_data.BinaryData;
+import org.exbin.auxiliary.paged_data.ByteArrayData;
+import org.exbin.auxiliary.paged_data.ByteArrayEditableData;
+import org.exbin.auxiliary.paged_data.EditableBinaryData;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for piece table editable data.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class PieceTableEditableDataTest {
+
+    public PieceTableEditableDataTest() {
+    }
+
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random(7);
+        byte[] source = new byte[10000];
+        random.nextBytes(source);
+        ByteArrayEditableData expected = new ByteArrayEditableData(source.clone());
+        PieceTableEditableData data = new PieceTableEditableData(new ByteArrayData(source), 4096);
+
+        EditableBinaryData snapshot = null;
+        byte[] snapshotContent = null;
+        for (int step = 0; step < 2000; step++) {
+            long size = expected.getDataSize();
+            long position = size == 0 ? 0 : random.nextInt((int) size);
+            int length = (int) Math.min(random.nextInt(300), size - position);
+            switch (random.nextInt(5)) {
+                case 0: {
+                    byte[] inserted = new byte[random.nextInt(300)];
+                    random.nextBytes(inserted);
+                    expected.insert(position, inserted);
+                    data.insert(position, inserted);
+                    break;
+                }
+                case 1: {
+                    expected.remove(position, length);
+                    data.remove(position, length);
+                    break;
+                }
+                case 2: {
+                    byte[] replacing = new byte[length];
+                    random.nextBytes(replacing);
+                    expected.replace(position, replacing);
+                    data.replace(position, replacing);
+                    break;
+                }
+                case 3: {
+                    if (size > 0) {
+                        byte value = (byte) random.nextInt();
+                        expected.setByte(position, value);
+                        data.setByte(position, value);
+                    }
+                    break;
+                }
+                default: {
+                    BinaryData copy = data.copy(position, length);
+                    long target = random.nextInt((int) size + 1);
+                    expected.insert(target, expected.copy(position, length));
+                    data.insert(target, copy);
+                    copy.dispose();
+                }
+            }
+
+            if (step == 1000) {
+                snapshot = data.copy();
+                snapshotContent = toArray(expected);
+            }
+        }
+
+        Assert.assertArrayEquals(toArray(expected), toArray(data));
+        for (int i = 0; i < 500; i++) {
+            long position = random.nextInt((int) expected.getDataSize());
+            Assert.assertEquals(expected.getByte(position), data.getByte(position));
+        }
+        Assert.assertTrue(data.getAddedDataSize() > 4096);
+        Assert.assertArrayEquals(snapshotContent, toArray(snapshot));
+        snapshot.dispose();
+        data.dispose();
+    }
+
+    @Test
+    public void testSequentialEditsKeepPieces() {
+        byte[] source = new byte[1000];
+        PieceTableEditableData data = new PieceTableEditableData(new ByteArrayData(source));
+        for (int i = 0; i < 100; i++) {
+            data.insert(500 + i, new byte[]{(byte) i});
+        }
+        Assert.assertEquals(3, data.getPiecesCount());
+        Assert.assertEquals(1100, data.getDataSize());
+        Assert.assertEquals(99, data.getByte(599));
+
+        BinaryData removed = data.copy(100, 50);
+        data.remove(100, 50);
+        Assert.assertEquals(4, data.getPiecesCount());
+        data.insert(100, removed);
+        Assert.assertEquals(3, data.getPiecesCount());
+
+        data.setDataSize(2000);
+        data.fillData(1100, 900, (byte) 5);
+        Assert.assertEquals(4, data.getPiecesCount());
+        Assert.assertEquals(5, data.getByte(1999));
+        data.dispose();
+    }
+
+    @Test
+    public void testConcurrentReading() throws InterruptedException {
+        Random random = new Random(7);
+        byte[] source = new byte[100000];
+        random.nextBytes(source);
+        PieceTableEditableData data = new PieceTableEditableData(new ByteArrayData(source), 4096);
+        ByteArrayEditableData expected = new ByteArrayEditableData(source.clone());
+        for (int i = 0; i < 200; i++) {
+            byte[] inserted = new byte[1 + random.nextInt(2000)];
+            random.nextBytes(inserted);
+            long position = random.nextInt((int) data.getDataSize());
+            data.insert(position, inserted);
+            expected.insert(position, inserted);
+        }
+        byte[] expectedContent = toArray(expected);
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[4];
+        for (int index = 0; index < readers.length; index++) {
+            long seed = index;
+            BinaryData reader = index % 2 == 0 ? data : data.copy();
+            readers[index] = new Thread(() -> {
+                Random readerRandom = new Random(seed);
+                byte[] block = new byte[100];
+                for (int i = 0; i < 20000 && failure.get() == null; i++) {
+                    int position = readerRandom.nextInt(expectedContent.length - block.length);
+                    if (reader.getByte(position) != expectedContent[position]) {
+                        failure.set("Wrong byte at " + position);
+                    }
+                    reader.copyToArray(position, block, 0, block.length);
+                    for (int offset = 0; offset < block.length; offset++) {
+                        if (block[offset] != expectedContent[position + offset]) {
+                            failure.set("Wrong block at " + position);
+                        }
+                    }
+                }
+            });
+            readers[index].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        Assert.assertNull(failure.get());
+        data.dispose();
+    }
+
+    private static byte[] toArray(BinaryData data) {
+        byte[] result = new byte[(int) data.getDataSize()];
+        data.copyToArray(0, result, 0, result.length);
+        return result;
+    }
+}
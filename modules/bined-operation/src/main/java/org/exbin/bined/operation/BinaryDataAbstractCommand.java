@@ -23,7 +23,7 @@ import javax.annotation.Nullable;
 /**
  * Abstract code area command class.
  *
- * @version 0.2.0 2018/02/13
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 public abstract class BinaryDataAbstractCommand implements BinaryDataCommand {
@@ -22,7 +22,7 @@ import javax.annotation.Nonnull;
 /**
  * Interface for code area command.
  *
- * @version 0.2.0 2018/02/13
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 public interface BinaryDataCommand {
@@ -68,6 +68,28 @@ public interface BinaryDataCommand {
      */
     boolean canUndo();
 
+    /**
+     * Returns size of data retained by command for undo and redo.
+     *
+     * @return size in bytes
+     */
+    default long getRetainedSize() {
+        return 0;
+    }
+
+    /**
+     * Returns true if command notifies about changed data itself when
+     * executed, undone or redone.
+     *
+     * Commands not reporting changes cause whole data to be reported as
+     * changed.
+     *
+     * @return true if changes of data are reported by command
+     */
+    default boolean reportsDataChanges() {
+        return false;
+    }
+
     /**
      * Disposes command.
      *
@@ -20,7 +20,7 @@ import javax.annotation.Nonnull;
 /**
  * Interface for binary data operation.
  *
- * @version 0.2.0 2018/02/13
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 public interface BinaryDataOperation {
@@ -49,6 +49,15 @@ public interface BinaryDataOperation {
     @Nonnull
     BinaryDataOperation executeWithUndo() throws BinaryDataOperationException;
 
+    /**
+     * Returns size of data retained by operation.
+     *
+     * @return size in bytes
+     */
+    default long getRetainedSize() {
+        return 0;
+    }
+
     /**
      * Disposes command.
      *
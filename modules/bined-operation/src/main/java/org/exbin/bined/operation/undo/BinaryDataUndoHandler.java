@@ -24,7 +24,7 @@ import org.exbin.bined.operation.BinaryDataOperationException;
 /**
  * Code area undo support handler.
  *
- * @version 0.2.0 2018/02/13
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -69,8 +69,22 @@ public interface BinaryDataUndoHandler {
 
     long getUndoMaximumSize();
 
+    /**
+     * Returns size of data retained by commands in undo history.
+     *
+     * @return size in bytes
+     */
     long getUsedSize();
 
+    /**
+     * Recomputes size of data retained by commands in undo history.
+     *
+     * Should be called when command already added to undo history retains
+     * more data, for example when typing is appended to existing command.
+     */
+    default void updateUsedSize() {
+    }
+
     /**
      * Performs single redo step.
      *
@@ -116,4 +130,22 @@ public interface BinaryDataUndoHandler {
     void addUndoUpdateListener(BinaryDataUndoUpdateListener listener);
 
     void removeUndoUpdateListener(BinaryDataUndoUpdateListener listener);
+
+    /**
+     * Adds listener for changes of undo usage.
+     *
+     * Default implementation does not report usage.
+     *
+     * @param listener listener
+     */
+    default void addUndoUsageListener(BinaryDataUndoUsageListener listener) {
+    }
+
+    /**
+     * Removes listener for changes of undo usage.
+     *
+     * @param listener listener
+     */
+    default void removeUndoUsageListener(BinaryDataUndoUsageListener listener) {
+    }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.operation.undo;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Listener for changes of memory used by undo history.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public interface BinaryDataUndoUsageListener {
+
+    /**
+     * Notifies about change of size of data retained by undo history.
+     *
+     * @param usedSize size of data retained by commands in bytes
+     * @param commandsCount count of commands in undo history
+     */
+    void undoUsageChanged(long usedSize, int commandsCount);
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.search;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.BinaryData;
+
+/**
+ * Engine for searching in binary data on background threads.
+ *
+ * Data is read in large blocks using copyToArray and blocks overlap by
+ * pattern length so that matches crossing block boundary are found. Data must
+ * not be modified while search is running.
+ *
+ * With parallelism greater than one, searched range is split into chunks
+ * overlapping by pattern length which are searched concurrently on fork-join
+ * pool. Matches are still reported in order of position. Data must support
+ * concurrent reading in this mode. Number of matches buffered by each chunk is
+ * limited, chunk stops when limit is reached and its search is resumed after
+ * its matches are reported.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class BinarySearchEngine {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+    public static final long DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+    public static final long UNLIMITED_MATCHES = Long.MAX_VALUE;
+    public static final int DEFAULT_CHUNK_MATCHES_LIMIT = 64 * 1024;
+
+    private final ExecutorService executor;
+    private final boolean ownExecutor;
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+    private long matchesLimit = UNLIMITED_MATCHES;
+    private int parallelism = 1;
+    private long chunkSize = DEFAULT_CHUNK_SIZE;
+    private int chunkMatchesLimit = DEFAULT_CHUNK_MATCHES_LIMIT;
+    @Nullable
+    private ForkJoinPool forkJoinPool = null;
+
+    public BinarySearchEngine() {
+        this(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "BinEd search worker");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    public BinarySearchEngine(ExecutorService executor) {
+        this(executor, false);
+    }
+
+    private BinarySearchEngine(ExecutorService executor, boolean ownExecutor) {
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.blockSize = blockSize;
+    }
+
+    public long getMatchesLimit() {
+        return matchesLimit;
+    }
+
+    public void setMatchesLimit(long matchesLimit) {
+        this.matchesLimit = matchesLimit;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets number of chunks searched concurrently.
+     *
+     * @param parallelism parallelism, 1 for sequential search
+     */
+    public synchronized void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (this.parallelism != parallelism) {
+            // Idle workers of previous pool terminate by themselves
+            forkJoinPool = null;
+        }
+        this.parallelism = parallelism;
+    }
+
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(long chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkMatchesLimit() {
+        return chunkMatchesLimit;
+    }
+
+    /**
+     * Sets maximum number of matches buffered by single chunk in parallel
+     * search.
+     *
+     * @param chunkMatchesLimit matches limit
+     */
+    public void setChunkMatchesLimit(int chunkMatchesLimit) {
+        if (chunkMatchesLimit <= 0) {
+            throw new IllegalArgumentException("Chunk matches limit must be positive");
+        }
+        this.chunkMatchesLimit = chunkMatchesLimit;
+    }
+
+    /**
+     * Starts search of the whole data.
+     *
+     * @param data data
+     * @param pattern search pattern
+     * @param listener search listener
+     * @return search task
+     */
+    @Nonnull
+    public BinarySearchTask search(BinaryData data, BinarySearchPattern pattern, BinarySearchListener listener) {
+        return search(data, pattern, 0, data.getDataSize(), listener);
+    }
+
+    /**
+     * Starts search of matches starting in given range.
+     *
+     * @param data data
+     * @param pattern search pattern
+     * @param startPosition start position
+     * @param endPosition end position exclusive
+     * @param listener search listener
+     * @return search task
+     */
+    @Nonnull
+    public BinarySearchTask search(BinaryData data, BinarySearchPattern pattern, long startPosition, long endPosition, BinarySearchListener listener) {
+        return startSearch(data, pattern, startPosition, endPosition, matchesLimit, listener);
+    }
+
+    /**
+     * Starts search for the first match starting at given position or after
+     * it, typically caret position.
+     *
+     * Search stops at the first match without processing the rest of the
+     * data.
+     *
+     * @param data data
+     * @param pattern search pattern
+     * @param fromPosition start position
+     * @param listener search listener
+     * @return search task
+     */
+    @Nonnull
+    public BinarySearchTask findNext(BinaryData data, BinarySearchPattern pattern, long fromPosition, BinarySearchListener listener) {
+        long dataSize = data.getDataSize();
+        return startSearch(data, pattern, Math.min(Math.max(fromPosition, 0), dataSize), dataSize, 1, listener);
+    }
+
+    @Nonnull
+    private BinarySearchTask startSearch(BinaryData data, BinarySearchPattern pattern, long startPosition, long endPosition, long searchMatchesLimit, BinarySearchListener listener) {
+        if (startPosition < 0 || endPosition > data.getDataSize() || startPosition > endPosition) {
+            throw new IllegalArgumentException("Invalid search range " + startPosition + " - " + endPosition);
+        }
+
+        BinarySearchTask task = new BinarySearchTask();
+        int searchBlockSize = blockSize;
+        long searchChunkSize = chunkSize;
+        int searchChunkMatchesLimit = (int) Math.min(chunkMatchesLimit, searchMatchesLimit);
+        ForkJoinPool pool = parallelism > 1 ? getForkJoinPool() : null;
+        task.setFuture(executor.submit(() -> {
+            BinarySearchStatus status;
+            try {
+                if (pool == null) {
+                    status = searchRange(data, pattern, startPosition, endPosition, searchBlockSize, searchMatchesLimit, task, listener);
+                } else {
+                    status = searchRangeParallel(pool, data, pattern, startPosition, endPosition, searchBlockSize, searchChunkSize, searchChunkMatchesLimit, searchMatchesLimit, task, listener);
+                }
+            } catch (RuntimeException ex) {
+                Logger.getLogger(BinarySearchEngine.class.getName()).log(Level.SEVERE, "Binary search failed", ex);
+                task.setFailure(ex);
+                status = BinarySearchStatus.FAILED;
+            }
+            task.setStatus(status);
+            listener.searchFinished(status);
+        }));
+        return task;
+    }
+
+    @Nonnull
+    private synchronized ForkJoinPool getForkJoinPool() {
+        if (forkJoinPool == null) {
+            forkJoinPool = new ForkJoinPool(parallelism);
+        }
+        return forkJoinPool;
+    }
+
+    /**
+     * Disposes engine and stops its worker threads if executor was created by
+     * engine.
+     */
+    public void dispose() {
+        if (ownExecutor) {
+            executor.shutdownNow();
+        }
+        synchronized (this) {
+            if (forkJoinPool != null) {
+                forkJoinPool.shutdownNow();
+                forkJoinPool = null;
+            }
+        }
+    }
+
+    @Nonnull
+    private static BinarySearchStatus searchRange(BinaryData data, BinarySearchPattern pattern, long startPosition, long endPosition, int blockSize, long matchesLimit, BinarySearchTask task, BinarySearchListener listener) {
+        long patternLength = pattern.getLength();
+        long totalBytes = endPosition - startPosition;
+        long[] matchesCount = new long[1];
+        BinarySearchStatus status = scanRange(data, pattern, startPosition, endPosition, blockSize, task::isCancelled, position -> {
+            listener.matchFound(position, patternLength);
+            matchesCount[0]++;
+            return matchesCount[0] < matchesLimit;
+        }, position -> listener.progressChanged(position - startPosition, totalBytes));
+        if (status == BinarySearchStatus.COMPLETED) {
+            listener.progressChanged(totalBytes, totalBytes);
+        }
+        return status;
+    }
+
+    @Nonnull
+    private static BinarySearchStatus searchRangeParallel(ForkJoinPool pool, BinaryData data, BinarySearchPattern pattern, long startPosition, long endPosition, int blockSize, long chunkSize, int chunkMatchesLimit, long matchesLimit, BinarySearchTask task, BinarySearchListener listener) {
+        long patternLength = pattern.getLength();
+        long totalBytes = endPosition - startPosition;
+        AtomicBoolean stopped = new AtomicBoolean();
+        BooleanSupplier cancelled = () -> stopped.get() || task.isCancelled();
+        int windowSize = pool.getParallelism() * 2;
+        Deque<ForkJoinTask<ChunkMatches>> window = new ArrayDeque<>();
+        long nextChunkPosition = startPosition;
+        long matchesCount = 0;
+        try {
+            while (nextChunkPosition < endPosition || !window.isEmpty()) {
+                while (window.size() < windowSize && nextChunkPosition < endPosition) {
+                    long chunkStart = nextChunkPosition;
+                    long chunkEnd = Math.min(endPosition, chunkStart + chunkSize);
+                    window.addLast(pool.submit(() -> searchChunk(data, pattern, chunkStart, chunkEnd, blockSize, chunkMatchesLimit, cancelled)));
+                    nextChunkPosition = chunkEnd;
+                }
+
+                // Chunks are processed in order so that matches are reported in order
+                ChunkMatches chunkMatches = window.removeFirst().join();
+                if (chunkMatches.status == BinarySearchStatus.CANCELLED) {
+                    return BinarySearchStatus.CANCELLED;
+                }
+
+                for (int i = 0; i < chunkMatches.count; i++) {
+                    listener.matchFound(chunkMatches.positions[i], patternLength);
+                    matchesCount++;
+                    if (matchesCount >= matchesLimit) {
+                        return BinarySearchStatus.MATCHES_LIMIT_REACHED;
+                    }
+                }
+                if (chunkMatches.resumePosition >= 0) {
+                    // Chunk stopped with full buffer, search rest of it first
+                    long resumeStart = chunkMatches.resumePosition;
+                    long chunkEnd = chunkMatches.endPosition;
+                    window.addFirst(pool.submit(() -> searchChunk(data, pattern, resumeStart, chunkEnd, blockSize, chunkMatchesLimit, cancelled)));
+                    listener.progressChanged(resumeStart - startPosition, totalBytes);
+                } else {
+                    listener.progressChanged(chunkMatches.endPosition - startPosition, totalBytes);
+                }
+
+                if (task.isCancelled()) {
+                    return BinarySearchStatus.CANCELLED;
+                }
+            }
+        } finally {
+            stopped.set(true);
+            for (ForkJoinTask<ChunkMatches> chunkTask : window) {
+                chunkTask.cancel(false);
+            }
+        }
+
+        listener.progressChanged(totalBytes, totalBytes);
+        return BinarySearchStatus.COMPLETED;
+    }
+
+    @Nonnull
+    private static ChunkMatches searchChunk(BinaryData data, BinarySearchPattern pattern, long chunkStart, long chunkEnd, int blockSize, int chunkMatchesLimit, BooleanSupplier cancelled) {
+        ChunkMatches chunkMatches = new ChunkMatches(chunkEnd, chunkMatchesLimit);
+        chunkMatches.status = scanRange(data, pattern, chunkStart, chunkEnd, blockSize, cancelled, position -> {
+            chunkMatches.add(position);
+            return chunkMatches.count < chunkMatchesLimit;
+        }, null);
+        if (chunkMatches.status == BinarySearchStatus.MATCHES_LIMIT_REACHED) {
+            long nextPosition = chunkMatches.positions[chunkMatches.count - 1] + 1;
+            if (nextPosition < chunkEnd) {
+                chunkMatches.resumePosition = nextPosition;
+            }
+        }
+        return chunkMatches;
+    }
+
+    /**
+     * Scans range of data and passes positions of matches to consumer.
+     *
+     * @param data data
+     * @param pattern search pattern
+     * @param startPosition start position
+     * @param endPosition end position exclusive, matches starting before
+     * this position are reported
+     * @param blockSize size of block read at once
+     * @param cancelled cancellation check
+     * @param matchConsumer consumer of match positions returning false to stop
+     * @param progressConsumer consumer of processed position or null
+     * @return status
+     */
+    @Nonnull
+    private static BinarySearchStatus scanRange(BinaryData data, BinarySearchPattern pattern, long startPosition, long endPosition, int blockSize, BooleanSupplier cancelled, LongPredicate matchConsumer, @Nullable LongConsumer progressConsumer) {
+        int patternLength = pattern.getLength();
+        long dataEnd = Math.min(data.getDataSize(), endPosition + patternLength - 1);
+        byte[] buffer = new byte[(int) Math.min(Math.max(blockSize, patternLength * 2L), Math.max(dataEnd - startPosition, 1))];
+        long blockPosition = startPosition;
+        while (blockPosition < endPosition && blockPosition + patternLength <= dataEnd) {
+            if (cancelled.getAsBoolean() || Thread.currentThread().isInterrupted()) {
+                return BinarySearchStatus.CANCELLED;
+            }
+
+            int blockLength = (int) Math.min(buffer.length, dataEnd - blockPosition);
+            data.copyToArray(blockPosition, buffer, 0, blockLength);
+            // Only matches starting in requested range are reported
+            int searchEnd = (int) Math.min(blockLength, endPosition - blockPosition + patternLength - 1);
+            int index = pattern.indexOf(buffer, 0, searchEnd);
+            while (index >= 0) {
+                if (!matchConsumer.test(blockPosition + index)) {
+                    return BinarySearchStatus.MATCHES_LIMIT_REACHED;
+                }
+                index = pattern.indexOf(buffer, index + 1, searchEnd);
+            }
+
+            blockPosition += blockLength - patternLength + 1;
+            if (progressConsumer != null) {
+                progressConsumer.accept(Math.min(blockPosition, endPosition));
+            }
+        }
+
+        return BinarySearchStatus.COMPLETED;
+    }
+
+    private static class ChunkMatches {
+
+        private final long endPosition;
+        private final int matchesLimit;
+        private long[] positions = new long[16];
+        private int count = 0;
+        private long resumePosition = -1;
+        private BinarySearchStatus status = BinarySearchStatus.COMPLETED;
+
+        public ChunkMatches(long endPosition, int matchesLimit) {
+            this.endPosition = endPosition;
+            this.matchesLimit = matchesLimit;
+        }
+
+        public void add(long position) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, (int) Math.min((long) count * 2, matchesLimit));
+            }
+            positions[count] = position;
+            count++;
+        }
+    }
+}
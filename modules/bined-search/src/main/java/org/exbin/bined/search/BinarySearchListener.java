@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.search;
+
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Listener for binary search progress.
+ *
+ * Methods are called from search worker thread.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public interface BinarySearchListener {
+
+    /**
+     * Reports found match.
+     *
+     * Matches are reported in order of position.
+     *
+     * @param position match position
+     * @param length match length
+     */
+    void matchFound(long position, long length);
+
+    /**
+     * Reports progress of the search.
+     *
+     * @param processedBytes count of already processed bytes
+     * @param totalBytes total count of bytes to process
+     */
+    void progressChanged(long processedBytes, long totalBytes);
+
+    /**
+     * Reports end of the search.
+     *
+     * @param status final status
+     */
+    void searchFinished(BinarySearchStatus status);
+}
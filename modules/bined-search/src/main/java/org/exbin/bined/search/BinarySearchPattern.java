@@ -0,0 +1,313 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.search;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Compiled binary search pattern.
+ *
+ * Each position of the pattern accepts set of byte values, which allows
+ * wildcards and case insensitive matching. Shift table for Boyer-Moore-Horspool
+ * search is precomputed.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class BinarySearchPattern {
+
+    private static final int SET_WORDS = 4;
+
+    private final int length;
+    /**
+     * Bit sets of accepted byte values, four words per position.
+     */
+    private final long[] acceptedValues;
+    private final int[] shiftTable = new int[256];
+    /**
+     * Alternative byte sequences for pattern segments or null if accepted
+     * values are sufficient for matching.
+     */
+    @Nullable
+    private final byte[][][] segmentAlternatives;
+    @Nullable
+    private final int[] segmentStarts;
+
+    private BinarySearchPattern(long[] acceptedValues, @Nullable int[] segmentStarts, @Nullable byte[][][] segmentAlternatives) {
+        this.length = acceptedValues.length / SET_WORDS;
+        if (length == 0) {
+            throw new IllegalArgumentException("Empty search pattern");
+        }
+        this.acceptedValues = acceptedValues;
+        this.segmentStarts = segmentStarts;
+        this.segmentAlternatives = segmentAlternatives;
+
+        Arrays.fill(shiftTable, length);
+        for (int position = 0; position < length - 1; position++) {
+            for (int value = 0; value < 256; value++) {
+                if (isAccepted(position, value)) {
+                    shiftTable[value] = length - 1 - position;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates pattern matching exactly given bytes.
+     *
+     * @param pattern pattern bytes
+     * @return search pattern
+     */
+    @Nonnull
+    public static BinarySearchPattern fromBytes(byte[] pattern) {
+        long[] acceptedValues = new long[pattern.length * SET_WORDS];
+        for (int position = 0; position < pattern.length; position++) {
+            accept(acceptedValues, position, pattern[position] & 0xff);
+        }
+        return new BinarySearchPattern(acceptedValues, null, null);
+    }
+
+    /**
+     * Creates pattern from hexadecimal string.
+     *
+     * Each byte is represented by two hexadecimal digits, where any digit can
+     * be replaced with '?' wildcard matching any value of given half-byte.
+     * Whitespace is ignored.
+     *
+     * @param hexPattern hexadecimal pattern, for example "4D 5A ?? 0?"
+     * @return search pattern
+     */
+    @Nonnull
+    public static BinarySearchPattern fromHex(String hexPattern) {
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < hexPattern.length(); i++) {
+            char character = hexPattern.charAt(i);
+            if (!Character.isWhitespace(character)) {
+                digits.append(character);
+            }
+        }
+        if (digits.length() % 2 != 0) {
+            throw new IllegalArgumentException("Odd number of hexadecimal digits in pattern: " + hexPattern);
+        }
+
+        int patternLength = digits.length() / 2;
+        long[] acceptedValues = new long[patternLength * SET_WORDS];
+        for (int position = 0; position < patternLength; position++) {
+            int upperDigit = parseHexDigit(digits.charAt(position * 2));
+            int lowerDigit = parseHexDigit(digits.charAt(position * 2 + 1));
+            for (int value = 0; value < 256; value++) {
+                if ((upperDigit < 0 || (value >> 4) == upperDigit) && (lowerDigit < 0 || (value & 0xf) == lowerDigit)) {
+                    accept(acceptedValues, position, value);
+                }
+            }
+        }
+        return new BinarySearchPattern(acceptedValues, null, null);
+    }
+
+    /**
+     * Creates pattern for text encoded in given charset.
+     *
+     * For case insensitive matching upper and lower case variants of each
+     * character are accepted, if they are encoded to the same number of bytes
+     * as the original character.
+     *
+     * @param text text
+     * @param charset charset
+     * @param matchCase true for case sensitive matching
+     * @return search pattern
+     */
+    @Nonnull
+    public static BinarySearchPattern fromText(String text, Charset charset, boolean matchCase) {
+        CharsetEncoder encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("Empty search pattern");
+        }
+
+        // Byte order mark or other prefix emitted by encoder is skipped
+        String firstCharacter = text.substring(0, text.offsetByCodePoints(0, 1));
+        int prefixLength = 2 * encode(encoder, firstCharacter).length - encode(encoder, firstCharacter + firstCharacter).length;
+        byte[] encodedText = encode(encoder, text);
+        if (matchCase) {
+            return fromBytes(Arrays.copyOfRange(encodedText, prefixLength, encodedText.length));
+        }
+
+        List<int[]> characterRanges = new ArrayList<>();
+        int characterPosition = 0;
+        int bytePosition = prefixLength;
+        while (characterPosition < text.length()) {
+            int nextCharacterPosition = text.offsetByCodePoints(characterPosition, 1);
+            int nextBytePosition = encode(encoder, text.substring(0, nextCharacterPosition)).length;
+            characterRanges.add(new int[]{characterPosition, nextCharacterPosition, bytePosition, nextBytePosition});
+            characterPosition = nextCharacterPosition;
+            bytePosition = nextBytePosition;
+        }
+
+        int patternLength = encodedText.length - prefixLength;
+        long[] acceptedValues = new long[patternLength * SET_WORDS];
+        int[] segmentStarts = new int[characterRanges.size()];
+        byte[][][] segmentAlternatives = new byte[characterRanges.size()][][];
+        for (int segment = 0; segment < characterRanges.size(); segment++) {
+            int[] range = characterRanges.get(segment);
+            String prefix = text.substring(0, range[0]);
+            String character = text.substring(range[0], range[1]);
+            int segmentLength = range[3] - range[2];
+            int segmentStart = range[2] - prefixLength;
+            List<byte[]> alternatives = new ArrayList<>();
+            for (String variant : new String[]{character, character.toLowerCase(), character.toUpperCase()}) {
+                byte[] encodedVariant = encode(encoder, prefix + variant);
+                if (encodedVariant.length - range[2] != segmentLength) {
+                    continue;
+                }
+
+                byte[] variantBytes = Arrays.copyOfRange(encodedVariant, range[2], encodedVariant.length);
+                if (alternatives.stream().noneMatch(alternative -> Arrays.equals(alternative, variantBytes))) {
+                    alternatives.add(variantBytes);
+                    for (int i = 0; i < segmentLength; i++) {
+                        accept(acceptedValues, segmentStart + i, variantBytes[i] & 0xff);
+                    }
+                }
+            }
+            segmentStarts[segment] = segmentStart;
+            segmentAlternatives[segment] = alternatives.toArray(new byte[alternatives.size()][]);
+        }
+
+        return new BinarySearchPattern(acceptedValues, segmentStarts, segmentAlternatives);
+    }
+
+    /**
+     * Returns length of the pattern in bytes.
+     *
+     * @return length
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns true if given byte value is accepted at given pattern position.
+     *
+     * @param position position in pattern
+     * @param value byte value
+     * @return true if accepted
+     */
+    public boolean isAccepted(int position, int value) {
+        return (acceptedValues[position * SET_WORDS + (value >> 6)] & (1L << (value & 63))) != 0;
+    }
+
+    /**
+     * Searches for the first match in given buffer.
+     *
+     * @param buffer data buffer
+     * @param fromIndex start index
+     * @param toIndex end index exclusive, match must fit before it
+     * @return index of the match or -1 if not found
+     */
+    public int indexOf(byte[] buffer, int fromIndex, int toIndex) {
+        int lastPosition = length - 1;
+        int index = fromIndex;
+        while (index + lastPosition < toIndex) {
+            int lastValue = buffer[index + lastPosition] & 0xff;
+            if (isAccepted(lastPosition, lastValue) && matchesAt(buffer, index, lastPosition)) {
+                return index;
+            }
+            index += shiftTable[lastValue];
+        }
+
+        return -1;
+    }
+
+    private boolean matchesAt(byte[] buffer, int index, int checkedPosition) {
+        for (int position = checkedPosition - 1; position >= 0; position--) {
+            if (!isAccepted(position, buffer[index + position] & 0xff)) {
+                return false;
+            }
+        }
+
+        if (segmentAlternatives != null) {
+            for (int segment = 0; segment < segmentAlternatives.length; segment++) {
+                if (!matchesAnyAlternative(buffer, index + segmentStarts[segment], segmentAlternatives[segment])) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matchesAnyAlternative(byte[] buffer, int offset, byte[][] alternatives) {
+        if (alternatives.length == 1) {
+            // Single alternative is fully covered by accepted values
+            return true;
+        }
+
+        for (byte[] alternative : alternatives) {
+            boolean matches = true;
+            for (int i = 0; i < alternative.length; i++) {
+                if (buffer[offset + i] != alternative[i]) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void accept(long[] acceptedValues, int position, int value) {
+        acceptedValues[position * SET_WORDS + (value >> 6)] |= 1L << (value & 63);
+    }
+
+    private static int parseHexDigit(char digit) {
+        if (digit == '?') {
+            return -1;
+        }
+
+        int value = Character.digit(digit, 16);
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid hexadecimal digit: " + digit);
+        }
+        return value;
+    }
+
+    @Nonnull
+    private static byte[] encode(CharsetEncoder encoder, String text) {
+        try {
+            ByteBuffer buffer = encoder.reset().encode(CharBuffer.wrap(text));
+            byte[] result = new byte[buffer.remaining()];
+            buffer.get(result);
+            return result;
+        } catch (CharacterCodingException ex) {
+            throw new IllegalArgumentException("Unable to encode search text", ex);
+        }
+    }
+}
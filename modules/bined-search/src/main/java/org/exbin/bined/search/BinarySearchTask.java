@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.search;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Handle of running binary search.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class BinarySearchTask {
+
+    private volatile boolean cancelled = false;
+    @Nullable
+    private volatile BinarySearchStatus status = null;
+    @Nullable
+    private volatile Future<?> future;
+    @Nullable
+    private volatile Throwable failure = null;
+
+    BinarySearchTask() {
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    void setStatus(BinarySearchStatus status) {
+        this.status = status;
+    }
+
+    void setFailure(Throwable failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Requests cancellation of the search.
+     *
+     * Search stops before processing next block of data.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return status != null;
+    }
+
+    /**
+     * Returns final status or null if search is still running.
+     *
+     * @return status
+     */
+    @Nullable
+    public BinarySearchStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns exception which caused search to fail.
+     *
+     * @return exception or null if search did not fail
+     */
+    @Nullable
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Waits for the search to finish.
+     *
+     * @return final status
+     * @throws InterruptedException if current thread was interrupted
+     */
+    @Nullable
+    public BinarySearchStatus waitFinished() throws InterruptedException {
+        if (future != null) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                // Failure is reported as status
+            }
+        }
+        return status;
+    }
+}
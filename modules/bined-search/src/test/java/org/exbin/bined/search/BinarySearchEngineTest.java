@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.search;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.exbin.auxiliary.paged_data.ByteArrayData;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for binary search engine.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class BinarySearchEngineTest {
+
+    public BinarySearchEngineTest() {
+    }
+
+    @Test
+    public void testHexPatternWithWildcards() {
+        BinarySearchPattern pattern = BinarySearchPattern.fromHex("4D ?A 0?");
+        byte[] data = new byte[]{0x00, 0x4d, 0x5a, 0x01, 0x4d, 0x5b, 0x01, 0x4d, 0x1a, 0x0f};
+        Assert.assertEquals(1, pattern.indexOf(data, 0, data.length));
+        Assert.assertEquals(7, pattern.indexOf(data, 2, data.length));
+        Assert.assertEquals(-1, pattern.indexOf(data, 2, data.length - 1));
+    }
+
+    @Test
+    public void testCaseInsensitiveText() {
+        Charset charset = Charset.forName("UTF-8");
+        BinarySearchPattern pattern = BinarySearchPattern.fromText("Žluť", charset, false);
+        byte[] data = "xxžLUŤ, ŽLUŤ".getBytes(charset);
+        Assert.assertEquals(2, pattern.indexOf(data, 0, data.length));
+        Assert.assertEquals(-1, BinarySearchPattern.fromText("Žluť", charset, true).indexOf(data, 0, data.length));
+
+        Charset utf16 = Charset.forName("UTF-16");
+        BinarySearchPattern utf16Pattern = BinarySearchPattern.fromText("ab", utf16, false);
+        Assert.assertEquals(4, utf16Pattern.getLength());
+        byte[] utf16Data = "xAB".getBytes(Charset.forName("UTF-16BE"));
+        Assert.assertEquals(2, utf16Pattern.indexOf(utf16Data, 0, utf16Data.length));
+    }
+
+    @Test
+    public void testSearchAcrossBlocks() throws InterruptedException {
+        byte[] data = new byte[10000];
+        List<Long> expected = new ArrayList<>();
+        for (int position = 5; position < data.length - 3; position += 97) {
+            data[position] = 1;
+            data[position + 1] = 2;
+            data[position + 2] = 3;
+            expected.add((long) position);
+        }
+
+        BinarySearchEngine engine = new BinarySearchEngine();
+        engine.setBlockSize(64);
+        CollectingListener listener = new CollectingListener();
+        BinarySearchTask task = engine.search(new ByteArrayData(data), BinarySearchPattern.fromHex("010203"), listener);
+        Assert.assertEquals(BinarySearchStatus.COMPLETED, task.waitFinished());
+        Assert.assertEquals(expected, listener.matches);
+        Assert.assertEquals(data.length, listener.processedBytes);
+
+        listener = new CollectingListener();
+        engine.setMatchesLimit(3);
+        task = engine.search(new ByteArrayData(data), BinarySearchPattern.fromHex("010203"), 100, 1000, listener);
+        Assert.assertEquals(BinarySearchStatus.MATCHES_LIMIT_REACHED, task.waitFinished());
+        Assert.assertEquals(expected.subList(1, 4), listener.matches);
+        engine.dispose();
+    }
+
+    @Test
+    public void testOverlappingMatches() throws InterruptedException {
+        BinarySearchEngine engine = new BinarySearchEngine();
+        engine.setBlockSize(4);
+        CollectingListener listener = new CollectingListener();
+        BinarySearchTask task = engine.search(new ByteArrayData(new byte[9]), BinarySearchPattern.fromHex("0000"), listener);
+        task.waitFinished();
+        Assert.assertEquals(8, listener.matches.size());
+        Assert.assertTrue(listener.finished.await(10, TimeUnit.SECONDS));
+        engine.dispose();
+    }
+
+    @Test
+    public void testParallelSearch() throws InterruptedException {
+        byte[] data = new byte[100000];
+        List<Long> expected = new ArrayList<>();
+        for (int position = 3; position < data.length - 2; position += 101) {
+            data[position] = 0x55;
+            data[position + 1] = 0x66;
+            expected.add((long) position);
+        }
+
+        BinarySearchEngine engine = new BinarySearchEngine();
+        engine.setParallelism(4);
+        engine.setChunkSize(1000);
+        engine.setBlockSize(300);
+        CollectingListener listener = new CollectingListener();
+        BinarySearchTask task = engine.search(new ByteArrayData(data), BinarySearchPattern.fromHex("5566"), listener);
+        Assert.assertEquals(BinarySearchStatus.COMPLETED, task.waitFinished());
+        Assert.assertEquals(expected, listener.matches);
+
+        listener = new CollectingListener();
+        task = engine.findNext(new ByteArrayData(data), BinarySearchPattern.fromHex("5566"), 50000, listener);
+        Assert.assertEquals(BinarySearchStatus.MATCHES_LIMIT_REACHED, task.waitFinished());
+        Assert.assertEquals(1, listener.matches.size());
+        Assert.assertEquals(50099L, (long) listener.matches.get(0));
+        Assert.assertTrue(listener.processedBytes < 50000);
+        engine.dispose();
+    }
+
+    @Test
+    public void testParallelDenseSearch() throws InterruptedException {
+        byte[] data = new byte[200000];
+        BinarySearchEngine engine = new BinarySearchEngine();
+        engine.setParallelism(4);
+        engine.setChunkSize(10000);
+        engine.setBlockSize(3000);
+        engine.setChunkMatchesLimit(1000);
+        CollectingListener listener = new CollectingListener();
+        BinarySearchTask task = engine.search(new ByteArrayData(data), BinarySearchPattern.fromHex("0000"), listener);
+        Assert.assertEquals(BinarySearchStatus.COMPLETED, task.waitFinished());
+        Assert.assertEquals(data.length - 1, listener.matches.size());
+        for (int i = 0; i < listener.matches.size(); i++) {
+            Assert.assertEquals(i, (long) listener.matches.get(i));
+        }
+
+        listener = new CollectingListener();
+        engine.setMatchesLimit(2500);
+        task = engine.search(new ByteArrayData(data), BinarySearchPattern.fromHex("00"), listener);
+        Assert.assertEquals(BinarySearchStatus.MATCHES_LIMIT_REACHED, task.waitFinished());
+        Assert.assertEquals(2500, listener.matches.size());
+        Assert.assertEquals(2499L, (long) listener.matches.get(2499));
+        engine.dispose();
+    }
+
+    @Test
+    public void testFailedSearch() throws InterruptedException {
+        IllegalStateException failure = new IllegalStateException("Read failed");
+        ByteArrayData data = new ByteArrayData(new byte[1000]) {
+            @Override
+            public void copyToArray(long startFrom, byte[] target, int offset, int length) {
+                throw failure;
+            }
+        };
+
+        BinarySearchEngine engine = new BinarySearchEngine();
+        CollectingListener listener = new CollectingListener();
+        BinarySearchTask task = engine.search(data, BinarySearchPattern.fromHex("01"), listener);
+        Assert.assertEquals(BinarySearchStatus.FAILED, task.waitFinished());
+        Assert.assertSame(failure, task.getFailure());
+        engine.dispose();
+    }
+
+    private static class CollectingListener implements BinarySearchListener {
+
+        private final List<Long> matches = new ArrayList<>();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private long processedBytes;
+
+        @Override
+        public void matchFound(long position, long length) {
+            matches.add(position);
+        }
+
+        @Override
+        public void progressChanged(long processedBytes, long totalBytes) {
+            this.processedBytes = processedBytes;
+        }
+
+        @Override
+        public void searchFinished(BinarySearchStatus status) {
+            finished.countDown();
+        }
+    }
+}
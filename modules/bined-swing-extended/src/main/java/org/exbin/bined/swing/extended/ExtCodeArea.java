@@ -73,7 +73,7 @@ import org.exbin.bined.swing.extended.caret.CaretsProfileCapableCodeAreaPainter;
 /**
  * Code area component extended code area.
  *
- * @version 0.2.0 2019/07/07
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -526,8 +526,12 @@ public class ExtCodeArea extends CodeAreaCore implements ExtendedCodeArea, CodeA
     public void notifyCaretChanged() {
         if (painter != null) {
             painter.resetCaret();
+            if (!painter.repaintCursor()) {
+                repaint();
+            }
+        } else {
+            repaint();
         }
-        repaint();
     }
 
     @Override
@@ -558,23 +562,36 @@ public class ExtCodeArea extends CodeAreaCore implements ExtendedCodeArea, CodeA
     public void setSelection(SelectionRange selection) {
         CodeAreaUtils.requireNonNull(selection);
 
-        this.selection.setSelection(selection);
-        notifySelectionChanged();
-        repaint();
+        setSelection(selection.getStart(), selection.getEnd());
     }
 
     @Override
     public void setSelection(long start, long end) {
+        boolean repaintRequired = isSelectionRepaintRequired(start, end);
         this.selection.setSelection(start, end);
         notifySelectionChanged();
-        repaint();
+        if (repaintRequired) {
+            repaint();
+        }
     }
 
     @Override
     public void clearSelection() {
+        boolean repaintRequired = !selection.isEmpty();
         this.selection.clearSelection();
         notifySelectionChanged();
-        repaint();
+        if (repaintRequired) {
+            repaint();
+        }
+    }
+
+    private boolean isSelectionRepaintRequired(long start, long end) {
+        if (selection.isEmpty() && start == end) {
+            // Empty selection is not painted regardless of its position
+            return false;
+        }
+
+        return selection.getStart() != start || selection.getEnd() != end;
     }
 
     @Override
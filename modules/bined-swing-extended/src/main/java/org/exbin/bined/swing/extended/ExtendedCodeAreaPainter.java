@@ -35,8 +35,6 @@ import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.nio.charset.Charset;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -55,11 +53,13 @@ import org.exbin.bined.CodeAreaSection;
 import org.exbin.bined.CodeAreaUtils;
 import org.exbin.bined.basic.CodeAreaViewMode;
 import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.CodeCharactersTable;
 import org.exbin.bined.CodeType;
 import org.exbin.bined.EditationOperation;
 import org.exbin.bined.PositionCodeType;
 import org.exbin.bined.CaretOverlapMode;
 import org.exbin.bined.SelectionRange;
+import org.exbin.bined.UnprintableCharactersTable;
 import org.exbin.bined.basic.CodeAreaScrollPosition;
 import org.exbin.bined.basic.MovementDirection;
 import org.exbin.bined.basic.PositionScrollVisibility;
@@ -96,6 +96,7 @@ import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.bined.extended.layout.PositionIterator;
 import org.exbin.bined.extended.layout.ExtendedCodeAreaLayoutProfile;
 import org.exbin.bined.swing.basic.DefaultCodeAreaMouseListener;
+import org.exbin.bined.swing.basic.RowPositionCache;
 import org.exbin.bined.CodeAreaCaretPosition;
 import org.exbin.bined.DataChangedListener;
 import org.exbin.bined.extended.ExtendedHorizontalScrollUnit;
@@ -108,7 +109,7 @@ import org.exbin.bined.swing.extended.caret.CaretsProfileCapableCodeAreaPainter;
 /**
  * Extended code area component default painter.
  *
- * @version 0.2.0 2020/01/24
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -178,6 +179,8 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
 
     @Nullable
     private RowDataCache rowDataCache = null;
+    @Nonnull
+    private final RowPositionCache rowPositionCache = new RowPositionCache();
     @Nullable
     private CursorDataCache cursorDataCache = null;
 
@@ -187,7 +190,8 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
 
     private static final char SPACE_CHAR = ' '; //\u2003
 
-    protected Map<Character, Character> unprintableCharactersMapping = null;
+    @Nullable
+    protected UnprintableCharactersTable unprintableCharactersMapping = null;
 
     // Debuging counter
 //    private long paintCounter = 0;
@@ -230,9 +234,17 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
                 recomputeLayout();
             }
         };
-        codeAreaDataChangeListener = () -> {
-            validateCaret();
-            recomputeLayout();
+        codeAreaDataChangeListener = new DataChangedListener() {
+            @Override
+            public void dataChanged() {
+                validateCaret();
+                recomputeLayout();
+            }
+
+            @Override
+            public void dataChanged(long startPosition, long oldLength, long newLength) {
+                dataRangeChanged(startPosition, oldLength, newLength);
+            }
         };
         colorsProfile.reinitialize();
     }
@@ -286,6 +298,38 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         caretChanged = true;
     }
 
+    @Override
+    public boolean repaintCursor() {
+        if (!initialized || layoutChanged || cursorDataCache == null) {
+            return false;
+        }
+
+        if (caretChanged) {
+            updateCaret();
+        }
+
+        // Previously painted cursor
+        Rectangle mainAreaRect = dimensions.getMainAreaRect();
+        repaintCursorRect(cursorDataCache.caretRect, mainAreaRect);
+        repaintCursorRect(cursorDataCache.mirrorCursorRect, mainAreaRect);
+
+        // Current cursor
+        DefaultCodeAreaCaret caret = (DefaultCodeAreaCaret) ((CaretCapable) codeArea).getCaret();
+        repaintCursorRect(getCursorPositionRect(caret.getDataPosition(), caret.getCodeOffset(), caret.getSection()), mainAreaRect);
+        if (structure.getViewMode() == CodeAreaViewMode.DUAL && showMirrorCursor) {
+            updateMirrorCursorRect(caret.getDataPosition(), caret.getSection());
+            repaintCursorRect(cursorDataCache.mirrorCursorRect, mainAreaRect);
+        }
+        return true;
+    }
+
+    private void repaintCursorRect(Rectangle cursorRect, Rectangle mainAreaRect) {
+        Rectangle intersection = cursorRect.intersection(mainAreaRect);
+        if (!intersection.isEmpty()) {
+            codeArea.repaint(intersection);
+        }
+    }
+
     @Override
     public void rebuildColors() {
         colorsProfile.reinitialize();
@@ -324,6 +368,81 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         caretChanged = false;
     }
 
+    /**
+     * Updates painter for change of given range of data.
+     *
+     * Only rows containing modified range are repainted if data size was not
+     * changed, otherwise all rows after the start of the range are repainted.
+     *
+     * @param startPosition start position of changed range
+     * @param oldLength length of the range before change
+     * @param newLength length of the range after change
+     */
+    private void dataRangeChanged(long startPosition, long oldLength, long newLength) {
+        if (!initialized || layoutChanged) {
+            codeAreaDataChangeListener.dataChanged();
+            return;
+        }
+
+        if (oldLength == newLength) {
+            if (newLength > 0) {
+                repaintDataRange(startPosition, startPosition + newLength);
+            }
+            return;
+        }
+
+        Rectangle dataViewRectangle = new Rectangle(dimensions.getDataViewRectangle());
+        CodeAreaScrollPosition scrollPosition = scrolling.getScrollPosition();
+        long rowPosition = scrollPosition.getRowPosition();
+        int rowOffset = scrollPosition.getRowOffset();
+        validateCaret();
+        recomputeLayout();
+        scrollPosition = scrolling.getScrollPosition();
+        if (!dataViewRectangle.equals(dimensions.getDataViewRectangle()) || rowPosition != scrollPosition.getRowPosition() || rowOffset != scrollPosition.getRowOffset()) {
+            codeArea.repaint();
+            return;
+        }
+
+        repaintDataRange(startPosition, Long.MAX_VALUE);
+    }
+
+    /**
+     * Requests repaint of visible rows containing given range of data.
+     *
+     * @param startPosition start position
+     * @param endPosition end position or Long.MAX_VALUE for all following
+     * rows
+     */
+    private void repaintDataRange(long startPosition, long endPosition) {
+        int bytesPerRow = structure.getBytesPerRow();
+        int rowHeight = metrics.getRowHeight();
+        if (bytesPerRow <= 0 || rowHeight <= 0) {
+            return;
+        }
+
+        Rectangle mainAreaRect = dimensions.getMainAreaRect();
+        CodeAreaScrollPosition scrollPosition = scrolling.getScrollPosition();
+        int rowsTop = dimensions.getDataViewY() - scrollPosition.getRowOffset();
+        // Preview character can be decoded from bytes on the previous row
+        long firstRow = Math.max(0, startPosition - metrics.getMaxBytesPerChar() + 1) / bytesPerRow - scrollPosition.getRowPosition();
+        long top = Math.max(mainAreaRect.y, rowsTop + firstRow * rowHeight);
+        long bottom = mainAreaRect.y + mainAreaRect.height;
+        if (endPosition != Long.MAX_VALUE) {
+            long lastRow = (endPosition - 1) / bytesPerRow - scrollPosition.getRowPosition();
+            bottom = Math.min(bottom, rowsTop + (lastRow + 1) * rowHeight);
+        }
+        if (top >= bottom) {
+            return;
+        }
+
+        if (endPosition == Long.MAX_VALUE) {
+            // Row positions of appended or removed rows has to be repainted as well
+            codeArea.repaint(0, (int) top, codeArea.getWidth(), (int) (bottom - top));
+        } else {
+            codeArea.repaint(mainAreaRect.x, (int) top, mainAreaRect.width, (int) (bottom - top));
+        }
+    }
+
     private void validateCaret() {
         CodeAreaCaret caret = ((CaretCapable) codeArea).getCaret();
         CodeAreaCaretPosition caretPosition = caret.getCaretPosition();
@@ -359,7 +478,6 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         rowDataCache.headerCharsShifted = shifted ? new char[maxRowDataChars + codeLength] : null;
         rowDataCache.rowCodeData = new char[structure.getCodeType().getMaxDigitsForByte()];
         rowDataCache.rowData = new byte[structure.getBytesPerRow() + metrics.getMaxBytesPerChar() - 1];
-        rowDataCache.rowPositionCode = new char[rowPositionLength];
         rowDataCache.rowCharacters = new char[maxRowDataChars];
         rowDataCache.rowCharactersShifted = shifted ? new char[maxRowDataChars] : null;
         rowDataCache.unprintables = new byte[(structure.getBytesPerRow() + 7) >> 3];
@@ -454,9 +572,14 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
             recomputeLayout();
         }
 
-        paintOutsiteArea(g);
-        paintHeader(g);
-        paintRowPosition(g);
+        Rectangle clipBounds = g.getClipBounds();
+        if (clipBounds == null || clipBounds.y < dimensions.getComponentRect().y + dimensions.getHeaderAreaHeight()) {
+            paintOutsiteArea(g);
+            paintHeader(g);
+        }
+        if (clipBounds == null || clipBounds.intersects(dimensions.getRowPositionAreaRectangle())) {
+            paintRowPosition(g);
+        }
         paintMainArea(g);
     }
 
@@ -566,6 +689,15 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
                 }
             } while (!positionIterator.isEndReached());
 
+            // Skip characters outside of clipping area
+            int clipStartChar = Integer.MIN_VALUE;
+            int clipEndChar = Integer.MAX_VALUE;
+            Rectangle headerClipBounds = g.getClipBounds();
+            if (headerClipBounds != null && characterWidth > 0) {
+                clipStartChar = Math.floorDiv(headerClipBounds.x - headerX, characterWidth) - 1;
+                clipEndChar = Math.floorDiv(headerClipBounds.x + headerClipBounds.width - 1 - headerX, characterWidth) + 2;
+            }
+
             g.setColor(colorsProfile.getColor(CodeAreaBasicColors.TEXT_COLOR));
             positionIterator.reset();
             positionIterator.skip(visibility.getSkipTo());
@@ -595,7 +727,7 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
                         }
                         if (sequenceBreak) {
                             if (renderCharOffset < charPos) {
-                                drawCenteredChars(g, rowDataCache.headerChars, renderCharOffset - skipToChar, charPos - renderCharOffset, characterWidth, headerX + renderCharOffset * characterWidth, headerY);
+                                drawHeaderChars(g, rowDataCache.headerChars, renderCharOffset, charPos, headerX, headerY, clipStartChar, clipEndChar);
                             }
 
                             if (!CodeAreaSwingUtils.areSameColors(color, renderColor)) {
@@ -618,7 +750,7 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
                         }
                         if (sequenceBreak) {
                             if (renderCharOffsetShifted < charPos) {
-                                drawCenteredChars(g, rowDataCache.headerCharsShifted, renderCharOffsetShifted - skipToChar, charPos - renderCharOffsetShifted, characterWidth, headerX + renderCharOffsetShifted * characterWidth + halfSpaceWidth, headerY);
+                                drawHeaderChars(g, rowDataCache.headerCharsShifted, renderCharOffsetShifted, charPos, headerX + halfSpaceWidth, headerY, clipStartChar, clipEndChar);
                             }
 
                             if (!CodeAreaSwingUtils.areSameColors(color, renderColorShifted)) {
@@ -631,16 +763,17 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
                     }
                     halfCharPos += 2 + positionIterator.nextSpaceType().getHalfCharSize();
                 }
-                if ((positionIterator.getPosition() >= skipRestFrom && skipRestFrom >= 0) || positionIterator.getSection() == BasicCodeAreaSection.TEXT_PREVIEW) {
+                if ((positionIterator.getPosition() >= skipRestFrom && skipRestFrom >= 0) || positionIterator.getSection() == BasicCodeAreaSection.TEXT_PREVIEW
+                        || halfCharPos / 2 >= clipEndChar) {
                     break;
                 }
             } while (!positionIterator.isEndReached());
 
             if (renderCharOffset < skipRestFromChar) {
-                drawCenteredChars(g, rowDataCache.headerChars, renderCharOffset - skipToChar, skipRestFromChar - renderCharOffset, characterWidth, headerX + renderCharOffset * characterWidth, headerY);
+                drawHeaderChars(g, rowDataCache.headerChars, renderCharOffset, skipRestFromChar, headerX, headerY, clipStartChar, clipEndChar);
             }
             if (layoutProfile.isHalfShiftedUsed() && renderCharOffsetShifted < skipRestFromChar) {
-                drawCenteredChars(g, rowDataCache.headerCharsShifted, renderCharOffsetShifted - skipToChar, skipRestFromChar - renderCharOffsetShifted, characterWidth, headerX + renderCharOffsetShifted * characterWidth + halfSpaceWidth, headerY);
+                drawHeaderChars(g, rowDataCache.headerCharsShifted, renderCharOffsetShifted, skipRestFromChar, headerX + halfSpaceWidth, headerY, clipStartChar, clipEndChar);
             }
         }
 
@@ -686,6 +819,30 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         g.setClip(clipBounds);
     }
 
+    /**
+     * Draws header characters in given range limited to characters
+     * intersecting the clipping area.
+     *
+     * @param g graphics
+     * @param headerChars header characters starting at first visible character
+     * @param startCharPos start character position
+     * @param endCharPos end character position
+     * @param headerX header position X
+     * @param headerY header position Y
+     * @param clipStartChar first character position intersecting clip
+     * @param clipEndChar character position after last character intersecting
+     * clip
+     */
+    private void drawHeaderChars(Graphics g, char[] headerChars, int startCharPos, int endCharPos, int headerX, int headerY, int clipStartChar, int clipEndChar) {
+        int characterWidth = metrics.getCharacterWidth();
+        int skipToChar = visibility.getSkipToChar();
+        int renderStart = Math.max(startCharPos, clipStartChar);
+        int renderEnd = Math.min(endCharPos, clipEndChar);
+        if (renderStart < renderEnd) {
+            drawCenteredChars(g, headerChars, renderStart - skipToChar, renderEnd - renderStart, characterWidth, headerX + renderStart * characterWidth, headerY);
+        }
+    }
+
     public void paintRowPosition(Graphics g) {
         if (!dimensions.getLayoutProfile().isShowRowPosition()) {
             return;
@@ -726,15 +883,28 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         }
 
         long dataPosition = bytesPerRow * scrollPosition.getRowPosition();
-        int positionY = rowPosRectangle.y + rowHeight - subFontSpace - scrollPosition.getRowOffset();
+        int rowPositionY = rowPosRectangle.y - scrollPosition.getRowOffset();
+
+        // Skip rows outside of clipping area
+        int firstRow = 0;
+        int lastRow = rowsPerRect;
+        Rectangle rowsClipBounds = g.getClipBounds();
+        if (rowsClipBounds != null && rowHeight > 0) {
+            firstRow = Math.max(0, Math.floorDiv(rowsClipBounds.y - rowPositionY, rowHeight));
+            lastRow = Math.min(rowsPerRect, Math.floorDiv(rowsClipBounds.y + rowsClipBounds.height - 1 - rowPositionY, rowHeight));
+            dataPosition += (long) firstRow * bytesPerRow;
+        }
+
+        rowPositionCache.updateLayout(rowsPerRect + 1, bytesPerRow, rowPositionLength, structure.getPositionCodeType(), CodeCharactersCase.UPPER);
+        int positionY = rowPositionY + firstRow * rowHeight + rowHeight - subFontSpace;
         g.setColor(colorsProfile.getColor(CodeAreaBasicColors.TEXT_COLOR));
-        for (int row = 0; row <= rowsPerRect; row++) {
+        for (int row = firstRow; row <= lastRow; row++) {
             if (dataPosition > dataSize) {
                 break;
             }
 
-            CodeAreaUtils.longToBaseCode(rowDataCache.rowPositionCode, 0, dataPosition < 0 ? 0 : dataPosition, structure.getPositionCodeType().getBase(), rowPositionLength, true, CodeCharactersCase.UPPER);
-            drawCenteredChars(g, rowDataCache.rowPositionCode, 0, rowPositionLength, characterWidth, rowPosRectangle.x + dimensions.getLayoutProfile().computeRowPositionOffsetPositionX(), positionY);
+            char[] rowPositionCode = rowPositionCache.getRowPositionCode(scrollPosition.getRowPosition() + row);
+            drawCenteredChars(g, rowPositionCode, 0, rowPositionLength, characterWidth, rowPosRectangle.x + dimensions.getLayoutProfile().computeRowPositionOffsetPositionX(), positionY);
 
             positionY += rowHeight;
             dataPosition += bytesPerRow;
@@ -923,8 +1093,19 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         int rowPositionX = dataViewX - scrolling.getHorizontalScrollX(characterWidth);
         int rowPositionY = dataViewY - scrollPosition.getRowOffset();
 
+        // Skip rows outside of clipping area
+        int firstRow = 0;
+        int lastRow = rowsPerRect;
+        Rectangle clipBounds = g.getClipBounds();
+        if (clipBounds != null && rowHeight > 0) {
+            firstRow = Math.max(0, Math.floorDiv(clipBounds.y - rowPositionY, rowHeight));
+            lastRow = Math.min(rowsPerRect, Math.floorDiv(clipBounds.y + clipBounds.height - 1 - rowPositionY, rowHeight));
+            dataPosition += (long) firstRow * bytesPerRow;
+            rowPositionY += firstRow * rowHeight;
+        }
+
         g.setColor(colorsProfile.getColor(CodeAreaBasicColors.TEXT_COLOR));
-        for (int row = 0; row <= rowsPerRect; row++) {
+        for (int row = firstRow; row <= lastRow; row++) {
             if (dataPosition > dataSize) {
                 break;
             }
@@ -969,15 +1150,16 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         if (showUnprintables) {
             Arrays.fill(rowDataCache.unprintables, (byte) 0);
 
-            if (unprintableCharactersMapping == null) {
-                buildUnprintableCharactersMapping();
+            if (unprintableCharactersMapping == null || !charset.equals(unprintableCharactersMapping.getCharset())) {
+                unprintableCharactersMapping = new UnprintableCharactersTable(charset);
             }
         }
 
+        CodeCharactersTable codeCharactersTable = CodeCharactersTable.getTable(codeType, codeCharactersCase);
         positionIterator.reset();
         positionIterator.skip(visibility.getSkipTo());
         char targetChar;
-        Character replacement;
+        char replacement;
         int halfCharPos = positionIterator.getHalfCharPosition();
         boolean first = true;
         int byteOffset;
@@ -993,23 +1175,25 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
             byte dataByte = rowDataCache.rowData[byteOffset];
             if (section == BasicCodeAreaSection.CODE_MATRIX) {
                 if (dataPosition + byteOffset < dataSize) {
-                    if (showUnprintables) {
-                        int charDataLength = maxBytesPerChar;
-                        if (byteOffset + charDataLength > rowDataCache.rowData.length) {
-                            charDataLength = rowDataCache.rowData.length - byteOffset;
-                        }
-                        String displayString = new String(rowDataCache.rowData, byteOffset, charDataLength, charset);
-                        if (!displayString.isEmpty()) {
-                            targetChar = displayString.charAt(0);
-                            replacement = unprintableCharactersMapping.get(targetChar);
-                            if (replacement != null) {
+                    if (first || codeOffset == 0) {
+                        if (showUnprintables) {
+                            boolean unprintable;
+                            if (maxBytesPerChar > 1) {
+                                int charDataLength = maxBytesPerChar;
+                                if (byteOffset + charDataLength > rowDataCache.rowData.length) {
+                                    charDataLength = rowDataCache.rowData.length - byteOffset;
+                                }
+                                String displayString = new String(rowDataCache.rowData, byteOffset, charDataLength, charset);
+                                unprintable = !displayString.isEmpty() && UnprintableCharactersTable.hasReplacement(displayString.charAt(0));
+                            } else {
+                                unprintable = unprintableCharactersMapping.isUnprintableByte(dataByte);
+                            }
+                            if (unprintable) {
                                 rowDataCache.unprintables[byteOffset >> 3] |= 1 << (byteOffset & 7);
                             }
                         }
-                    }
 
-                    if (first || codeOffset == 0) {
-                        CodeAreaUtils.byteToCharsCode(dataByte, codeType, rowDataCache.rowCodeData, 0, codeCharactersCase);
+                        codeCharactersTable.writeCode(dataByte, rowDataCache.rowCodeData, 0);
                         first = false;
                     }
                     if ((halfCharPos & 1) == 0) {
@@ -1047,8 +1231,8 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
                 }
 
                 if (showUnprintables) {
-                    replacement = unprintableCharactersMapping.get(targetChar);
-                    if (replacement != null) {
+                    replacement = UnprintableCharactersTable.getReplacement(targetChar);
+                    if (replacement != UnprintableCharactersTable.NO_REPLACEMENT) {
                         rowDataCache.unprintables[byteOffset >> 3] |= 1 << (byteOffset & 7);
                         targetChar = replacement;
                     }
@@ -1424,7 +1608,12 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
 
     @Override
     public void paintCursor(Graphics g) {
+        if (cursorDataCache == null) {
+            cursorDataCache = new CursorDataCache();
+        }
         if (!codeArea.hasFocus()) {
+            cursorDataCache.caretRect.setSize(0, 0);
+            cursorDataCache.mirrorCursorRect.setSize(0, 0);
             return;
         }
 
@@ -1436,9 +1625,6 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         Rectangle mainAreaRect = dimensions.getMainAreaRect();
         CodeType codeType = structure.getCodeType();
         CodeAreaViewMode viewMode = structure.getViewMode();
-        if (cursorDataCache == null) {
-            cursorDataCache = new CursorDataCache();
-        }
         int cursorCharsLength = codeType.getMaxDigitsForByte();
         if (cursorDataCache.cursorCharsLength != cursorCharsLength) {
             cursorDataCache.cursorCharsLength = cursorCharsLength;
@@ -1452,7 +1638,9 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
 
         DefaultCodeAreaCaret caret = (DefaultCodeAreaCaret) ((CaretCapable) codeArea).getCaret();
         Rectangle cursorRect = getCursorPositionRect(caret.getDataPosition(), caret.getCodeOffset(), caret.getSection());
+        cursorDataCache.caretRect.setBounds(cursorRect);
         if (cursorRect.isEmpty()) {
+            cursorDataCache.mirrorCursorRect.setSize(0, 0);
             return;
         }
 
@@ -1485,6 +1673,8 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
                     g2d.drawRect(mirrorCursorRect.x, mirrorCursorRect.y, mirrorCursorRect.width - 1, mirrorCursorRect.height - 1);
                 }
             }
+        } else {
+            cursorDataCache.mirrorCursorRect.setSize(0, 0);
         }
         g.setClip(clipBounds);
     }
@@ -1713,6 +1903,15 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         }
     }
 
+    /**
+     * Returns count of bytes per row of current layout.
+     *
+     * @return bytes per row
+     */
+    public int getBytesPerRow() {
+        return structure.getBytesPerRow();
+    }
+
     @Override
     public int getMouseCursorShape(int positionX, int positionY) {
         int dataViewX = dimensions.getDataViewX();
@@ -1796,35 +1995,14 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         int group = 0;
         while (pos < length) {
             char drawnChar = drawnChars[charOffset + pos];
-            int charWidth = metrics.getCharWidth(drawnChar);
-
-            boolean groupable;
-            if (metrics.hasUniformLineMetrics()) {
-                groupable = charWidth == cellWidth;
-            } else {
-                int charsWidth = metrics.getCharsWidth(drawnChars, charOffset + pos - group, group + 1);
-                groupable = charsWidth == cellWidth * (group + 1);
-            }
-
-            switch (Character.getDirectionality(drawnChar)) {
-                case Character.DIRECTIONALITY_UNDEFINED:
-                case Character.DIRECTIONALITY_RIGHT_TO_LEFT:
-                case Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC:
-                case Character.DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING:
-                case Character.DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE:
-                case Character.DIRECTIONALITY_POP_DIRECTIONAL_FORMAT:
-                case Character.DIRECTIONALITY_BOUNDARY_NEUTRAL:
-                case Character.DIRECTIONALITY_OTHER_NEUTRALS:
-                    groupable = false;
-            }
-
-            if (groupable) {
+            if (metrics.isGroupable(drawnChar, cellWidth)) {
                 group++;
             } else {
                 if (group > 0) {
                     drawShiftedChars(g, drawnChars, charOffset + pos - group, group, positionX + (pos - group) * cellWidth, positionY);
                     group = 0;
                 }
+                int charWidth = metrics.getCharWidth(drawnChar);
                 drawShiftedChars(g, drawnChars, charOffset + pos, 1, positionX + pos * cellWidth + ((cellWidth - charWidth) / 2), positionY);
             }
             pos++;
@@ -1916,24 +2094,6 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         );
     }
 
-    private void buildUnprintableCharactersMapping() {
-        unprintableCharactersMapping = new HashMap<>();
-        // Unicode control characters, might not be supported by font
-        for (int i = 0; i < 32; i++) {
-            unprintableCharactersMapping.put((char) i, Character.toChars(9216 + i)[0]);
-        }
-        // Space -> Middle Dot
-        unprintableCharactersMapping.put(' ', Character.toChars(183)[0]);
-        // Tab -> Right-Pointing Double Angle Quotation Mark
-        unprintableCharactersMapping.put('\t', Character.toChars(187)[0]);
-        // Line Feed -> Currency Sign
-        unprintableCharactersMapping.put('\r', Character.toChars(164)[0]);
-        // Carriage Return -> Pilcrow Sign
-        unprintableCharactersMapping.put('\n', Character.toChars(182)[0]);
-        // Ideographic Space -> Degree Sign
-        unprintableCharactersMapping.put(Character.toChars(127)[0], Character.toChars(176)[0]);
-    }
-
     @Override
     public void updateScrollBars() {
         int characterWidth = metrics.getCharacterWidth();
@@ -2077,7 +2237,6 @@ public class ExtendedCodeAreaPainter implements CodeAreaPainter, ColorsProfileCa
         char[] headerCharsShifted;
         char[] rowCodeData;
         byte[] rowData;
-        char[] rowPositionCode;
         char[] rowCharacters;
         char[] rowCharactersShifted;
         byte[] unprintables;
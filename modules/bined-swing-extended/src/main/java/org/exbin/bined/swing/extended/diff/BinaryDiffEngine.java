@@ -0,0 +1,635 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.BinaryData;
+
+/**
+ * Engine for computing binary difference on background thread.
+ *
+ * Common prefix and suffix are skipped first. Remaining part of left data is
+ * split into blocks indexed by hash and right data is scanned with rolling
+ * hash to find matching blocks, which are extended to longest equal anchors
+ * in increasing order of both positions. Gaps between anchors are refined
+ * using Myers algorithm when they are small enough, otherwise they are
+ * reported as replaced.
+ *
+ * Data must not be modified while computation is running.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class BinaryDiffEngine {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1024 * 1024;
+    public static final int DEFAULT_MIN_BLOCK_SIZE = 32;
+    public static final int DEFAULT_MAX_BLOCKS = 1024 * 1024;
+    public static final int DEFAULT_REFINE_LIMIT = 16 * 1024;
+    public static final int DEFAULT_MAX_EDIT_DISTANCE = 1024;
+
+    private static final int HASH_MULTIPLIER = 0x01000193;
+    private static final int MAX_CHAIN_CANDIDATES = 256;
+
+    private final ExecutorService executor;
+    private final boolean ownExecutor;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+    private int minBlockSize = DEFAULT_MIN_BLOCK_SIZE;
+    private int maxBlocks = DEFAULT_MAX_BLOCKS;
+    private int refineLimit = DEFAULT_REFINE_LIMIT;
+    private int maxEditDistance = DEFAULT_MAX_EDIT_DISTANCE;
+
+    public BinaryDiffEngine() {
+        this(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "BinEd diff worker");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    public BinaryDiffEngine(ExecutorService executor) {
+        this(executor, false);
+    }
+
+    private BinaryDiffEngine(ExecutorService executor, boolean ownExecutor) {
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMinBlockSize() {
+        return minBlockSize;
+    }
+
+    /**
+     * Sets minimal size of matched block.
+     *
+     * Block size grows for large data so that count of blocks of left data
+     * does not exceed maximum blocks count.
+     *
+     * @param minBlockSize minimal block size
+     */
+    public void setMinBlockSize(int minBlockSize) {
+        if (minBlockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.minBlockSize = minBlockSize;
+    }
+
+    public int getMaxBlocks() {
+        return maxBlocks;
+    }
+
+    public void setMaxBlocks(int maxBlocks) {
+        if (maxBlocks <= 0) {
+            throw new IllegalArgumentException("Blocks count must be positive");
+        }
+        this.maxBlocks = maxBlocks;
+    }
+
+    public int getRefineLimit() {
+        return refineLimit;
+    }
+
+    /**
+     * Sets maximum sum of lengths of both sides of difference gap refined
+     * using Myers algorithm.
+     *
+     * @param refineLimit refine limit, 0 to disable refinement
+     */
+    public void setRefineLimit(int refineLimit) {
+        if (refineLimit < 0) {
+            throw new IllegalArgumentException("Refine limit must not be negative");
+        }
+        this.refineLimit = refineLimit;
+    }
+
+    public int getMaxEditDistance() {
+        return maxEditDistance;
+    }
+
+    /**
+     * Sets maximum count of inserted and deleted bytes of refined gap.
+     *
+     * Gaps with more edits are reported as replaced.
+     *
+     * @param maxEditDistance maximum edit distance
+     */
+    public void setMaxEditDistance(int maxEditDistance) {
+        if (maxEditDistance < 0) {
+            throw new IllegalArgumentException("Edit distance must not be negative");
+        }
+        this.maxEditDistance = maxEditDistance;
+    }
+
+    /**
+     * Starts computation of difference between two data.
+     *
+     * @param leftData left (original) data
+     * @param rightData right (modified) data
+     * @param listener diff listener
+     * @return diff task
+     */
+    @Nonnull
+    public BinaryDiffTask compare(BinaryData leftData, BinaryData rightData, BinaryDiffListener listener) {
+        BinaryDiffTask task = new BinaryDiffTask();
+        DiffComputation computation = new DiffComputation(leftData, rightData, task, listener);
+        task.setFuture(executor.submit(() -> {
+            BinaryDiffStatus status;
+            BinaryDiffResult result = null;
+            try {
+                result = computation.compute();
+                status = result == null ? BinaryDiffStatus.CANCELLED : BinaryDiffStatus.COMPLETED;
+            } catch (RuntimeException ex) {
+                Logger.getLogger(BinaryDiffEngine.class.getName()).log(Level.SEVERE, "Binary diff failed", ex);
+                task.setFailure(ex);
+                status = BinaryDiffStatus.FAILED;
+            }
+            task.setFinished(status, result);
+            listener.diffFinished(status, result);
+        }));
+        return task;
+    }
+
+    /**
+     * Disposes engine and stops its worker threads if executor was created by
+     * engine.
+     */
+    public void dispose() {
+        if (ownExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int blockHash(byte[] data, int offset, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = hash * HASH_MULTIPLIER + (data[offset + i] & 0xff);
+        }
+        return hash;
+    }
+
+    private static boolean regionEquals(byte[] data, int offset, byte[] compared, int comparedOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (data[offset + i] != compared[comparedOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Single difference computation with settings captured at start.
+     */
+    @ParametersAreNonnullByDefault
+    private final class DiffComputation {
+
+        private final BinaryData leftData;
+        private final BinaryData rightData;
+        private final BinaryDiffTask task;
+        private final BinaryDiffListener listener;
+        private final int bufferSize;
+        private final int minBlockSize;
+        private final int maxBlocks;
+        private final int refineLimit;
+        private final int maxEditDistance;
+
+        private final byte[] leftBuffer;
+        private final byte[] rightBuffer;
+        private final RangesBuilder ranges = new RangesBuilder();
+        private long totalBytes;
+
+        DiffComputation(BinaryData leftData, BinaryData rightData, BinaryDiffTask task, BinaryDiffListener listener) {
+            this.leftData = leftData;
+            this.rightData = rightData;
+            this.task = task;
+            this.listener = listener;
+            bufferSize = BinaryDiffEngine.this.bufferSize;
+            minBlockSize = BinaryDiffEngine.this.minBlockSize;
+            maxBlocks = BinaryDiffEngine.this.maxBlocks;
+            refineLimit = BinaryDiffEngine.this.refineLimit;
+            maxEditDistance = BinaryDiffEngine.this.maxEditDistance;
+            leftBuffer = new byte[bufferSize];
+            rightBuffer = new byte[bufferSize];
+        }
+
+        /**
+         * Computes difference.
+         *
+         * @return result or null if cancelled
+         */
+        @Nullable
+        BinaryDiffResult compute() {
+            long leftSize = leftData.getDataSize();
+            long rightSize = rightData.getDataSize();
+            totalBytes = leftSize + rightSize;
+            long commonLength = Math.min(leftSize, rightSize);
+
+            long prefix = matchForward(0, 0, commonLength);
+            if (prefix < 0) {
+                return null;
+            }
+            long suffix = matchBackward(leftSize, rightSize, commonLength - prefix);
+            if (suffix < 0) {
+                return null;
+            }
+            long processed = (prefix + suffix) * 2;
+            listener.progressChanged(processed, totalBytes);
+
+            ranges.addEqual(prefix);
+            if (!matchBlocks(prefix, leftSize - suffix, prefix, rightSize - suffix, processed)) {
+                return null;
+            }
+            ranges.addEqual(suffix);
+
+            listener.progressChanged(totalBytes, totalBytes);
+            return new BinaryDiffResult(ranges.build());
+        }
+
+        private boolean isCancelled() {
+            return task.isCancelled() || Thread.currentThread().isInterrupted();
+        }
+
+        /**
+         * Returns length of equal bytes starting at given positions.
+         *
+         * @return length or -1 if cancelled
+         */
+        private long matchForward(long leftPosition, long rightPosition, long maxLength) {
+            long length = 0;
+            while (length < maxLength) {
+                if (isCancelled()) {
+                    return -1;
+                }
+
+                int blockLength = (int) Math.min(bufferSize, maxLength - length);
+                leftData.copyToArray(leftPosition + length, leftBuffer, 0, blockLength);
+                rightData.copyToArray(rightPosition + length, rightBuffer, 0, blockLength);
+                for (int i = 0; i < blockLength; i++) {
+                    if (leftBuffer[i] != rightBuffer[i]) {
+                        return length + i;
+                    }
+                }
+                length += blockLength;
+            }
+            return length;
+        }
+
+        /**
+         * Returns length of equal bytes ending before given positions.
+         *
+         * @return length or -1 if cancelled
+         */
+        private long matchBackward(long leftEnd, long rightEnd, long maxLength) {
+            long length = 0;
+            while (length < maxLength) {
+                if (isCancelled()) {
+                    return -1;
+                }
+
+                int blockLength = (int) Math.min(bufferSize, maxLength - length);
+                leftData.copyToArray(leftEnd - length - blockLength, leftBuffer, 0, blockLength);
+                rightData.copyToArray(rightEnd - length - blockLength, rightBuffer, 0, blockLength);
+                for (int i = blockLength - 1; i >= 0; i--) {
+                    if (leftBuffer[i] != rightBuffer[i]) {
+                        return length + blockLength - 1 - i;
+                    }
+                }
+                length += blockLength;
+            }
+            return length;
+        }
+
+        /**
+         * Finds equal anchors using blocks of left data and fills ranges.
+         *
+         * @return false if cancelled
+         */
+        private boolean matchBlocks(long leftStart, long leftEnd, long rightStart, long rightEnd, long processed) {
+            long leftLength = leftEnd - leftStart;
+            long rightLength = rightEnd - rightStart;
+            int blockSize = (int) Math.max(minBlockSize, (leftLength + maxBlocks - 1) / maxBlocks);
+            if (leftLength + rightLength <= refineLimit || leftLength < blockSize || rightLength < blockSize || blockSize * 2L > bufferSize) {
+                return refineGap(leftStart, leftEnd, rightStart, rightEnd);
+            }
+
+            BlockIndex blockIndex = new BlockIndex(leftStart, leftLength, blockSize);
+            if (!blockIndex.build()) {
+                return false;
+            }
+            processed += leftLength;
+            listener.progressChanged(processed, totalBytes);
+
+            byte[] blockBuffer = new byte[blockSize];
+            int hashPower = 1;
+            for (int i = 1; i < blockSize; i++) {
+                hashPower *= HASH_MULTIPLIER;
+            }
+
+            long gapLeftStart = leftStart;
+            long gapRightStart = rightStart;
+            long scanPosition = rightStart;
+            while (scanPosition + blockSize <= rightEnd) {
+                if (isCancelled()) {
+                    return false;
+                }
+
+                int length = (int) Math.min(bufferSize, rightEnd - scanPosition);
+                rightData.copyToArray(scanPosition, rightBuffer, 0, length);
+                int hash = blockHash(rightBuffer, 0, blockSize);
+                int offset = 0;
+                long matchLeft;
+                while (true) {
+                    matchLeft = blockIndex.find(hash, rightBuffer, offset, gapLeftStart, blockBuffer);
+                    if (matchLeft >= 0 || offset + blockSize >= length) {
+                        break;
+                    }
+                    hash = (hash - (rightBuffer[offset] & 0xff) * hashPower) * HASH_MULTIPLIER + (rightBuffer[offset + blockSize] & 0xff);
+                    offset++;
+                }
+
+                if (matchLeft < 0) {
+                    scanPosition += offset + 1;
+                } else {
+                    long matchRight = scanPosition + offset;
+                    long backward = matchBackward(matchLeft, matchRight, Math.min(matchLeft - gapLeftStart, matchRight - gapRightStart));
+                    if (backward < 0) {
+                        return false;
+                    }
+                    long forward = matchForward(matchLeft + blockSize, matchRight + blockSize, Math.min(leftEnd - matchLeft, rightEnd - matchRight) - blockSize);
+                    if (forward < 0) {
+                        return false;
+                    }
+
+                    long anchorLeft = matchLeft - backward;
+                    long anchorRight = matchRight - backward;
+                    if (!refineGap(gapLeftStart, anchorLeft, gapRightStart, anchorRight)) {
+                        return false;
+                    }
+                    long anchorLength = backward + blockSize + forward;
+                    ranges.addEqual(anchorLength);
+                    gapLeftStart = anchorLeft + anchorLength;
+                    gapRightStart = anchorRight + anchorLength;
+                    scanPosition = gapRightStart;
+                }
+                listener.progressChanged(processed + scanPosition - rightStart, totalBytes);
+            }
+
+            return refineGap(gapLeftStart, leftEnd, gapRightStart, rightEnd);
+        }
+
+        /**
+         * Adds ranges for gap between anchors.
+         *
+         * @return false if cancelled
+         */
+        private boolean refineGap(long leftStart, long leftEnd, long rightStart, long rightEnd) {
+            long leftLength = leftEnd - leftStart;
+            long rightLength = rightEnd - rightStart;
+            if (leftLength == 0 || rightLength == 0 || leftLength + rightLength > refineLimit) {
+                ranges.addChange(leftLength, rightLength);
+                return true;
+            }
+            if (isCancelled()) {
+                return false;
+            }
+
+            byte[] left = new byte[(int) leftLength];
+            byte[] right = new byte[(int) rightLength];
+            leftData.copyToArray(leftStart, left, 0, left.length);
+            rightData.copyToArray(rightStart, right, 0, right.length);
+            if (!myersDiff(left, right)) {
+                ranges.addChange(leftLength, rightLength);
+            }
+            return true;
+        }
+
+        /**
+         * Adds ranges for shortest edit script of given arrays.
+         *
+         * @return false if edit distance exceeds limit
+         */
+        private boolean myersDiff(byte[] left, byte[] right) {
+            int leftLength = left.length;
+            int rightLength = right.length;
+            int maxDistance = Math.min(leftLength + rightLength, maxEditDistance);
+            int offset = maxDistance + 1;
+            int[] furthest = new int[2 * maxDistance + 3];
+            int[][] trace = new int[maxDistance + 1][];
+            int distance = -1;
+            for (int d = 0; d <= maxDistance && distance < 0; d++) {
+                for (int k = -d; k <= d; k += 2) {
+                    int x = (k == -d || (k != d && furthest[offset + k - 1] < furthest[offset + k + 1])) ? furthest[offset + k + 1] : furthest[offset + k - 1] + 1;
+                    int y = x - k;
+                    while (x < leftLength && y < rightLength && left[x] == right[y]) {
+                        x++;
+                        y++;
+                    }
+                    furthest[offset + k] = x;
+                    if (x >= leftLength && y >= rightLength) {
+                        distance = d;
+                    }
+                }
+                trace[d] = Arrays.copyOfRange(furthest, offset - d, offset + d + 1);
+            }
+            if (distance < 0) {
+                return false;
+            }
+
+            // Backtrack edit operations from the end, stored as triples of equal, deleted and inserted lengths
+            int[] operations = new int[(distance + 1) * 3];
+            int operationsCount = 0;
+            int x = leftLength;
+            int y = rightLength;
+            for (int d = distance; d > 0; d--) {
+                int k = x - y;
+                int[] previous = trace[d - 1];
+                boolean down = k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1]);
+                int previousK = down ? k + 1 : k - 1;
+                int previousX = previous[previousK + d - 1];
+                int previousY = previousX - previousK;
+                int snakeStartX = down ? previousX : previousX + 1;
+                operations[operationsCount++] = x - snakeStartX;
+                operations[operationsCount++] = down ? 0 : 1;
+                operations[operationsCount++] = down ? 1 : 0;
+                x = previousX;
+                y = previousY;
+            }
+            ranges.addEqual(x);
+            for (int i = operationsCount - 3; i >= 0; i -= 3) {
+                ranges.addChange(operations[i + 1], operations[i + 2]);
+                ranges.addEqual(operations[i]);
+            }
+            return true;
+        }
+
+        /**
+         * Hash index of blocks of left data.
+         */
+        @ParametersAreNonnullByDefault
+        private final class BlockIndex {
+
+            private final long startPosition;
+            private final int blockSize;
+            private final int blocksCount;
+            private final int[] hashes;
+            private final int[] heads;
+            private final int[] next;
+            private final int mask;
+
+            BlockIndex(long startPosition, long length, int blockSize) {
+                this.startPosition = startPosition;
+                this.blockSize = blockSize;
+                blocksCount = (int) (length / blockSize);
+                hashes = new int[blocksCount];
+                next = new int[blocksCount];
+                int tableSize = Integer.highestOneBit(Math.max(blocksCount, 1)) << 1;
+                heads = new int[tableSize];
+                mask = tableSize - 1;
+            }
+
+            /**
+             * Computes hashes of all blocks.
+             *
+             * @return false if cancelled
+             */
+            boolean build() {
+                int blocksPerBuffer = bufferSize / blockSize;
+                for (int block = 0; block < blocksCount; block += blocksPerBuffer) {
+                    if (isCancelled()) {
+                        return false;
+                    }
+
+                    int count = Math.min(blocksPerBuffer, blocksCount - block);
+                    leftData.copyToArray(startPosition + (long) block * blockSize, leftBuffer, 0, count * blockSize);
+                    for (int i = 0; i < count; i++) {
+                        hashes[block + i] = blockHash(leftBuffer, i * blockSize, blockSize);
+                    }
+                }
+
+                // Chains are built from the end so that they are ordered by position
+                Arrays.fill(heads, -1);
+                for (int block = blocksCount - 1; block >= 0; block--) {
+                    int slot = hashes[block] & mask;
+                    next[block] = heads[slot];
+                    heads[slot] = block;
+                }
+                return true;
+            }
+
+            /**
+             * Finds first block with given content starting at or after given
+             * position.
+             *
+             * @return block position or -1 if not found
+             */
+            long find(int hash, byte[] data, int offset, long minPosition, byte[] blockBuffer) {
+                int block = heads[hash & mask];
+                int candidates = 0;
+                while (block >= 0 && candidates < MAX_CHAIN_CANDIDATES) {
+                    long position = startPosition + (long) block * blockSize;
+                    if (hashes[block] == hash && position >= minPosition) {
+                        leftData.copyToArray(position, blockBuffer, 0, blockSize);
+                        if (regionEquals(blockBuffer, 0, data, offset, blockSize)) {
+                            return position;
+                        }
+                    }
+                    candidates++;
+                    block = next[block];
+                }
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Builder of continuous ranges merging adjacent changes.
+     */
+    @ParametersAreNonnullByDefault
+    private static final class RangesBuilder {
+
+        private final List<BinaryDiffRange> ranges = new ArrayList<>();
+        private long leftPosition = 0;
+        private long rightPosition = 0;
+        private long equalLength = 0;
+        private long deletedLength = 0;
+        private long insertedLength = 0;
+
+        void addEqual(long length) {
+            if (length == 0) {
+                return;
+            }
+            flushChange();
+            equalLength += length;
+        }
+
+        void addChange(long leftLength, long rightLength) {
+            if (leftLength == 0 && rightLength == 0) {
+                return;
+            }
+            flushEqual();
+            deletedLength += leftLength;
+            insertedLength += rightLength;
+        }
+
+        @Nonnull
+        List<BinaryDiffRange> build() {
+            flushEqual();
+            flushChange();
+            return ranges;
+        }
+
+        private void flushEqual() {
+            if (equalLength > 0) {
+                ranges.add(new BinaryDiffRange(BinaryDiffType.EQUAL, leftPosition, equalLength, rightPosition, equalLength));
+                leftPosition += equalLength;
+                rightPosition += equalLength;
+                equalLength = 0;
+            }
+        }
+
+        private void flushChange() {
+            if (deletedLength > 0 || insertedLength > 0) {
+                BinaryDiffType type = deletedLength == 0 ? BinaryDiffType.INSERT : (insertedLength == 0 ? BinaryDiffType.DELETE : BinaryDiffType.REPLACE);
+                ranges.add(new BinaryDiffRange(type, leftPosition, deletedLength, rightPosition, insertedLength));
+                leftPosition += deletedLength;
+                rightPosition += insertedLength;
+                deletedLength = 0;
+                insertedLength = 0;
+            }
+        }
+    }
+}
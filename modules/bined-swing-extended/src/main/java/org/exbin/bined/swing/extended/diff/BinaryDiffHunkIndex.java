@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Index of difference hunks for fast navigation and painting.
+ *
+ * Hunks are all ranges of diff result other than equal ones. Positions of
+ * hunks are stored in sorted arrays for both sides and queried using binary
+ * search. Empty hunks (inserted or deleted on the opposite side only) are
+ * considered to cover single position at their start.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+@Immutable
+public final class BinaryDiffHunkIndex {
+
+    @Nonnull
+    private final BinaryDiffResult diffResult;
+    @Nonnull
+    private final BinaryDiffRange[] hunks;
+    private final long[] leftStarts;
+    private final long[] leftEnds;
+    private final long[] rightStarts;
+    private final long[] rightEnds;
+
+    public BinaryDiffHunkIndex(BinaryDiffResult diffResult) {
+        this.diffResult = diffResult;
+        List<BinaryDiffRange> changes = new ArrayList<>();
+        for (BinaryDiffRange range : diffResult.getRanges()) {
+            if (range.getType() != BinaryDiffType.EQUAL) {
+                changes.add(range);
+            }
+        }
+        hunks = changes.toArray(new BinaryDiffRange[changes.size()]);
+        leftStarts = new long[hunks.length];
+        leftEnds = new long[hunks.length];
+        rightStarts = new long[hunks.length];
+        rightEnds = new long[hunks.length];
+        for (int i = 0; i < hunks.length; i++) {
+            BinaryDiffRange hunk = hunks[i];
+            leftStarts[i] = hunk.getLeftStart();
+            leftEnds[i] = hunk.getLeftStart() + Math.max(hunk.getLeftLength(), 1);
+            rightStarts[i] = hunk.getRightStart();
+            rightEnds[i] = hunk.getRightStart() + Math.max(hunk.getRightLength(), 1);
+        }
+    }
+
+    @Nonnull
+    public BinaryDiffResult getDiffResult() {
+        return diffResult;
+    }
+
+    public int getHunksCount() {
+        return hunks.length;
+    }
+
+    @Nonnull
+    public BinaryDiffRange getHunk(int index) {
+        return hunks[index];
+    }
+
+    /**
+     * Returns index of the first hunk starting after given position.
+     *
+     * @param side data side
+     * @param position data position
+     * @return hunk index or -1 if there is no such hunk
+     */
+    public int findNextHunk(BinaryDiffSide side, long position) {
+        int index = firstGreater(side == BinaryDiffSide.LEFT ? leftStarts : rightStarts, position);
+        return index < hunks.length ? index : -1;
+    }
+
+    /**
+     * Returns index of the last hunk starting before given position.
+     *
+     * @param side data side
+     * @param position data position
+     * @return hunk index or -1 if there is no such hunk
+     */
+    public int findPreviousHunk(BinaryDiffSide side, long position) {
+        return firstGreater(side == BinaryDiffSide.LEFT ? leftStarts : rightStarts, position - 1) - 1;
+    }
+
+    /**
+     * Returns index of the first hunk ending after given position.
+     *
+     * Hunks from this index to the index returned by
+     * {@link #findOverlappingEnd(BinaryDiffSide, long)} overlap the range.
+     *
+     * @param side data side
+     * @param startPosition start position of range
+     * @return hunk index, equal to hunks count if there is no such hunk
+     */
+    public int findOverlappingStart(BinaryDiffSide side, long startPosition) {
+        return firstGreater(side == BinaryDiffSide.LEFT ? leftEnds : rightEnds, startPosition);
+    }
+
+    /**
+     * Returns index after the last hunk starting before given position.
+     *
+     * @param side data side
+     * @param endPosition end position of range exclusive
+     * @return hunk index exclusive
+     */
+    public int findOverlappingEnd(BinaryDiffSide side, long endPosition) {
+        return firstGreater(side == BinaryDiffSide.LEFT ? leftStarts : rightStarts, endPosition - 1);
+    }
+
+    /**
+     * Returns index of the hunk containing given position.
+     *
+     * @param side data side
+     * @param position data position
+     * @return hunk index or -1 if position is not in any hunk
+     */
+    public int findHunk(BinaryDiffSide side, long position) {
+        int index = findOverlappingStart(side, position);
+        if (index < hunks.length && (side == BinaryDiffSide.LEFT ? leftStarts : rightStarts)[index] <= position) {
+            return index;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns index of the first value greater than given value.
+     */
+    private static int firstGreater(long[] values, long value) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] > value) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
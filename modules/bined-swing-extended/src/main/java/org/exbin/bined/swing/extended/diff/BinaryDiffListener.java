@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Listener for binary difference computation progress.
+ *
+ * Methods are called from diff worker thread.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public interface BinaryDiffListener {
+
+    /**
+     * Reports progress of the computation.
+     *
+     * @param processedBytes count of already processed bytes
+     * @param totalBytes total count of bytes of both data
+     */
+    void progressChanged(long processedBytes, long totalBytes);
+
+    /**
+     * Reports end of the computation.
+     *
+     * @param status final status
+     * @param result difference result or null if not completed
+     */
+    void diffFinished(BinaryDiffStatus status, @Nullable BinaryDiffResult result);
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Range of binary difference.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+@Immutable
+public final class BinaryDiffRange {
+
+    @Nonnull
+    private final BinaryDiffType type;
+    private final long leftStart;
+    private final long leftLength;
+    private final long rightStart;
+    private final long rightLength;
+
+    public BinaryDiffRange(BinaryDiffType type, long leftStart, long leftLength, long rightStart, long rightLength) {
+        this.type = type;
+        this.leftStart = leftStart;
+        this.leftLength = leftLength;
+        this.rightStart = rightStart;
+        this.rightLength = rightLength;
+    }
+
+    @Nonnull
+    public BinaryDiffType getType() {
+        return type;
+    }
+
+    public long getLeftStart() {
+        return leftStart;
+    }
+
+    public long getLeftLength() {
+        return leftLength;
+    }
+
+    public long getRightStart() {
+        return rightStart;
+    }
+
+    public long getRightLength() {
+        return rightLength;
+    }
+
+    public long getStart(BinaryDiffSide side) {
+        return side == BinaryDiffSide.LEFT ? leftStart : rightStart;
+    }
+
+    public long getLength(BinaryDiffSide side) {
+        return side == BinaryDiffSide.LEFT ? leftLength : rightLength;
+    }
+
+    @Nonnull
+    @Override
+    public String toString() {
+        return type.name() + " [" + leftStart + "+" + leftLength + ", " + rightStart + "+" + rightLength + "]";
+    }
+}
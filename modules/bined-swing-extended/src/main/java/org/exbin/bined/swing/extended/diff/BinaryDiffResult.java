@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Result of binary difference.
+ *
+ * Ranges are ordered and cover both left and right data without gaps.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+@Immutable
+public final class BinaryDiffResult {
+
+    @Nonnull
+    private final List<BinaryDiffRange> ranges;
+    private final long[] leftStarts;
+    private final long[] rightStarts;
+    private final long leftSize;
+    private final long rightSize;
+
+    public BinaryDiffResult(List<BinaryDiffRange> ranges) {
+        BinaryDiffRange[] rangesArray = ranges.toArray(new BinaryDiffRange[ranges.size()]);
+        this.ranges = Collections.unmodifiableList(Arrays.asList(rangesArray));
+        leftStarts = new long[rangesArray.length];
+        rightStarts = new long[rangesArray.length];
+        long leftPosition = 0;
+        long rightPosition = 0;
+        for (int i = 0; i < rangesArray.length; i++) {
+            BinaryDiffRange range = rangesArray[i];
+            if (range.getLeftStart() != leftPosition || range.getRightStart() != rightPosition) {
+                throw new IllegalArgumentException("Ranges must be continuous: " + range);
+            }
+            leftStarts[i] = leftPosition;
+            rightStarts[i] = rightPosition;
+            leftPosition += range.getLeftLength();
+            rightPosition += range.getRightLength();
+        }
+        leftSize = leftPosition;
+        rightSize = rightPosition;
+    }
+
+    @Nonnull
+    public List<BinaryDiffRange> getRanges() {
+        return ranges;
+    }
+
+    public long getSize(BinaryDiffSide side) {
+        return side == BinaryDiffSide.LEFT ? leftSize : rightSize;
+    }
+
+    /**
+     * Returns true if both data are equal.
+     *
+     * @return true if there is no difference
+     */
+    public boolean isEqual() {
+        for (BinaryDiffRange range : ranges) {
+            if (range.getType() != BinaryDiffType.EQUAL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns index of range containing given position of given side.
+     *
+     * @param side data side
+     * @param position data position
+     * @return range index or -1 if position is outside of data
+     */
+    public int findRangeIndex(BinaryDiffSide side, long position) {
+        if (position < 0 || position >= getSize(side)) {
+            return -1;
+        }
+
+        // Last range starting at or before position, empty ranges are always followed by range with the same start
+        int index = Arrays.binarySearch(side == BinaryDiffSide.LEFT ? leftStarts : rightStarts, position);
+        if (index < 0) {
+            return -index - 2;
+        }
+        long[] starts = side == BinaryDiffSide.LEFT ? leftStarts : rightStarts;
+        while (index + 1 < starts.length && starts[index + 1] == position) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns type of difference for given position of given side.
+     *
+     * @param side data side
+     * @param position data position
+     * @return difference type or null if position is outside of data
+     */
+    @Nullable
+    public BinaryDiffType getType(BinaryDiffSide side, long position) {
+        int index = findRangeIndex(side, position);
+        return index < 0 ? null : ranges.get(index).getType();
+    }
+
+    /**
+     * Maps position of given side to corresponding position of the opposite
+     * side.
+     *
+     * Positions in changed ranges are mapped to the same offset in
+     * corresponding range limited by its length.
+     *
+     * @param side data side of position
+     * @param position data position
+     * @return position in opposite side data
+     */
+    public long mapPosition(BinaryDiffSide side, long position) {
+        BinaryDiffSide targetSide = side.getOpposite();
+        if (position <= 0) {
+            return 0;
+        }
+        int index = findRangeIndex(side, position);
+        if (index < 0) {
+            return getSize(targetSide);
+        }
+
+        BinaryDiffRange range = ranges.get(index);
+        long offset = position - range.getStart(side);
+        long targetLength = range.getLength(targetSide);
+        return range.getStart(targetSide) + (range.getType() == BinaryDiffType.EQUAL ? offset : Math.min(offset, targetLength));
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Side of binary difference.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public enum BinaryDiffSide {
+    LEFT, RIGHT;
+
+    /**
+     * Returns the other side.
+     *
+     * @return opposite side
+     */
+    @Nonnull
+    public BinaryDiffSide getOpposite() {
+        return this == LEFT ? RIGHT : LEFT;
+    }
+}
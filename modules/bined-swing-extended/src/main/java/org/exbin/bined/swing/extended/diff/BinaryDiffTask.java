@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Handle of running binary difference computation.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class BinaryDiffTask {
+
+    private volatile boolean cancelled = false;
+    @Nullable
+    private volatile BinaryDiffStatus status = null;
+    @Nullable
+    private volatile BinaryDiffResult result = null;
+    @Nullable
+    private volatile Future<?> future;
+    @Nullable
+    private volatile Throwable failure = null;
+
+    BinaryDiffTask() {
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    void setFinished(BinaryDiffStatus status, @Nullable BinaryDiffResult result) {
+        this.result = result;
+        this.status = status;
+    }
+
+    void setFailure(Throwable failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Requests cancellation of the computation.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isDone() {
+        return status != null;
+    }
+
+    /**
+     * Returns final status or null if computation is still running.
+     *
+     * @return status
+     */
+    @Nullable
+    public BinaryDiffStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns difference result or null if computation is running or was not
+     * completed.
+     *
+     * @return result
+     */
+    @Nullable
+    public BinaryDiffResult getResult() {
+        return result;
+    }
+
+    /**
+     * Returns exception which caused computation to fail.
+     *
+     * @return exception or null if computation did not fail
+     */
+    @Nullable
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Waits for the computation to finish.
+     *
+     * @return final status
+     * @throws InterruptedException if current thread was interrupted
+     */
+    @Nullable
+    public BinaryDiffStatus waitFinished() throws InterruptedException {
+        if (future != null) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                // Failure is reported as status
+            }
+        }
+        return status;
+    }
+}
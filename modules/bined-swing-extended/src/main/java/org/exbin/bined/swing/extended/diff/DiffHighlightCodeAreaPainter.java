@@ -20,32 +20,63 @@ import java.awt.Graphics;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import javax.swing.SwingUtilities;
+import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.bined.CodeAreaSection;
 import org.exbin.bined.swing.CodeAreaCore;
 import org.exbin.bined.swing.extended.ExtendedCodeAreaPainter;
-import org.exbin.auxiliary.paged_data.BinaryData;
 
 /**
- * Highlighting painter for basic binary diff.
+ * Highlighting painter for binary diff.
+ *
+ * Differences are looked up in hunk index of precomputed diff result, which
+ * can be shared by painters of both sides.
  *
- * @version 0.2.0 2019/11/29
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
 public class DiffHighlightCodeAreaPainter extends ExtendedCodeAreaPainter {
 
-    private BinaryData comparedData;
+    @Nullable
+    private BinaryDiffHunkIndex hunkIndex;
+    @Nonnull
+    private BinaryDiffSide side = BinaryDiffSide.LEFT;
+    private int lastHunkIndex = -1;
     private Color diffColor;
     private Color addedColor;
 
+    @Nullable
+    private static BinaryDiffEngine comparedDataEngine = null;
+    @Nullable
+    private BinaryDiffTask comparedDataTask = null;
+
     public DiffHighlightCodeAreaPainter(CodeAreaCore codeArea) {
-        this(codeArea, null);
+        this(codeArea, null, BinaryDiffSide.LEFT);
     }
 
+    /**
+     * Creates painter highlighting differences to given data.
+     *
+     * @param codeArea code area
+     * @param comparedData compared data or null
+     * @deprecated use {@link #DiffHighlightCodeAreaPainter(org.exbin.bined.swing.CodeAreaCore, org.exbin.bined.swing.extended.diff.BinaryDiffHunkIndex, org.exbin.bined.swing.extended.diff.BinaryDiffSide)}
+     * with result of {@link BinaryDiffEngine}, see
+     * {@link #setComparedData(org.exbin.auxiliary.paged_data.BinaryData)}
+     */
+    @Deprecated
     public DiffHighlightCodeAreaPainter(CodeAreaCore codeArea, @Nullable BinaryData comparedData) {
+        this(codeArea, null, BinaryDiffSide.LEFT);
+        if (comparedData != null) {
+            setComparedData(comparedData);
+        }
+    }
+
+    public DiffHighlightCodeAreaPainter(CodeAreaCore codeArea, @Nullable BinaryDiffHunkIndex hunkIndex, BinaryDiffSide side) {
         super(codeArea);
 
-        this.comparedData = comparedData;
+        this.hunkIndex = hunkIndex;
+        this.side = side;
         diffColor = new Color(255, 180, 180);
         addedColor = new Color(180, 255, 180);
     }
@@ -58,29 +89,124 @@ public class DiffHighlightCodeAreaPainter extends ExtendedCodeAreaPainter {
     @Nullable
     @Override
     public Color getPositionTextColor(long rowDataPosition, int byteOnRow, int charOnRow, CodeAreaSection section, boolean unprintables) {
-        long position = rowDataPosition + byteOnRow;
-        if (comparedData != null && position >= comparedData.getDataSize()) {
-            return addedColor;
+        BinaryDiffType diffType = getDiffType(rowDataPosition + byteOnRow);
+        if (diffType != null) {
+            switch (diffType) {
+                case REPLACE:
+                    return diffColor;
+                case INSERT:
+                case DELETE:
+                    return addedColor;
+                default:
+                    break;
+            }
         }
 
-        if (comparedData != null && position < codeArea.getDataSize() && position < comparedData.getDataSize()) {
-            byte sourceByte = codeArea.getContentData().getByte(position);
-            byte comparedByte = comparedData.getByte(position);
+        return super.getPositionTextColor(rowDataPosition, byteOnRow, charOnRow, section, unprintables);
+    }
+
+    @Nullable
+    private BinaryDiffType getDiffType(long position) {
+        if (hunkIndex == null) {
+            return null;
+        }
 
-            if (sourceByte != comparedByte) {
-                return diffColor;
+        // Positions are mostly requested in increasing order
+        if (lastHunkIndex < 0 || !isInHunk(lastHunkIndex, position)) {
+            lastHunkIndex = hunkIndex.findHunk(side, position);
+            if (lastHunkIndex < 0 || !isInHunk(lastHunkIndex, position)) {
+                return null;
             }
         }
 
-        return super.getPositionTextColor(rowDataPosition, byteOnRow, charOnRow, section, unprintables);
+        return hunkIndex.getHunk(lastHunkIndex).getType();
     }
 
-    public void setComparedData(BinaryData comparedData) {
-        this.comparedData = comparedData;
+    private boolean isInHunk(int index, long position) {
+        BinaryDiffRange hunk = hunkIndex.getHunk(index);
+        long offset = position - hunk.getStart(side);
+        return offset >= 0 && offset < hunk.getLength(side);
+    }
+
+    @Nullable
+    public BinaryDiffHunkIndex getHunkIndex() {
+        return hunkIndex;
+    }
+
+    @Nonnull
+    public BinaryDiffSide getSide() {
+        return side;
+    }
+
+    /**
+     * Sets difference hunk index to highlight.
+     *
+     * @param hunkIndex hunk index or null for no highlighting
+     * @param side side of this painter's data in diff result
+     */
+    public void setHunkIndex(@Nullable BinaryDiffHunkIndex hunkIndex, BinaryDiffSide side) {
+        this.hunkIndex = hunkIndex;
+        this.side = side;
+        lastHunkIndex = -1;
         // Force repaint
         codeArea.notifyDataChanged();
     }
 
+    /**
+     * Starts computation of difference between content of the code area and
+     * given data and highlights its result once finished.
+     *
+     * Data of code area is compared as left side at the time of the call, so
+     * this method has to be called again after content of the code area is
+     * replaced.
+     *
+     * @param comparedData compared data
+     * @deprecated compute difference using {@link BinaryDiffEngine} and use
+     * {@link #setHunkIndex(org.exbin.bined.swing.extended.diff.BinaryDiffHunkIndex, org.exbin.bined.swing.extended.diff.BinaryDiffSide)}
+     */
+    @Deprecated
+    public void setComparedData(BinaryData comparedData) {
+        if (comparedDataTask != null) {
+            comparedDataTask.cancel();
+            comparedDataTask = null;
+        }
+
+        BinaryData contentData = codeArea.getContentData();
+        if (contentData == null) {
+            setHunkIndex(null, BinaryDiffSide.LEFT);
+            return;
+        }
+
+        BinaryDiffTask[] task = new BinaryDiffTask[1];
+        task[0] = getComparedDataEngine().compare(contentData, comparedData, new BinaryDiffListener() {
+            @Override
+            public void progressChanged(long processedBytes, long totalBytes) {
+            }
+
+            @Override
+            public void diffFinished(BinaryDiffStatus status, @Nullable BinaryDiffResult result) {
+                if (result != null) {
+                    BinaryDiffHunkIndex resultIndex = new BinaryDiffHunkIndex(result);
+                    SwingUtilities.invokeLater(() -> {
+                        if (comparedDataTask == task[0]) {
+                            comparedDataTask = null;
+                            setHunkIndex(resultIndex, BinaryDiffSide.LEFT);
+                        }
+                    });
+                }
+            }
+        });
+        comparedDataTask = task[0];
+    }
+
+    @Nonnull
+    private static synchronized BinaryDiffEngine getComparedDataEngine() {
+        if (comparedDataEngine == null) {
+            comparedDataEngine = new BinaryDiffEngine();
+        }
+        return comparedDataEngine;
+    }
+
     @Nonnull
     public Color getDiffColor() {
         return diffColor;
@@ -89,4 +215,13 @@ public class DiffHighlightCodeAreaPainter extends ExtendedCodeAreaPainter {
     public void setDiffColor(Color diffColor) {
         this.diffColor = diffColor;
     }
+
+    @Nonnull
+    public Color getAddedColor() {
+        return addedColor;
+    }
+
+    public void setAddedColor(Color addedColor) {
+        this.addedColor = addedColor;
+    }
 }
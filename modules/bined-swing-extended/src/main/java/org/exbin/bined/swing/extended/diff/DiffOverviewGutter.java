@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.swing.JComponent;
+
+/**
+ * Overview gutter of differences in whole data.
+ *
+ * Left and right data are shown in two columns scaled to component height.
+ * Each painted row queries overlapping hunks in hunk index, so data is not
+ * scanned.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class DiffOverviewGutter extends JComponent {
+
+    private static final int DEFAULT_WIDTH = 12;
+
+    @Nullable
+    private BinaryDiffHunkIndex hunkIndex;
+    private Color diffColor = new Color(255, 180, 180);
+    private Color addedColor = new Color(180, 255, 180);
+
+    public DiffOverviewGutter() {
+        setPreferredSize(new Dimension(DEFAULT_WIDTH, 0));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        if (hunkIndex == null || hunkIndex.getHunksCount() == 0) {
+            return;
+        }
+
+        int columnWidth = getWidth() / 2;
+        paintSide(g, hunkIndex, BinaryDiffSide.LEFT, 0, columnWidth, clip);
+        paintSide(g, hunkIndex, BinaryDiffSide.RIGHT, columnWidth, getWidth() - columnWidth, clip);
+    }
+
+    private void paintSide(Graphics g, BinaryDiffHunkIndex index, BinaryDiffSide side, int positionX, int width, Rectangle clip) {
+        int height = getHeight();
+        long dataSize = index.getDiffResult().getSize(side);
+        if (height <= 0 || dataSize == 0) {
+            return;
+        }
+
+        int endY = Math.min(height, clip.y + clip.height);
+        for (int y = Math.max(0, clip.y); y < endY; y++) {
+            long startPosition = (long) ((double) y * dataSize / height);
+            long endPosition = Math.max((long) ((double) (y + 1) * dataSize / height), startPosition + 1);
+            int hunk = index.findOverlappingStart(side, startPosition);
+            if (hunk < index.findOverlappingEnd(side, endPosition)) {
+                g.setColor(index.getHunk(hunk).getType() == BinaryDiffType.REPLACE ? diffColor : addedColor);
+                g.fillRect(positionX, y, width, 1);
+            }
+        }
+    }
+
+    @Nullable
+    public BinaryDiffHunkIndex getHunkIndex() {
+        return hunkIndex;
+    }
+
+    public void setHunkIndex(@Nullable BinaryDiffHunkIndex hunkIndex) {
+        this.hunkIndex = hunkIndex;
+        repaint();
+    }
+
+    @Nonnull
+    public Color getDiffColor() {
+        return diffColor;
+    }
+
+    public void setDiffColor(Color diffColor) {
+        this.diffColor = diffColor;
+        repaint();
+    }
+
+    @Nonnull
+    public Color getAddedColor() {
+        return addedColor;
+    }
+
+    public void setAddedColor(Color addedColor) {
+        this.addedColor = addedColor;
+        repaint();
+    }
+}
@@ -17,16 +17,22 @@ package org.exbin.bined.swing.extended.diff;
 
 import java.awt.BorderLayout;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import javax.swing.SwingUtilities;
 import org.exbin.bined.EditationMode;
 import org.exbin.bined.basic.CodeAreaScrollPosition;
 import org.exbin.bined.swing.extended.ExtCodeArea;
+import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.auxiliary.paged_data.ByteArrayData;
 
 /**
  * Panel for difference comparision of two code areas.
  *
- * @version 0.2.0 2019/11/30
+ * Difference is computed on background thread and scrolling of both code
+ * areas is synchronized using its alignment.
+ *
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -38,13 +44,23 @@ public class ExtCodeAreaDiffPanel extends javax.swing.JPanel {
     private final DiffHighlightCodeAreaPainter rightPainter;
     private volatile boolean updatingScrolling = false;
 
+    private final BinaryDiffEngine diffEngine = new BinaryDiffEngine();
+    @Nullable
+    private BinaryDiffTask diffTask = null;
+    private volatile int diffGeneration = 0;
+    @Nullable
+    private BinaryDiffHunkIndex hunkIndex = null;
+    private final DiffOverviewGutter overviewGutter = new DiffOverviewGutter();
+    @Nullable
+    private volatile BinaryDiffListener diffListener = null;
+
     public ExtCodeAreaDiffPanel() {
         initComponents();
 
         leftCodeArea = new ExtCodeArea();
         rightCodeArea = new ExtCodeArea();
-        leftPainter = new DiffHighlightCodeAreaPainter(leftCodeArea);
-        rightPainter = new DiffHighlightCodeAreaPainter(rightCodeArea);
+        leftPainter = new DiffHighlightCodeAreaPainter(leftCodeArea, null, BinaryDiffSide.LEFT);
+        rightPainter = new DiffHighlightCodeAreaPainter(rightCodeArea, null, BinaryDiffSide.RIGHT);
         init();
     }
 
@@ -55,17 +71,12 @@ public class ExtCodeAreaDiffPanel extends javax.swing.JPanel {
         rightCodeArea.setPainter(rightPainter);
         leftPanel.add(leftCodeArea, BorderLayout.CENTER);
         rightPanel.add(rightCodeArea, BorderLayout.CENTER);
+        add(overviewGutter, BorderLayout.EAST);
 
         leftCodeArea.addScrollingListener(() -> {
             if (!updatingScrolling) {
                 updatingScrolling = true;
-                CodeAreaScrollPosition scrollPosition = leftCodeArea.getScrollPosition();
-                long maxRowPosition = rightCodeArea.getDataSize() / rightCodeArea.getMaxBytesPerRow();
-                if (scrollPosition.getRowPosition() > maxRowPosition) {
-                    scrollPosition.setRowPosition(maxRowPosition);
-                }
-                rightCodeArea.setScrollPosition(scrollPosition);
-                rightCodeArea.updateScrollBars();
+                synchronizeScrolling(leftCodeArea, leftPainter, rightCodeArea, rightPainter);
                 updatingScrolling = false;
             }
         });
@@ -73,18 +84,29 @@ public class ExtCodeAreaDiffPanel extends javax.swing.JPanel {
         rightCodeArea.addScrollingListener(() -> {
             if (!updatingScrolling) {
                 updatingScrolling = true;
-                CodeAreaScrollPosition scrollPosition = rightCodeArea.getScrollPosition();
-                long maxRowPosition = leftCodeArea.getDataSize() / leftCodeArea.getMaxBytesPerRow();
-                if (scrollPosition.getRowPosition() > maxRowPosition) {
-                    scrollPosition.setRowPosition(maxRowPosition);
-                }
-                leftCodeArea.setScrollPosition(scrollPosition);
-                leftCodeArea.updateScrollBars();
+                synchronizeScrolling(rightCodeArea, rightPainter, leftCodeArea, leftPainter);
                 updatingScrolling = false;
             }
         });
     }
 
+    private void synchronizeScrolling(ExtCodeArea sourceCodeArea, DiffHighlightCodeAreaPainter sourcePainter, ExtCodeArea targetCodeArea, DiffHighlightCodeAreaPainter targetPainter) {
+        CodeAreaScrollPosition scrollPosition = new CodeAreaScrollPosition();
+        scrollPosition.setScrollPosition(sourceCodeArea.getScrollPosition());
+        if (hunkIndex != null) {
+            int sourceBytesPerRow = Math.max(sourcePainter.getBytesPerRow(), 1);
+            int targetBytesPerRow = Math.max(targetPainter.getBytesPerRow(), 1);
+            long targetPosition = hunkIndex.getDiffResult().mapPosition(sourcePainter.getSide(), scrollPosition.getRowPosition() * sourceBytesPerRow);
+            scrollPosition.setRowPosition(targetPosition / targetBytesPerRow);
+        }
+        long maxRowPosition = targetCodeArea.getDataSize() / targetCodeArea.getMaxBytesPerRow();
+        if (scrollPosition.getRowPosition() > maxRowPosition) {
+            scrollPosition.setRowPosition(maxRowPosition);
+        }
+        targetCodeArea.setScrollPosition(scrollPosition);
+        targetCodeArea.updateScrollBars();
+    }
+
     /**
      * This method is called from within the constructor to initialize the form.
      * WARNING: Do NOT modify this code. The content of this method is always
@@ -131,11 +153,165 @@ public class ExtCodeAreaDiffPanel extends javax.swing.JPanel {
 
     public void setLeftContentData(ByteArrayData contentData) {
         leftCodeArea.setContentData(contentData);
-        rightPainter.setComparedData(contentData);
+        updateDiff();
     }
 
     public void setRightContentData(ByteArrayData contentData) {
         rightCodeArea.setContentData(contentData);
-        leftPainter.setComparedData(contentData);
+        updateDiff();
+    }
+
+    /**
+     * Returns last computed difference result.
+     *
+     * @return diff result or null if not yet computed
+     */
+    @Nullable
+    public BinaryDiffResult getDiffResult() {
+        return hunkIndex == null ? null : hunkIndex.getDiffResult();
+    }
+
+    /**
+     * Returns index of difference hunks shared by both painters.
+     *
+     * @return hunk index or null if difference is not yet computed
+     */
+    @Nullable
+    public BinaryDiffHunkIndex getHunkIndex() {
+        return hunkIndex;
+    }
+
+    /**
+     * Returns count of differences.
+     *
+     * @return count of difference hunks, 0 if not yet computed
+     */
+    public int getDifferencesCount() {
+        return hunkIndex == null ? 0 : hunkIndex.getHunksCount();
+    }
+
+    /**
+     * Moves to the next difference after caret position of left code area.
+     *
+     * @return true if difference was found
+     */
+    public boolean goToNextDifference() {
+        if (hunkIndex == null) {
+            return false;
+        }
+
+        int index = hunkIndex.findNextHunk(BinaryDiffSide.LEFT, leftCodeArea.getDataPosition());
+        if (index < 0) {
+            return false;
+        }
+        goToDifference(index);
+        return true;
+    }
+
+    /**
+     * Moves to the previous difference before caret position of left code
+     * area.
+     *
+     * @return true if difference was found
+     */
+    public boolean goToPreviousDifference() {
+        if (hunkIndex == null) {
+            return false;
+        }
+
+        int index = hunkIndex.findPreviousHunk(BinaryDiffSide.LEFT, leftCodeArea.getDataPosition());
+        if (index < 0) {
+            return false;
+        }
+        goToDifference(index);
+        return true;
+    }
+
+    /**
+     * Moves carets of both code areas to difference of given index.
+     *
+     * @param index hunk index
+     */
+    public void goToDifference(int index) {
+        if (hunkIndex == null) {
+            throw new IllegalStateException("Difference is not computed");
+        }
+
+        BinaryDiffRange hunk = hunkIndex.getHunk(index);
+        rightCodeArea.setCaretPosition(hunk.getRightStart());
+        leftCodeArea.setCaretPosition(hunk.getLeftStart());
+        // Right code area follows through scrolling synchronization
+        leftCodeArea.centerOnCursor();
+    }
+
+    @Nonnull
+    public DiffOverviewGutter getOverviewGutter() {
+        return overviewGutter;
+    }
+
+    @Nonnull
+    public BinaryDiffEngine getDiffEngine() {
+        return diffEngine;
+    }
+
+    /**
+     * Sets listener for progress of difference computation.
+     *
+     * Listener is called from diff worker thread.
+     *
+     * @param diffListener diff listener or null
+     */
+    public void setDiffListener(@Nullable BinaryDiffListener diffListener) {
+        this.diffListener = diffListener;
+    }
+
+    private void updateDiff() {
+        if (diffTask != null) {
+            diffTask.cancel();
+            diffTask = null;
+        }
+        int generation = ++diffGeneration;
+        hunkIndex = null;
+        leftPainter.setHunkIndex(null, BinaryDiffSide.LEFT);
+        rightPainter.setHunkIndex(null, BinaryDiffSide.RIGHT);
+        overviewGutter.setHunkIndex(null);
+
+        BinaryData leftData = leftCodeArea.getContentData();
+        BinaryData rightData = rightCodeArea.getContentData();
+        if (leftData == null || rightData == null) {
+            return;
+        }
+
+        diffTask = diffEngine.compare(leftData, rightData, new BinaryDiffListener() {
+            @Override
+            public void progressChanged(long processedBytes, long totalBytes) {
+                BinaryDiffListener listener = diffListener;
+                if (listener != null) {
+                    listener.progressChanged(processedBytes, totalBytes);
+                }
+            }
+
+            @Override
+            public void diffFinished(BinaryDiffStatus status, @Nullable BinaryDiffResult result) {
+                if (result != null) {
+                    BinaryDiffHunkIndex resultIndex = new BinaryDiffHunkIndex(result);
+                    SwingUtilities.invokeLater(() -> {
+                        if (generation != diffGeneration) {
+                            return;
+                        }
+
+                        diffTask = null;
+                        hunkIndex = resultIndex;
+                        leftPainter.setHunkIndex(resultIndex, BinaryDiffSide.LEFT);
+                        rightPainter.setHunkIndex(resultIndex, BinaryDiffSide.RIGHT);
+                        overviewGutter.setHunkIndex(resultIndex);
+                    });
+                }
+                BinaryDiffListener listener = diffListener;
+                if (listener != null) {
+                    listener.diffFinished(status, result);
+                }
+            }
+        });
     }
 }
@@ -15,8 +15,11 @@
  */
 package org.exbin.bined.swing.extended.layout;
 
+import java.util.Arrays;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
 import org.exbin.bined.basic.BasicCodeAreaSection;
 import org.exbin.bined.DefaultCodeAreaCaretPosition;
 import org.exbin.bined.CodeAreaSection;
@@ -33,7 +36,7 @@ import org.exbin.bined.RowWrappingMode;
 /**
  * Layout profile for extended code area.
  *
- * @version 0.2.0 2019/02/19
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -51,6 +54,9 @@ public class DefaultExtendedCodeAreaLayoutProfile implements ExtendedCodeAreaLay
     private int spaceGroupSize = 1;
     private int doubleSpaceGroupSize = 0;
 
+    @Nullable
+    private volatile LayoutTable layoutTable = null;
+
     public DefaultExtendedCodeAreaLayoutProfile() {
     }
 
@@ -78,15 +84,17 @@ public class DefaultExtendedCodeAreaLayoutProfile implements ExtendedCodeAreaLay
 
     @Override
     public int computeHalfCharsPerRow(ExtendedCodeAreaStructure structure) {
-        CodeAreaViewMode viewMode = structure.getViewMode();
-        CodeType codeType = structure.getCodeType();
-        int bytesPerRow = structure.getBytesPerRow();
-        PosIterator posIterator = new PosIterator(codeType, viewMode, bytesPerRow);
-        while (!posIterator.isEndReached()) {
-            posIterator.nextSpaceType();
+        LayoutTable table = getLayoutTable(structure);
+        if (table == null) {
+            PosIterator posIterator = new PosIterator(structure.getCodeType(), structure.getViewMode(), structure.getBytesPerRow());
+            while (!posIterator.isEndReached()) {
+                posIterator.nextSpaceType();
+            }
+
+            return posIterator.getHalfCharPosition();
         }
 
-        return posIterator.getHalfCharPosition();
+        return table.halfCharsPerRow;
     }
 
     @Override
@@ -147,45 +155,79 @@ public class DefaultExtendedCodeAreaLayoutProfile implements ExtendedCodeAreaLay
 
     @Override
     public int computePositionByte(int rowHalfCharPosition, ExtendedCodeAreaStructure structure) {
-        CodeType codeType = structure.getCodeType();
-        CodeAreaViewMode viewMode = structure.getViewMode();
-        int bytesPerRow = structure.getBytesPerRow();
-        PosIterator posIterator = new PosIterator(codeType, viewMode, bytesPerRow);
-        int bytePosition = 0;
-        while (posIterator.getHalfCharPosition() < rowHalfCharPosition && !posIterator.isEndReached()) {
-            bytePosition = posIterator.getBytePosition();
-            posIterator.nextSpaceType();
+        LayoutTable table = getLayoutTable(structure);
+        if (table == null) {
+            PosIterator posIterator = new PosIterator(structure.getCodeType(), structure.getViewMode(), structure.getBytesPerRow());
+            int bytePosition = 0;
+            while (posIterator.getHalfCharPosition() < rowHalfCharPosition && !posIterator.isEndReached()) {
+                bytePosition = posIterator.getBytePosition();
+                posIterator.nextSpaceType();
+            }
+
+            return bytePosition;
         }
 
-        return bytePosition;
+        if (rowHalfCharPosition <= 0) {
+            return 0;
+        }
+        return table.halfCharPosToByte[Math.min(rowHalfCharPosition, table.halfCharsPerRow)];
     }
 
     @Override
-    public synchronized int computeFirstByteHalfCharPos(int byteOffset, CodeAreaSection section, ExtendedCodeAreaStructure structure) {
-        CodeType codeType = structure.getCodeType();
-        CodeAreaViewMode viewMode = structure.getViewMode();
-        int bytesPerRow = structure.getBytesPerRow();
-
-        PosIterator posIterator = new PosIterator(codeType, viewMode, bytesPerRow);
-        while ((posIterator.getBytePosition() < byteOffset || posIterator.getSection() != section) && !posIterator.isEndReached()) {
-            posIterator.nextSpaceType();
+    public int computeFirstByteHalfCharPos(int byteOffset, CodeAreaSection section, ExtendedCodeAreaStructure structure) {
+        LayoutTable table = getLayoutTable(structure);
+        if (table == null) {
+            PosIterator posIterator = new PosIterator(structure.getCodeType(), structure.getViewMode(), structure.getBytesPerRow());
+            while ((posIterator.getBytePosition() < byteOffset || posIterator.getSection() != section) && !posIterator.isEndReached()) {
+                posIterator.nextSpaceType();
+            }
+            return posIterator.getHalfCharPosition();
         }
-        return posIterator.getHalfCharPosition();
+
+        int[] firstHalfCharPos = section == BasicCodeAreaSection.TEXT_PREVIEW ? table.previewFirstHalfCharPos : table.codeFirstHalfCharPos;
+        return firstHalfCharPos[Math.max(0, Math.min(byteOffset, table.bytesPerRow))];
     }
 
     @Override
     public int computeLastByteHalfCharPos(int byteOffset, CodeAreaSection section, ExtendedCodeAreaStructure structure) {
+        LayoutTable table = byteOffset < 0 ? null : getLayoutTable(structure);
+        if (table == null) {
+            PosIterator posIterator = new PosIterator(structure.getCodeType(), structure.getViewMode(), structure.getBytesPerRow());
+            int halfCharPos = 0;
+            while ((posIterator.getBytePosition() <= byteOffset || posIterator.getSection() != section) && !posIterator.isEndReached()) {
+                halfCharPos = posIterator.getHalfCharPosition();
+                posIterator.nextSpaceType();
+            }
+
+            return halfCharPos;
+        }
+
+        int[] lastHalfCharPos = section == BasicCodeAreaSection.TEXT_PREVIEW ? table.previewLastHalfCharPos : table.codeLastHalfCharPos;
+        return lastHalfCharPos[Math.min(byteOffset, table.bytesPerRow)];
+    }
+
+    /**
+     * Returns cached layout table for given structure, rebuilding it when
+     * layout parameters changed.
+     *
+     * @param structure code area structure
+     * @return layout table or null if row layout is not valid
+     */
+    @Nullable
+    private LayoutTable getLayoutTable(ExtendedCodeAreaStructure structure) {
         CodeType codeType = structure.getCodeType();
         CodeAreaViewMode viewMode = structure.getViewMode();
         int bytesPerRow = structure.getBytesPerRow();
-        PosIterator posIterator = new PosIterator(codeType, viewMode, bytesPerRow);
-        int halfCharPos = 0;
-        while ((posIterator.getBytePosition() <= byteOffset || posIterator.getSection() != section) && !posIterator.isEndReached()) {
-            halfCharPos = posIterator.getHalfCharPosition();
-            posIterator.nextSpaceType();
+        if (bytesPerRow < 1) {
+            return null;
         }
 
-        return halfCharPos;
+        LayoutTable table = layoutTable;
+        if (table == null || !table.matches(codeType, viewMode, bytesPerRow, halfSpaceGroupSize, spaceGroupSize, doubleSpaceGroupSize)) {
+            table = new LayoutTable(codeType, viewMode, bytesPerRow, halfSpaceGroupSize, spaceGroupSize, doubleSpaceGroupSize);
+            layoutTable = table;
+        }
+        return table;
     }
 
     @Nonnull
@@ -535,15 +577,25 @@ public class DefaultExtendedCodeAreaLayoutProfile implements ExtendedCodeAreaLay
         @Nonnull
         private final CodeAreaViewMode viewMode;
         private final int bytesPerRow;
+        private final int halfSpaceGroupSize;
+        private final int spaceGroupSize;
+        private final int doubleSpaceGroupSize;
 
         private int halfSpacePos = 0;
         private int spacePos = 0;
         private int doubleSpacePos = 0;
 
         PosIterator(CodeType codeType, CodeAreaViewMode viewMode, int bytesPerRow) {
+            this(codeType, viewMode, bytesPerRow, DefaultExtendedCodeAreaLayoutProfile.this.halfSpaceGroupSize, DefaultExtendedCodeAreaLayoutProfile.this.spaceGroupSize, DefaultExtendedCodeAreaLayoutProfile.this.doubleSpaceGroupSize);
+        }
+
+        PosIterator(CodeType codeType, CodeAreaViewMode viewMode, int bytesPerRow, int halfSpaceGroupSize, int spaceGroupSize, int doubleSpaceGroupSize) {
             codeLength = codeType.getMaxDigitsForByte();
             this.viewMode = viewMode;
             this.bytesPerRow = bytesPerRow;
+            this.halfSpaceGroupSize = halfSpaceGroupSize;
+            this.spaceGroupSize = spaceGroupSize;
+            this.doubleSpaceGroupSize = doubleSpaceGroupSize;
             reset();
         }
 
@@ -666,4 +718,108 @@ public class DefaultExtendedCodeAreaLayoutProfile implements ExtendedCodeAreaLay
             }
         }
     }
+
+    /**
+     * Precomputed lookup tables for single row layout.
+     *
+     * Tables are built once by walking the row with position iterator and are
+     * never modified afterwards, so they can be shared without locking.
+     */
+    @Immutable
+    @ParametersAreNonnullByDefault
+    private final class LayoutTable {
+
+        @Nonnull
+        private final CodeType codeType;
+        @Nonnull
+        private final CodeAreaViewMode viewMode;
+        private final int bytesPerRow;
+        private final int halfSpaceGroupSize;
+        private final int spaceGroupSize;
+        private final int doubleSpaceGroupSize;
+
+        private final int halfCharsPerRow;
+        @Nonnull
+        private final int[] codeFirstHalfCharPos;
+        @Nonnull
+        private final int[] codeLastHalfCharPos;
+        @Nonnull
+        private final int[] previewFirstHalfCharPos;
+        @Nonnull
+        private final int[] previewLastHalfCharPos;
+        @Nonnull
+        private final int[] halfCharPosToByte;
+
+        LayoutTable(CodeType codeType, CodeAreaViewMode viewMode, int bytesPerRow, int halfSpaceGroupSize, int spaceGroupSize, int doubleSpaceGroupSize) {
+            this.codeType = codeType;
+            this.viewMode = viewMode;
+            this.bytesPerRow = bytesPerRow;
+            this.halfSpaceGroupSize = halfSpaceGroupSize;
+            this.spaceGroupSize = spaceGroupSize;
+            this.doubleSpaceGroupSize = doubleSpaceGroupSize;
+
+            // Record all iterator states including final end reached state
+            int capacity = bytesPerRow * (codeType.getMaxDigitsForByte() + 1) + 2;
+            int[] stateBytes = new int[capacity];
+            int[] stateHalfChars = new int[capacity];
+            boolean[] statePreview = new boolean[capacity];
+            int statesCount = 0;
+            PosIterator posIterator = new PosIterator(codeType, viewMode, bytesPerRow, halfSpaceGroupSize, spaceGroupSize, doubleSpaceGroupSize);
+            while (true) {
+                if (statesCount == stateBytes.length) {
+                    stateBytes = Arrays.copyOf(stateBytes, statesCount * 2);
+                    stateHalfChars = Arrays.copyOf(stateHalfChars, statesCount * 2);
+                    statePreview = Arrays.copyOf(statePreview, statesCount * 2);
+                }
+                stateBytes[statesCount] = posIterator.getBytePosition();
+                stateHalfChars[statesCount] = posIterator.getHalfCharPosition();
+                statePreview[statesCount] = posIterator.getSection() == BasicCodeAreaSection.TEXT_PREVIEW;
+                statesCount++;
+                if (posIterator.isEndReached()) {
+                    break;
+                }
+                posIterator.nextSpaceType();
+            }
+
+            int endState = statesCount - 1;
+            halfCharsPerRow = stateHalfChars[endState];
+
+            halfCharPosToByte = new int[halfCharsPerRow + 1];
+            int state = 0;
+            for (int halfCharPos = 1; halfCharPos <= halfCharsPerRow; halfCharPos++) {
+                while (state < endState && stateHalfChars[state + 1] < halfCharPos) {
+                    state++;
+                }
+                halfCharPosToByte[halfCharPos] = stateBytes[state];
+            }
+
+            codeFirstHalfCharPos = new int[bytesPerRow + 1];
+            codeLastHalfCharPos = new int[bytesPerRow + 1];
+            previewFirstHalfCharPos = new int[bytesPerRow + 1];
+            previewLastHalfCharPos = new int[bytesPerRow + 1];
+            buildSectionTables(false, stateBytes, stateHalfChars, statePreview, endState, codeFirstHalfCharPos, codeLastHalfCharPos);
+            buildSectionTables(true, stateBytes, stateHalfChars, statePreview, endState, previewFirstHalfCharPos, previewLastHalfCharPos);
+        }
+
+        private void buildSectionTables(boolean preview, int[] stateBytes, int[] stateHalfChars, boolean[] statePreview, int endState, int[] firstHalfCharPos, int[] lastHalfCharPos) {
+            int firstState = 0;
+            int lastState = 0;
+            for (int byteOffset = 0; byteOffset <= bytesPerRow; byteOffset++) {
+                while (firstState < endState && (statePreview[firstState] != preview || stateBytes[firstState] < byteOffset)) {
+                    firstState++;
+                }
+                firstHalfCharPos[byteOffset] = stateHalfChars[firstState];
+
+                while (lastState < endState && (statePreview[lastState] != preview || stateBytes[lastState] <= byteOffset)) {
+                    lastState++;
+                }
+                lastHalfCharPos[byteOffset] = lastState == 0 ? 0 : stateHalfChars[lastState - 1];
+            }
+        }
+
+        boolean matches(CodeType codeType, CodeAreaViewMode viewMode, int bytesPerRow, int halfSpaceGroupSize, int spaceGroupSize, int doubleSpaceGroupSize) {
+            return this.codeType == codeType && this.viewMode == viewMode && this.bytesPerRow == bytesPerRow
+                    && this.halfSpaceGroupSize == halfSpaceGroupSize && this.spaceGroupSize == spaceGroupSize && this.doubleSpaceGroupSize == doubleSpaceGroupSize;
+        }
+    }
 }
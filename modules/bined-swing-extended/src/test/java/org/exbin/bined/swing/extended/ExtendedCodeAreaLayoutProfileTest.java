@@ -15,8 +15,12 @@
  */
 package org.exbin.bined.swing.extended;
 
+import org.exbin.bined.CodeAreaSection;
+import org.exbin.bined.RowWrappingMode;
+import org.exbin.bined.basic.BasicCodeAreaSection;
 import org.exbin.bined.basic.CodeAreaViewMode;
 import org.exbin.bined.CodeType;
+import org.exbin.bined.extended.ExtendedCodeAreaStructure;
 import org.exbin.bined.extended.layout.SpaceType;
 import org.exbin.bined.swing.extended.layout.DefaultExtendedCodeAreaLayoutProfile;
 import org.hamcrest.CoreMatchers;
@@ -27,7 +31,7 @@ import org.exbin.bined.extended.layout.PositionIterator;
 /**
  * Tests for DefaultExtendedCodeAreaLayoutProfile.
  *
- * @version 0.2.0 2019/02/17
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 public class ExtendedCodeAreaLayoutProfileTest {
@@ -176,4 +180,69 @@ public class ExtendedCodeAreaLayoutProfileTest {
         pixelPos += TEST_CHARACTER_WIDTH + TEST_CHARACTER_WIDTH / 2;
         Assert.assertThat(layout.computePixelPosition(20, TEST_CHARACTER_WIDTH, CodeAreaViewMode.CODE_MATRIX, CodeType.HEXADECIMAL, TEST_BYTES_PER_ROW_COMBINED), CoreMatchers.is(pixelPos));
     }
+
+    @Test
+    public void testLayoutTableLookups() {
+        ExtCodeArea codeArea = new ExtCodeArea();
+        codeArea.setRowWrapping(RowWrappingMode.NO_WRAPPING);
+        for (CodeType codeType : CodeType.values()) {
+            for (CodeAreaViewMode viewMode : CodeAreaViewMode.values()) {
+                for (int bytesPerRow : new int[]{1, TEST_BYTES_PER_ROW_DEFAULT, TEST_BYTES_PER_ROW_COMBINED}) {
+                    DefaultExtendedCodeAreaLayoutProfile layout = new DefaultExtendedCodeAreaLayoutProfile();
+                    codeArea.setCodeType(codeType);
+                    codeArea.setViewMode(viewMode);
+                    codeArea.setMaxBytesPerRow(bytesPerRow);
+                    ExtendedCodeAreaStructure structure = new ExtendedCodeAreaStructure();
+                    structure.updateCache(codeArea, 0, layout);
+                    checkLayoutLookups(layout, structure);
+
+                    layout.setHalfSpaceGroupSize(2);
+                    layout.setSpaceGroupSize(3);
+                    layout.setDoubleSpaceGroupSize(4);
+                    checkLayoutLookups(layout, structure);
+                }
+            }
+        }
+    }
+
+    private static void checkLayoutLookups(DefaultExtendedCodeAreaLayoutProfile layout, ExtendedCodeAreaStructure structure) {
+        CodeType codeType = structure.getCodeType();
+        CodeAreaViewMode viewMode = structure.getViewMode();
+        int bytesPerRow = structure.getBytesPerRow();
+
+        PositionIterator iterator = layout.createPositionIterator(codeType, viewMode, bytesPerRow);
+        while (!iterator.isEndReached()) {
+            iterator.nextSpaceType();
+        }
+        int halfCharsPerRow = iterator.getHalfCharPosition();
+        Assert.assertEquals(halfCharsPerRow, layout.computeHalfCharsPerRow(structure));
+
+        for (int halfCharPos = -1; halfCharPos <= halfCharsPerRow + 2; halfCharPos++) {
+            iterator = layout.createPositionIterator(codeType, viewMode, bytesPerRow);
+            int bytePosition = 0;
+            while (iterator.getHalfCharPosition() < halfCharPos && !iterator.isEndReached()) {
+                bytePosition = iterator.getBytePosition();
+                iterator.nextSpaceType();
+            }
+            Assert.assertEquals(bytePosition, layout.computePositionByte(halfCharPos, structure));
+        }
+
+        for (CodeAreaSection section : new CodeAreaSection[]{BasicCodeAreaSection.CODE_MATRIX, BasicCodeAreaSection.TEXT_PREVIEW}) {
+            for (int byteOffset = -1; byteOffset <= bytesPerRow + 1; byteOffset++) {
+                iterator = layout.createPositionIterator(codeType, viewMode, bytesPerRow);
+                while ((iterator.getBytePosition() < byteOffset || iterator.getSection() != section) && !iterator.isEndReached()) {
+                    iterator.nextSpaceType();
+                }
+                Assert.assertEquals(iterator.getHalfCharPosition(), layout.computeFirstByteHalfCharPos(byteOffset, section, structure));
+
+                iterator = layout.createPositionIterator(codeType, viewMode, bytesPerRow);
+                int lastHalfCharPos = 0;
+                while ((iterator.getBytePosition() <= byteOffset || iterator.getSection() != section) && !iterator.isEndReached()) {
+                    lastHalfCharPos = iterator.getHalfCharPosition();
+                    iterator.nextSpaceType();
+                }
+                Assert.assertEquals(lastHalfCharPos, layout.computeLastByteHalfCharPos(byteOffset, section, structure));
+            }
+        }
+    }
 }
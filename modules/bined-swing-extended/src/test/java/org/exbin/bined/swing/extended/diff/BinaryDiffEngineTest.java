@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.ByteArrayData;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for binary diff engine.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class BinaryDiffEngineTest {
+
+    public BinaryDiffEngineTest() {
+    }
+
+    @Test
+    public void testRefinedInsertAndReplace() throws InterruptedException {
+        byte[] left = new byte[]{1, 2, 3, 4, 5, 6, 7, 8};
+        byte[] right = new byte[]{1, 2, 3, 9, 4, 5, 0, 7, 8};
+        BinaryDiffResult result = compare(new BinaryDiffEngine(), left, right);
+
+        List<BinaryDiffRange> ranges = result.getRanges();
+        Assert.assertEquals(5, ranges.size());
+        assertRange(ranges.get(0), BinaryDiffType.EQUAL, 0, 3, 0, 3);
+        assertRange(ranges.get(1), BinaryDiffType.INSERT, 3, 0, 3, 1);
+        assertRange(ranges.get(2), BinaryDiffType.EQUAL, 3, 2, 4, 2);
+        assertRange(ranges.get(3), BinaryDiffType.REPLACE, 5, 1, 6, 1);
+        assertRange(ranges.get(4), BinaryDiffType.EQUAL, 6, 2, 7, 2);
+
+        Assert.assertEquals(BinaryDiffType.INSERT, result.getType(BinaryDiffSide.RIGHT, 3));
+        Assert.assertEquals(BinaryDiffType.EQUAL, result.getType(BinaryDiffSide.LEFT, 3));
+        Assert.assertEquals(5, result.mapPosition(BinaryDiffSide.LEFT, 4));
+        Assert.assertEquals(3, result.mapPosition(BinaryDiffSide.RIGHT, 3));
+        Assert.assertEquals(left.length, result.mapPosition(BinaryDiffSide.RIGHT, right.length));
+    }
+
+    @Test
+    public void testBlockMatchingKeepsAlignment() throws InterruptedException {
+        Random random = new Random(7);
+        byte[] left = new byte[200000];
+        random.nextBytes(left);
+        byte[] right = new byte[left.length + 10 - 300];
+        // Insert 10 bytes at 1000 and delete 300 bytes at 150000
+        System.arraycopy(left, 0, right, 0, 1000);
+        System.arraycopy(left, 1000, right, 1010, 149000);
+        System.arraycopy(left, 150300, right, 150010, left.length - 150300);
+        for (int i = 0; i < 10; i++) {
+            right[1000 + i] = (byte) (left[1000] + 1);
+        }
+
+        BinaryDiffEngine engine = new BinaryDiffEngine();
+        engine.setRefineLimit(64);
+        BinaryDiffResult result = compare(engine, left, right);
+
+        long changedLeft = 0;
+        long changedRight = 0;
+        for (BinaryDiffRange range : result.getRanges()) {
+            if (range.getType() != BinaryDiffType.EQUAL) {
+                changedLeft += range.getLeftLength();
+                changedRight += range.getRightLength();
+            }
+        }
+        Assert.assertTrue(changedLeft >= 300 && changedLeft < 400);
+        Assert.assertTrue(changedRight >= 10 && changedRight < 100);
+        Assert.assertEquals(BinaryDiffType.EQUAL, result.getType(BinaryDiffSide.LEFT, 100000));
+        Assert.assertEquals(100010, result.mapPosition(BinaryDiffSide.LEFT, 100000));
+        Assert.assertEquals(180000 - 290, result.mapPosition(BinaryDiffSide.LEFT, 180000));
+    }
+
+    @Test
+    public void testEqualData() throws InterruptedException {
+        byte[] data = new byte[]{1, 2, 3};
+        BinaryDiffResult result = compare(new BinaryDiffEngine(), data, data.clone());
+        Assert.assertTrue(result.isEqual());
+        Assert.assertEquals(1, result.getRanges().size());
+
+        result = compare(new BinaryDiffEngine(), new byte[0], data);
+        Assert.assertEquals(1, result.getRanges().size());
+        assertRange(result.getRanges().get(0), BinaryDiffType.INSERT, 0, 0, 0, 3);
+    }
+
+    @Test
+    public void testFailedComparison() throws InterruptedException {
+        IllegalStateException failure = new IllegalStateException("Read failed");
+        ByteArrayData failingData = new ByteArrayData(new byte[1000]) {
+            @Override
+            public void copyToArray(long startFrom, byte[] target, int offset, int length) {
+                throw failure;
+            }
+        };
+
+        BinaryDiffEngine engine = new BinaryDiffEngine();
+        BinaryDiffTask task = engine.compare(failingData, new ByteArrayData(new byte[1000]), new BinaryDiffListener() {
+            @Override
+            public void progressChanged(long processedBytes, long totalBytes) {
+            }
+
+            @Override
+            public void diffFinished(BinaryDiffStatus status, @Nullable BinaryDiffResult result) {
+            }
+        });
+        Assert.assertEquals(BinaryDiffStatus.FAILED, task.waitFinished());
+        Assert.assertSame(failure, task.getFailure());
+        Assert.assertNull(task.getResult());
+        engine.dispose();
+    }
+
+    @Nonnull
+    private static BinaryDiffResult compare(BinaryDiffEngine engine, byte[] left, byte[] right) throws InterruptedException {
+        BinaryDiffTask task = engine.compare(new ByteArrayData(left), new ByteArrayData(right), new BinaryDiffListener() {
+            @Override
+            public void progressChanged(long processedBytes, long totalBytes) {
+                Assert.assertTrue(processedBytes <= totalBytes);
+            }
+
+            @Override
+            public void diffFinished(BinaryDiffStatus status, @Nullable BinaryDiffResult result) {
+            }
+        });
+        Assert.assertEquals(BinaryDiffStatus.COMPLETED, task.waitFinished());
+        engine.dispose();
+        BinaryDiffResult result = task.getResult();
+        Assert.assertNotNull(result);
+        Assert.assertEquals(left.length, result.getSize(BinaryDiffSide.LEFT));
+        Assert.assertEquals(right.length, result.getSize(BinaryDiffSide.RIGHT));
+        return result;
+    }
+
+    private static void assertRange(BinaryDiffRange range, BinaryDiffType type, long leftStart, long leftLength, long rightStart, long rightLength) {
+        Assert.assertEquals(type, range.getType());
+        Assert.assertEquals(leftStart, range.getLeftStart());
+        Assert.assertEquals(leftLength, range.getLeftLength());
+        Assert.assertEquals(rightStart, range.getRightStart());
+        Assert.assertEquals(rightLength, range.getRightLength());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import java.util.Arrays;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for binary diff hunk index.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class BinaryDiffHunkIndexTest {
+
+    public BinaryDiffHunkIndexTest() {
+    }
+
+    @Test
+    public void testHunkQueries() {
+        BinaryDiffResult result = new BinaryDiffResult(Arrays.asList(
+                new BinaryDiffRange(BinaryDiffType.EQUAL, 0, 10, 0, 10),
+                new BinaryDiffRange(BinaryDiffType.INSERT, 10, 0, 10, 5),
+                new BinaryDiffRange(BinaryDiffType.EQUAL, 10, 20, 15, 20),
+                new BinaryDiffRange(BinaryDiffType.REPLACE, 30, 4, 35, 2),
+                new BinaryDiffRange(BinaryDiffType.EQUAL, 34, 6, 37, 6),
+                new BinaryDiffRange(BinaryDiffType.DELETE, 40, 3, 43, 0)
+        ));
+        BinaryDiffHunkIndex index = new BinaryDiffHunkIndex(result);
+        Assert.assertEquals(3, index.getHunksCount());
+
+        Assert.assertEquals(0, index.findNextHunk(BinaryDiffSide.LEFT, 0));
+        Assert.assertEquals(1, index.findNextHunk(BinaryDiffSide.LEFT, 10));
+        Assert.assertEquals(2, index.findNextHunk(BinaryDiffSide.RIGHT, 35));
+        Assert.assertEquals(-1, index.findNextHunk(BinaryDiffSide.LEFT, 40));
+        Assert.assertEquals(-1, index.findPreviousHunk(BinaryDiffSide.LEFT, 10));
+        Assert.assertEquals(0, index.findPreviousHunk(BinaryDiffSide.LEFT, 11));
+        Assert.assertEquals(1, index.findPreviousHunk(BinaryDiffSide.LEFT, 40));
+
+        Assert.assertEquals(1, index.findHunk(BinaryDiffSide.LEFT, 31));
+        Assert.assertEquals(-1, index.findHunk(BinaryDiffSide.LEFT, 34));
+        Assert.assertEquals(0, index.findHunk(BinaryDiffSide.RIGHT, 14));
+        Assert.assertEquals(-1, index.findHunk(BinaryDiffSide.RIGHT, 15));
+
+        // Viewport 12 - 36 on left side overlaps replaced hunk only
+        Assert.assertEquals(1, index.findOverlappingStart(BinaryDiffSide.LEFT, 12));
+        Assert.assertEquals(2, index.findOverlappingEnd(BinaryDiffSide.LEFT, 36));
+        // Viewport 0 - 10 on left side contains no hunk, empty insert hunk starts at 10
+        Assert.assertEquals(0, index.findOverlappingStart(BinaryDiffSide.LEFT, 0));
+        Assert.assertEquals(0, index.findOverlappingEnd(BinaryDiffSide.LEFT, 10));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.extended.diff;
+
+import java.lang.reflect.InvocationTargetException;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.swing.SwingUtilities;
+import org.exbin.auxiliary.paged_data.ByteArrayData;
+import org.exbin.auxiliary.paged_data.ByteArrayEditableData;
+import org.exbin.bined.swing.extended.ExtCodeArea;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for diff highlighting painter.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class DiffHighlightCodeAreaPainterTest {
+
+    private static final long DIFF_TIMEOUT = 10000;
+
+    public DiffHighlightCodeAreaPainterTest() {
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testComparedData() throws InterruptedException, InvocationTargetException {
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 7);
+        }
+        byte[] compared = content.clone();
+        compared[500] = (byte) (compared[500] + 1);
+
+        ExtCodeArea codeArea = new ExtCodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(content));
+        DiffHighlightCodeAreaPainter[] painter = new DiffHighlightCodeAreaPainter[1];
+        SwingUtilities.invokeAndWait(() -> {
+            painter[0] = new DiffHighlightCodeAreaPainter(codeArea, new ByteArrayData(compared));
+            codeArea.setPainter(painter[0]);
+        });
+
+        BinaryDiffHunkIndex[] hunkIndex = new BinaryDiffHunkIndex[1];
+        long timeout = System.currentTimeMillis() + DIFF_TIMEOUT;
+        while (hunkIndex[0] == null && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+            SwingUtilities.invokeAndWait(() -> hunkIndex[0] = painter[0].getHunkIndex());
+        }
+
+        Assert.assertNotNull(hunkIndex[0]);
+        Assert.assertEquals(BinaryDiffSide.LEFT, painter[0].getSide());
+        Assert.assertEquals(1, hunkIndex[0].getHunksCount());
+        BinaryDiffRange hunk = hunkIndex[0].getHunk(0);
+        Assert.assertEquals(BinaryDiffType.REPLACE, hunk.getType());
+        Assert.assertEquals(500, hunk.getStart(BinaryDiffSide.LEFT));
+    }
+}
@@ -37,7 +37,7 @@ import org.exbin.auxiliary.paged_data.BinaryData;
 /**
  * Binary viewer/editor component.
  *
- * @version 0.2.0 2020/05/31
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -192,6 +192,19 @@ public abstract class CodeAreaCore extends JComponent implements CodeAreaControl
         dataChangedListeners.forEach(DataChangedListener::dataChanged);
     }
 
+    /**
+     * Notifies component, that given range of internal data was changed.
+     *
+     * @param startPosition start position of changed range
+     * @param oldLength length of the range before change
+     * @param newLength length of the range after change
+     */
+    public void notifyDataChanged(long startPosition, long oldLength, long newLength) {
+        dataChangedListeners.forEach((listener) -> {
+            listener.dataChanged(startPosition, oldLength, newLength);
+        });
+    }
+
     public void addDataChangedListener(DataChangedListener dataChangedListener) {
         dataChangedListeners.add(dataChangedListener);
     }
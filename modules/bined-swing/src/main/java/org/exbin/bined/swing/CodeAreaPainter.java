@@ -30,7 +30,7 @@ import org.exbin.bined.CodeAreaCaretPosition;
 /**
  * Binary editor painter interface.
  *
- * @version 0.2.0 2019/07/07
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -99,6 +99,20 @@ public interface CodeAreaPainter {
      */
     void resetCaret();
 
+    /**
+     * Requests repaint of the areas of the previously painted and current
+     * cursor only.
+     *
+     * Painters not supporting partial repaint return false and whole
+     * component should be repainted instead.
+     *
+     * @return true if repaint was requested, false if whole component should
+     * be repainted
+     */
+    default boolean repaintCursor() {
+        return false;
+    }
+
     /**
      * Calls rebuild of the colors profile.
      */
@@ -16,6 +16,7 @@
 package org.exbin.bined.swing;
 
 import java.awt.Color;
+import java.awt.HeadlessException;
 import java.awt.Toolkit;
 import java.awt.datatransfer.Clipboard;
 import java.awt.datatransfer.ClipboardOwner;
@@ -25,13 +26,12 @@ import java.awt.datatransfer.UnsupportedFlavorException;
 import java.awt.event.KeyEvent;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Arrays;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.swing.ScrollPaneConstants;
-import org.exbin.bined.CodeAreaUtils;
 import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.CodeCharactersTable;
 import org.exbin.bined.CodeType;
 import org.exbin.bined.ScrollBarVisibility;
 import org.exbin.auxiliary.paged_data.BinaryData;
@@ -39,7 +39,7 @@ import org.exbin.auxiliary.paged_data.BinaryData;
 /**
  * Hexadecimal editor component swing utilities.
  *
- * @version 0.2.0 2018/12/24
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -140,7 +140,7 @@ public class CodeAreaSwingUtils {
                 default:
                     return KeyEvent.CTRL_DOWN_MASK;
             }
-        } catch (java.awt.HeadlessException ex) {
+        } catch (HeadlessException ex) {
             return KeyEvent.CTRL_DOWN_MASK;
         }
     }
@@ -155,7 +155,7 @@ public class CodeAreaSwingUtils {
         if (clipboard == null) {
             try {
                 clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
-            } catch (SecurityException e) {
+            } catch (SecurityException | HeadlessException e) {
                 clipboard = new Clipboard(FALLBACK_CLIPBOARD);
             }
         }
@@ -240,18 +240,7 @@ public class CodeAreaSwingUtils {
             if (flavor.equals(binaryDataFlavor)) {
                 return data;
             } else {
-                int charsPerByte = codeType.getMaxDigitsForByte() + 1;
-                int textLength = (int) (data.getDataSize() * charsPerByte);
-                if (textLength > 0) {
-                    textLength--;
-                }
-
-                char[] targetData = new char[textLength];
-                Arrays.fill(targetData, ' ');
-                for (int i = 0; i < data.getDataSize(); i++) {
-                    CodeAreaUtils.byteToCharsCode(data.getByte(i), codeType, targetData, i * charsPerByte, charactersCase);
-                }
-                return new String(targetData);
+                return CodeCharactersTable.getTable(codeType, charactersCase).toCodesText(data, ' ');
 //                return new ByteArrayInputStream(new String(dataTarget).getBytes(textPlainUnicodeFlavor.getParameter(MIME_CHARSET)));
             }
         }
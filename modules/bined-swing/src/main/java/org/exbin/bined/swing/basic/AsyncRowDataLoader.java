@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import javax.annotation.concurrent.Immutable;
+import org.exbin.auxiliary.paged_data.BinaryData;
+
+/**
+ * Background loader of data for painting of code area rows.
+ *
+ * Data are loaded by worker thread into back buffer which is swapped to front
+ * buffer when loading is finished. Painting only reads front buffer and so it
+ * never waits for slow data source.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class AsyncRowDataLoader {
+
+    /**
+     * Maximum size of single loaded block.
+     */
+    public static final int MAX_BLOCK_SIZE = 16 * 1024 * 1024;
+    private static final int LOAD_CHUNK_SIZE = 64 * 1024;
+
+    @Nonnull
+    private final Runnable loadedListener;
+    @Nonnull
+    private final ExecutorService executor;
+
+    @Nullable
+    private volatile LoadedBlock frontBlock = null;
+    @Nullable
+    private LoadRequest pendingRequest = null;
+    @Nullable
+    private LoadRequest activeRequest = null;
+    private long generation = 0;
+
+    /**
+     * Creates new loader.
+     *
+     * @param loadedListener listener called from worker thread when new data
+     * are available
+     */
+    public AsyncRowDataLoader(Runnable loadedListener) {
+        this.loadedListener = loadedListener;
+        executor = Executors.newSingleThreadExecutor((Runnable runnable) -> {
+            Thread thread = new Thread(runnable, "BinEd row data loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Copies data from already loaded block.
+     *
+     * @param data source data
+     * @param startFrom start position
+     * @param target target array
+     * @param offset offset in target array
+     * @param length length of copied data
+     * @return true if data were available and copied
+     */
+    public boolean copyToArray(BinaryData data, long startFrom, byte[] target, int offset, int length) {
+        LoadedBlock block = frontBlock;
+        if (block == null || block.data != data || startFrom < block.startPosition || startFrom + length > block.startPosition + block.length) {
+            return false;
+        }
+
+        System.arraycopy(block.buffer, (int) (startFrom - block.startPosition), target, offset, length);
+        return true;
+    }
+
+    /**
+     * Requests loading of given range unless it is already loaded or being
+     * loaded.
+     *
+     * @param data source data
+     * @param startFrom start position
+     * @param length length of required data
+     * @param prefetchLength length of data to load before and after required
+     * range
+     */
+    public synchronized void requestRange(BinaryData data, long startFrom, long length, long prefetchLength) {
+        LoadedBlock block = frontBlock;
+        if (block != null && block.covers(data, startFrom, length)) {
+            return;
+        }
+        if (pendingRequest != null && pendingRequest.covers(data, startFrom, length)) {
+            return;
+        }
+        if (activeRequest != null && activeRequest.covers(data, startFrom, length)) {
+            pendingRequest = null;
+            return;
+        }
+
+        long dataSize = data.getDataSize();
+        long prefetch = Math.min(prefetchLength, Math.max(0, (MAX_BLOCK_SIZE - length) / 2));
+        long loadStart = Math.max(0, startFrom - prefetch);
+        long loadEnd = Math.min(dataSize, startFrom + length + prefetch);
+        if (loadEnd - loadStart > MAX_BLOCK_SIZE) {
+            loadEnd = loadStart + MAX_BLOCK_SIZE;
+        }
+        if (loadEnd <= loadStart) {
+            return;
+        }
+
+        boolean idle = pendingRequest == null && activeRequest == null;
+        pendingRequest = new LoadRequest(data, loadStart, (int) (loadEnd - loadStart), generation);
+        if (idle) {
+            executor.execute(this::processRequests);
+        }
+    }
+
+    /**
+     * Drops all loaded data, typically on change of the data.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        frontBlock = null;
+        pendingRequest = null;
+    }
+
+    /**
+     * Stops worker thread and releases loaded data.
+     */
+    public synchronized void dispose() {
+        invalidate();
+        executor.shutdownNow();
+    }
+
+    private void processRequests() {
+        while (true) {
+            LoadRequest request;
+            synchronized (this) {
+                request = pendingRequest;
+                pendingRequest = null;
+                activeRequest = request;
+                if (request == null) {
+                    return;
+                }
+            }
+
+            byte[] backBuffer = new byte[request.length];
+            boolean finished = loadBlock(request, backBuffer);
+            synchronized (this) {
+                activeRequest = null;
+                if (!finished || request.generation != generation) {
+                    continue;
+                }
+
+                frontBlock = new LoadedBlock(request.data, request.startPosition, backBuffer);
+            }
+            loadedListener.run();
+        }
+    }
+
+    private boolean loadBlock(LoadRequest request, byte[] backBuffer) {
+        int offset = 0;
+        try {
+            while (offset < request.length) {
+                if (isSuperseded(request)) {
+                    return false;
+                }
+
+                int chunkLength = Math.min(LOAD_CHUNK_SIZE, request.length - offset);
+                request.data.copyToArray(request.startPosition + offset, backBuffer, offset, chunkLength);
+                offset += chunkLength;
+            }
+        } catch (RuntimeException ex) {
+            // Data were modified or released during loading, result is dropped
+            return false;
+        }
+
+        return true;
+    }
+
+    private synchronized boolean isSuperseded(LoadRequest request) {
+        return request.generation != generation || (pendingRequest != null && !pendingRequest.covers(request.data, request.startPosition, request.length))
+                || Thread.currentThread().isInterrupted();
+    }
+
+    @Immutable
+    private static final class LoadRequest {
+
+        final BinaryData data;
+        final long startPosition;
+        final int length;
+        final long generation;
+
+        LoadRequest(BinaryData data, long startPosition, int length, long generation) {
+            this.data = data;
+            this.startPosition = startPosition;
+            this.length = length;
+            this.generation = generation;
+        }
+
+        boolean covers(BinaryData data, long startFrom, long length) {
+            return this.data == data && startFrom >= startPosition && startFrom + length <= startPosition + this.length;
+        }
+    }
+
+    @Immutable
+    private static final class LoadedBlock {
+
+        final BinaryData data;
+        final long startPosition;
+        final byte[] buffer;
+        final int length;
+
+        LoadedBlock(BinaryData data, long startPosition, byte[] buffer) {
+            this.data = data;
+            this.startPosition = startPosition;
+            this.buffer = buffer;
+            this.length = buffer.length;
+        }
+
+        boolean covers(BinaryData data, long startFrom, long length) {
+            return this.data == data && startFrom >= startPosition && startFrom + length <= startPosition + this.length;
+        }
+    }
+}
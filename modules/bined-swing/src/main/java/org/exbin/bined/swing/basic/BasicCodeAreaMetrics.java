@@ -18,18 +18,27 @@ package org.exbin.bined.swing.basic;
 import java.awt.FontMetrics;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.util.Arrays;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 /**
  * Basic code area component dimensions.
  *
- * @version 0.2.0 2018/11/22
+ * Widths of characters and whether they can be drawn in groups are
+ * precomputed for first 256 characters and for characters of single byte
+ * values in current charset.
+ *
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
 public class BasicCodeAreaMetrics {
 
+    private static final int DIRECT_CHARS_COUNT = 256;
+    private static final int MAPPED_TABLE_SIZE = 512;
+    private static final int MAPPED_TABLE_MASK = MAPPED_TABLE_SIZE - 1;
+
     @Nullable
     private FontMetrics fontMetrics;
 
@@ -38,9 +47,22 @@ public class BasicCodeAreaMetrics {
     private int fontHeight;
     private int maxBytesPerChar;
     private int subFontSpace = 0;
+    private boolean uniformLineMetrics;
+
+    private boolean charTablesValid = false;
+    private final int[] directCharWidths = new int[DIRECT_CHARS_COUNT];
+    private final long[] directCharsGroupable = new long[DIRECT_CHARS_COUNT / 64];
+    /**
+     * Open addressing table of other characters of the charset, empty slots
+     * contain zero character which is always direct.
+     */
+    private final char[] mappedChars = new char[MAPPED_TABLE_SIZE];
+    private final int[] mappedCharWidths = new int[MAPPED_TABLE_SIZE];
+    private final long[] mappedCharsGroupable = new long[MAPPED_TABLE_SIZE / 64];
 
     public void recomputeMetrics(@Nullable FontMetrics fontMetrics, Charset charset) {
         this.fontMetrics = fontMetrics;
+        charTablesValid = false;
         if (fontMetrics == null) {
             characterWidth = 0;
             fontHeight = 0;
@@ -54,6 +76,8 @@ public class BasicCodeAreaMetrics {
             characterWidth = fontMetrics.charWidth('m');
             int fontSize = fontMetrics.getFont().getSize();
             subFontSpace = rowHeight - fontSize;
+            uniformLineMetrics = fontMetrics.hasUniformLineMetrics();
+            recomputeCharTables(fontMetrics, charset);
         }
 
         CharsetEncoder encoder = charset.newEncoder();
@@ -70,15 +94,45 @@ public class BasicCodeAreaMetrics {
     }
 
     public int getCharWidth(char value) {
+        if (charTablesValid) {
+            if (value < DIRECT_CHARS_COUNT) {
+                return directCharWidths[value];
+            }
+            int slot = findMappedSlot(value);
+            if (slot >= 0) {
+                return mappedCharWidths[slot];
+            }
+        }
         return fontMetrics.charWidth(value);
     }
 
+    /**
+     * Returns true if character can be drawn together with neighboring
+     * characters as single sequence so that it fits into cell of given width.
+     *
+     * @param value character
+     * @param cellWidth width of the cell
+     * @return true if character is groupable
+     */
+    public boolean isGroupable(char value, int cellWidth) {
+        if (charTablesValid && cellWidth == characterWidth) {
+            if (value < DIRECT_CHARS_COUNT) {
+                return isBitSet(directCharsGroupable, value);
+            }
+            int slot = findMappedSlot(value);
+            if (slot >= 0) {
+                return isBitSet(mappedCharsGroupable, slot);
+            }
+        }
+        return computeGroupable(fontMetrics, value, cellWidth);
+    }
+
     public int getCharsWidth(char[] data, int offset, int length) {
         return fontMetrics.charsWidth(data, offset, length);
     }
 
     public boolean hasUniformLineMetrics() {
-        return fontMetrics.hasUniformLineMetrics();
+        return uniformLineMetrics;
     }
 
     public int getRowHeight() {
@@ -100,4 +154,81 @@ public class BasicCodeAreaMetrics {
     public int getMaxBytesPerChar() {
         return maxBytesPerChar;
     }
+
+    private void recomputeCharTables(FontMetrics fontMetrics, Charset charset) {
+        Arrays.fill(directCharsGroupable, 0);
+        for (int i = 0; i < DIRECT_CHARS_COUNT; i++) {
+            char value = (char) i;
+            directCharWidths[i] = fontMetrics.charWidth(value);
+            if (computeGroupable(fontMetrics, value, characterWidth)) {
+                setBit(directCharsGroupable, i);
+            }
+        }
+
+        Arrays.fill(mappedChars, (char) 0);
+        Arrays.fill(mappedCharsGroupable, 0);
+        for (int i = 0; i < 256; i++) {
+            String decoded = new String(new byte[]{(byte) i}, charset);
+            if (decoded.isEmpty()) {
+                // Stateful charsets decode shift bytes to no character
+                continue;
+            }
+
+            char value = decoded.charAt(0);
+            if (value < DIRECT_CHARS_COUNT) {
+                continue;
+            }
+
+            int slot = value & MAPPED_TABLE_MASK;
+            while (mappedChars[slot] != 0 && mappedChars[slot] != value) {
+                slot = (slot + 1) & MAPPED_TABLE_MASK;
+            }
+            mappedChars[slot] = value;
+            mappedCharWidths[slot] = fontMetrics.charWidth(value);
+            if (computeGroupable(fontMetrics, value, characterWidth)) {
+                setBit(mappedCharsGroupable, slot);
+            }
+        }
+        charTablesValid = true;
+    }
+
+    private int findMappedSlot(char value) {
+        int slot = value & MAPPED_TABLE_MASK;
+        while (mappedChars[slot] != 0) {
+            if (mappedChars[slot] == value) {
+                return slot;
+            }
+            slot = (slot + 1) & MAPPED_TABLE_MASK;
+        }
+        return -1;
+    }
+
+    private boolean computeGroupable(FontMetrics fontMetrics, char value, int cellWidth) {
+        switch (Character.getDirectionality(value)) {
+            case Character.DIRECTIONALITY_UNDEFINED:
+            case Character.DIRECTIONALITY_RIGHT_TO_LEFT:
+            case Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC:
+            case Character.DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING:
+            case Character.DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE:
+            case Character.DIRECTIONALITY_POP_DIRECTIONAL_FORMAT:
+            case Character.DIRECTIONALITY_BOUNDARY_NEUTRAL:
+            case Character.DIRECTIONALITY_OTHER_NEUTRALS:
+                return false;
+        }
+
+        if (uniformLineMetrics) {
+            return fontMetrics.charWidth(value) == cellWidth;
+        }
+
+        // Advance has to be exact so that following characters stay aligned to cells
+        return fontMetrics.getStringBounds(new char[]{value}, 0, 1, null).getWidth() == cellWidth;
+    }
+
+    private static boolean isBitSet(long[] bits, int index) {
+        return (bits[index >> 6] & (1L << index)) != 0;
+    }
+
+    private static void setBit(long[] bits, int index) {
+        bits[index >> 6] |= 1L << index;
+    }
 }
@@ -64,7 +64,7 @@ import org.exbin.bined.RowWrappingMode;
 /**
  * Code area component.
  *
- * @version 0.2.0 2020/05/31
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -508,8 +508,12 @@ public class CodeArea extends CodeAreaCore implements DefaultCodeArea, CodeAreaS
     public void notifyCaretChanged() {
         if (painter != null) {
             painter.resetCaret();
+            if (!painter.repaintCursor()) {
+                repaint();
+            }
+        } else {
+            repaint();
         }
-        repaint();
     }
 
     @Override
@@ -541,23 +545,36 @@ public class CodeArea extends CodeAreaCore implements DefaultCodeArea, CodeAreaS
     public void setSelection(SelectionRange selection) {
         CodeAreaUtils.requireNonNull(selection);
 
-        this.selection.setSelection(selection);
-        notifySelectionChanged();
-        repaint();
+        setSelection(selection.getStart(), selection.getEnd());
     }
 
     @Override
     public void setSelection(long start, long end) {
+        boolean repaintRequired = isSelectionRepaintRequired(start, end);
         this.selection.setSelection(start, end);
         notifySelectionChanged();
-        repaint();
+        if (repaintRequired) {
+            repaint();
+        }
     }
 
     @Override
     public void clearSelection() {
+        boolean repaintRequired = !selection.isEmpty();
         this.selection.clearSelection();
         notifySelectionChanged();
-        repaint();
+        if (repaintRequired) {
+            repaint();
+        }
+    }
+
+    private boolean isSelectionRepaintRequired(long start, long end) {
+        if (selection.isEmpty() && start == end) {
+            // Empty selection is not painted regardless of its position
+            return false;
+        }
+
+        return selection.getStart() != start || selection.getEnd() != end;
     }
 
     @Override
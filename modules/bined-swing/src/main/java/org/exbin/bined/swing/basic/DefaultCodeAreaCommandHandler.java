@@ -56,13 +56,15 @@ import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.auxiliary.paged_data.ByteArrayEditableData;
 import org.exbin.auxiliary.paged_data.EditableBinaryData;
 import org.exbin.bined.ClipboardHandlingMode;
+import org.exbin.bined.CodeAreaCaret;
 import org.exbin.bined.CodeAreaCaretPosition;
+import org.exbin.bined.CodeAreaSection;
 import org.exbin.bined.basic.EnterKeyHandlingMode;
 
 /**
  * Default binary editor command handler.
  *
- * @version 0.2.0 2020/03/22
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -129,28 +131,28 @@ public class DefaultCodeAreaCommandHandler implements CodeAreaCommandHandler {
             case KeyEvent.VK_LEFT: {
                 move(keyEvent.getModifiersEx(), MovementDirection.LEFT);
                 undoSequenceBreak();
-                revealCursor();
+                revealMovedCursor();
                 keyEvent.consume();
                 break;
             }
             case KeyEvent.VK_RIGHT: {
                 move(keyEvent.getModifiersEx(), MovementDirection.RIGHT);
                 undoSequenceBreak();
-                revealCursor();
+                revealMovedCursor();
                 keyEvent.consume();
                 break;
             }
             case KeyEvent.VK_UP: {
                 move(keyEvent.getModifiersEx(), MovementDirection.UP);
                 undoSequenceBreak();
-                revealCursor();
+                revealMovedCursor();
                 keyEvent.consume();
                 break;
             }
             case KeyEvent.VK_DOWN: {
                 move(keyEvent.getModifiersEx(), MovementDirection.DOWN);
                 undoSequenceBreak();
-                revealCursor();
+                revealMovedCursor();
                 keyEvent.consume();
                 break;
             }
@@ -161,7 +163,7 @@ public class DefaultCodeAreaCommandHandler implements CodeAreaCommandHandler {
                     move(keyEvent.getModifiersEx(), MovementDirection.ROW_START);
                 }
                 undoSequenceBreak();
-                revealCursor();
+                revealMovedCursor();
                 keyEvent.consume();
                 break;
             }
@@ -172,7 +174,7 @@ public class DefaultCodeAreaCommandHandler implements CodeAreaCommandHandler {
                     move(keyEvent.getModifiersEx(), MovementDirection.ROW_END);
                 }
                 undoSequenceBreak();
-                revealCursor();
+                revealMovedCursor();
                 keyEvent.consume();
                 break;
             }
@@ -805,12 +807,19 @@ public class DefaultCodeAreaCommandHandler implements CodeAreaCommandHandler {
     public void moveCaret(int positionX, int positionY, SelectingMode selecting) {
         CodeAreaCaretPosition caretPosition = ((CaretCapable) codeArea).mousePositionToClosestCaretPosition(positionX, positionY, CaretOverlapMode.PARTIAL_OVERLAP);
         if (caretPosition != null) {
-            ((CaretCapable) codeArea).getCaret().setCaretPosition(caretPosition);
+            CodeAreaCaret caret = ((CaretCapable) codeArea).getCaret();
+            CodeAreaSection previousSection = caret.getSection();
+            caret.setCaretPosition(caretPosition);
             updateSelection(selecting, caretPosition);
 
             notifyCaretMoved();
             undoSequenceBreak();
-            codeArea.repaint();
+            if (caret.getSection() == previousSection) {
+                ((CaretCapable) codeArea).notifyCaretChanged();
+            } else {
+                // Section affects colors of the selection
+                codeArea.repaint();
+            }
         }
     }
 
@@ -885,6 +894,22 @@ public class DefaultCodeAreaCommandHandler implements CodeAreaCommandHandler {
         codeArea.repaint();
     }
 
+    /**
+     * Reveals cursor after caret movement.
+     *
+     * Only areas of the cursor are repainted if no scrolling was needed.
+     */
+    private void revealMovedCursor() {
+        CodeAreaScrollPosition previousScrollPosition = new CodeAreaScrollPosition();
+        previousScrollPosition.setScrollPosition(((ScrollingCapable) codeArea).getScrollPosition());
+        ((ScrollingCapable) codeArea).revealCursor();
+        if (previousScrollPosition.equals(((ScrollingCapable) codeArea).getScrollPosition())) {
+            ((CaretCapable) codeArea).notifyCaretChanged();
+        } else {
+            codeArea.repaint();
+        }
+    }
+
     private void notifyCaretMoved() {
         ((CaretCapable) codeArea).notifyCaretMoved();
     }
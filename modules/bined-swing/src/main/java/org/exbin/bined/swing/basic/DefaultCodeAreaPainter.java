@@ -27,11 +27,14 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Stroke;
+import java.awt.GraphicsConfiguration;
 import java.awt.event.AdjustmentEvent;
 import java.awt.event.AdjustmentListener;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Optional;
@@ -43,6 +46,7 @@ import javax.swing.JPanel;
 import javax.swing.JScrollBar;
 import javax.swing.JScrollPane;
 import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 import org.exbin.bined.basic.BasicCodeAreaSection;
 import org.exbin.bined.basic.BasicCodeAreaZone;
@@ -52,6 +56,8 @@ import org.exbin.bined.CodeAreaSection;
 import org.exbin.bined.CodeAreaUtils;
 import org.exbin.bined.basic.CodeAreaViewMode;
 import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.CharsetPreviewDecoder;
+import org.exbin.bined.CodeCharactersTable;
 import org.exbin.bined.CodeType;
 import org.exbin.bined.EditationOperation;
 import org.exbin.bined.PositionCodeType;
@@ -87,12 +93,17 @@ import org.exbin.bined.basic.BasicCodeAreaLayout;
 /**
  * Code area component default painter.
  *
- * @version 0.2.0 2019/07/11
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
 public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapableCodeAreaPainter {
 
+    /**
+     * Character used for rows which data are not loaded yet.
+     */
+    protected static final char PLACEHOLDER_CHAR = '.';
+
     @Nonnull
     protected final CodeAreaCore codeArea;
     private volatile boolean initialized = false;
@@ -142,6 +153,8 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
     private AntialiasingMode antialiasingMode = AntialiasingMode.AUTO;
 
     private int rowPositionLength;
+    @Nonnull
+    private PositionCodeType positionCodeType = PositionCodeType.HEXADECIMAL;
     private int minRowPositionLength;
     private int maxRowPositionLength;
 
@@ -152,6 +165,14 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
     @Nullable
     private RowDataCache rowDataCache = null;
+    @Nonnull
+    private final ViewportRowCache viewportRowCache = new ViewportRowCache();
+    @Nonnull
+    private final RowPositionCache rowPositionCache = new RowPositionCache();
+    private final RowColorRuns rowColorRuns = new RowColorRuns();
+    private final boolean positionBackgroundColorOverridden;
+    private final boolean positionTextColorOverridden;
+    private final CharsetPreviewDecoder previewDecoder = new CharsetPreviewDecoder();
     @Nullable
     private CursorDataCache cursorDataCache = null;
 
@@ -159,8 +180,23 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
     private Charset charMappingCharset = null;
     private final char[] charMapping = new char[256];
 
+    @Nonnull
+    private RowDataLoadingMode rowDataLoadingMode = RowDataLoadingMode.SYNCHRONOUS;
+    @Nullable
+    private AsyncRowDataLoader rowDataLoader = null;
+    private long placeholderStartPosition = Long.MAX_VALUE;
+    private long placeholderEndPosition = Long.MIN_VALUE;
+
+    private boolean incrementalScrollRepaint = false;
+    @Nullable
+    private MainAreaBuffer mainAreaBuffer = null;
+    private long dataVersion = 0;
+    private long renderedAreaVersion = 0;
+
     public DefaultCodeAreaPainter(CodeAreaCore codeArea) {
         this.codeArea = codeArea;
+        positionBackgroundColorOverridden = isPositionColorMethodOverridden("getPositionBackgroundColor");
+        positionTextColorOverridden = isPositionColorMethodOverridden("getPositionTextColor");
 
         dataView = new JPanel();
         dataView.setBorder(null);
@@ -198,9 +234,22 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
                 recomputeLayout();
             }
         };
-        codeAreaDataChangeListener = () -> {
-            validateCaret();
-            recomputeLayout();
+        codeAreaDataChangeListener = new DataChangedListener() {
+            @Override
+            public void dataChanged() {
+                if (rowDataLoader != null) {
+                    rowDataLoader.invalidate();
+                }
+                viewportRowCache.invalidate();
+                dataVersion++;
+                validateCaret();
+                recomputeLayout();
+            }
+
+            @Override
+            public void dataChanged(long startPosition, long oldLength, long newLength) {
+                dataRangeChanged(startPosition, oldLength, newLength);
+            }
         };
         colorsProfile.reinitialize();
     }
@@ -223,6 +272,13 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         codeArea.removeMouseWheelListener(codeAreaMouseListener);
         codeArea.removeComponentListener(codeAreaComponentListener);
         codeArea.removeDataChangedListener(codeAreaDataChangeListener);
+        if (rowDataLoader != null) {
+            rowDataLoader.dispose();
+            rowDataLoader = null;
+        }
+        placeholderStartPosition = Long.MAX_VALUE;
+        placeholderEndPosition = Long.MIN_VALUE;
+        mainAreaBuffer = null;
     }
 
     @Override
@@ -254,6 +310,38 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         caretChanged = true;
     }
 
+    @Override
+    public boolean repaintCursor() {
+        if (!initialized || layoutChanged || cursorDataCache == null) {
+            return false;
+        }
+
+        if (caretChanged) {
+            updateCaret();
+        }
+
+        // Previously painted cursor
+        Rectangle mainAreaRect = dimensions.getMainAreaRectangle();
+        repaintCursorRect(cursorDataCache.caretRect, mainAreaRect);
+        repaintCursorRect(cursorDataCache.mirrorCursorRect, mainAreaRect);
+
+        // Current cursor
+        DefaultCodeAreaCaret caret = (DefaultCodeAreaCaret) ((CaretCapable) codeArea).getCaret();
+        repaintCursorRect(getCursorPositionRect(caret.getDataPosition(), caret.getCodeOffset(), caret.getSection()), mainAreaRect);
+        if (structure.getViewMode() == CodeAreaViewMode.DUAL && showMirrorCursor) {
+            updateMirrorCursorRect(caret.getDataPosition(), caret.getSection());
+            repaintCursorRect(cursorDataCache.mirrorCursorRect, mainAreaRect);
+        }
+        return true;
+    }
+
+    private void repaintCursorRect(Rectangle cursorRect, Rectangle mainAreaRect) {
+        Rectangle intersection = cursorRect.intersection(mainAreaRect);
+        if (!intersection.isEmpty()) {
+            codeArea.repaint(intersection);
+        }
+    }
+
     @Override
     public void rebuildColors() {
         colorsProfile.reinitialize();
@@ -290,6 +378,115 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         caretChanged = false;
     }
 
+    /**
+     * Updates painter for change of given range of data.
+     *
+     * Only rows containing modified range are repainted if data size was not
+     * changed, otherwise all rows after the start of the range are repainted.
+     *
+     * @param startPosition start position of changed range
+     * @param oldLength length of the range before change
+     * @param newLength length of the range after change
+     */
+    private void dataRangeChanged(long startPosition, long oldLength, long newLength) {
+        if (!initialized || layoutChanged) {
+            codeAreaDataChangeListener.dataChanged();
+            return;
+        }
+
+        if (rowDataLoader != null) {
+            rowDataLoader.invalidate();
+        }
+
+        if (oldLength == newLength) {
+            if (newLength > 0) {
+                // Preview character decoded from the range can continue to the following bytes
+                long endPosition = startPosition + newLength + metrics.getMaxBytesPerChar() - 1;
+                viewportRowCache.invalidateRange(startPosition, endPosition);
+                repaintDataRange(startPosition, endPosition);
+            }
+            return;
+        }
+
+        Rectangle dataViewRectangle = new Rectangle(dimensions.getDataViewRectangle());
+        CodeAreaScrollPosition scrollPosition = scrolling.getScrollPosition();
+        long rowPosition = scrollPosition.getRowPosition();
+        int rowOffset = scrollPosition.getRowOffset();
+        validateCaret();
+        recomputeLayout();
+        scrollPosition = scrolling.getScrollPosition();
+        if (!dataViewRectangle.equals(dimensions.getDataViewRectangle()) || rowPosition != scrollPosition.getRowPosition() || rowOffset != scrollPosition.getRowOffset()) {
+            viewportRowCache.invalidate();
+            dataVersion++;
+            codeArea.repaint();
+            return;
+        }
+
+        viewportRowCache.invalidateRange(startPosition, Long.MAX_VALUE);
+        repaintDataRange(startPosition, Long.MAX_VALUE);
+    }
+
+    /**
+     * Requests repaint of visible rows containing given range of data.
+     *
+     * @param startPosition start position
+     * @param endPosition end position or Long.MAX_VALUE for all following
+     * rows
+     */
+    private void repaintDataRange(long startPosition, long endPosition) {
+        if (mainAreaBuffer != null) {
+            mainAreaBuffer.dirtyStartPosition = Math.min(mainAreaBuffer.dirtyStartPosition, startPosition);
+            mainAreaBuffer.dirtyEndPosition = Math.max(mainAreaBuffer.dirtyEndPosition, endPosition);
+        }
+
+        Rectangle rowsRectangle = computeDataRangeRectangle(startPosition, endPosition);
+        if (rowsRectangle == null) {
+            return;
+        }
+
+        if (endPosition == Long.MAX_VALUE) {
+            // Row positions of appended or removed rows has to be repainted as well
+            codeArea.repaint(0, rowsRectangle.y, codeArea.getWidth(), rowsRectangle.height);
+        } else {
+            codeArea.repaint(rowsRectangle);
+        }
+    }
+
+    /**
+     * Computes rectangle of visible rows of main area containing given range
+     * of data.
+     *
+     * @param startPosition start position
+     * @param endPosition end position or Long.MAX_VALUE for all following
+     * rows
+     * @return rectangle or null if no such row is visible
+     */
+    @Nullable
+    Rectangle computeDataRangeRectangle(long startPosition, long endPosition) {
+        int bytesPerRow = structure.getBytesPerRow();
+        int rowHeight = metrics.getRowHeight();
+        if (bytesPerRow <= 0 || rowHeight <= 0) {
+            return null;
+        }
+
+        Rectangle mainAreaRect = dimensions.getMainAreaRectangle();
+        CodeAreaScrollPosition scrollPosition = scrolling.getScrollPosition();
+        int rowsTop = dimensions.getScrollPanelY() - scrollPosition.getRowOffset();
+        // Preview character can be decoded from bytes on the previous row
+        long firstRow = Math.max(0, startPosition - metrics.getMaxBytesPerChar() + 1) / bytesPerRow - scrollPosition.getRowPosition();
+        long top = Math.max(mainAreaRect.y, rowsTop + firstRow * rowHeight);
+        long bottom = mainAreaRect.y + mainAreaRect.height;
+        if (endPosition != Long.MAX_VALUE) {
+            long lastRow = (endPosition - 1) / bytesPerRow - scrollPosition.getRowPosition();
+            bottom = Math.min(bottom, rowsTop + (lastRow + 1) * rowHeight);
+        }
+        if (top >= bottom) {
+            return null;
+        }
+
+        return new Rectangle(mainAreaRect.x, (int) top, mainAreaRect.width, (int) (bottom - top));
+    }
+
     private void validateCaret() {
         CodeAreaCaret caret = ((CaretCapable) codeArea).getCaret();
         CodeAreaCaretPosition caretPosition = caret.getCaretPosition();
@@ -317,11 +514,7 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             rowDataCache = new RowDataCache();
         }
 
-        int maxRowDataChars = visibility.getMaxRowDataChars();
         rowDataCache.headerChars = new char[visibility.getCharactersPerCodeSection()];
-        rowDataCache.rowData = new byte[structure.getBytesPerRow() + metrics.getMaxBytesPerChar() - 1];
-        rowDataCache.rowPositionCode = new char[rowPositionLength];
-        rowDataCache.rowCharacters = new char[structure.getCharactersPerRow()];
     }
 
     public void fontChanged(Graphics g) {
@@ -408,9 +601,14 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             recomputeLayout();
         }
 
-        paintOutsiteArea(g);
-        paintHeader(g);
-        paintRowPosition(g);
+        Rectangle clipBounds = g.getClipBounds();
+        if (clipBounds == null || clipBounds.y < dimensions.getComponentRectangle().y + dimensions.getHeaderAreaHeight()) {
+            paintOutsiteArea(g);
+            paintHeader(g);
+        }
+        if (clipBounds == null || clipBounds.intersects(dimensions.getRowPositionAreaRectangle())) {
+            paintRowPosition(g);
+        }
         paintMainArea(g);
     }
 
@@ -481,6 +679,16 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             int skipToChar = visibility.getSkipToChar();
             int skipRestFromChar = visibility.getSkipRestFromChar();
             int codeCharEnd = Math.min(skipRestFromChar, visibility.getCharactersPerCodeSection());
+            int renderEnd = charactersPerCodeSection;
+
+            // Skip characters outside of clipping area
+            Rectangle headerClipBounds = g.getClipBounds();
+            if (headerClipBounds != null && characterWidth > 0) {
+                skipToChar = Math.max(skipToChar, Math.floorDiv(headerClipBounds.x - headerX, characterWidth) - 1);
+                renderEnd = Math.min(renderEnd, Math.floorDiv(headerClipBounds.x + headerClipBounds.width - 1 - headerX, characterWidth) + 2);
+                codeCharEnd = Math.min(codeCharEnd, renderEnd);
+            }
+
             int renderOffset = skipToChar;
             Color renderColor = null;
             for (int characterOnRow = skipToChar; characterOnRow < codeCharEnd; characterOnRow++) {
@@ -511,8 +719,8 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
                 }
             }
 
-            if (renderOffset < charactersPerCodeSection) {
-                drawCenteredChars(g, rowDataCache.headerChars, renderOffset, charactersPerCodeSection - renderOffset, characterWidth, headerX + renderOffset * characterWidth, headerY);
+            if (renderOffset < renderEnd) {
+                drawCenteredChars(g, rowDataCache.headerChars, renderOffset, renderEnd - renderOffset, characterWidth, headerX + renderOffset * characterWidth, headerY);
             }
         }
 
@@ -560,15 +768,42 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         }
 
         long dataPosition = bytesPerRow * scrollPosition.getRowPosition();
-        int positionY = rowPosRectangle.y + rowHeight - subFontSpace - scrollPosition.getRowOffset();
+        int rowPositionY = rowPosRectangle.y - scrollPosition.getRowOffset();
+
+        // Skip rows outside of clipping area
+        int firstRow = 0;
+        int lastRow = rowsPerRect;
+        Rectangle rowsClipBounds = g.getClipBounds();
+        if (rowsClipBounds != null && rowHeight > 0) {
+            firstRow = Math.max(0, Math.floorDiv(rowsClipBounds.y - rowPositionY, rowHeight));
+            lastRow = Math.min(rowsPerRect, Math.floorDiv(rowsClipBounds.y + rowsClipBounds.height - 1 - rowPositionY, rowHeight));
+            dataPosition += (long) firstRow * bytesPerRow;
+        }
+
+        rowPositionCache.updateLayout(rowsPerRect + 1, bytesPerRow, rowPositionLength, positionCodeType, codeCharactersCase);
+        boolean useRowImages = incrementalScrollRepaint && isBufferable(g, rowPosRectangle);
+        if (useRowImages) {
+            rowPositionCache.updateImageState(getRowPositionImageState((Graphics2D) g, rowPosRectangle.width));
+        }
+
+        int positionY = rowPositionY + firstRow * rowHeight + rowHeight - subFontSpace;
         g.setColor(colorsProfile.getTextColor());
-        for (int row = 0; row <= rowsPerRect; row++) {
+        for (int row = firstRow; row <= lastRow; row++) {
             if (dataPosition > dataSize) {
                 break;
             }
 
-            CodeAreaUtils.longToBaseCode(rowDataCache.rowPositionCode, 0, dataPosition < 0 ? 0 : dataPosition, CodeType.HEXADECIMAL.getBase(), rowPositionLength, true, codeCharactersCase);
-            drawCenteredChars(g, rowDataCache.rowPositionCode, 0, rowPositionLength, characterWidth, rowPosRectangle.x, positionY);
+            long rowPosition = scrollPosition.getRowPosition() + row;
+            if (useRowImages) {
+                BufferedImage rowImage = rowPositionCache.getRowImage(rowPosition);
+                if (rowImage == null) {
+                    rowImage = createRowPositionImage((Graphics2D) g, rowPosition, rowPosRectangle.width);
+                    rowPositionCache.setRowImage(rowPosition, rowImage);
+                }
+                g.drawImage(rowImage, rowPosRectangle.x, positionY - rowHeight + subFontSpace, null);
+            } else {
+                drawCenteredChars(g, rowPositionCache.getRowPositionCode(rowPosition), 0, rowPositionLength, characterWidth, rowPosRectangle.x, positionY);
+            }
 
             positionY += rowHeight;
             dataPosition += bytesPerRow;
@@ -585,6 +820,49 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         g.setClip(clipBounds);
     }
 
+    /**
+     * Renders image of the row position including row background.
+     *
+     * @param g graphics to take rendering hints from
+     * @param rowPosition row position
+     * @param width width of the row position area
+     * @return row image
+     */
+    @Nonnull
+    private BufferedImage createRowPositionImage(Graphics2D g, long rowPosition, int width) {
+        int rowHeight = metrics.getRowHeight();
+        GraphicsConfiguration graphicsConfiguration = codeArea.getGraphicsConfiguration();
+        BufferedImage image = graphicsConfiguration != null
+                ? graphicsConfiguration.createCompatibleImage(width, rowHeight)
+                : new BufferedImage(width, rowHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D imageGraphics = image.createGraphics();
+        imageGraphics.setRenderingHints(g.getRenderingHints());
+        boolean stripedRow = backgroundPaintMode == BasicBackgroundPaintMode.STRIPED && (rowPosition & 1) != 0;
+        imageGraphics.setColor(stripedRow ? colorsProfile.getAlternateBackground() : colorsProfile.getTextBackground());
+        imageGraphics.fillRect(0, 0, width, rowHeight);
+        imageGraphics.setFont(font);
+        imageGraphics.setColor(colorsProfile.getTextColor());
+        drawCenteredChars(imageGraphics, rowPositionCache.getRowPositionCode(rowPosition), 0, rowPositionLength, metrics.getCharacterWidth(), 0, rowHeight - metrics.getSubFontSpace());
+        imageGraphics.dispose();
+        return image;
+    }
+
+    /**
+     * Returns values affecting rendering of the row position images.
+     *
+     * @param g graphics
+     * @param width width of the row position area
+     * @return array of values
+     */
+    @Nonnull
+    private Object[] getRowPositionImageState(Graphics2D g, int width) {
+        return new Object[]{
+            font, metrics.getRowHeight(), metrics.getCharacterWidth(), metrics.getSubFontSpace(), width, backgroundPaintMode,
+            g.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING), g.getRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS),
+            colorsProfile, colorsProfile.getTextColor(), colorsProfile.getTextBackground(), colorsProfile.getAlternateBackground()
+        };
+    }
+
     @Override
     public void paintMainArea(Graphics g) {
         if (!initialized) {
@@ -596,13 +874,30 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         }
 
         Rectangle mainAreaRect = dimensions.getMainAreaRectangle();
+        Rectangle clipBounds = g.getClipBounds();
+        g.setClip(clipBounds != null ? clipBounds.intersection(mainAreaRect) : mainAreaRect);
+        if (incrementalScrollRepaint && isBufferable(g, mainAreaRect)) {
+            paintMainAreaBuffered((Graphics2D) g, mainAreaRect);
+        } else {
+            paintMainAreaContent(g);
+        }
+        g.setClip(clipBounds);
+        paintCursor(g);
+
+//        paintDebugInfo(g, mainAreaRect, scrollPosition);
+    }
+
+    /**
+     * Paints main area background, decoration lines and rows.
+     *
+     * @param g graphics
+     */
+    protected void paintMainAreaContent(Graphics g) {
         Rectangle dataViewRectangle = dimensions.getDataViewRectangle();
         CodeAreaScrollPosition scrollPosition = scrolling.getScrollPosition();
         int characterWidth = metrics.getCharacterWidth();
         int previewRelativeX = visibility.getPreviewRelativeX();
 
-        Rectangle clipBounds = g.getClipBounds();
-        g.setClip(clipBounds != null ? clipBounds.intersection(mainAreaRect) : mainAreaRect);
         paintBackground(g);
 
         // Decoration lines
@@ -613,10 +908,115 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         }
 
         paintRows(g);
-        g.setClip(clipBounds);
-        paintCursor(g);
+    }
 
-//        paintDebugInfo(g, mainAreaRect, scrollPosition);
+    private boolean isBufferable(Graphics g, Rectangle mainAreaRect) {
+        if (!(g instanceof Graphics2D) || mainAreaRect.isEmpty() || backgroundPaintMode == BasicBackgroundPaintMode.TRANSPARENT) {
+            return false;
+        }
+
+        // Buffer would not match device pixels for scaled output
+        int transformType = ((Graphics2D) g).getTransform().getType();
+        return transformType == AffineTransform.TYPE_IDENTITY || transformType == AffineTransform.TYPE_TRANSLATION;
+    }
+
+    /**
+     * Paints main area using offscreen buffer.
+     *
+     * If only vertical scroll position changed since last painting, retained
+     * part of the buffer is shifted and only newly exposed rows are painted.
+     *
+     * @param g graphics
+     * @param mainAreaRect main area rectangle
+     */
+    private void paintMainAreaBuffered(Graphics2D g, Rectangle mainAreaRect) {
+        if (mainAreaBuffer == null) {
+            mainAreaBuffer = new MainAreaBuffer();
+        }
+        BufferedImage image = mainAreaBuffer.image;
+        if (image == null || image.getWidth() != mainAreaRect.width || image.getHeight() != mainAreaRect.height) {
+            GraphicsConfiguration graphicsConfiguration = codeArea.getGraphicsConfiguration();
+            image = graphicsConfiguration != null
+                    ? graphicsConfiguration.createCompatibleImage(mainAreaRect.width, mainAreaRect.height)
+                    : new BufferedImage(mainAreaRect.width, mainAreaRect.height, BufferedImage.TYPE_INT_RGB);
+            mainAreaBuffer.image = image;
+            mainAreaBuffer.renderState = null;
+        }
+
+        CodeAreaScrollPosition scrollPosition = scrolling.getScrollPosition();
+        Object[] renderState = getRenderState();
+        Graphics2D imageGraphics = image.createGraphics();
+        imageGraphics.setRenderingHints(g.getRenderingHints());
+        imageGraphics.translate(-mainAreaRect.x, -mainAreaRect.y);
+        imageGraphics.setClip(mainAreaRect);
+
+        long shiftY = (scrollPosition.getRowPosition() - mainAreaBuffer.rowPosition) * metrics.getRowHeight() + scrollPosition.getRowOffset() - mainAreaBuffer.rowOffset;
+        if (Arrays.equals(renderState, mainAreaBuffer.renderState)
+                && scrollPosition.getCharPosition() == mainAreaBuffer.charPosition
+                && scrollPosition.getCharOffset() == mainAreaBuffer.charOffset
+                && Math.abs(shiftY) < mainAreaRect.height) {
+            if (shiftY != 0) {
+                int shift = (int) shiftY;
+                if (shift > 0) {
+                    imageGraphics.copyArea(mainAreaRect.x, mainAreaRect.y + shift, mainAreaRect.width, mainAreaRect.height - shift, 0, -shift);
+                    imageGraphics.clipRect(mainAreaRect.x, mainAreaRect.y + mainAreaRect.height - shift, mainAreaRect.width, shift);
+                } else {
+                    imageGraphics.copyArea(mainAreaRect.x, mainAreaRect.y, mainAreaRect.width, mainAreaRect.height + shift, 0, -shift);
+                    imageGraphics.clipRect(mainAreaRect.x, mainAreaRect.y, mainAreaRect.width, -shift);
+                }
+                paintMainAreaContent(imageGraphics);
+            }
+            if (mainAreaBuffer.dirtyStartPosition < mainAreaBuffer.dirtyEndPosition) {
+                // Repaint rows of data changed since last painting
+                Rectangle dirtyRectangle = computeDataRangeRectangle(mainAreaBuffer.dirtyStartPosition, mainAreaBuffer.dirtyEndPosition);
+                if (dirtyRectangle != null) {
+                    imageGraphics.setClip(dirtyRectangle);
+                    paintMainAreaContent(imageGraphics);
+                }
+            }
+        } else {
+            paintMainAreaContent(imageGraphics);
+        }
+        imageGraphics.dispose();
+
+        mainAreaBuffer.dirtyStartPosition = Long.MAX_VALUE;
+        mainAreaBuffer.dirtyEndPosition = Long.MIN_VALUE;
+        mainAreaBuffer.renderState = renderState;
+        mainAreaBuffer.rowPosition = scrollPosition.getRowPosition();
+        mainAreaBuffer.rowOffset = scrollPosition.getRowOffset();
+        mainAreaBuffer.charPosition = scrollPosition.getCharPosition();
+        mainAreaBuffer.charOffset = scrollPosition.getCharOffset();
+        g.drawImage(image, mainAreaRect.x, mainAreaRect.y, null);
+    }
+
+    /**
+     * Returns values affecting rendering of the main area except scroll
+     * position.
+     *
+     * @return array of values
+     */
+    @Nonnull
+    private Object[] getRenderState() {
+        SelectionRange selectionRange = structure.getSelectionRange();
+        CodeAreaCaret caret = ((CaretCapable) codeArea).getCaret();
+        return new Object[]{
+            codeArea.getContentData(), dataVersion, renderedAreaVersion,
+            font, charset, structure.getCodeType(), codeCharactersCase, structure.getViewMode(), backgroundPaintMode,
+            structure.getBytesPerRow(), structure.getCharactersPerRow(), metrics.getRowHeight(), metrics.getCharacterWidth(),
+            selectionRange == null || selectionRange.isEmpty() ? null : selectionRange.getStart(), selectionRange == null || selectionRange.isEmpty() ? null : selectionRange.getEnd(), caret.getSection(),
+            colorsProfile, colorsProfile.getTextColor(), colorsProfile.getTextBackground(), colorsProfile.getAlternateBackground(), colorsProfile.getDecorationLine(),
+            colorsProfile.getSelectionColor(), colorsProfile.getSelectionBackground(), colorsProfile.getSelectionMirrorColor(), colorsProfile.getSelectionMirrorBackground()
+        };
+    }
+
+    /**
+     * Marks rendering of the main area as outdated.
+     *
+     * Painters providing custom colorization should call this method when
+     * their colorization state changes.
+     */
+    public void invalidateRenderedArea() {
+        renderedAreaVersion++;
     }
 
 //    // Debuging counter
@@ -681,8 +1081,25 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         int rowPositionX = dataViewX - scrollPosition.getCharPosition() * characterWidth - scrollPosition.getCharOffset();
         int rowPositionY = dataViewY - scrollPosition.getRowOffset();
 
+        if (rowDataLoadingMode == RowDataLoadingMode.ASYNCHRONOUS) {
+            requestRowsData(dataPosition, rowsPerRect + 1);
+        }
+        viewportRowCache.updateLayout(rowsPerRect + 1, bytesPerRow, bytesPerRow + metrics.getMaxBytesPerChar() - 1, structure.getCharactersPerRow(),
+                structure.getCodeType(), codeCharactersCase, structure.getViewMode(), charset);
+
+        // Skip rows outside of clipping area
+        int firstRow = 0;
+        int lastRow = rowsPerRect;
+        Rectangle clipBounds = g.getClipBounds();
+        if (clipBounds != null && rowHeight > 0) {
+            firstRow = Math.max(0, Math.floorDiv(clipBounds.y - rowPositionY, rowHeight));
+            lastRow = Math.min(rowsPerRect, Math.floorDiv(clipBounds.y + clipBounds.height - 1 - rowPositionY, rowHeight));
+            dataPosition += (long) firstRow * bytesPerRow;
+            rowPositionY += firstRow * rowHeight;
+        }
+
         g.setColor(colorsProfile.getTextColor());
-        for (int row = 0; row <= rowsPerRect; row++) {
+        for (int row = firstRow; row <= lastRow; row++) {
             prepareRowData(dataPosition);
             paintRowBackground(g, dataPosition, rowPositionX, rowPositionY);
             paintRowText(g, dataPosition, rowPositionX, rowPositionY);
@@ -693,6 +1110,13 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
     }
 
     private void prepareRowData(long dataPosition) {
+        ViewportRowCache.CachedRow cachedRow = viewportRowCache.getRow(dataPosition);
+        rowDataCache.rowData = cachedRow.getRowData();
+        rowDataCache.rowCharacters = cachedRow.getRowCharacters();
+        if (cachedRow.isPrepared()) {
+            return;
+        }
+
         int maxBytesPerChar = metrics.getMaxBytesPerChar();
         CodeAreaViewMode viewMode = structure.getViewMode();
         int bytesPerRow = structure.getBytesPerRow();
@@ -702,8 +1126,9 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
         int rowBytesLimit = bytesPerRow;
         int rowStart = 0;
+        int rowDataSize = 0;
         if (dataPosition < dataSize) {
-            int rowDataSize = bytesPerRow + maxBytesPerChar - 1;
+            rowDataSize = bytesPerRow + maxBytesPerChar - 1;
             if (dataPosition + rowDataSize > dataSize) {
                 rowDataSize = (int) (dataSize - dataPosition);
             }
@@ -714,70 +1139,131 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             if (data == null) {
                 throw new IllegalStateException("Missing data on nonzero data size");
             }
-            data.copyToArray(dataPosition + rowStart, rowDataCache.rowData, rowStart, rowDataSize - rowStart);
             if (dataPosition + rowBytesLimit > dataSize) {
                 rowBytesLimit = (int) (dataSize - dataPosition);
             }
+            if (rowDataLoader != null) {
+                if (!rowDataLoader.copyToArray(data, dataPosition + rowStart, rowDataCache.rowData, rowStart, rowDataSize - rowStart)) {
+                    preparePlaceholderRowData(rowStart, rowBytesLimit);
+                    placeholderStartPosition = Math.min(placeholderStartPosition, dataPosition);
+                    placeholderEndPosition = Math.max(placeholderEndPosition, dataPosition + bytesPerRow);
+                    return;
+                }
+            } else {
+                data.copyToArray(dataPosition + rowStart, rowDataCache.rowData, rowStart, rowDataSize - rowStart);
+            }
         } else {
             rowBytesLimit = 0;
         }
 
+        // Whole row is prepared so that it can be reused when scrolled horizontally
+        Arrays.fill(rowDataCache.rowCharacters, ' ');
+
         // Fill codes
-        if (viewMode != CodeAreaViewMode.TEXT_PREVIEW) {
-            int skipToCode = visibility.getSkipToCode();
-            int skipRestFromCode = visibility.getSkipRestFromCode();
-            int endCode = Math.min(skipRestFromCode, rowBytesLimit);
-            for (int byteOnRow = Math.max(skipToCode, rowStart); byteOnRow < endCode; byteOnRow++) {
-                byte dataByte = rowDataCache.rowData[byteOnRow];
+        if (viewMode != CodeAreaViewMode.TEXT_PREVIEW && rowBytesLimit > rowStart) {
+            int charsPerByte = structure.computeFirstCodeCharacterPos(1) - structure.computeFirstCodeCharacterPos(0);
+            CodeCharactersTable.getTable(codeType, codeCharactersCase).writeCodes(rowDataCache.rowData, rowStart, rowBytesLimit - rowStart, rowDataCache.rowCharacters, structure.computeFirstCodeCharacterPos(rowStart), charsPerByte);
+        }
 
-                int byteRowPos = structure.computeFirstCodeCharacterPos(byteOnRow);
-                if (byteRowPos > 0) {
-                    rowDataCache.rowCharacters[byteRowPos - 1] = ' ';
+        // Fill preview characters
+        if (viewMode != CodeAreaViewMode.CODE_MATRIX && rowBytesLimit > rowStart) {
+            if (maxBytesPerChar > 1) {
+                // Continue after the last character of the previous row if known
+                int previewStart = rowStart;
+                ViewportRowCache.CachedRow previousRow = viewportRowCache.getPreparedRow(dataPosition - bytesPerRow);
+                if (previousRow != null) {
+                    previewStart = Math.max(rowStart, previousRow.getPreviewSpill());
                 }
-                CodeAreaUtils.byteToCharsCode(dataByte, codeType, rowDataCache.rowCharacters, byteRowPos, codeCharactersCase);
-            }
+                previewDecoder.setCharset(charset);
+                int previewSpill = previewDecoder.decode(rowDataCache.rowData, previewStart, rowBytesLimit, rowDataSize, rowDataCache.rowCharacters, previewCharPos, ' ');
+                cachedRow.setPreviewDecoding(previewStart, previewSpill);
 
-            if (bytesPerRow > rowBytesLimit) {
-                Arrays.fill(rowDataCache.rowCharacters, structure.computeFirstCodeCharacterPos(rowBytesLimit), rowDataCache.rowCharacters.length, ' ');
+                ViewportRowCache.CachedRow nextRow = viewportRowCache.getPreparedRow(dataPosition + bytesPerRow);
+                if (nextRow != null && nextRow.getPreviewStart() != previewSpill) {
+                    viewportRowCache.invalidateRow(nextRow);
+                }
+            } else {
+                if (charMappingCharset == null || charMappingCharset != charset) {
+                    buildCharMapping(charset);
+                }
+
+                for (int byteOnRow = rowStart; byteOnRow < rowBytesLimit; byteOnRow++) {
+                    rowDataCache.rowCharacters[previewCharPos + byteOnRow] = charMapping[rowDataCache.rowData[byteOnRow] & 0xFF];
+                }
             }
         }
 
-        if (previewCharPos > 0) {
-            rowDataCache.rowCharacters[previewCharPos - 1] = ' ';
+        viewportRowCache.setRowPrepared(cachedRow);
+    }
+
+    private void preparePlaceholderRowData(int rowStart, int rowBytesLimit) {
+        CodeAreaViewMode viewMode = structure.getViewMode();
+        int previewCharPos = visibility.getPreviewCharPos();
+        int digitsForByte = structure.getCodeType().getMaxDigitsForByte();
+        Arrays.fill(rowDataCache.rowCharacters, ' ');
+
+        if (viewMode != CodeAreaViewMode.TEXT_PREVIEW) {
+            int endCode = Math.min(visibility.getSkipRestFromCode(), rowBytesLimit);
+            for (int byteOnRow = Math.max(visibility.getSkipToCode(), rowStart); byteOnRow < endCode; byteOnRow++) {
+                int byteRowPos = structure.computeFirstCodeCharacterPos(byteOnRow);
+                Arrays.fill(rowDataCache.rowCharacters, byteRowPos, byteRowPos + digitsForByte, PLACEHOLDER_CHAR);
+            }
         }
 
-        // Fill preview characters
         if (viewMode != CodeAreaViewMode.CODE_MATRIX) {
-            int skipToPreview = visibility.getSkipToPreview();
-            int skipRestFromPreview = visibility.getSkipRestFromPreview();
-            int endPreview = Math.min(skipRestFromPreview, rowBytesLimit);
-            for (int byteOnRow = skipToPreview; byteOnRow < endPreview; byteOnRow++) {
-                byte dataByte = rowDataCache.rowData[byteOnRow];
-
-                if (maxBytesPerChar > 1) {
-                    if (dataPosition + maxBytesPerChar > dataSize) {
-                        maxBytesPerChar = (int) (dataSize - dataPosition);
-                    }
+            int endPreview = Math.min(visibility.getSkipRestFromPreview(), rowBytesLimit);
+            int startPreview = Math.max(visibility.getSkipToPreview(), rowStart);
+            if (startPreview < endPreview) {
+                Arrays.fill(rowDataCache.rowCharacters, previewCharPos + startPreview, previewCharPos + endPreview, PLACEHOLDER_CHAR);
+            }
+        }
+    }
 
-                    int charDataLength = maxBytesPerChar;
-                    if (byteOnRow + charDataLength > rowDataCache.rowData.length) {
-                        charDataLength = rowDataCache.rowData.length - byteOnRow;
-                    }
-                    String displayString = new String(rowDataCache.rowData, byteOnRow, charDataLength, charset);
-                    if (!displayString.isEmpty()) {
-                        rowDataCache.rowCharacters[previewCharPos + byteOnRow] = displayString.charAt(0);
-                    }
-                } else {
-                    if (charMappingCharset == null || charMappingCharset != charset) {
-                        buildCharMapping(charset);
-                    }
+    /**
+     * Requests background loading of data for given rows.
+     *
+     * @param dataPosition data position of the first row
+     * @param rowsCount number of rows
+     */
+    private void requestRowsData(long dataPosition, int rowsCount) {
+        BinaryData data = codeArea.getContentData();
+        long dataSize = structure.getDataSize();
+        if (data == null || dataPosition >= dataSize) {
+            return;
+        }
 
-                    rowDataCache.rowCharacters[previewCharPos + byteOnRow] = charMapping[dataByte & 0xFF];
-                }
-            }
-            if (bytesPerRow > rowBytesLimit) {
-                Arrays.fill(rowDataCache.rowCharacters, previewCharPos + rowBytesLimit, previewCharPos + bytesPerRow, ' ');
-            }
+        if (rowDataLoader == null) {
+            rowDataLoader = new AsyncRowDataLoader(() -> SwingUtilities.invokeLater(this::rowDataLoaded));
+        }
+
+        int bytesPerRow = structure.getBytesPerRow();
+        long rowsLength = (long) rowsCount * bytesPerRow;
+        long startPosition = Math.max(dataPosition, 0);
+        long endPosition = Math.min(dataSize, dataPosition + rowsLength + metrics.getMaxBytesPerChar() - 1);
+        rowDataLoader.requestRange(data, startPosition, endPosition - startPosition, rowsLength);
+    }
+
+    /**
+     * Requests repaint of rows painted with placeholders after data were
+     * loaded.
+     *
+     * Rows are marked as dirty so that they are not reused from offscreen
+     * buffer.
+     */
+    private void rowDataLoaded() {
+        if (placeholderStartPosition >= placeholderEndPosition) {
+            return;
+        }
+
+        long startPosition = placeholderStartPosition;
+        long endPosition = placeholderEndPosition;
+        placeholderStartPosition = Long.MAX_VALUE;
+        placeholderEndPosition = Long.MIN_VALUE;
+        if (initialized && !layoutChanged) {
+            repaintDataRange(startPosition, endPosition);
+        } else {
+            invalidateRenderedArea();
+            codeArea.repaint();
         }
     }
 
@@ -790,53 +1276,67 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
      * @param rowPositionY row position Y
      */
     public void paintRowBackground(Graphics g, long rowDataPosition, int rowPositionX, int rowPositionY) {
-        int previewCharPos = visibility.getPreviewCharPos();
-        CodeAreaViewMode viewMode = structure.getViewMode();
-        int charactersPerRow = structure.getCharactersPerRow();
         int skipToChar = visibility.getSkipToChar();
         int skipRestFromChar = visibility.getSkipRestFromChar();
 
-        int renderOffset = skipToChar;
-        Color renderColor = null;
-        for (int charOnRow = skipToChar; charOnRow < skipRestFromChar; charOnRow++) {
-            CodeAreaSection section;
-            int byteOnRow;
-            if (charOnRow >= previewCharPos && viewMode != CodeAreaViewMode.CODE_MATRIX) {
-                byteOnRow = charOnRow - previewCharPos;
-                section = BasicCodeAreaSection.TEXT_PREVIEW;
-            } else {
-                byteOnRow = structure.computePositionByte(charOnRow);
-                section = BasicCodeAreaSection.CODE_MATRIX;
+        rowColorRuns.reset(structure.getCharactersPerRow());
+        fillRowBackgroundRuns(rowDataPosition, rowColorRuns);
+        rowColorRuns.merge();
+
+        Color lastColor = null;
+        for (int runIndex = 0; runIndex < rowColorRuns.getRunsCount(); runIndex++) {
+            int runStart = Math.max(rowColorRuns.getRunStart(runIndex), skipToChar);
+            int runEnd = Math.min(rowColorRuns.getRunEnd(runIndex), skipRestFromChar);
+            if (runStart >= runEnd) {
+                continue;
             }
-            boolean sequenceBreak = false;
 
-            Color color = getPositionBackgroundColor(rowDataPosition, byteOnRow, charOnRow, section);
-            if (!CodeAreaSwingUtils.areSameColors(color, renderColor)) {
-                sequenceBreak = true;
+            Color color = rowColorRuns.getRunColor(runIndex);
+            if (!CodeAreaSwingUtils.areSameColors(color, lastColor)) {
+                g.setColor(color);
+                lastColor = color;
             }
-            if (sequenceBreak) {
-                if (renderOffset < charOnRow) {
-                    if (renderColor != null) {
-                        renderBackgroundSequence(g, renderOffset, charOnRow, rowPositionX, rowPositionY);
-                    }
-                }
+            renderBackgroundSequence(g, runStart, runEnd, rowPositionX, rowPositionY);
+        }
+    }
 
-                if (!CodeAreaSwingUtils.areSameColors(color, renderColor)) {
-                    renderColor = color;
-                    if (color != null) {
-                        g.setColor(color);
-                    }
-                }
+    /**
+     * Fills background color runs of the row.
+     *
+     * Runs added later take precedence, overriding methods can add runs
+     * before or after calling super method to place their colors below or
+     * above the selection.
+     *
+     * If deprecated method {@link #getPositionBackgroundColor(long, int, int, CodeAreaSection)}
+     * is overridden, runs are filled using colors of the individual positions
+     * instead.
+     *
+     * @param rowDataPosition row data position
+     * @param runs color runs to fill
+     */
+    public void fillRowBackgroundRuns(long rowDataPosition, RowColorRuns runs) {
+        if (positionBackgroundColorOverridden) {
+            addPositionColorRuns(rowDataPosition, runs, true);
+            return;
+        }
 
-                renderOffset = charOnRow;
-            }
+        SelectionRange selectionRange = structure.getSelectionRange();
+        if (selectionRange == null || selectionRange.isEmpty()) {
+            return;
         }
 
-        if (renderOffset < charactersPerRow) {
-            if (renderColor != null) {
-                renderBackgroundSequence(g, renderOffset, charactersPerRow, rowPositionX, rowPositionY);
-            }
+        int bytesPerRow = structure.getBytesPerRow();
+        long selectionStart = selectionRange.getFirst() - rowDataPosition;
+        long selectionEnd = selectionRange.getLast() + 1 - rowDataPosition;
+        if (selectionEnd <= 0 || selectionStart >= bytesPerRow) {
+            return;
         }
+
+        CodeAreaSection caretSection = ((CaretCapable) codeArea).getCaret().getSection();
+        boolean codeMatrixActive = caretSection == BasicCodeAreaSection.CODE_MATRIX;
+        addRowBytesRuns(runs, (int) Math.max(selectionStart, 0), (int) Math.min(selectionEnd, bytesPerRow), true,
+                codeMatrixActive ? colorsProfile.getSelectionBackground() : colorsProfile.getSelectionMirrorBackground(),
+                codeMatrixActive ? colorsProfile.getSelectionMirrorBackground() : colorsProfile.getSelectionBackground());
     }
 
     /**
@@ -847,7 +1347,11 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
      * @param charOnRow character on current row
      * @param section current section
      * @return color or null for default color
+     * @deprecated colors are painted by runs, override
+     * {@link #fillRowBackgroundRuns(long, RowColorRuns)} instead, this method
+     * is called for each position of the row only when overridden
      */
+    @Deprecated
     @Nullable
     public Color getPositionBackgroundColor(long rowDataPosition, int byteOnRow, int charOnRow, CodeAreaSection section) {
         SelectionRange selectionRange = structure.getSelectionRange();
@@ -954,90 +1458,120 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
      * @param rowPositionY row position Y
      */
     public void paintRowText(Graphics g, long rowDataPosition, int rowPositionX, int rowPositionY) {
-        int previewCharPos = visibility.getPreviewCharPos();
-        int charactersPerRow = structure.getCharactersPerRow();
         int rowHeight = metrics.getRowHeight();
-        int characterWidth = metrics.getCharacterWidth();
         int subFontSpace = metrics.getSubFontSpace();
+        int skipToChar = visibility.getSkipToChar();
+        int skipRestFromChar = visibility.getSkipRestFromChar();
+        Color textColor = colorsProfile.getTextColor();
 
         g.setFont(font);
         int positionY = rowPositionY + rowHeight - subFontSpace;
 
-        Color lastColor = null;
-        Color renderColor = null;
+        rowColorRuns.reset(structure.getCharactersPerRow());
+        fillRowTextRuns(rowDataPosition, rowColorRuns);
+        rowColorRuns.merge();
 
-        int skipToChar = visibility.getSkipToChar();
-        int skipRestFromChar = visibility.getSkipRestFromChar();
         int renderOffset = skipToChar;
-        for (int charOnRow = skipToChar; charOnRow < skipRestFromChar; charOnRow++) {
-            CodeAreaSection section;
-            int byteOnRow;
-            if (charOnRow >= previewCharPos) {
-                byteOnRow = charOnRow - previewCharPos;
-                section = BasicCodeAreaSection.TEXT_PREVIEW;
-            } else {
-                byteOnRow = structure.computePositionByte(charOnRow);
-                section = BasicCodeAreaSection.CODE_MATRIX;
+        Color renderColor = textColor;
+        int charOnRow = skipToChar;
+        int runIndex = 0;
+        int runsCount = rowColorRuns.getRunsCount();
+        while (charOnRow < skipRestFromChar) {
+            while (runIndex < runsCount && rowColorRuns.getRunEnd(runIndex) <= charOnRow) {
+                runIndex++;
             }
 
-            char currentChar = rowDataCache.rowCharacters[charOnRow];
-            if (currentChar == ' ' && renderOffset == charOnRow) {
-                renderOffset++;
-                continue;
-            }
-
-            Color color = getPositionTextColor(rowDataPosition, byteOnRow, charOnRow, section);
-            if (color == null) {
-                color = colorsProfile.getTextColor();
+            Color color;
+            int sequenceEnd;
+            if (runIndex < runsCount && rowColorRuns.getRunStart(runIndex) <= charOnRow) {
+                color = rowColorRuns.getRunColor(runIndex);
+                sequenceEnd = rowColorRuns.getRunEnd(runIndex);
+            } else {
+                color = textColor;
+                sequenceEnd = runIndex < runsCount ? rowColorRuns.getRunStart(runIndex) : skipRestFromChar;
             }
 
-            boolean sequenceBreak = false;
             if (!CodeAreaSwingUtils.areSameColors(color, renderColor)) {
-                if (renderColor == null) {
-                    renderColor = color;
-                }
-
-                sequenceBreak = true;
+                renderTextSequence(g, renderOffset, charOnRow, renderColor, rowPositionX, positionY);
+                renderColor = color;
+                renderOffset = charOnRow;
             }
+            charOnRow = Math.min(sequenceEnd, skipRestFromChar);
+        }
 
-            if (sequenceBreak) {
-                if (!CodeAreaSwingUtils.areSameColors(lastColor, renderColor)) {
-                    g.setColor(renderColor);
-                    lastColor = renderColor;
-                }
+        renderTextSequence(g, renderOffset, skipRestFromChar, renderColor, rowPositionX, positionY);
+    }
 
-                if (charOnRow > renderOffset) {
-                    drawCenteredChars(g, rowDataCache.rowCharacters, renderOffset, charOnRow - renderOffset, characterWidth, rowPositionX + renderOffset * characterWidth, positionY);
-                }
+    /**
+     * Renders sequence of characters of the same color, leading spaces are
+     * skipped.
+     */
+    private void renderTextSequence(Graphics g, int startOffset, int endOffset, @Nullable Color color, int rowPositionX, int positionY) {
+        while (startOffset < endOffset && rowDataCache.rowCharacters[startOffset] == ' ') {
+            startOffset++;
+        }
+        if (startOffset == endOffset) {
+            return;
+        }
 
-                renderColor = color;
-                if (!CodeAreaSwingUtils.areSameColors(lastColor, renderColor)) {
-                    g.setColor(renderColor);
-                    lastColor = renderColor;
-                }
+        int characterWidth = metrics.getCharacterWidth();
+        g.setColor(color);
+        drawCenteredChars(g, rowDataCache.rowCharacters, startOffset, endOffset - startOffset, characterWidth, rowPositionX + startOffset * characterWidth, positionY);
+    }
 
-                renderOffset = charOnRow;
-            }
+    /**
+     * Fills text color runs of the row.
+     *
+     * Characters not covered by any run use default text color. Runs added
+     * later take precedence, overriding methods can add runs before or after
+     * calling super method to place their colors below or above the
+     * selection.
+     *
+     * If deprecated method {@link #getPositionTextColor(long, int, int, CodeAreaSection)}
+     * is overridden, runs are filled using colors of the individual positions
+     * instead.
+     *
+     * @param rowDataPosition row data position
+     * @param runs color runs to fill
+     */
+    public void fillRowTextRuns(long rowDataPosition, RowColorRuns runs) {
+        if (positionTextColorOverridden) {
+            addPositionColorRuns(rowDataPosition, runs, false);
+            return;
         }
 
-        if (renderOffset < charactersPerRow) {
-            if (!CodeAreaSwingUtils.areSameColors(lastColor, renderColor)) {
-                g.setColor(renderColor);
-            }
+        SelectionRange selectionRange = structure.getSelectionRange();
+        if (selectionRange == null || selectionRange.isEmpty()) {
+            return;
+        }
 
-            drawCenteredChars(g, rowDataCache.rowCharacters, renderOffset, charactersPerRow - renderOffset, characterWidth, rowPositionX + renderOffset * characterWidth, positionY);
+        int bytesPerRow = structure.getBytesPerRow();
+        long selectionStart = selectionRange.getFirst() - rowDataPosition;
+        long selectionEnd = selectionRange.getLast() + 1 - rowDataPosition;
+        if (selectionEnd <= 0 || selectionStart >= bytesPerRow) {
+            return;
         }
+
+        CodeAreaSection caretSection = ((CaretCapable) codeArea).getCaret().getSection();
+        boolean codeMatrixActive = caretSection == BasicCodeAreaSection.CODE_MATRIX;
+        addRowBytesRuns(runs, (int) Math.max(selectionStart, 0), (int) Math.min(selectionEnd, bytesPerRow), true,
+                codeMatrixActive ? colorsProfile.getSelectionColor() : colorsProfile.getSelectionMirrorColor(),
+                codeMatrixActive ? colorsProfile.getSelectionMirrorColor() : colorsProfile.getSelectionColor());
     }
 
     /**
-     * Returns background color for particular code.
+     * Returns text color for particular code.
      *
      * @param rowDataPosition row data position
      * @param byteOnRow byte on current row
      * @param charOnRow character on current row
      * @param section current section
      * @return color or null for default color
+     * @deprecated colors are painted by runs, override
+     * {@link #fillRowTextRuns(long, RowColorRuns)} instead, this method is
+     * called for each position of the row only when overridden
      */
+    @Deprecated
     @Nullable
     public Color getPositionTextColor(long rowDataPosition, int byteOnRow, int charOnRow, CodeAreaSection section) {
         SelectionRange selectionRange = structure.getSelectionRange();
@@ -1052,7 +1586,12 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
     @Override
     public void paintCursor(Graphics g) {
+        if (cursorDataCache == null) {
+            cursorDataCache = new CursorDataCache();
+        }
         if (!codeArea.hasFocus()) {
+            cursorDataCache.caretRect.setSize(0, 0);
+            cursorDataCache.mirrorCursorRect.setSize(0, 0);
             return;
         }
 
@@ -1064,9 +1603,6 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         Rectangle mainAreaRect = dimensions.getMainAreaRectangle();
         CodeType codeType = structure.getCodeType();
         CodeAreaViewMode viewMode = structure.getViewMode();
-        if (cursorDataCache == null) {
-            cursorDataCache = new CursorDataCache();
-        }
         int cursorCharsLength = codeType.getMaxDigitsForByte();
         if (cursorDataCache.cursorCharsLength != cursorCharsLength) {
             cursorDataCache.cursorCharsLength = cursorCharsLength;
@@ -1080,7 +1616,9 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
         DefaultCodeAreaCaret caret = (DefaultCodeAreaCaret) ((CaretCapable) codeArea).getCaret();
         Rectangle cursorRect = getCursorPositionRect(caret.getDataPosition(), caret.getCodeOffset(), caret.getSection());
+        cursorDataCache.caretRect.setBounds(cursorRect);
         if (cursorRect.isEmpty()) {
+            cursorDataCache.mirrorCursorRect.setSize(0, 0);
             return;
         }
 
@@ -1112,6 +1650,8 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
                     g2d.drawRect(mirrorCursorRect.x, mirrorCursorRect.y, mirrorCursorRect.width - 1, mirrorCursorRect.height - 1);
                 }
             }
+        } else {
+            cursorDataCache.mirrorCursorRect.setSize(0, 0);
         }
         g.setClip(clipBounds);
     }
@@ -1364,6 +1904,82 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         return dimensions.getPositionZone(positionX, positionY);
     }
 
+    /**
+     * Returns true if main area is repainted incrementally on scrolling.
+     *
+     * @return true if incremental scroll repaint is enabled
+     */
+    public boolean isIncrementalScrollRepaint() {
+        return incrementalScrollRepaint;
+    }
+
+    /**
+     * Sets whether main area should be painted using offscreen buffer so that
+     * only newly exposed rows are painted on vertical scrolling.
+     *
+     * Rendered row positions are then also kept as images reused while
+     * scrolling.
+     *
+     * Scaled output is not supported: when graphics has scaling transform, for
+     * example on HiDPI screens, buffer is not used and main area is painted
+     * directly as if incremental scroll repaint was disabled.
+     *
+     * @param incrementalScrollRepaint true to enable incremental scroll repaint
+     */
+    public void setIncrementalScrollRepaint(boolean incrementalScrollRepaint) {
+        this.incrementalScrollRepaint = incrementalScrollRepaint;
+        if (!incrementalScrollRepaint) {
+            mainAreaBuffer = null;
+            rowPositionCache.invalidate();
+        }
+        codeArea.repaint();
+    }
+
+    /**
+     * Returns code type used for row positions.
+     *
+     * @return position code type
+     */
+    @Nonnull
+    public PositionCodeType getPositionCodeType() {
+        return positionCodeType;
+    }
+
+    /**
+     * Sets code type used for row positions.
+     *
+     * @param positionCodeType position code type
+     */
+    public void setPositionCodeType(PositionCodeType positionCodeType) {
+        this.positionCodeType = positionCodeType;
+        resetLayout();
+        codeArea.repaint();
+    }
+
+    /**
+     * Returns mode of loading of the row data for painting.
+     *
+     * @return row data loading mode
+     */
+    @Nonnull
+    public RowDataLoadingMode getRowDataLoadingMode() {
+        return rowDataLoadingMode;
+    }
+
+    /**
+     * Sets mode of loading of the row data for painting.
+     *
+     * @param rowDataLoadingMode row data loading mode
+     */
+    public void setRowDataLoadingMode(RowDataLoadingMode rowDataLoadingMode) {
+        this.rowDataLoadingMode = rowDataLoadingMode;
+        if (rowDataLoadingMode == RowDataLoadingMode.SYNCHRONOUS && rowDataLoader != null) {
+            rowDataLoader.dispose();
+            rowDataLoader = null;
+        }
+        codeArea.repaint();
+    }
+
     @Nonnull
     @Override
     public BasicCodeAreaColorsProfile getBasicColors() {
@@ -1391,35 +2007,14 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         int group = 0;
         while (pos < length) {
             char drawnChar = drawnChars[charOffset + pos];
-            int charWidth = metrics.getCharWidth(drawnChar);
-
-            boolean groupable;
-            if (metrics.hasUniformLineMetrics()) {
-                groupable = charWidth == cellWidth;
-            } else {
-                int charsWidth = metrics.getCharsWidth(drawnChars, charOffset + pos - group, group + 1);
-                groupable = charsWidth == cellWidth * (group + 1);
-            }
-
-            switch (Character.getDirectionality(drawnChar)) {
-                case Character.DIRECTIONALITY_UNDEFINED:
-                case Character.DIRECTIONALITY_RIGHT_TO_LEFT:
-                case Character.DIRECTIONALITY_RIGHT_TO_LEFT_ARABIC:
-                case Character.DIRECTIONALITY_RIGHT_TO_LEFT_EMBEDDING:
-                case Character.DIRECTIONALITY_RIGHT_TO_LEFT_OVERRIDE:
-                case Character.DIRECTIONALITY_POP_DIRECTIONAL_FORMAT:
-                case Character.DIRECTIONALITY_BOUNDARY_NEUTRAL:
-                case Character.DIRECTIONALITY_OTHER_NEUTRALS:
-                    groupable = false;
-            }
-
-            if (groupable) {
+            if (metrics.isGroupable(drawnChar, cellWidth)) {
                 group++;
             } else {
                 if (group > 0) {
                     drawShiftedChars(g, drawnChars, charOffset + pos - group, group, positionX + (pos - group) * cellWidth, positionY);
                     group = 0;
                 }
+                int charWidth = metrics.getCharWidth(drawnChar);
                 drawShiftedChars(g, drawnChars, charOffset + pos, 1, positionX + pos * cellWidth + ((cellWidth - charWidth) / 2), positionY);
             }
             pos++;
@@ -1456,7 +2051,7 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         }
 
         double natLog = Math.log(dataSize == Long.MAX_VALUE ? dataSize : dataSize + 1);
-        int positionLength = (int) Math.ceil(natLog / PositionCodeType.HEXADECIMAL.getBaseLog());
+        int positionLength = (int) Math.ceil(natLog / positionCodeType.getBaseLog());
         if (minRowPositionLength > 0 && positionLength < minRowPositionLength) {
             positionLength = minRowPositionLength;
         }
@@ -1532,6 +2127,88 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         return structure.getCharactersPerRow();
     }
 
+    protected int getBytesPerRow() {
+        return structure.getBytesPerRow();
+    }
+
+    @Nonnull
+    protected CodeType getCodeType() {
+        return structure.getCodeType();
+    }
+
+    protected int computeFirstCodeCharacterPos(int byteOnRow) {
+        return structure.computeFirstCodeCharacterPos(byteOnRow);
+    }
+
+    /**
+     * Adds color runs for range of bytes on row to both code matrix and
+     * preview sections.
+     *
+     * @param runs color runs
+     * @param startByte start byte on row inclusive
+     * @param endByte end byte on row exclusive
+     * @param codeSpacing include space after code of the last byte, except
+     * space separating code matrix and preview
+     * @param codeColor color for code matrix section or null for none
+     * @param previewColor color for preview section or null for none
+     */
+    protected void addRowBytesRuns(RowColorRuns runs, int startByte, int endByte, boolean codeSpacing, @Nullable Color codeColor, @Nullable Color previewColor) {
+        if (startByte >= endByte) {
+            return;
+        }
+
+        CodeAreaViewMode viewMode = structure.getViewMode();
+        if (viewMode != CodeAreaViewMode.TEXT_PREVIEW) {
+            int codeEnd = codeSpacing
+                    ? Math.min(structure.computeFirstCodeCharacterPos(endByte), visibility.getCodeLastCharPos())
+                    : structure.computeFirstCodeCharacterPos(endByte - 1) + structure.getCodeType().getMaxDigitsForByte();
+            runs.addRun(structure.computeFirstCodeCharacterPos(startByte), codeEnd, codeColor);
+        }
+        if (viewMode != CodeAreaViewMode.CODE_MATRIX) {
+            int previewCharPos = visibility.getPreviewCharPos();
+            runs.addRun(previewCharPos + startByte, previewCharPos + endByte, previewColor);
+        }
+    }
+
+    /**
+     * Adds single character run for each position of the row using colors
+     * provided by deprecated per position methods.
+     *
+     * @param rowDataPosition row data position
+     * @param runs color runs
+     * @param background true for background colors, false for text colors
+     */
+    @SuppressWarnings("deprecation")
+    private void addPositionColorRuns(long rowDataPosition, RowColorRuns runs, boolean background) {
+        int previewCharPos = visibility.getPreviewCharPos();
+        CodeAreaViewMode viewMode = structure.getViewMode();
+        int charactersPerRow = structure.getCharactersPerRow();
+        for (int charOnRow = 0; charOnRow < charactersPerRow; charOnRow++) {
+            CodeAreaSection section;
+            int byteOnRow;
+            if (charOnRow >= previewCharPos && viewMode != CodeAreaViewMode.CODE_MATRIX) {
+                byteOnRow = charOnRow - previewCharPos;
+                section = BasicCodeAreaSection.TEXT_PREVIEW;
+            } else {
+                byteOnRow = structure.computePositionByte(charOnRow);
+                section = BasicCodeAreaSection.CODE_MATRIX;
+            }
+
+            Color color = background
+                    ? getPositionBackgroundColor(rowDataPosition, byteOnRow, charOnRow, section)
+                    : getPositionTextColor(rowDataPosition, byteOnRow, charOnRow, section);
+            runs.addRun(charOnRow, charOnRow + 1, color);
+        }
+    }
+
+    private boolean isPositionColorMethodOverridden(String methodName) {
+        try {
+            return getClass().getMethod(methodName, long.class, int.class, int.class, CodeAreaSection.class).getDeclaringClass() != DefaultCodeAreaPainter.class;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+
     private int getHorizontalScrollBarSize() {
         JScrollBar horizontalScrollBar = scrollPanel.getHorizontalScrollBar();
         int size;
@@ -1641,10 +2318,23 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
         char[] headerChars;
         byte[] rowData;
-        char[] rowPositionCode;
         char[] rowCharacters;
     }
 
+    private static class MainAreaBuffer {
+
+        @Nullable
+        BufferedImage image;
+        @Nullable
+        Object[] renderState;
+        long rowPosition;
+        int rowOffset;
+        int charPosition;
+        int charOffset;
+        long dirtyStartPosition = Long.MAX_VALUE;
+        long dirtyEndPosition = Long.MIN_VALUE;
+    }
+
     private static class CursorDataCache {
 
         Rectangle caretRect = new Rectangle();
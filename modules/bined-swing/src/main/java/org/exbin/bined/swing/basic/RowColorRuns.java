@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.awt.Color;
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+/**
+ * Reusable list of color runs of single row.
+ *
+ * Runs are added as ranges of characters on row with color and runs added
+ * later take precedence over previously added runs, so that highlighting
+ * layers can be composed by the order of adding. Merged runs are ordered,
+ * non-overlapping and adjacent runs of the same color are joined.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class RowColorRuns {
+
+    private static final int NO_COLOR = -1;
+
+    private Color[] colors = new Color[4];
+    private int colorsCount = 0;
+
+    private int[] runStarts = new int[8];
+    private int[] runEnds = new int[8];
+    private int[] runColors = new int[8];
+    private int runsCount = 0;
+
+    private int charactersCount = 0;
+    private int[] charactersColors = new int[0];
+
+    public RowColorRuns() {
+    }
+
+    /**
+     * Clears runs for new row.
+     *
+     * @param charactersCount number of characters on row
+     */
+    public void reset(int charactersCount) {
+        this.charactersCount = charactersCount;
+        Arrays.fill(colors, 0, colorsCount, null);
+        colorsCount = 0;
+        runsCount = 0;
+    }
+
+    public int getCharactersCount() {
+        return charactersCount;
+    }
+
+    /**
+     * Adds run of characters with given color.
+     *
+     * Run is limited to characters of the row and empty runs are ignored.
+     *
+     * @param startChar start character on row inclusive
+     * @param endChar end character on row exclusive
+     * @param color color or null for no color
+     */
+    public void addRun(int startChar, int endChar, @Nullable Color color) {
+        if (color == null) {
+            return;
+        }
+
+        int start = Math.max(startChar, 0);
+        int end = Math.min(endChar, charactersCount);
+        if (start >= end) {
+            return;
+        }
+
+        appendRun(start, end, colorIndex(color));
+    }
+
+    /**
+     * Merges added runs so that they are ordered and non-overlapping.
+     */
+    public void merge() {
+        if (runsCount == 0) {
+            return;
+        }
+
+        boolean ordered = true;
+        for (int i = 1; i < runsCount; i++) {
+            if (runStarts[i] < runEnds[i - 1]) {
+                ordered = false;
+                break;
+            }
+        }
+
+        if (ordered) {
+            int mergedCount = 1;
+            for (int i = 1; i < runsCount; i++) {
+                if (runStarts[i] == runEnds[mergedCount - 1] && runColors[i] == runColors[mergedCount - 1]) {
+                    runEnds[mergedCount - 1] = runEnds[i];
+                } else {
+                    runStarts[mergedCount] = runStarts[i];
+                    runEnds[mergedCount] = runEnds[i];
+                    runColors[mergedCount] = runColors[i];
+                    mergedCount++;
+                }
+            }
+            runsCount = mergedCount;
+            return;
+        }
+
+        if (charactersColors.length < charactersCount) {
+            charactersColors = new int[charactersCount];
+        }
+        Arrays.fill(charactersColors, 0, charactersCount, NO_COLOR);
+        for (int i = 0; i < runsCount; i++) {
+            Arrays.fill(charactersColors, runStarts[i], runEnds[i], runColors[i]);
+        }
+
+        runsCount = 0;
+        int runStart = 0;
+        int runColor = NO_COLOR;
+        for (int charPos = 0; charPos <= charactersCount; charPos++) {
+            int color = charPos < charactersCount ? charactersColors[charPos] : NO_COLOR;
+            if (color != runColor) {
+                if (runColor != NO_COLOR) {
+                    appendRun(runStart, charPos, runColor);
+                }
+                runStart = charPos;
+                runColor = color;
+            }
+        }
+    }
+
+    public int getRunsCount() {
+        return runsCount;
+    }
+
+    public int getRunStart(int runIndex) {
+        return runStarts[runIndex];
+    }
+
+    public int getRunEnd(int runIndex) {
+        return runEnds[runIndex];
+    }
+
+    @Nonnull
+    public Color getRunColor(int runIndex) {
+        return colors[runColors[runIndex]];
+    }
+
+    private void appendRun(int start, int end, int colorIndex) {
+        if (runsCount == runStarts.length) {
+            runStarts = Arrays.copyOf(runStarts, runsCount * 2);
+            runEnds = Arrays.copyOf(runEnds, runsCount * 2);
+            runColors = Arrays.copyOf(runColors, runsCount * 2);
+        }
+        runStarts[runsCount] = start;
+        runEnds[runsCount] = end;
+        runColors[runsCount] = colorIndex;
+        runsCount++;
+    }
+
+    private int colorIndex(Color color) {
+        for (int i = 0; i < colorsCount; i++) {
+            if (colors[i] == color || colors[i].equals(color)) {
+                return i;
+            }
+        }
+
+        if (colorsCount == colors.length) {
+            colors = Arrays.copyOf(colors, colorsCount * 2);
+        }
+        colors[colorsCount] = color;
+        return colorsCount++;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.bined.CodeAreaUtils;
+import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.PositionCodeType;
+
+/**
+ * Cache of formatted row positions of the visible area.
+ *
+ * Row positions are stored in ring buffer indexed by row so that rows
+ * remaining visible after scrolling are reused. Position of the row following
+ * already formatted row is computed by adding bytes per row to its digits so
+ * that only changed low digits are rewritten.
+ *
+ * Rendered image of the row position can be stored with each row.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class RowPositionCache {
+
+    private static final long NO_ROW = Long.MIN_VALUE;
+
+    @Nonnull
+    private CachedRowPosition[] rows = new CachedRowPosition[0];
+    private int bytesPerRow;
+    private int positionLength;
+    @Nonnull
+    private PositionCodeType positionCodeType = PositionCodeType.HEXADECIMAL;
+    @Nonnull
+    private CodeCharactersCase codeCharactersCase = CodeCharactersCase.UPPER;
+    @Nonnull
+    private char[] codes = CodeAreaUtils.UPPER_HEX_CODES;
+    /**
+     * Digits of bytes per row value in position code type base, lowest digit
+     * last.
+     */
+    @Nonnull
+    private byte[] rowIncrement = new byte[0];
+    /**
+     * Index of highest nonzero digit of row increment.
+     */
+    private int rowIncrementStart;
+    @Nullable
+    private Object[] imageState;
+
+    private long formattedRowsCount = 0;
+    private long incrementedRowsCount = 0;
+
+    /**
+     * Updates cache to match current layout.
+     *
+     * All cached rows are dropped if any of the layout properties changed.
+     *
+     * @param rowsCount number of rows to keep
+     * @param bytesPerRow bytes per row
+     * @param positionLength number of characters of the row position
+     * @param positionCodeType position code type
+     * @param codeCharactersCase code characters case
+     */
+    public void updateLayout(int rowsCount, int bytesPerRow, int positionLength, PositionCodeType positionCodeType, @Nullable CodeCharactersCase codeCharactersCase) {
+        CodeCharactersCase charactersCase = codeCharactersCase == null ? CodeCharactersCase.UPPER : codeCharactersCase;
+        if (this.bytesPerRow != bytesPerRow || this.positionLength != positionLength || this.positionCodeType != positionCodeType || this.codeCharactersCase != charactersCase) {
+            this.bytesPerRow = bytesPerRow;
+            this.positionLength = positionLength;
+            this.positionCodeType = positionCodeType;
+            this.codeCharactersCase = charactersCase;
+            codes = charactersCase == CodeCharactersCase.UPPER ? CodeAreaUtils.UPPER_HEX_CODES : CodeAreaUtils.LOWER_HEX_CODES;
+            rowIncrement = new byte[positionLength];
+            toDigits(bytesPerRow, rowIncrement);
+            rowIncrementStart = 0;
+            while (rowIncrementStart < positionLength && rowIncrement[rowIncrementStart] == 0) {
+                rowIncrementStart++;
+            }
+            rows = new CachedRowPosition[0];
+        }
+
+        if (rows.length != rowsCount) {
+            rows = new CachedRowPosition[rowsCount];
+            for (int i = 0; i < rowsCount; i++) {
+                rows[i] = new CachedRowPosition(positionLength);
+            }
+        }
+    }
+
+    /**
+     * Drops images of all rows if given state of image rendering differs from
+     * state used for cached images.
+     *
+     * @param imageState values affecting rendering of the images
+     */
+    public void updateImageState(Object[] imageState) {
+        if (!Arrays.equals(this.imageState, imageState)) {
+            this.imageState = imageState;
+            for (CachedRowPosition row : rows) {
+                row.image = null;
+            }
+        }
+    }
+
+    /**
+     * Drops all cached rows.
+     */
+    public void invalidate() {
+        for (CachedRowPosition row : rows) {
+            row.rowPosition = NO_ROW;
+            row.image = null;
+        }
+    }
+
+    /**
+     * Returns formatted position of given row.
+     *
+     * Returned array is owned by cache and is valid only until another row
+     * occupies the same slot.
+     *
+     * @param rowPosition row position
+     * @return characters of the row position
+     */
+    @Nonnull
+    public char[] getRowPositionCode(long rowPosition) {
+        return getRow(rowPosition).code;
+    }
+
+    /**
+     * Returns cached image of given row.
+     *
+     * @param rowPosition row position
+     * @return image or null if not cached
+     */
+    @Nullable
+    public BufferedImage getRowImage(long rowPosition) {
+        return getRow(rowPosition).image;
+    }
+
+    /**
+     * Stores image of given row.
+     *
+     * @param rowPosition row position
+     * @param image image
+     */
+    public void setRowImage(long rowPosition, BufferedImage image) {
+        getRow(rowPosition).image = image;
+    }
+
+    /**
+     * Returns number of rows formatted from scratch since creation of the
+     * cache.
+     *
+     * @return number of formatted rows
+     */
+    public long getFormattedRowsCount() {
+        return formattedRowsCount;
+    }
+
+    /**
+     * Returns number of rows formatted incrementally from previous row since
+     * creation of the cache.
+     *
+     * @return number of incremented rows
+     */
+    public long getIncrementedRowsCount() {
+        return incrementedRowsCount;
+    }
+
+    @Nonnull
+    private CachedRowPosition getRow(long rowPosition) {
+        if (rows.length == 0) {
+            throw new IllegalStateException("Cache layout was not set");
+        }
+
+        CachedRowPosition row = rows[(int) Math.floorMod(rowPosition, (long) rows.length)];
+        if (row.rowPosition != rowPosition) {
+            formatRow(row, rowPosition);
+        }
+        return row;
+    }
+
+    private void formatRow(CachedRowPosition row, long rowPosition) {
+        row.image = null;
+        CachedRowPosition previousRow = rows.length > 1 ? rows[(int) Math.floorMod(rowPosition - 1, (long) rows.length)] : null;
+        if (previousRow != null && previousRow.rowPosition == rowPosition - 1 && rowPosition > 0) {
+            System.arraycopy(previousRow.digits, 0, row.digits, 0, positionLength);
+            System.arraycopy(previousRow.code, 0, row.code, 0, positionLength);
+            addRowIncrement(row);
+            incrementedRowsCount++;
+        } else {
+            long dataPosition = rowPosition < 0 ? 0 : rowPosition * bytesPerRow;
+            toDigits(dataPosition, row.digits);
+            for (int i = 0; i < positionLength; i++) {
+                row.code[i] = codes[row.digits[i]];
+            }
+            formattedRowsCount++;
+        }
+        row.rowPosition = rowPosition;
+    }
+
+    private void addRowIncrement(CachedRowPosition row) {
+        int base = positionCodeType.getBase();
+        int carry = 0;
+        for (int i = positionLength - 1; i >= 0; i--) {
+            if (i < rowIncrementStart && carry == 0) {
+                // Remaining higher digits are unchanged
+                break;
+            }
+
+            int digit = row.digits[i] + rowIncrement[i] + carry;
+            carry = digit >= base ? 1 : 0;
+            digit -= carry * base;
+            row.digits[i] = (byte) digit;
+            row.code[i] = codes[digit];
+        }
+    }
+
+    private void toDigits(long value, byte[] digits) {
+        int base = positionCodeType.getBase();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = (byte) (value % base);
+            value = value / base;
+        }
+    }
+
+    @ParametersAreNonnullByDefault
+    private static final class CachedRowPosition {
+
+        long rowPosition = NO_ROW;
+        @Nonnull
+        final byte[] digits;
+        @Nonnull
+        final char[] code;
+        @Nullable
+        BufferedImage image;
+
+        CachedRowPosition(int positionLength) {
+            digits = new byte[positionLength];
+            code = new char[positionLength];
+        }
+    }
+}
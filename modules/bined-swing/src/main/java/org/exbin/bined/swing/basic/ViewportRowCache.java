@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.nio.charset.Charset;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.CodeType;
+import org.exbin.bined.basic.CodeAreaViewMode;
+
+/**
+ * Cache of prepared rows of the visible area.
+ *
+ * Rows are stored in ring buffer indexed by row position so that rows
+ * remaining visible after scrolling are reused and only newly revealed rows
+ * has to be prepared.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class ViewportRowCache {
+
+    private static final long NO_ROW = Long.MIN_VALUE;
+
+    @Nonnull
+    private CachedRow[] rows = new CachedRow[0];
+    private int bytesPerRow;
+    private int rowDataLength;
+    private int rowCharactersLength;
+    @Nullable
+    private CodeType codeType;
+    @Nullable
+    private CodeCharactersCase codeCharactersCase;
+    @Nullable
+    private CodeAreaViewMode viewMode;
+    @Nullable
+    private Charset charset;
+
+    private long preparedRowsCount = 0;
+
+    /**
+     * Updates cache to match current layout.
+     *
+     * All cached rows are dropped if any of the layout properties changed.
+     *
+     * @param rowsCount number of rows to keep
+     * @param bytesPerRow bytes per row
+     * @param rowDataLength length of row data including lookahead bytes
+     * @param rowCharactersLength number of characters per row
+     * @param codeType code type
+     * @param codeCharactersCase code characters case
+     * @param viewMode view mode
+     * @param charset charset
+     */
+    public void updateLayout(int rowsCount, int bytesPerRow, int rowDataLength, int rowCharactersLength, CodeType codeType, @Nullable CodeCharactersCase codeCharactersCase, CodeAreaViewMode viewMode, Charset charset) {
+        if (this.bytesPerRow != bytesPerRow || this.rowDataLength != rowDataLength || this.rowCharactersLength != rowCharactersLength) {
+            this.bytesPerRow = bytesPerRow;
+            this.rowDataLength = rowDataLength;
+            this.rowCharactersLength = rowCharactersLength;
+            rows = new CachedRow[0];
+        } else if (this.codeType != codeType || this.codeCharactersCase != codeCharactersCase || this.viewMode != viewMode || !charset.equals(this.charset)) {
+            invalidate();
+        }
+        this.codeType = codeType;
+        this.codeCharactersCase = codeCharactersCase;
+        this.viewMode = viewMode;
+        this.charset = charset;
+
+        if (rows.length != rowsCount) {
+            rows = new CachedRow[rowsCount];
+            for (int i = 0; i < rowsCount; i++) {
+                rows[i] = new CachedRow(rowDataLength, rowCharactersLength);
+            }
+        }
+    }
+
+    /**
+     * Drops all cached rows.
+     */
+    public void invalidate() {
+        for (CachedRow row : rows) {
+            row.rowDataPosition = NO_ROW;
+            row.prepared = false;
+        }
+    }
+
+    /**
+     * Drops cached rows containing any byte of given range.
+     *
+     * @param startPosition start position of the range
+     * @param endPosition end position of the range
+     */
+    public void invalidateRange(long startPosition, long endPosition) {
+        for (CachedRow row : rows) {
+            if (row.rowDataPosition != NO_ROW && row.rowDataPosition < endPosition && row.rowDataPosition + rowDataLength > startPosition) {
+                row.prepared = false;
+            }
+        }
+    }
+
+    /**
+     * Returns cache record for row starting at given data position.
+     *
+     * Record is reassigned if it was used for another row and must be
+     * prepared before use.
+     *
+     * @param rowDataPosition row data position
+     * @return cached row
+     */
+    @Nonnull
+    public CachedRow getRow(long rowDataPosition) {
+        int index = (int) Math.floorMod(Math.floorDiv(rowDataPosition, (long) bytesPerRow), (long) rows.length);
+        CachedRow row = rows[index];
+        if (row.rowDataPosition != rowDataPosition) {
+            row.rowDataPosition = rowDataPosition;
+            row.prepared = false;
+        }
+
+        return row;
+    }
+
+    /**
+     * Returns cache record for row starting at given data position only if
+     * it is already prepared.
+     *
+     * @param rowDataPosition row data position
+     * @return cached row or null
+     */
+    @Nullable
+    public CachedRow getPreparedRow(long rowDataPosition) {
+        if (rows.length == 0) {
+            return null;
+        }
+
+        int index = (int) Math.floorMod(Math.floorDiv(rowDataPosition, (long) bytesPerRow), (long) rows.length);
+        CachedRow row = rows[index];
+        return row.prepared && row.rowDataPosition == rowDataPosition ? row : null;
+    }
+
+    /**
+     * Drops prepared content of given row.
+     *
+     * @param row cached row
+     */
+    public void invalidateRow(CachedRow row) {
+        row.prepared = false;
+    }
+
+    /**
+     * Marks row as prepared so it can be reused on next painting.
+     *
+     * @param row cached row
+     */
+    public void setRowPrepared(CachedRow row) {
+        row.prepared = true;
+        preparedRowsCount++;
+    }
+
+    /**
+     * Returns total number of rows prepared since creation of the cache.
+     *
+     * @return number of prepared rows
+     */
+    public long getPreparedRowsCount() {
+        return preparedRowsCount;
+    }
+
+    /**
+     * Prepared data of the single row.
+     */
+    public static class CachedRow {
+
+        private long rowDataPosition = NO_ROW;
+        private boolean prepared = false;
+        private int previewStart = 0;
+        private int previewSpill = 0;
+        private final byte[] rowData;
+        private final char[] rowCharacters;
+
+        private CachedRow(int rowDataLength, int rowCharactersLength) {
+            rowData = new byte[rowDataLength];
+            rowCharacters = new char[rowCharactersLength];
+        }
+
+        public long getRowDataPosition() {
+            return rowDataPosition;
+        }
+
+        public boolean isPrepared() {
+            return prepared;
+        }
+
+        @Nonnull
+        public byte[] getRowData() {
+            return rowData;
+        }
+
+        @Nonnull
+        public char[] getRowCharacters() {
+            return rowCharacters;
+        }
+
+        /**
+         * Returns offset of the first byte decoded as start of preview
+         * character.
+         *
+         * @return offset on row
+         */
+        public int getPreviewStart() {
+            return previewStart;
+        }
+
+        /**
+         * Returns number of bytes of the following row used by the last
+         * preview character of this row.
+         *
+         * @return number of bytes
+         */
+        public int getPreviewSpill() {
+            return previewSpill;
+        }
+
+        public void setPreviewDecoding(int previewStart, int previewSpill) {
+            this.previewStart = previewStart;
+            this.previewSpill = previewSpill;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.exbin.auxiliary.paged_data.BinaryData;
+import org.exbin.bined.CodeAreaTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for background row data loader.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class AsyncRowDataLoaderTest {
+
+    public AsyncRowDataLoaderTest() {
+    }
+
+    @Test
+    public void testLoadRange() throws InterruptedException {
+        BinaryData data = CodeAreaTest.getSampleData(CodeAreaTest.SAMPLE_ALLBYTES);
+        CountDownLatch loaded = new CountDownLatch(1);
+        AsyncRowDataLoader loader = new AsyncRowDataLoader(loaded::countDown);
+        byte[] target = new byte[16];
+
+        Assert.assertFalse(loader.copyToArray(data, 32, target, 0, 16));
+        loader.requestRange(data, 32, 16, 16);
+        Assert.assertTrue(loaded.await(10, TimeUnit.SECONDS));
+
+        Assert.assertTrue(loader.copyToArray(data, 32, target, 0, 16));
+        Assert.assertEquals(32, target[0]);
+        Assert.assertEquals(47, target[15]);
+        Assert.assertTrue(loader.copyToArray(data, 16, target, 0, 16));
+        Assert.assertEquals(16, target[0]);
+        Assert.assertFalse(loader.copyToArray(data, 0, target, 0, 16));
+
+        loader.invalidate();
+        Assert.assertFalse(loader.copyToArray(data, 32, target, 0, 16));
+        loader.dispose();
+    }
+}
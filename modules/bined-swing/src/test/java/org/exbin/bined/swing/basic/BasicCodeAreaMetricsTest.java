@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.charset.Charset;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for basic code area metrics.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class BasicCodeAreaMetricsTest {
+
+    public BasicCodeAreaMetricsTest() {
+    }
+
+    @Test
+    public void testCharWidths() {
+        for (String fontName : new String[]{Font.MONOSPACED, Font.SANS_SERIF}) {
+            FontMetrics fontMetrics = getFontMetrics(new Font(fontName, Font.PLAIN, 12));
+            Charset charset = Charset.forName("windows-1251");
+            BasicCodeAreaMetrics metrics = new BasicCodeAreaMetrics();
+            metrics.recomputeMetrics(fontMetrics, charset);
+
+            for (int i = 0; i < 256; i++) {
+                Assert.assertEquals(fontMetrics.charWidth((char) i), metrics.getCharWidth((char) i));
+                char mappedChar = new String(new byte[]{(byte) i}, charset).charAt(0);
+                Assert.assertEquals(fontMetrics.charWidth(mappedChar), metrics.getCharWidth(mappedChar));
+            }
+            Assert.assertEquals(fontMetrics.charWidth('\u4e00'), metrics.getCharWidth('\u4e00'));
+        }
+    }
+
+    @Test
+    public void testStatefulCharset() {
+        FontMetrics fontMetrics = getFontMetrics(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        BasicCodeAreaMetrics metrics = new BasicCodeAreaMetrics();
+        metrics.recomputeMetrics(fontMetrics, Charset.forName("ISO-2022-JP"));
+
+        Assert.assertEquals(fontMetrics.charWidth('A'), metrics.getCharWidth('A'));
+        Assert.assertEquals(fontMetrics.charWidth('\u4e00'), metrics.getCharWidth('\u4e00'));
+    }
+
+    @Test
+    public void testGroupable() {
+        FontMetrics fontMetrics = getFontMetrics(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        BasicCodeAreaMetrics metrics = new BasicCodeAreaMetrics();
+        metrics.recomputeMetrics(fontMetrics, Charset.forName("ISO-8859-8"));
+        int characterWidth = metrics.getCharacterWidth();
+
+        Assert.assertTrue(metrics.isGroupable('A', characterWidth));
+        Assert.assertTrue(metrics.isGroupable('0', characterWidth));
+        Assert.assertFalse(metrics.isGroupable('A', characterWidth + 1));
+        // Right to left characters
+        Assert.assertFalse(metrics.isGroupable('\u05d0', characterWidth));
+        Assert.assertFalse(metrics.isGroupable('\u0627', characterWidth));
+        // Other neutrals
+        Assert.assertFalse(metrics.isGroupable('!', characterWidth));
+    }
+
+    @Test
+    public void testProportionalFont() {
+        FontMetrics fontMetrics = getFontMetrics(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+        BasicCodeAreaMetrics metrics = new BasicCodeAreaMetrics();
+        metrics.recomputeMetrics(fontMetrics, Charset.forName("US-ASCII"));
+        int characterWidth = metrics.getCharacterWidth();
+
+        for (char value = 'a'; value <= 'z'; value++) {
+            if (fontMetrics.charWidth(value) != characterWidth) {
+                Assert.assertFalse(metrics.isGroupable(value, characterWidth));
+            }
+        }
+    }
+
+    private static FontMetrics getFontMetrics(Font font) {
+        BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        FontMetrics fontMetrics = g.getFontMetrics(font);
+        g.dispose();
+        return fontMetrics;
+    }
+}
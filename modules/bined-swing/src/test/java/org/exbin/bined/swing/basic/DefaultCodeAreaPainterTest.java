@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CountDownLatch;
+import javax.swing.SwingUtilities;
+import org.exbin.auxiliary.paged_data.ByteArrayEditableData;
+import org.exbin.bined.CodeAreaSection;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for default code area painter.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class DefaultCodeAreaPainterTest {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 400;
+    private static final int DATA_SIZE = 64 * 1024;
+    private static final long LOADING_TIMEOUT = 5000;
+
+    public DefaultCodeAreaPainterTest() {
+    }
+
+    @Test
+    public void testAsynchronousBufferedPainting() throws InterruptedException, InvocationTargetException {
+        CountDownLatch loadingAllowed = new CountDownLatch(1);
+        CodeArea codeArea = createCodeArea(new ByteArrayEditableData(createData()) {
+            @Override
+            public void copyToArray(long startFrom, byte[] target, int offset, int length) {
+                try {
+                    loadingAllowed.await();
+                } catch (InterruptedException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                super.copyToArray(startFrom, target, offset, length);
+            }
+        });
+        DefaultCodeAreaPainter painter = (DefaultCodeAreaPainter) codeArea.getPainter();
+        painter.setIncrementalScrollRepaint(true);
+        painter.setRowDataLoadingMode(RowDataLoadingMode.ASYNCHRONOUS);
+
+        CodeArea referenceCodeArea = createCodeArea(new ByteArrayEditableData(createData()));
+        BufferedImage referenceImage = paint(referenceCodeArea);
+
+        // Rows are painted with placeholders into the buffer first
+        BufferedImage image = paint(codeArea);
+        Assert.assertTrue(countDifferentPixels(referenceImage, image) > 0);
+        loadingAllowed.countDown();
+
+        long timeout = System.currentTimeMillis() + LOADING_TIMEOUT;
+        do {
+            Thread.sleep(10);
+            image = paint(codeArea);
+        } while (countDifferentPixels(referenceImage, image) > 0 && System.currentTimeMillis() < timeout);
+        Assert.assertEquals(0, countDifferentPixels(referenceImage, image));
+    }
+
+    @Test
+    public void testDataRangeRectangle() throws InterruptedException, InvocationTargetException {
+        CodeArea codeArea = createCodeArea(new ByteArrayEditableData(createData()));
+        DefaultCodeAreaPainter painter = (DefaultCodeAreaPainter) codeArea.getPainter();
+        paint(codeArea);
+        int bytesPerRow = codeArea.getMaxBytesPerRow();
+
+        Rectangle firstRow = painter.computeDataRangeRectangle(0, 1);
+        Assert.assertNotNull(firstRow);
+        int rowHeight = firstRow.height;
+        Rectangle thirdRow = painter.computeDataRangeRectangle(2 * bytesPerRow + 3, 2 * bytesPerRow + 5);
+        Assert.assertEquals(new Rectangle(firstRow.x, firstRow.y + 2 * rowHeight, firstRow.width, rowHeight), thirdRow);
+
+        // Range across rows, including row of preceding byte for preview
+        Rectangle rows = painter.computeDataRangeRectangle(bytesPerRow, 3 * bytesPerRow + 1);
+        Assert.assertEquals(new Rectangle(firstRow.x, firstRow.y, firstRow.width, 4 * rowHeight), rows);
+
+        // Size changing edits affect all following rows
+        Rectangle allRows = painter.computeDataRangeRectangle(0, Long.MAX_VALUE);
+        Rectangle followingRows = painter.computeDataRangeRectangle(2 * bytesPerRow + 3, Long.MAX_VALUE);
+        Assert.assertEquals(thirdRow.y, followingRows.y);
+        Assert.assertEquals(allRows.y + allRows.height, followingRows.y + followingRows.height);
+
+        Assert.assertNull(painter.computeDataRangeRectangle(DATA_SIZE - 1, DATA_SIZE));
+    }
+
+    @Test
+    public void testBufferedDataRangeChanges() throws InterruptedException, InvocationTargetException {
+        ByteArrayEditableData data = new ByteArrayEditableData(createData());
+        CodeArea codeArea = createCodeArea(data);
+        ((DefaultCodeAreaPainter) codeArea.getPainter()).setIncrementalScrollRepaint(true);
+        paint(codeArea);
+        int bytesPerRow = codeArea.getMaxBytesPerRow();
+
+        // Same size modification
+        data.setByte(bytesPerRow + 2, (byte) 0x41);
+        codeArea.notifyDataChanged(bytesPerRow + 2, 1, 1);
+        assertPaintedAsNew(codeArea, data);
+
+        // Insertion shifting following rows
+        data.insert(3 * bytesPerRow + 1, new byte[]{1, 2, 3});
+        codeArea.notifyDataChanged(3 * bytesPerRow + 1, 0, 3);
+        assertPaintedAsNew(codeArea, data);
+
+        // Removal shifting following rows
+        data.remove(5, 10);
+        codeArea.notifyDataChanged(5, 10, 0);
+        assertPaintedAsNew(codeArea, data);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedPositionColors() throws InterruptedException, InvocationTargetException {
+        CodeArea referenceCodeArea = createCodeArea(new ByteArrayEditableData(createData()));
+        referenceCodeArea.setSelection(5, 200);
+        BufferedImage referenceImage = paint(referenceCodeArea);
+
+        CodeArea codeArea = createCodeArea(new ByteArrayEditableData(createData()));
+        codeArea.setPainter(new DefaultCodeAreaPainter(codeArea) {
+            @Override
+            public Color getPositionBackgroundColor(long rowDataPosition, int byteOnRow, int charOnRow, CodeAreaSection section) {
+                return super.getPositionBackgroundColor(rowDataPosition, byteOnRow, charOnRow, section);
+            }
+
+            @Override
+            public Color getPositionTextColor(long rowDataPosition, int byteOnRow, int charOnRow, CodeAreaSection section) {
+                return super.getPositionTextColor(rowDataPosition, byteOnRow, charOnRow, section);
+            }
+        });
+        codeArea.setSelection(5, 200);
+        Assert.assertEquals(0, countDifferentPixels(referenceImage, paint(codeArea)));
+
+        codeArea.setPainter(new DefaultCodeAreaPainter(codeArea) {
+            @Override
+            public Color getPositionBackgroundColor(long rowDataPosition, int byteOnRow, int charOnRow, CodeAreaSection section) {
+                return byteOnRow == 0 ? Color.RED : null;
+            }
+        });
+        Assert.assertTrue(countDifferentPixels(referenceImage, paint(codeArea)) > 0);
+    }
+
+    private static void assertPaintedAsNew(CodeArea codeArea, ByteArrayEditableData data) throws InterruptedException, InvocationTargetException {
+        byte[] content = new byte[(int) data.getDataSize()];
+        data.copyToArray(0, content, 0, content.length);
+        BufferedImage referenceImage = paint(createCodeArea(new ByteArrayEditableData(content)));
+        Assert.assertEquals(0, countDifferentPixels(referenceImage, paint(codeArea)));
+    }
+
+    private static byte[] createData() {
+        byte[] data = new byte[DATA_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31 + (i >> 8));
+        }
+        return data;
+    }
+
+    private static CodeArea createCodeArea(ByteArrayEditableData data) {
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(data);
+        codeArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        codeArea.getCaret().setBlinkRate(0);
+        codeArea.setSize(WIDTH, HEIGHT);
+        return codeArea;
+    }
+
+    private static BufferedImage paint(CodeArea codeArea) throws InterruptedException, InvocationTargetException {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        SwingUtilities.invokeAndWait(() -> {
+            // Layout is finished during the first painting
+            for (int i = 0; i < 2; i++) {
+                Graphics2D g = image.createGraphics();
+                g.setClip(0, 0, WIDTH, HEIGHT);
+                codeArea.paint(g);
+                g.dispose();
+            }
+        });
+        return image;
+    }
+
+    private static int countDifferentPixels(BufferedImage image, BufferedImage otherImage) {
+        int count = 0;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if (image.getRGB(x, y) != otherImage.getRGB(x, y)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
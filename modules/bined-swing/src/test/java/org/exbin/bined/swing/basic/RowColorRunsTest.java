@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.awt.Color;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for row color runs.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class RowColorRunsTest {
+
+    public RowColorRunsTest() {
+    }
+
+    @Test
+    public void testAdjacentRuns() {
+        RowColorRuns runs = new RowColorRuns();
+        runs.reset(20);
+        runs.addRun(0, 3, Color.RED);
+        runs.addRun(3, 5, Color.RED);
+        runs.addRun(5, 8, Color.BLUE);
+        runs.addRun(10, 12, Color.BLUE);
+        runs.merge();
+
+        assertRuns(runs, new int[]{0, 5, 5, 8, 10, 12}, new Color[]{Color.RED, Color.BLUE, Color.BLUE});
+    }
+
+    @Test
+    public void testOverlappingRuns() {
+        RowColorRuns runs = new RowColorRuns();
+        runs.reset(20);
+        runs.addRun(2, 10, Color.RED);
+        runs.addRun(4, 6, Color.BLUE);
+        runs.addRun(8, 14, Color.GREEN);
+        runs.merge();
+
+        // Later runs take precedence
+        assertRuns(runs, new int[]{2, 4, 4, 6, 6, 8, 8, 14}, new Color[]{Color.RED, Color.BLUE, Color.RED, Color.GREEN});
+    }
+
+    @Test
+    public void testUnorderedRuns() {
+        RowColorRuns runs = new RowColorRuns();
+        runs.reset(20);
+        runs.addRun(10, 15, Color.BLUE);
+        runs.addRun(0, 4, Color.RED);
+        runs.addRun(4, 6, Color.RED);
+        runs.merge();
+
+        assertRuns(runs, new int[]{0, 6, 10, 15}, new Color[]{Color.RED, Color.BLUE});
+    }
+
+    @Test
+    public void testClippedAndEmptyRuns() {
+        RowColorRuns runs = new RowColorRuns();
+        runs.reset(10);
+        runs.addRun(-5, 2, Color.RED);
+        runs.addRun(4, 4, Color.BLUE);
+        runs.addRun(5, 7, null);
+        runs.addRun(8, 30, Color.GREEN);
+        runs.merge();
+
+        assertRuns(runs, new int[]{0, 2, 8, 10}, new Color[]{Color.RED, Color.GREEN});
+
+        runs.reset(10);
+        runs.merge();
+        Assert.assertEquals(0, runs.getRunsCount());
+    }
+
+    private static void assertRuns(RowColorRuns runs, int[] expectedBounds, Color[] expectedColors) {
+        Assert.assertEquals(expectedColors.length, runs.getRunsCount());
+        for (int i = 0; i < expectedColors.length; i++) {
+            Assert.assertEquals(expectedBounds[i * 2], runs.getRunStart(i));
+            Assert.assertEquals(expectedBounds[i * 2 + 1], runs.getRunEnd(i));
+            Assert.assertEquals(expectedColors[i], runs.getRunColor(i));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.awt.image.BufferedImage;
+import org.exbin.bined.CodeAreaUtils;
+import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.PositionCodeType;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for row position cache.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class RowPositionCacheTest {
+
+    private static final int ROWS_PER_PAGE = 10;
+    private static final int POSITION_LENGTH = 8;
+
+    public RowPositionCacheTest() {
+    }
+
+    @Test
+    public void testFormatting() {
+        for (PositionCodeType positionCodeType : PositionCodeType.values()) {
+            for (int bytesPerRow : new int[]{1, 7, 16, 100}) {
+                RowPositionCache cache = new RowPositionCache();
+                cache.updateLayout(ROWS_PER_PAGE, bytesPerRow, POSITION_LENGTH, positionCodeType, CodeCharactersCase.LOWER);
+                for (long firstRow = 0; firstRow < 5000; firstRow += ROWS_PER_PAGE - 3) {
+                    for (int row = 0; row < ROWS_PER_PAGE; row++) {
+                        long rowPosition = firstRow + row;
+                        Assert.assertEquals(formatPosition(rowPosition * bytesPerRow, positionCodeType), new String(cache.getRowPositionCode(rowPosition)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOverflow() {
+        RowPositionCache cache = new RowPositionCache();
+        cache.updateLayout(ROWS_PER_PAGE, 16, 2, PositionCodeType.HEXADECIMAL, CodeCharactersCase.UPPER);
+        Assert.assertEquals("F0", new String(cache.getRowPositionCode(15)));
+        Assert.assertEquals("00", new String(cache.getRowPositionCode(16)));
+        Assert.assertEquals("10", new String(cache.getRowPositionCode(17)));
+    }
+
+    @Test
+    public void testScrollReuse() {
+        RowPositionCache cache = new RowPositionCache();
+        cache.updateLayout(ROWS_PER_PAGE, 16, POSITION_LENGTH, PositionCodeType.HEXADECIMAL, CodeCharactersCase.UPPER);
+        paintRows(cache, 0);
+        Assert.assertEquals(1, cache.getFormattedRowsCount());
+        Assert.assertEquals(ROWS_PER_PAGE - 1, cache.getIncrementedRowsCount());
+
+        paintRows(cache, 3);
+        Assert.assertEquals(1, cache.getFormattedRowsCount());
+        Assert.assertEquals(ROWS_PER_PAGE + 2, cache.getIncrementedRowsCount());
+
+        paintRows(cache, 1000);
+        Assert.assertEquals(2, cache.getFormattedRowsCount());
+
+        cache.updateLayout(ROWS_PER_PAGE, 16, POSITION_LENGTH, PositionCodeType.OCTAL, CodeCharactersCase.UPPER);
+        paintRows(cache, 1000);
+        Assert.assertEquals(3, cache.getFormattedRowsCount());
+    }
+
+    @Test
+    public void testRowImages() {
+        RowPositionCache cache = new RowPositionCache();
+        cache.updateLayout(ROWS_PER_PAGE, 16, POSITION_LENGTH, PositionCodeType.HEXADECIMAL, CodeCharactersCase.UPPER);
+        cache.updateImageState(new Object[]{1});
+        BufferedImage image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+        cache.setRowImage(5, image);
+        Assert.assertTrue(image == cache.getRowImage(5));
+
+        cache.updateImageState(new Object[]{1});
+        Assert.assertTrue(image == cache.getRowImage(5));
+
+        cache.getRowPositionCode(5 + ROWS_PER_PAGE);
+        Assert.assertNull(cache.getRowImage(5 + ROWS_PER_PAGE));
+
+        cache.setRowImage(5, image);
+        cache.updateImageState(new Object[]{2});
+        Assert.assertNull(cache.getRowImage(5));
+    }
+
+    private static void paintRows(RowPositionCache cache, long firstRow) {
+        for (int row = 0; row < ROWS_PER_PAGE; row++) {
+            cache.getRowPositionCode(firstRow + row);
+        }
+    }
+
+    private static String formatPosition(long position, PositionCodeType positionCodeType) {
+        char[] code = new char[POSITION_LENGTH];
+        CodeAreaUtils.longToBaseCode(code, 0, position, positionCodeType.getBase(), POSITION_LENGTH, true, CodeCharactersCase.LOWER);
+        return new String(code);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.basic;
+
+import java.nio.charset.Charset;
+import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.CodeType;
+import org.exbin.bined.basic.CodeAreaViewMode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for viewport row cache.
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+public class ViewportRowCacheTest {
+
+    private static final int BYTES_PER_ROW = 16;
+    private static final int ROWS_PER_PAGE = 10;
+
+    public ViewportRowCacheTest() {
+    }
+
+    @Test
+    public void testScrollReuse() {
+        ViewportRowCache cache = new ViewportRowCache();
+        updateLayout(cache, CodeType.HEXADECIMAL);
+        paintRows(cache, 0);
+        Assert.assertEquals(ROWS_PER_PAGE, cache.getPreparedRowsCount());
+
+        paintRows(cache, 0);
+        Assert.assertEquals(ROWS_PER_PAGE, cache.getPreparedRowsCount());
+
+        paintRows(cache, 3);
+        Assert.assertEquals(ROWS_PER_PAGE + 3, cache.getPreparedRowsCount());
+
+        paintRows(cache, 2);
+        Assert.assertEquals(ROWS_PER_PAGE + 4, cache.getPreparedRowsCount());
+
+        paintRows(cache, 100);
+        Assert.assertEquals(2 * ROWS_PER_PAGE + 4, cache.getPreparedRowsCount());
+    }
+
+    @Test
+    public void testInvalidation() {
+        ViewportRowCache cache = new ViewportRowCache();
+        updateLayout(cache, CodeType.HEXADECIMAL);
+        paintRows(cache, 0);
+        cache.invalidate();
+        updateLayout(cache, CodeType.HEXADECIMAL);
+        paintRows(cache, 0);
+        Assert.assertEquals(2 * ROWS_PER_PAGE, cache.getPreparedRowsCount());
+
+        updateLayout(cache, CodeType.OCTAL);
+        paintRows(cache, 0);
+        Assert.assertEquals(3 * ROWS_PER_PAGE, cache.getPreparedRowsCount());
+    }
+
+    @Test
+    public void testRangeInvalidation() {
+        ViewportRowCache cache = new ViewportRowCache();
+        updateLayout(cache, CodeType.HEXADECIMAL);
+        paintRows(cache, 0);
+
+        // Single byte invalidates its row only
+        cache.invalidateRange(20, 21);
+        paintRows(cache, 0);
+        Assert.assertEquals(ROWS_PER_PAGE + 1, cache.getPreparedRowsCount());
+
+        // Range across rows boundaries
+        cache.invalidateRange(30, 50);
+        paintRows(cache, 0);
+        Assert.assertEquals(ROWS_PER_PAGE + 4, cache.getPreparedRowsCount());
+
+        // Size changing edit invalidates all following rows
+        cache.invalidateRange(100, Long.MAX_VALUE);
+        paintRows(cache, 0);
+        Assert.assertEquals(ROWS_PER_PAGE + 8, cache.getPreparedRowsCount());
+
+        // Range outside of cached rows
+        cache.invalidateRange(1000, 1010);
+        paintRows(cache, 0);
+        Assert.assertEquals(ROWS_PER_PAGE + 8, cache.getPreparedRowsCount());
+    }
+
+    @Test
+    public void testRangeInvalidationWithLookahead() {
+        ViewportRowCache cache = new ViewportRowCache();
+        // Rows include lookahead bytes of multibyte characters
+        cache.updateLayout(ROWS_PER_PAGE, BYTES_PER_ROW, BYTES_PER_ROW + 3, BYTES_PER_ROW * 4, CodeType.HEXADECIMAL, CodeCharactersCase.UPPER, CodeAreaViewMode.DUAL, Charset.forName("UTF-8"));
+        paintRows(cache, 0);
+
+        cache.invalidateRange(33, 34);
+        paintRows(cache, 0);
+        Assert.assertEquals(ROWS_PER_PAGE + 2, cache.getPreparedRowsCount());
+
+        cache.invalidateRange(35, 36);
+        paintRows(cache, 0);
+        Assert.assertEquals(ROWS_PER_PAGE + 3, cache.getPreparedRowsCount());
+    }
+
+    private static void updateLayout(ViewportRowCache cache, CodeType codeType) {
+        cache.updateLayout(ROWS_PER_PAGE, BYTES_PER_ROW, BYTES_PER_ROW, BYTES_PER_ROW * 4, codeType, CodeCharactersCase.UPPER, CodeAreaViewMode.DUAL, Charset.forName("US-ASCII"));
+    }
+
+    private static void paintRows(ViewportRowCache cache, long firstRow) {
+        for (int row = 0; row < ROWS_PER_PAGE; row++) {
+            ViewportRowCache.CachedRow cachedRow = cache.getRow((firstRow + row) * BYTES_PER_ROW);
+            if (!cachedRow.isPrepared()) {
+                cache.setRowPrepared(cachedRow);
+            }
+        }
+    }
+}
@@ -19,8 +19,6 @@ import org.exbin.bined.swt.basic.*;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.GC;
@@ -32,6 +30,7 @@ import org.exbin.bined.EditationMode;
 import org.exbin.bined.HexCharactersCase;
 import org.exbin.bined.Section;
 import org.exbin.bined.SelectionRange;
+import org.exbin.bined.UnprintableCharactersTable;
 import org.exbin.bined.ViewMode;
 import org.exbin.bined.swt.CodeArea;
 import org.exbin.bined.swt.CodeAreaPainter;
@@ -40,7 +39,7 @@ import org.exbin.bined.swt.ColorsGroup;
 /**
  * Code area component default painter.
  *
- * @version 0.1.2 2016/12/29
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 public class DefaultCodeAreaPainter implements CodeAreaPainter {
@@ -55,7 +54,6 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter {
 
     private Charset charMappingCharset = null;
     protected final char[] charMapping = new char[256];
-    protected Map<Character, Character> unprintableCharactersMapping = null;
 
     public DefaultCodeAreaPainter(CodeArea codeArea) {
         this.codeArea = codeArea;
@@ -417,11 +415,8 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter {
                     }
 
                     if (paintData.showUnprintableCharacters || paintData.charRenderingMode == CodeArea.CharRenderingMode.LINE_AT_ONCE) {
-                        if (unprintableCharactersMapping == null) {
-                            buildUnprintableCharactersMapping();
-                        }
-                        Character replacement = unprintableCharactersMapping.get(paintData.lineChars[paintData.previewCharPos + byteOnLine]);
-                        if (replacement != null) {
+                        char replacement = UnprintableCharactersTable.getReplacement(paintData.lineChars[paintData.previewCharPos + byteOnLine]);
+                        if (replacement != UnprintableCharactersTable.NO_REPLACEMENT) {
                             if (paintData.showUnprintableCharacters) {
                                 paintData.unprintableChars[paintData.previewCharPos + byteOnLine] = replacement;
                             }
@@ -882,11 +877,8 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter {
                     }
 
                     if (codeArea.isShowUnprintableCharacters()) {
-                        if (unprintableCharactersMapping == null) {
-                            buildUnprintableCharactersMapping();
-                        }
-                        Character replacement = unprintableCharactersMapping.get(previewChars[0]);
-                        if (replacement != null) {
+                        char replacement = UnprintableCharactersTable.getReplacement(previewChars[0]);
+                        if (replacement != UnprintableCharactersTable.NO_REPLACEMENT) {
                             previewChars[0] = replacement;
                         }
                     }
@@ -931,24 +923,6 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter {
         charMappingCharset = charset;
     }
 
-    private void buildUnprintableCharactersMapping() {
-        unprintableCharactersMapping = new HashMap<>();
-        // Unicode control characters, might not be supported by font
-        for (int i = 0; i < 32; i++) {
-            unprintableCharactersMapping.put((char) i, Character.toChars(9216 + i)[0]);
-        }
-        // Space -> Middle Dot
-        unprintableCharactersMapping.put(' ', Character.toChars(183)[0]);
-        // Tab -> Right-Pointing Double Angle Quotation Mark
-        unprintableCharactersMapping.put('\t', Character.toChars(187)[0]);
-        // Line Feed -> Currency Sign
-        unprintableCharactersMapping.put('\r', Character.toChars(164)[0]);
-        // Carriage Return -> Pilcrow Sign
-        unprintableCharactersMapping.put('\n', Character.toChars(182)[0]);
-        // Ideographic Space -> Degree Sign
-        unprintableCharactersMapping.put(Character.toChars(127)[0], Character.toChars(176)[0]);
-    }
-
     /**
      * Paint cache data structure for single paint operation.
      *
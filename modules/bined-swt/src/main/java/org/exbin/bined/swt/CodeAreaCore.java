@@ -37,7 +37,7 @@ import org.exbin.bined.CodeAreaUtils;
 /**
  * Binary viewer/editor component.
  *
- * @version 0.2.0 2018/08/11
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -214,6 +214,19 @@ public abstract class CodeAreaCore extends Composite implements CodeAreaControl
         dataChangedListeners.forEach(DataChangedListener::dataChanged);
     }
 
+    /**
+     * Notifies component, that given range of internal contentData was changed.
+     *
+     * @param startPosition start position of changed range
+     * @param oldLength length of the range before change
+     * @param newLength length of the range after change
+     */
+    public void notifyDataChanged(long startPosition, long oldLength, long newLength) {
+        dataChangedListeners.forEach((listener) -> {
+            listener.dataChanged(startPosition, oldLength, newLength);
+        });
+    }
+
     public void addDataChangedListener(DataChangedListener dataChangedListener) {
         dataChangedListeners.add(dataChangedListener);
     }
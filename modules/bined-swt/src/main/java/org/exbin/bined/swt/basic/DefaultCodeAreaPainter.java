@@ -49,6 +49,8 @@ import org.exbin.bined.CodeAreaSection;
 import org.exbin.bined.CodeAreaUtils;
 import org.exbin.bined.basic.CodeAreaViewMode;
 import org.exbin.bined.CodeCharactersCase;
+import org.exbin.bined.CharsetPreviewDecoder;
+import org.exbin.bined.CodeCharactersTable;
 import org.exbin.bined.CodeType;
 import org.exbin.bined.EditationOperation;
 import org.exbin.bined.PositionCodeType;
@@ -85,7 +87,7 @@ import org.exbin.bined.basic.PositionScrollVisibility;
 /**
  * Code area component default painter.
  *
- * @version 0.2.0 2019/09/17
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 @ParametersAreNonnullByDefault
@@ -158,6 +160,7 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
     @Nullable
     private Charset charMappingCharset = null;
+    private final CharsetPreviewDecoder previewDecoder = new CharsetPreviewDecoder();
     private final char[] charMapping = new char[256];
 
     public DefaultCodeAreaPainter(CodeAreaCore codeArea) {
@@ -207,9 +210,22 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
                 }
             }
         };
-        codeAreaDataChangeListener = () -> {
-            validateCaret();
-            recomputeLayout();
+        codeAreaDataChangeListener = new DataChangedListener() {
+            @Override
+            public void dataChanged() {
+                validateCaret();
+                recomputeLayout();
+            }
+
+            @Override
+            public void dataChanged(long startPosition, long oldLength, long newLength) {
+                if (!initialized || layoutChanged || oldLength != newLength) {
+                    dataChanged();
+                    repaint();
+                } else if (newLength > 0) {
+                    redrawDataRange(startPosition, startPosition + newLength);
+                }
+            }
         };
 
 //        dataView.layout();
@@ -309,6 +325,38 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         caretChanged = false;
     }
 
+    /**
+     * Redraws visible rows containing given range of data.
+     *
+     * @param startPosition start position
+     * @param endPosition end position
+     */
+    private void redrawDataRange(long startPosition, long endPosition) {
+        int bytesPerRow = structure.getBytesPerRow();
+        int rowHeight = metrics.getRowHeight();
+        if (bytesPerRow <= 0 || rowHeight <= 0) {
+            return;
+        }
+
+        Point location = scrollPanel.getLocation();
+        Rectangle mainAreaRect = dimensions.getMainAreaRectangle();
+        CodeAreaScrollPosition scrollPosition = scrolling.getScrollPosition();
+        int rowsTop = dimensions.getScrollPanelY() - location.y + scrollPosition.getRowOffset();
+        // Preview character can be decoded from bytes on the previous row
+        long firstRow = Math.max(0, startPosition - metrics.getMaxBytesPerChar() + 1) / bytesPerRow - scrollPosition.getRowPosition();
+        long lastRow = (endPosition - 1) / bytesPerRow - scrollPosition.getRowPosition();
+        long top = Math.max(mainAreaRect.y - location.y, rowsTop + firstRow * rowHeight);
+        long bottom = Math.min(mainAreaRect.y - location.y + mainAreaRect.height, rowsTop + (lastRow + 1) * rowHeight);
+        if (top >= bottom) {
+            return;
+        }
+
+        // Header and row positions are not affected
+        childPaint = true;
+        Rectangle dataViewBounds = dataView.getBounds();
+        dataView.redraw(0, (int) top, dataViewBounds.width, (int) (bottom - top), true);
+    }
+
     private void validateCaret() {
         CodeAreaCaret caret = ((CaretCapable) codeArea).getCaret();
         CodeAreaCaretPosition caretPosition = caret.getCaretPosition();
@@ -434,9 +482,14 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             recomputeLayout();
         }
 
-        paintOutsiteArea(g);
-        paintHeader(g);
-        paintRowPosition(g);
+        Rectangle clipBounds = g.getClipping();
+        if (clipBounds == null || clipBounds.y < dimensions.getComponentRectangle().y + dimensions.getHeaderAreaHeight()) {
+            paintOutsiteArea(g);
+            paintHeader(g);
+        }
+        if (clipBounds == null || clipBounds.intersects(dimensions.getRowPositionAreaRectangle())) {
+            paintRowPosition(g);
+        }
 
         Rectangle dataViewBounds = dataView.getBounds();
         childPaint = true;
@@ -526,6 +579,16 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             int skipToChar = visibility.getSkipToChar();
             int skipRestFromChar = visibility.getSkipRestFromChar();
             int codeCharEnd = Math.min(skipRestFromChar, visibility.getCharactersPerCodeSection());
+            int renderEnd = charactersPerCodeSection;
+
+            // Skip characters outside of clipping area
+            Rectangle headerClipBounds = g.getClipping();
+            if (headerClipBounds != null && characterWidth > 0) {
+                skipToChar = Math.max(skipToChar, Math.floorDiv(headerClipBounds.x - headerX, characterWidth) - 1);
+                renderEnd = Math.min(renderEnd, Math.floorDiv(headerClipBounds.x + headerClipBounds.width - 1 - headerX, characterWidth) + 2);
+                codeCharEnd = Math.min(codeCharEnd, renderEnd);
+            }
+
             int renderOffset = skipToChar;
             Color renderColor = null;
             for (int characterOnRow = skipToChar; characterOnRow < codeCharEnd; characterOnRow++) {
@@ -556,8 +619,8 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
                 }
             }
 
-            if (renderOffset < charactersPerCodeSection) {
-                drawCenteredChars(g, rowDataCache.headerChars, renderOffset, charactersPerCodeSection - renderOffset, characterWidth, headerX + renderOffset * characterWidth, headerY);
+            if (renderOffset < renderEnd) {
+                drawCenteredChars(g, rowDataCache.headerChars, renderOffset, renderEnd - renderOffset, characterWidth, headerX + renderOffset * characterWidth, headerY);
             }
         }
 
@@ -605,8 +668,20 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
         long dataPosition = bytesPerRow * scrollPosition.getRowPosition();
         int positionY = rowPosRectangle.y - scrollPosition.getRowOffset();
+
+        // Skip rows outside of clipping area
+        int firstRow = 0;
+        int lastRow = rowsPerRect;
+        Rectangle rowsClipBounds = g.getClipping();
+        if (rowsClipBounds != null && rowHeight > 0) {
+            firstRow = Math.max(0, Math.floorDiv(rowsClipBounds.y - positionY, rowHeight));
+            lastRow = Math.min(rowsPerRect, Math.floorDiv(rowsClipBounds.y + rowsClipBounds.height - 1 - positionY, rowHeight));
+            dataPosition += (long) firstRow * bytesPerRow;
+            positionY += firstRow * rowHeight;
+        }
+
         g.setForeground(colorsProfile.getTextColor());
-        for (int row = 0; row <= rowsPerRect; row++) {
+        for (int row = firstRow; row <= lastRow; row++) {
             if (dataPosition > dataSize) {
                 break;
             }
@@ -725,8 +800,20 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
         long dataPosition = scrollPosition.getRowPosition() * bytesPerRow;
         int rowPositionX = dataViewX - scrollPosition.getCharPosition() * characterWidth - scrollPosition.getCharOffset();
         int rowPositionY = dataViewY + scrollPosition.getRowOffset();
+
+        // Skip rows outside of clipping area
+        int firstRow = 0;
+        int lastRow = rowsPerRect;
+        Rectangle clipBounds = g.getClipping();
+        if (clipBounds != null && rowHeight > 0) {
+            firstRow = Math.max(0, Math.floorDiv(clipBounds.y - rowPositionY, rowHeight));
+            lastRow = Math.min(rowsPerRect, Math.floorDiv(clipBounds.y + clipBounds.height - 1 - rowPositionY, rowHeight));
+            dataPosition += (long) firstRow * bytesPerRow;
+            rowPositionY += firstRow * rowHeight;
+        }
+
         g.setForeground(colorsProfile.getTextColor());
-        for (int row = 0; row <= rowsPerRect; row++) {
+        for (int row = firstRow; row <= lastRow; row++) {
             prepareRowData(dataPosition);
             paintRowBackground(g, dataPosition, rowPositionX, rowPositionY);
             paintRowText(g, dataPosition, rowPositionX, rowPositionY);
@@ -746,8 +833,9 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
 
         int rowBytesLimit = bytesPerRow;
         int rowStart = 0;
+        int rowDataSize = 0;
         if (dataPosition < dataSize) {
-            int rowDataSize = bytesPerRow + maxBytesPerChar - 1;
+            rowDataSize = bytesPerRow + maxBytesPerChar - 1;
             if (dataPosition + rowDataSize > dataSize) {
                 rowDataSize = (int) (dataSize - dataPosition);
             }
@@ -771,9 +859,10 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             int skipToCode = visibility.getSkipToCode();
             int skipRestFromCode = visibility.getSkipRestFromCode();
             int endCode = Math.min(skipRestFromCode, rowBytesLimit);
-            for (int byteOnRow = Math.max(skipToCode, rowStart); byteOnRow < endCode; byteOnRow++) {
-                byte dataByte = rowDataCache.rowData[byteOnRow];
-                CodeAreaUtils.byteToCharsCode(dataByte, codeType, rowDataCache.rowCharacters, structure.computeFirstCodeCharacterPos(byteOnRow), codeCharactersCase);
+            int startCode = Math.max(skipToCode, rowStart);
+            if (endCode > startCode) {
+                int charsPerByte = structure.computeFirstCodeCharacterPos(1) - structure.computeFirstCodeCharacterPos(0);
+                CodeCharactersTable.getTable(codeType, codeCharactersCase).writeCodes(rowDataCache.rowData, startCode, endCode - startCode, rowDataCache.rowCharacters, structure.computeFirstCodeCharacterPos(startCode), charsPerByte);
             }
             if (bytesPerRow > rowBytesLimit) {
                 Arrays.fill(rowDataCache.rowCharacters, structure.computeFirstCodeCharacterPos(rowBytesLimit), rowDataCache.rowCharacters.length, ' ');
@@ -785,28 +874,20 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
             int skipToPreview = visibility.getSkipToPreview();
             int skipRestFromPreview = visibility.getSkipRestFromPreview();
             int endPreview = Math.min(skipRestFromPreview, rowBytesLimit);
-            for (int byteOnRow = skipToPreview; byteOnRow < endPreview; byteOnRow++) {
-                byte dataByte = rowDataCache.rowData[byteOnRow];
-
-                if (maxBytesPerChar > 1) {
-                    if (dataPosition + maxBytesPerChar > dataSize) {
-                        maxBytesPerChar = (int) (dataSize - dataPosition);
-                    }
-
-                    int charDataLength = maxBytesPerChar;
-                    if (byteOnRow + charDataLength > rowDataCache.rowData.length) {
-                        charDataLength = rowDataCache.rowData.length - byteOnRow;
-                    }
-                    String displayString = new String(rowDataCache.rowData, byteOnRow, charDataLength, charset);
-                    if (!displayString.isEmpty()) {
-                        rowDataCache.rowCharacters[previewCharPos + byteOnRow] = displayString.charAt(0);
-                    }
-                } else {
-                    if (charMappingCharset == null || charMappingCharset != charset) {
-                        buildCharMapping(charset);
-                    }
+            if (maxBytesPerChar > 1) {
+                int startPreview = Math.max(skipToPreview, rowStart);
+                if (startPreview < endPreview) {
+                    Arrays.fill(rowDataCache.rowCharacters, previewCharPos + startPreview, previewCharPos + endPreview, ' ');
+                    previewDecoder.setCharset(charset);
+                    previewDecoder.decode(rowDataCache.rowData, startPreview, endPreview, rowDataSize, rowDataCache.rowCharacters, previewCharPos, ' ');
+                }
+            } else {
+                if (charMappingCharset == null || charMappingCharset != charset) {
+                    buildCharMapping(charset);
+                }
 
-                    rowDataCache.rowCharacters[previewCharPos + byteOnRow] = charMapping[dataByte & 0xFF];
+                for (int byteOnRow = skipToPreview; byteOnRow < endPreview; byteOnRow++) {
+                    rowDataCache.rowCharacters[previewCharPos + byteOnRow] = charMapping[rowDataCache.rowData[byteOnRow] & 0xFF];
                 }
             }
             if (bytesPerRow > rowBytesLimit) {
@@ -1223,11 +1304,8 @@ public class DefaultCodeAreaPainter implements CodeAreaPainter, BasicColorsCapab
                     }
 
                     if (codeArea.isShowUnprintableCharacters()) {
-                        if (unprintableCharactersMapping == null) {
-                            buildUnprintableCharactersMapping();
-                        }
-                        Character replacement = unprintableCharactersMapping.get(previewChars[0]);
-                        if (replacement != null) {
+                        char replacement = UnprintableCharactersTable.getReplacement(previewChars[0]);
+                        if (replacement != UnprintableCharactersTable.NO_REPLACEMENT) {
                             previewChars[0] = replacement;
                         }
                     }
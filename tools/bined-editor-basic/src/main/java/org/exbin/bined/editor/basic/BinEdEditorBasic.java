@@ -28,6 +28,8 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.nio.charset.Charset;
 import java.util.Objects;
 import java.util.logging.Level;
@@ -35,12 +37,16 @@ import java.util.logging.Logger;
 import javax.annotation.Nonnull;
 import javax.swing.AbstractAction;
 import javax.swing.Action;
+import javax.swing.JDialog;
 import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
+import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
 import javax.swing.UIManager;
 import javax.swing.UnsupportedLookAndFeelException;
 import org.exbin.bined.EditationMode;
 import org.exbin.bined.EditationOperation;
+import org.exbin.bined.MappedFileBinaryData;
 import org.exbin.bined.SelectionRange;
 import org.exbin.bined.capability.CaretCapable;
 import org.exbin.bined.capability.CharsetCapable;
@@ -50,11 +56,14 @@ import org.exbin.bined.operation.BinaryDataCommand;
 import org.exbin.bined.operation.BinaryDataOperationException;
 import org.exbin.bined.operation.swing.CodeAreaOperationCommandHandler;
 import org.exbin.bined.operation.swing.CodeAreaUndoHandler;
+import org.exbin.bined.operation.swing.IncrementalFileSaver;
+import org.exbin.bined.operation.swing.PieceTableEditableData;
+import org.exbin.bined.operation.swing.SaveProgressListener;
 import org.exbin.bined.operation.undo.BinaryDataUndoUpdateListener;
 import org.exbin.bined.swing.CodeAreaCommandHandler;
 import org.exbin.bined.swing.basic.CodeArea;
+import org.exbin.auxiliary.paged_data.BinaryData;
 import org.exbin.auxiliary.paged_data.ByteArrayEditableData;
-import org.exbin.auxiliary.paged_data.EditableBinaryData;
 import org.exbin.bined.CodeAreaCaretPosition;
 import org.exbin.bined.CodeCharactersCase;
 import org.exbin.bined.CodeType;
@@ -63,7 +72,7 @@ import org.exbin.bined.swing.CodeAreaSwingUtils;
 /**
  * Basic single jar swing version of BinEd Hexadecimal editor.
  *
- * @version 0.2.0 2019/09/25
+ * @version 0.2.0 2026/10/18
  * @author ExBin Project (https://exbin.org)
  */
 public class BinEdEditorBasic extends javax.swing.JFrame {
@@ -72,6 +81,12 @@ public class BinEdEditorBasic extends javax.swing.JFrame {
     private static final String APPLICATION_NAME = "BinEd";
     private static final String APPLICATION_DEFAULT_TITLE = APPLICATION_NAME + " Basic Editor";
 
+    /**
+     * Files of this size or larger are memory mapped and edited as changes
+     * recorded over the mapped file.
+     */
+    private static final long MAPPED_FILE_THRESHOLD = 32 * 1024 * 1024;
+
     private static final String ICONS_DIRECTORY = "/org/exbin/bined/editor/basic/resources/icons/";
     private static final String ICON_APP = ICONS_DIRECTORY + "icon.png";
     private static final String ICON_FILE_NEW = ICONS_DIRECTORY + "document-new.png";
@@ -740,8 +755,7 @@ public class BinEdEditorBasic extends javax.swing.JFrame {
             return;
         }
 
-        Objects.requireNonNull((EditableBinaryData) codeArea.getContentData()).clear();
-        codeArea.notifyDataChanged();
+        setContentData(new ByteArrayEditableData());
         codeArea.repaint();
         undoHandler.clear();
         updateUndoState();
@@ -756,9 +770,21 @@ public class BinEdEditorBasic extends javax.swing.JFrame {
             int chooserResult = fileChooser.showOpenDialog(this);
             if (chooserResult == JFileChooser.APPROVE_OPTION) {
                 file = fileChooser.getSelectedFile();
-                try (FileInputStream stream = new FileInputStream(file)) {
-                    Objects.requireNonNull((EditableBinaryData) codeArea.getContentData()).loadFromStream(stream);
-                    codeArea.notifyDataChanged();
+                try {
+                    IncrementalFileSaver fileSaver = new IncrementalFileSaver(file);
+                    if (fileSaver.hasJournal()) {
+                        fileSaver.recover(null);
+                    }
+
+                    if (file.length() >= MAPPED_FILE_THRESHOLD) {
+                        setContentData(new PieceTableEditableData(new MappedFileBinaryData(file)));
+                    } else {
+                        ByteArrayEditableData data = new ByteArrayEditableData();
+                        try (FileInputStream stream = new FileInputStream(file)) {
+                            data.loadFromStream(stream);
+                        }
+                        setContentData(data);
+                    }
                     codeArea.repaint();
                     undoHandler.clear();
                     updateUndoState();
@@ -774,7 +800,7 @@ public class BinEdEditorBasic extends javax.swing.JFrame {
     }
 
     private void saveFileActionPerformed() {
-        if (file != null) {
+        if (file == null) {
             saveAsFileActionPerformed();
         } else {
             saveToFile();
@@ -829,8 +855,14 @@ public class BinEdEditorBasic extends javax.swing.JFrame {
         if (file == null) {
             saveAsFileActionPerformed();
         } else {
+            BinaryData contentData = Objects.requireNonNull(codeArea.getContentData());
+            if (isMappedFrom(contentData, file)) {
+                saveMappedFile(contentData);
+                return;
+            }
+
             try (FileOutputStream stream = new FileOutputStream(file)) {
-                Objects.requireNonNull((EditableBinaryData) codeArea.getContentData()).saveToStream(stream);
+                contentData.saveToStream(stream);
                 undoHandler.setSyncPoint();
                 updateTitle();
             } catch (FileNotFoundException ex) {
@@ -841,6 +873,126 @@ public class BinEdEditorBasic extends javax.swing.JFrame {
         }
     }
 
+    /**
+     * Saves data read from mapped file over the same file.
+     *
+     * Only modified regions are written if possible, otherwise data are
+     * written to temporary file which then replaces original file, because
+     * mapped file cannot be rewritten while being read. Data are detached from
+     * code area while the file changes.
+     *
+     * Mapping is released only when garbage collected, so on platforms which
+     * do not allow to truncate or replace mapped file, notably Windows, saving
+     * fails unless only modified regions of the same size are written.
+     */
+    private void saveMappedFile(BinaryData contentData) {
+        File targetFile = file.getAbsoluteFile();
+        IncrementalFileSaver fileSaver = new IncrementalFileSaver(targetFile);
+        boolean[] incremental = new boolean[1];
+        codeArea.setContentData(null);
+        try {
+            runWithProgress("Saving " + targetFile.getName(), (SaveProgressListener listener) -> {
+                incremental[0] = fileSaver.save(contentData, listener);
+                if (!incremental[0]) {
+                    replaceFile(contentData, targetFile);
+                }
+            });
+        } catch (IOException | RuntimeException ex) {
+            Logger.getLogger(BinEdEditorBasic.class.getName()).log(Level.SEVERE, null, ex);
+            boolean fileModified = false;
+            if (fileSaver.hasJournal()) {
+                try {
+                    fileModified = fileSaver.recover(null);
+                } catch (IOException recoveryEx) {
+                    Logger.getLogger(BinEdEditorBasic.class.getName()).log(Level.SEVERE, null, recoveryEx);
+                    fileModified = true;
+                }
+            }
+            if (!fileModified) {
+                codeArea.setContentData(contentData);
+                return;
+            }
+            incremental[0] = true;
+        }
+
+        try {
+            contentData.dispose();
+            setContentData(new PieceTableEditableData(new MappedFileBinaryData(targetFile)));
+        } catch (IOException ex) {
+            Logger.getLogger(BinEdEditorBasic.class.getName()).log(Level.SEVERE, null, ex);
+        }
+        if (incremental[0]) {
+            // Data kept by undo refer to original content of the file
+            undoHandler.clear();
+            updateUndoState();
+        } else {
+            undoHandler.setSyncPoint();
+        }
+        updateTitle();
+    }
+
+    private static void replaceFile(BinaryData contentData, File targetFile) throws IOException {
+        File tempFile = File.createTempFile(targetFile.getName(), ".tmp", targetFile.getParentFile());
+        try {
+            try (FileOutputStream stream = new FileOutputStream(tempFile)) {
+                contentData.saveToStream(stream);
+            }
+            Files.move(tempFile.toPath(), targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            tempFile.delete();
+        }
+    }
+
+    /**
+     * Runs long file operation in background while modal progress dialog is
+     * shown.
+     */
+    private void runWithProgress(String title, ProgressTask task) throws IOException {
+        JProgressBar progressBar = new JProgressBar(0, 1000);
+        progressBar.setStringPainted(true);
+        JDialog progressDialog = new JDialog(this, title, true);
+        progressDialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        progressDialog.add(progressBar);
+        progressDialog.setSize(400, progressDialog.getPreferredSize().height + 40);
+        progressDialog.setLocationRelativeTo(this);
+
+        Exception[] failure = new Exception[1];
+        Thread taskThread = new Thread(() -> {
+            try {
+                task.run((long processedBytes, long totalBytes) -> {
+                    int progress = totalBytes == 0 ? 0 : (int) (processedBytes * 1000 / totalBytes);
+                    SwingUtilities.invokeLater(() -> progressBar.setValue(progress));
+                });
+            } catch (IOException | RuntimeException ex) {
+                failure[0] = ex;
+            } finally {
+                SwingUtilities.invokeLater(progressDialog::dispose);
+            }
+        }, title);
+        taskThread.start();
+        progressDialog.setVisible(true);
+
+        if (failure[0] instanceof IOException) {
+            throw (IOException) failure[0];
+        }
+        if (failure[0] != null) {
+            throw (RuntimeException) failure[0];
+        }
+    }
+
+    private static boolean isMappedFrom(BinaryData contentData, File file) {
+        BinaryData sourceData = contentData instanceof PieceTableEditableData ? ((PieceTableEditableData) contentData).getSource() : contentData;
+        return sourceData instanceof MappedFileBinaryData && ((MappedFileBinaryData) sourceData).getFile().getAbsoluteFile().equals(file.getAbsoluteFile());
+    }
+
+    private void setContentData(BinaryData contentData) {
+        BinaryData previousData = codeArea.getContentData();
+        codeArea.setContentData(contentData);
+        if (previousData != null) {
+            previousData.dispose();
+        }
+    }
+
     public boolean releaseFile() {
         while (isModified()) {
             Object[] options = {"Save", "Discard", "Cancel"};
@@ -893,6 +1045,12 @@ public class BinEdEditorBasic extends javax.swing.JFrame {
         setTitle(APPLICATION_NAME + " - " + file.getName());
     }
 
+    @FunctionalInterface
+    private interface ProgressTask {
+
+        void run(SaveProgressListener listener) throws IOException;
+    }
+
     /**
      * @param args the command line arguments
      */
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) ExBin Project
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.exbin.bined.swing.example;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.exbin.auxiliary.paged_data.ByteArrayEditableData;
+import org.exbin.bined.basic.CodeAreaScrollPosition;
+import org.exbin.bined.swing.basic.AntialiasingMode;
+import org.exbin.bined.swing.basic.CodeArea;
+import org.exbin.bined.swing.basic.DefaultCodeAreaPainter;
+
+/**
+ * Benchmark of painting of the code area.
+ *
+ * Code area is repeatedly painted to offscreen image while scrolling by one
+ * row with full repaint and with incremental scroll repaint.
+ *
+ * By default benchmark runs headless and paints to buffered image using
+ * software pipeline. With accelerated argument it paints to volatile image of
+ * the default screen so that hardware accelerated pipeline is used when
+ * available, which requires display.
+ *
+ * Usage: PaintBenchmark [width height frames [accelerated]]
+ *
+ * @version 0.2.0 2026/10/18
+ * @author ExBin Project (https://exbin.org)
+ */
+@ParametersAreNonnullByDefault
+public class PaintBenchmark {
+
+    private static final int DATA_SIZE = 1024 * 1024;
+    private static final int WARMUP_FRAMES = 50;
+
+    private final int width;
+    private final int height;
+    private final int frames;
+    @Nullable
+    private final GraphicsConfiguration graphicsConfiguration;
+
+    public PaintBenchmark(int width, int height, int frames, @Nullable GraphicsConfiguration graphicsConfiguration) {
+        this.width = width;
+        this.height = height;
+        this.frames = frames;
+        this.graphicsConfiguration = graphicsConfiguration;
+    }
+
+    /**
+     * Main method launching the benchmark.
+     *
+     * @param args arguments
+     */
+    public static void main(String[] args) {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 1600;
+        int height = args.length > 1 ? Integer.parseInt(args[1]) : 1200;
+        int frames = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        boolean accelerated = args.length > 3 && "accelerated".equals(args[3]);
+
+        GraphicsConfiguration graphicsConfiguration = null;
+        if (accelerated) {
+            graphicsConfiguration = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            VolatileImage testImage = graphicsConfiguration.createCompatibleVolatileImage(width, height);
+            System.out.println("volatile image accelerated " + testImage.getCapabilities().isAccelerated());
+            testImage.flush();
+        } else {
+            System.setProperty("java.awt.headless", "true");
+        }
+
+        PaintBenchmark benchmark = new PaintBenchmark(width, height, frames, graphicsConfiguration);
+        for (AntialiasingMode antialiasingMode : new AntialiasingMode[]{AntialiasingMode.OFF, AntialiasingMode.BASIC}) {
+            benchmark.run(antialiasingMode, false);
+            benchmark.run(antialiasingMode, true);
+        }
+
+        // Caret blinking timer would keep application running
+        System.exit(0);
+    }
+
+    private void run(AntialiasingMode antialiasingMode, boolean incrementalScrollRepaint) {
+        CodeArea codeArea = createCodeArea(antialiasingMode, incrementalScrollRepaint);
+        Image image = graphicsConfiguration != null
+                ? graphicsConfiguration.createCompatibleVolatileImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+
+        for (int frame = 0; frame < WARMUP_FRAMES; frame++) {
+            paintFrame(codeArea, image, frame);
+        }
+        long startTime = System.nanoTime();
+        for (int frame = 0; frame < frames; frame++) {
+            paintFrame(codeArea, image, frame);
+        }
+        if (image instanceof VolatileImage) {
+            // Wait for queued rendering operations to finish
+            ((VolatileImage) image).getSnapshot().flush();
+        }
+        long duration = System.nanoTime() - startTime;
+        image.flush();
+
+        double frameMillis = duration / 1000000.0 / frames;
+        System.out.println(String.format("antialiasing %-9s incremental %-5s %8.3f ms/frame %8.1f fps", antialiasingMode, incrementalScrollRepaint, frameMillis, 1000 / frameMillis));
+    }
+
+    @Nonnull
+    private CodeArea createCodeArea(AntialiasingMode antialiasingMode, boolean incrementalScrollRepaint) {
+        byte[] data = new byte[DATA_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 31 + (i >> 8));
+        }
+
+        CodeArea codeArea = new CodeArea();
+        codeArea.setContentData(new ByteArrayEditableData(data));
+        codeArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        codeArea.setAntialiasingMode(antialiasingMode);
+        ((DefaultCodeAreaPainter) codeArea.getPainter()).setIncrementalScrollRepaint(incrementalScrollRepaint);
+        codeArea.setSize(width, height);
+        return codeArea;
+    }
+
+    private void paintFrame(CodeArea codeArea, Image image, int frame) {
+        codeArea.setScrollPosition(new CodeAreaScrollPosition(frame % 1000, 0, 0, 0));
+        if (image instanceof VolatileImage) {
+            ((VolatileImage) image).validate(graphicsConfiguration);
+        }
+        Graphics2D g = (Graphics2D) image.getGraphics();
+        g.setClip(0, 0, width, height);
+        codeArea.paint(g);
+        g.dispose();
+    }
+}